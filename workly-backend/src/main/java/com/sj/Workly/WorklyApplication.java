@@ -2,6 +2,7 @@ package com.sj.Workly;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.kafka.annotation.EnableKafka;
 
 @SpringBootApplication
@@ -9,7 +10,10 @@ import org.springframework.kafka.annotation.EnableKafka;
 public class WorklyApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(WorklyApplication.class, args);
+		SpringApplication app = new SpringApplication(WorklyApplication.class);
+		// Records startup steps (Flyway, EntityManagerFactory, ...) for /actuator/startup
+		app.setApplicationStartup(new BufferingApplicationStartup(4096));
+		app.run(args);
 	}
 
 }
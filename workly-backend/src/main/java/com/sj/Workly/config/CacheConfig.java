@@ -0,0 +1,13 @@
+package com.sj.Workly.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caffeine-backed Spring Cache for reference data (see ReferenceDataService). Cache names, size, TTL and
+ * recordStats come from spring.cache.* so the caches exist at startup and are bound to Micrometer.
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+}
@@ -0,0 +1,28 @@
+package com.sj.Workly.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImportConfig {
+
+    /**
+     * Runs issue imports. Kept small: each import holds a connection per batch and writes as fast as
+     * Postgres accepts, so more threads mostly compete with request traffic. Full queue = 409.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor issueImportExecutor(@Value("${app.import.threads:2}") int threads,
+                                                      @Value("${app.import.queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("issue-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,86 @@
+package com.sj.Workly.config;
+
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drops INVALID indexes before each non-transactional migration.
+ * <p>
+ * A {@code create index concurrently} that fails (lock timeout, duplicate key, cancelled deploy) leaves an
+ * INVALID index behind: it is maintained on every write but never used, and a rerun with {@code if not exists}
+ * would skip it. Indexes still being built by another session are also INVALID; they show up in
+ * {@code pg_stat_progress_create_index} and are left alone.
+ * <p>
+ * Only migrations running outside a transaction (the {@code executeInTransaction=false} index migrations) are
+ * handled: {@code drop index concurrently} cannot run inside one.
+ */
+@Component
+public class InvalidIndexCleanup implements Callback {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvalidIndexCleanup.class);
+
+    private static final String FIND_INVALID = """
+            select format('%I.%I', n.nspname, c.relname)
+            from pg_index i
+            join pg_class c on c.oid = i.indexrelid
+            join pg_namespace n on n.oid = c.relnamespace
+            where not i.indisvalid
+              and n.nspname = current_schema()
+              and not exists (select 1 from pg_stat_progress_create_index p where p.index_relid = i.indexrelid)
+            """;
+
+    @Override
+    public boolean supports(Event event, Context context) {
+        return event == Event.BEFORE_EACH_MIGRATE;
+    }
+
+    @Override
+    public boolean canHandleInTransaction(Event event, Context context) {
+        return true;
+    }
+
+    @Override
+    public void handle(Event event, Context context) {
+        try {
+            Connection connection = context.getConnection();
+            if (connection.getAutoCommit()) {
+                dropInvalidIndexes(connection);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not drop invalid indexes", e);
+        }
+    }
+
+    @Override
+    public String getCallbackName() {
+        return "invalidIndexCleanup";
+    }
+
+    /** Returns the names of the dropped indexes. */
+    static List<String> dropInvalidIndexes(Connection connection) throws SQLException {
+        List<String> dropped = new ArrayList<>();
+        try (Statement st = connection.createStatement()) {
+            try (ResultSet rs = st.executeQuery(FIND_INVALID)) {
+                while (rs.next()) {
+                    dropped.add(rs.getString(1));
+                }
+            }
+            for (String index : dropped) {
+                logger.warn("Dropping invalid index {} left by a failed concurrent build", index);
+                st.execute("drop index concurrently if exists " + index);
+            }
+        }
+        return dropped;
+    }
+}
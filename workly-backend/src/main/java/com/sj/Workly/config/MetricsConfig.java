@@ -0,0 +1,28 @@
+package com.sj.Workly.config;
+
+import com.sj.Workly.observability.MembershipCheckMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+@Configuration
+public class MetricsConfig {
+
+    /** Adds the membership-check timer to every repository factory before it creates its repository. */
+    @Bean
+    public static BeanPostProcessor membershipCheckMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        MembershipCheckMetrics listener = new MembershipCheckMetrics(meterRegistry);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(listener));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.sj.Workly.config;
+
+import com.sj.Workly.observability.QueryCountingListener;
+import com.sj.Workly.observability.QueryStatsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "app.db.query-stats.enabled", havingValue = "true")
+@EnableConfigurationProperties(QueryStatsProperties.class)
+public class QueryStatsConfig {
+
+    /** Wraps the pool so every statement goes through QueryCountingListener. Static: post-processors are created early. */
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new QueryCountingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    /** Ahead of the security chain, so authentication queries are counted too. */
+    @Bean
+    public FilterRegistrationBean<QueryStatsFilter> queryStatsFilterRegistration(QueryStatsProperties properties,
+                                                                                 MeterRegistry meterRegistry) {
+        FilterRegistrationBean<QueryStatsFilter> registration =
+                new FilterRegistrationBean<>(new QueryStatsFilter(properties, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,24 @@
+package com.sj.Workly.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@code app.db.query-stats.*}: per-request statement counting (QueryStatsFilter).
+ * <ul>
+ *   <li>{@code enabled}: proxies the DataSource and registers the filter. Off by default, every statement pays
+ *   for the proxy; the build turns it on for tests and {@code spring-boot:run}.</li>
+ *   <li>{@code nPlusOneThreshold}: a statement shape executed more often than this in one request is logged
+ *   as a likely N+1.</li>
+ *   <li>{@code maxStatementsPerRequest}: budget per request, 0 = none. Exceeding it is logged.</li>
+ *   <li>{@code strict}: throw instead of only logging, so tests fail on an N+1 or a blown budget. Responses
+ *   already committed are only logged.</li>
+ * </ul>
+ */
+@ConfigurationProperties(prefix = "app.db.query-stats")
+public record QueryStatsProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10") int nPlusOneThreshold,
+        @DefaultValue("0") int maxStatementsPerRequest,
+        @DefaultValue("false") boolean strict
+) {}
@@ -0,0 +1,25 @@
+package com.sj.Workly.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class QuickSearchConfig {
+
+    /**
+     * Rebuilds expired quick-search indexes while searches keep using the old ones. One thread is usually
+     * enough: a rebuild is three streamed queries. Full queue = the rebuild is skipped and retried on a later search.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor quickSearchRebuildExecutor(@Value("${app.quick-search.rebuild-threads:1}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("quick-search-rebuild-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,39 @@
+package com.sj.Workly.config;
+
+import com.sj.Workly.repository.OrgMemberRepository;
+import com.sj.Workly.security.ratelimit.InMemoryRateLimiter;
+import com.sj.Workly.security.ratelimit.PostgresRateLimiter;
+import com.sj.Workly.security.ratelimit.RateLimitFilter;
+import com.sj.Workly.security.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties, JdbcTemplate jdbc) {
+        return properties.mode() == RateLimitProperties.Mode.POSTGRES
+                ? new PostgresRateLimiter(jdbc, properties.idleExpiry())
+                : new InMemoryRateLimiter(properties.idleExpiry(), properties.maxBuckets());
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties, RateLimiter rateLimiter,
+                                           OrgMemberRepository orgMemberRepo, MeterRegistry meterRegistry) {
+        return new RateLimitFilter(properties, rateLimiter, orgMemberRepo, meterRegistry);
+    }
+
+    /** Only runs inside the security chain (after authentication), never as a plain servlet filter. */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
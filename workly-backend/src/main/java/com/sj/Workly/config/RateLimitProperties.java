@@ -0,0 +1,40 @@
+package com.sj.Workly.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@code app.rate-limit.*}: token buckets per route group. A request belongs to the first group (in list order)
+ * with a matching path pattern; it takes one token from its user's bucket and, if the group has an org limit
+ * and the path is under {@code /orgs/{orgId}} of an org the user belongs to, one from the org's bucket.
+ * <p>
+ * A path entry may start with an HTTP method ({@code POST /orgs/&#42;/projects/&#42;/issues/import}) to match only
+ * that method; without one it matches every method.
+ * <p>
+ * In memory mode an instance keeps at most {@code maxBuckets} buckets; idle ones expire after {@code idleExpiry}.
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("memory") Mode mode,
+        @DefaultValue("10m") Duration idleExpiry,
+        @DefaultValue("100000") long maxBuckets,
+        List<Group> groups
+) {
+
+    public enum Mode {
+        /** Buckets in this instance's memory; each instance enforces the limit on its own share of traffic. */
+        MEMORY,
+        /** Buckets in the rate_limit_buckets table, shared by all instances; one statement per bucket and request. */
+        POSTGRES
+    }
+
+    /** {@code org} may be omitted for groups that are limited per user only. */
+    public record Group(String name, List<String> paths, Limit user, Limit org) {}
+
+    /** Burst of {@code capacity} requests, then {@code refillPerSecond} on average. */
+    public record Limit(long capacity, double refillPerSecond) {}
+}
@@ -0,0 +1,26 @@
+package com.sj.Workly.config;
+
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics for virtual-thread mode ({@code spring.threads.virtual.enabled}). Pinning is what can still starve the
+ * carrier threads: a virtual thread that blocks while it cannot unmount (native frames, class initialization)
+ * holds its carrier for the whole wait.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * Streams the JFR events jdk.VirtualThreadPinned (pinned and blocked for more than 20 ms) and
+     * jdk.VirtualThreadSubmitFailed into the {@code jvm.threads.virtual.pinned} timer and the
+     * {@code jvm.threads.virtual.submit.failed} counter. Closed with the context.
+     */
+    @Bean
+    public VirtualThreadMetrics virtualThreadMetrics() {
+        return new VirtualThreadMetrics();
+    }
+}
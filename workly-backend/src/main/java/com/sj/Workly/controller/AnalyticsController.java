@@ -0,0 +1,41 @@
+package com.sj.Workly.controller;
+
+import com.sj.Workly.dto.analytics.CumulativeFlowResponse;
+import com.sj.Workly.dto.analytics.CycleTimeResponse;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.service.analytics.IssueAnalyticsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/orgs/{orgId}/projects/{projectId}/analytics")
+public class AnalyticsController {
+
+    private final IssueAnalyticsService analyticsService;
+
+    public AnalyticsController(IssueAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    /** {@code ?from=2025-01-01&to=2025-03-31} (UTC days, inclusive); defaults to the last 30 days. */
+    @GetMapping("/cumulative-flow")
+    public CumulativeFlowResponse cumulativeFlow(@AuthenticationPrincipal User user,
+                                                 @PathVariable Long orgId,
+                                                 @PathVariable Long projectId,
+                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return analyticsService.cumulativeFlow(user, projectId, from, to);
+    }
+
+    @GetMapping("/cycle-time")
+    public CycleTimeResponse cycleTime(@AuthenticationPrincipal User user,
+                                       @PathVariable Long orgId,
+                                       @PathVariable Long projectId,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return analyticsService.cycleTime(user, projectId, from, to);
+    }
+}
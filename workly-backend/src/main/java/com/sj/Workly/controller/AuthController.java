@@ -1,6 +1,7 @@
 package com.sj.Workly.controller;
 
 import com.sj.Workly.dto.auth.*;
+import com.sj.Workly.observability.DomainMetrics;
 import com.sj.Workly.service.AuthService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import jakarta.validation.Valid;
@@ -16,8 +17,12 @@ import jakarta.servlet.http.HttpServletRequest;
 public class AuthController {
 
     private final AuthService authService;
+    private final DomainMetrics metrics;
 
-    public AuthController(AuthService authService) { this.authService = authService; }
+    public AuthController(AuthService authService, DomainMetrics metrics) {
+        this.authService = authService;
+        this.metrics = metrics;
+    }
 
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest req) {
@@ -28,8 +33,9 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest req) {
-        var result = authService.login(req);
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest req, HttpServletRequest request) {
+        // The client address when server.forward-headers-strategy matches the proxy setup
+        var result = metrics.time("auth.login", () -> authService.login(req, request.getRemoteAddr()));
         return ResponseEntity.ok()
                 .header("Set-Cookie", result.refreshCookie().toString())
                 .body(result.body());
@@ -39,7 +45,7 @@ public class AuthController {
     @PostMapping("/refresh")
     public ResponseEntity<AuthResponse> refresh(HttpServletRequest request) {
         String token = readCookie(request, AuthService.REFRESH_COOKIE_NAME);
-        var result = authService.refresh(token);
+        var result = metrics.time("auth.refresh", () -> authService.refresh(token));
         return ResponseEntity.ok()
                 .header("Set-Cookie", result.refreshCookie().toString())
                 .body(result.body());
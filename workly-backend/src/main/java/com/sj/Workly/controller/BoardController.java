@@ -3,23 +3,32 @@ package com.sj.Workly.controller;
 import com.sj.Workly.dto.board.BoardResponse;
 import com.sj.Workly.entity.User;
 import com.sj.Workly.service.BoardService;
+import com.sj.Workly.service.ChangeVersionService;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/orgs/{orgId}/projects/{projectId}/board")
 public class BoardController {
 
     private final BoardService boardService;
+    private final ChangeVersionService changeVersions;
 
-    public BoardController(BoardService boardService) {
+    public BoardController(BoardService boardService,
+                           ChangeVersionService changeVersions) {
         this.boardService = boardService;
+        this.changeVersions = changeVersions;
     }
 
     @GetMapping
     public BoardResponse get(@AuthenticationPrincipal User user,
                              @PathVariable Long orgId,
-                             @PathVariable Long projectId) {
+                             @PathVariable Long projectId,
+                             WebRequest request) {
+        if (ConditionalGet.notModified(request, changeVersions.projectTag(user.getId(), orgId, projectId))) {
+            return null;
+        }
         return boardService.getBoard(user, orgId, projectId);
     }
 }
@@ -2,10 +2,12 @@ package com.sj.Workly.controller;
 
 import com.sj.Workly.dto.column.*;
 import com.sj.Workly.entity.User;
+import com.sj.Workly.service.ChangeVersionService;
 import com.sj.Workly.service.ColumnService;
 import jakarta.validation.Valid;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -14,9 +16,12 @@ import java.util.List;
 public class ColumnController {
 
     private final ColumnService columnService;
+    private final ChangeVersionService changeVersions;
 
-    public ColumnController(ColumnService columnService) {
+    public ColumnController(ColumnService columnService,
+                            ChangeVersionService changeVersions) {
         this.columnService = columnService;
+        this.changeVersions = changeVersions;
     }
 
     @PostMapping
@@ -30,10 +35,23 @@ public class ColumnController {
     @GetMapping
     public List<ColumnResponse> list(@AuthenticationPrincipal User user,
                                      @PathVariable Long orgId,
-                                     @PathVariable Long projectId) {
+                                     @PathVariable Long projectId,
+                                     WebRequest request) {
+        if (ConditionalGet.notModified(request, changeVersions.projectTag(user.getId(), orgId, projectId))) {
+            return null;
+        }
         return columnService.list(user, orgId, projectId);
     }
 
+    /** Body: every column id of the board in the new order. */
+    @PutMapping("/order")
+    public List<ColumnResponse> reorder(@AuthenticationPrincipal User user,
+                                        @PathVariable Long orgId,
+                                        @PathVariable Long projectId,
+                                        @Valid @RequestBody ReorderColumnsRequest req) {
+        return columnService.reorder(user, orgId, projectId, req);
+    }
+
     @PutMapping("/{columnId}")
     public ColumnResponse update(@AuthenticationPrincipal User user,
                                  @PathVariable Long orgId,
@@ -47,7 +65,8 @@ public class ColumnController {
     public void delete(@AuthenticationPrincipal User user,
                        @PathVariable Long orgId,
                        @PathVariable Long projectId,
-                       @PathVariable Long columnId) {
-        columnService.delete(user, orgId, projectId, columnId);
+                       @PathVariable Long columnId,
+                       @RequestParam(required = false) Long targetColumnId) {
+        columnService.delete(user, orgId, projectId, columnId, targetColumnId);
     }
 }
@@ -3,10 +3,13 @@ package com.sj.Workly.controller;
 import com.sj.Workly.dto.comment.CommentResponse;
 import com.sj.Workly.dto.comment.CreateCommentRequest;
 import com.sj.Workly.entity.User;
+import com.sj.Workly.observability.DomainMetrics;
+import com.sj.Workly.service.ChangeVersionService;
 import com.sj.Workly.service.CommentService;
 import jakarta.validation.Valid;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,9 +18,15 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final ChangeVersionService changeVersions;
+    private final DomainMetrics metrics;
 
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService,
+                             ChangeVersionService changeVersions,
+                             DomainMetrics metrics) {
         this.commentService = commentService;
+        this.changeVersions = changeVersions;
+        this.metrics = metrics;
     }
 
     /** List all comments for an issue, ordered by created date ascending. */
@@ -25,7 +34,11 @@ public class CommentController {
     public List<CommentResponse> list(@AuthenticationPrincipal User user,
                                       @PathVariable Long orgId,
                                       @PathVariable Long projectId,
-                                      @PathVariable Long issueId) {
+                                      @PathVariable Long issueId,
+                                      WebRequest request) {
+        if (ConditionalGet.notModified(request, changeVersions.projectTag(user.getId(), orgId, projectId))) {
+            return null;
+        }
         return commentService.listByIssue(user, orgId, projectId, issueId);
     }
 
@@ -46,7 +59,7 @@ public class CommentController {
                                @PathVariable Long projectId,
                                @PathVariable Long issueId,
                                @Valid @RequestBody CreateCommentRequest req) {
-        return commentService.add(user, orgId, projectId, issueId, req);
+        return metrics.time("comment.add", () -> commentService.add(user, orgId, projectId, issueId, req));
     }
 
     /** Delete a comment. Only the comment author can delete. */
@@ -0,0 +1,25 @@
+package com.sj.Workly.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/** If-None-Match handling for list endpoints, with tags from ChangeVersionService. */
+final class ConditionalGet {
+
+    private ConditionalGet() {}
+
+    /**
+     * True if the client's copy is current; the handler then returns null and Spring sends 304. Otherwise the
+     * ETag is set on the response. A null tag (caller is not a member) skips the check, so the service call that
+     * follows reports the error as usual.
+     */
+    static boolean notModified(WebRequest request, String etag) {
+        if (etag == null) return false;
+        if (request instanceof ServletWebRequest servlet && servlet.getResponse() != null) {
+            // Always revalidate; never stored by shared caches (lists depend on the caller)
+            servlet.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+        return request.checkNotModified(etag);
+    }
+}
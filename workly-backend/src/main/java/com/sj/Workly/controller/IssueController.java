@@ -3,11 +3,24 @@ package com.sj.Workly.controller;
 import com.sj.Workly.dto.issue.*;
 import com.sj.Workly.entity.User;
 import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.observability.DomainMetrics;
+import com.sj.Workly.service.ChangeVersionService;
+import com.sj.Workly.service.IssueActivityService;
 import com.sj.Workly.service.IssueService;
+import com.sj.Workly.service.SavedIssueFilterService;
 import com.sj.Workly.dto.issue.MoveIssueRequest;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -16,9 +29,21 @@ import java.util.List;
 public class IssueController {
 
     private final IssueService issueService;
+    private final SavedIssueFilterService savedFilterService;
+    private final IssueActivityService activityService;
+    private final ChangeVersionService changeVersions;
+    private final DomainMetrics metrics;
 
-    public IssueController(IssueService issueService) {
+    public IssueController(IssueService issueService,
+                           SavedIssueFilterService savedFilterService,
+                           IssueActivityService activityService,
+                           ChangeVersionService changeVersions,
+                           DomainMetrics metrics) {
         this.issueService = issueService;
+        this.savedFilterService = savedFilterService;
+        this.activityService = activityService;
+        this.changeVersions = changeVersions;
+        this.metrics = metrics;
     }
 
     @PostMapping
@@ -26,16 +51,95 @@ public class IssueController {
                                 @PathVariable Long orgId,
                                 @PathVariable Long projectId,
                                 @Valid @RequestBody CreateIssueRequest req) {
-        return issueService.create(user, orgId, projectId, req);
+        return metrics.time("issue.create", () -> issueService.create(user, orgId, projectId, req));
     }
 
+    /** Applies a list of patches in one transaction; see IssueService.bulkUpdate. */
+    @PostMapping("/bulk")
+    public BulkIssueUpdateResponse bulkUpdate(@AuthenticationPrincipal User user,
+                                              @PathVariable Long orgId,
+                                              @PathVariable Long projectId,
+                                              @Valid @RequestBody BulkIssueUpdateRequest req) {
+        return metrics.time("issue.bulk_update", () -> issueService.bulkUpdate(user, projectId, req));
+    }
+
+    /** Streamed: the JSON array is written while the rows are read, so large projects aren't held in memory. */
     @GetMapping
-    public List<IssueResponse> list(@AuthenticationPrincipal User user,
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = IssueResponse.class))))
+    public ResponseEntity<StreamingResponseBody> list(@AuthenticationPrincipal User user,
+                                                      @PathVariable Long orgId,
+                                                      @PathVariable Long projectId,
+                                                      @RequestParam(required = false) Long columnId,
+                                                      @RequestParam(required = false) IssueStatus status,
+                                                      WebRequest request) {
+        if (ConditionalGet.notModified(request, changeVersions.projectTag(user.getId(), orgId, projectId))) {
+            return null;
+        }
+        issueService.authorizeList(user, projectId, columnId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> issueService.writeList(projectId, columnId, status, out));
+    }
+
+    /**
+     * Structured filter, e.g. {@code ?statuses=TO_DO,IN_PROGRESS&assigneeIds=3&createdFrom=2025-01-01T00:00:00Z&sort=UPDATED_AT}.
+     * With savedFilterId the stored filter is used instead of the filter params.
+     */
+    @GetMapping("/filter")
+    public IssuePageResponse filter(@AuthenticationPrincipal User user,
                                     @PathVariable Long orgId,
                                     @PathVariable Long projectId,
-                                    @RequestParam(required = false) Long columnId,
-                                    @RequestParam(required = false) IssueStatus status) {
-        return issueService.list(user, projectId, columnId, status);
+                                    @ModelAttribute IssueFilterRequest filter,
+                                    @RequestParam(required = false) Long savedFilterId,
+                                    @RequestParam(required = false) String cursor,
+                                    @RequestParam(defaultValue = "50") int size) {
+        IssueFilterRequest effective = savedFilterId == null
+                ? filter
+                : savedFilterService.load(user, projectId, savedFilterId);
+        return issueService.filter(user, projectId, effective, cursor, size);
+    }
+
+    @GetMapping("/filters")
+    public List<SavedIssueFilterResponse> listFilters(@AuthenticationPrincipal User user,
+                                                      @PathVariable Long orgId,
+                                                      @PathVariable Long projectId) {
+        return savedFilterService.list(user, projectId);
+    }
+
+    @PostMapping("/filters")
+    public SavedIssueFilterResponse createFilter(@AuthenticationPrincipal User user,
+                                                 @PathVariable Long orgId,
+                                                 @PathVariable Long projectId,
+                                                 @Valid @RequestBody SavedIssueFilterRequest req) {
+        return savedFilterService.create(user, orgId, projectId, req);
+    }
+
+    @PutMapping("/filters/{filterId}")
+    public SavedIssueFilterResponse updateFilter(@AuthenticationPrincipal User user,
+                                                 @PathVariable Long orgId,
+                                                 @PathVariable Long projectId,
+                                                 @PathVariable Long filterId,
+                                                 @Valid @RequestBody SavedIssueFilterRequest req) {
+        return savedFilterService.update(user, projectId, filterId, req);
+    }
+
+    @DeleteMapping("/filters/{filterId}")
+    public void deleteFilter(@AuthenticationPrincipal User user,
+                             @PathVariable Long orgId,
+                             @PathVariable Long projectId,
+                             @PathVariable Long filterId) {
+        savedFilterService.delete(user, projectId, filterId);
+    }
+
+    @GetMapping("/search")
+    public Page<IssueSearchResult> search(@AuthenticationPrincipal User user,
+                                          @PathVariable Long orgId,
+                                          @PathVariable Long projectId,
+                                          @RequestParam String q,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "20") int size) {
+        return issueService.search(user, projectId, q, page, size);
     }
 
     @GetMapping("/{issueId}")
@@ -52,7 +156,7 @@ public class IssueController {
                                 @PathVariable Long projectId,
                                 @PathVariable Long issueId,
                                 @Valid @RequestBody UpdateIssueRequest req) {
-        return issueService.update(user, projectId, issueId, req);
+        return metrics.time("issue.update", () -> issueService.update(user, projectId, issueId, req));
     }
 
     @PatchMapping("/{issueId}/move")
@@ -61,6 +165,17 @@ public class IssueController {
                               @PathVariable Long projectId,
                               @PathVariable Long issueId,
                               @RequestBody MoveIssueRequest req) {
-        return issueService.move(user, projectId, issueId, req);
+        return metrics.time("issue.move", () -> issueService.move(user, projectId, issueId, req));
+    }
+
+    /** Field-level history, newest first; pass nextCursor as {@code before} for older entries. */
+    @GetMapping("/{issueId}/activity")
+    public IssueActivityPageResponse activity(@AuthenticationPrincipal User user,
+                                              @PathVariable Long orgId,
+                                              @PathVariable Long projectId,
+                                              @PathVariable Long issueId,
+                                              @RequestParam(required = false) Long before,
+                                              @RequestParam(defaultValue = "50") int size) {
+        return activityService.list(user, projectId, issueId, before, size);
     }
 }
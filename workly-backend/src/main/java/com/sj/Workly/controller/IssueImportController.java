@@ -0,0 +1,77 @@
+package com.sj.Workly.controller;
+
+import com.sj.Workly.dto.issue.IssueImportStatusResponse;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.exception.BadRequestException;
+import com.sj.Workly.service.importer.IssueImportJob;
+import com.sj.Workly.service.importer.IssueImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/orgs/{orgId}/projects/{projectId}/issues/import")
+public class IssueImportController {
+
+    private final IssueImportService importService;
+
+    public IssueImportController(IssueImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * Upload the file as the raw request body (not multipart), e.g.
+     * {@code curl --data-binary @issues.csv -H 'Content-Type: text/csv'}.
+     * Format comes from {@code ?format=csv|ndjson}, else from the content type.
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public IssueImportStatusResponse start(@AuthenticationPrincipal User user,
+                                           @PathVariable Long orgId,
+                                           @PathVariable Long projectId,
+                                           @RequestParam(required = false) String format,
+                                           HttpServletRequest request) throws IOException {
+        IssueImportService.Format parsed = parseFormat(format, request.getContentType());
+        return toResponse(importService.start(user, orgId, projectId, parsed, request.getInputStream()));
+    }
+
+    @GetMapping("/{jobId}")
+    public IssueImportStatusResponse status(@AuthenticationPrincipal User user,
+                                            @PathVariable Long orgId,
+                                            @PathVariable Long projectId,
+                                            @PathVariable String jobId) {
+        return toResponse(importService.status(user, projectId, jobId));
+    }
+
+    private static IssueImportService.Format parseFormat(String format, String contentType) {
+        String value = format != null ? format : contentType;
+        if (value != null) {
+            value = value.toLowerCase(Locale.ROOT);
+            if (value.equals("csv") || value.startsWith("text/csv")) return IssueImportService.Format.CSV;
+            if (value.equals("ndjson") || value.startsWith("application/x-ndjson")
+                    || value.startsWith("application/ndjson")) {
+                return IssueImportService.Format.NDJSON;
+            }
+        }
+        throw new BadRequestException("Unsupported import format; use format=csv or format=ndjson");
+    }
+
+    private IssueImportStatusResponse toResponse(IssueImportJob job) {
+        IssueImportStatusResponse r = new IssueImportStatusResponse();
+        r.setId(job.getId());
+        r.setProjectId(job.getProjectId());
+        r.setStatus(job.getStatus().name());
+        r.setRowsRead(job.getRowsRead());
+        r.setImported(job.getImported());
+        r.setRejected(job.getRejected());
+        r.setErrors(job.getErrors());
+        r.setFailure(job.getFailure());
+        r.setCreatedAt(job.getCreatedAt());
+        r.setFinishedAt(job.getFinishedAt());
+        return r;
+    }
+}
@@ -1,11 +1,22 @@
 package com.sj.Workly.controller;
 
 import com.sj.Workly.dto.organization.*;
+import com.sj.Workly.dto.purge.PurgeJobResponse;
 import com.sj.Workly.entity.User;
+import com.sj.Workly.service.ChangeVersionService;
 import com.sj.Workly.service.OrganizationService;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -14,9 +25,12 @@ import java.util.List;
 public class OrganizationController {
 
     private final OrganizationService orgService;
+    private final ChangeVersionService changeVersions;
 
-    public OrganizationController(OrganizationService orgService) {
+    public OrganizationController(OrganizationService orgService,
+                                  ChangeVersionService changeVersions) {
         this.orgService = orgService;
+        this.changeVersions = changeVersions;
     }
 
     @PostMapping
@@ -36,10 +50,20 @@ public class OrganizationController {
         return orgService.listMyOrgs(user);
     }
 
+    /** Streamed like the issue list. */
     @GetMapping("/{orgId}/members")
-    public List<OrgMemberResponse> members(@AuthenticationPrincipal User user,
-                                           @PathVariable Long orgId) {
-        return orgService.listMembers(user, orgId);
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = OrgMemberResponse.class))))
+    public ResponseEntity<StreamingResponseBody> members(@AuthenticationPrincipal User user,
+                                                         @PathVariable Long orgId,
+                                                         WebRequest request) {
+        if (ConditionalGet.notModified(request, changeVersions.orgTag(user.getId(), orgId))) {
+            return null;
+        }
+        orgService.authorizeMembers(user, orgId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> orgService.writeMembers(orgId, out));
     }
 
     @PutMapping("/{orgId}")
@@ -49,9 +73,11 @@ public class OrganizationController {
         return orgService.update(user, orgId, req);
     }
 
+    /** 202: the org is gone from the API now; poll /purge-jobs/{id} for the background cleanup. */
     @DeleteMapping("/{orgId}")
-    public void delete(@AuthenticationPrincipal User user,
-                       @PathVariable Long orgId) {
-        orgService.delete(user, orgId);
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public PurgeJobResponse delete(@AuthenticationPrincipal User user,
+                                   @PathVariable Long orgId) {
+        return orgService.delete(user, orgId);
     }
 }
@@ -1,11 +1,15 @@
 package com.sj.Workly.controller;
 
 import com.sj.Workly.dto.project.*;
+import com.sj.Workly.dto.purge.PurgeJobResponse;
 import com.sj.Workly.entity.User;
+import com.sj.Workly.service.ChangeVersionService;
 import com.sj.Workly.service.ProjectService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -14,9 +18,12 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ChangeVersionService changeVersions;
 
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService,
+                             ChangeVersionService changeVersions) {
         this.projectService = projectService;
+        this.changeVersions = changeVersions;
     }
 
     @PostMapping
@@ -28,7 +35,11 @@ public class ProjectController {
 
     @GetMapping
     public List<ProjectResponse> listMy(@AuthenticationPrincipal User user,
-                                        @PathVariable Long orgId) {
+                                        @PathVariable Long orgId,
+                                        WebRequest request) {
+        if (ConditionalGet.notModified(request, changeVersions.orgTag(user.getId(), orgId))) {
+            return null;
+        }
         return projectService.listMyProjects(user, orgId);
     }
 
@@ -47,11 +58,13 @@ public class ProjectController {
         return projectService.update(user, orgId, projectId, req);
     }
 
+    /** 202: the project is gone from the API now; poll /purge-jobs/{id} for the background cleanup. */
     @DeleteMapping("/{projectId}")
-    public void delete(@AuthenticationPrincipal User user,
-                       @PathVariable Long orgId,
-                       @PathVariable Long projectId) {
-        projectService.delete(user, orgId, projectId);
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public PurgeJobResponse delete(@AuthenticationPrincipal User user,
+                                   @PathVariable Long orgId,
+                                   @PathVariable Long projectId) {
+        return projectService.delete(user, orgId, projectId);
     }
 
     // ---- members ----
@@ -59,7 +72,11 @@ public class ProjectController {
     @GetMapping("/{projectId}/members")
     public List<ProjectMemberResponse> listMembers(@AuthenticationPrincipal User user,
                                                    @PathVariable Long orgId,
-                                                   @PathVariable Long projectId) {
+                                                   @PathVariable Long projectId,
+                                                   WebRequest request) {
+        if (ConditionalGet.notModified(request, changeVersions.projectTag(user.getId(), orgId, projectId))) {
+            return null;
+        }
         return projectService.listProjectMembers(user, orgId, projectId);
     }
 
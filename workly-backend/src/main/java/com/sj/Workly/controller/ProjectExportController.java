@@ -0,0 +1,82 @@
+package com.sj.Workly.controller;
+
+import com.sj.Workly.entity.Project;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.exception.BadRequestException;
+import com.sj.Workly.service.export.ProjectExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/orgs/{orgId}/projects/{projectId}/export")
+public class ProjectExportController {
+
+    private final ProjectExportService exportService;
+
+    public ProjectExportController(ProjectExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * {@code ?format=ndjson} (default) exports everything as typed records; {@code ?format=csv&entity=issues|comments|members}
+     * exports one entity. {@code gzip=true} returns a .gz file.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(@AuthenticationPrincipal User user,
+                                                        @PathVariable Long orgId,
+                                                        @PathVariable Long projectId,
+                                                        @RequestParam(defaultValue = "ndjson") String format,
+                                                        @RequestParam(required = false) String entity,
+                                                        @RequestParam(defaultValue = "false") boolean gzip) {
+        Project project = exportService.authorize(user, orgId, projectId);
+        ProjectExportService.Format parsedFormat = parse(ProjectExportService.Format.class, format, "format");
+
+        String fileName;
+        MediaType contentType;
+        StreamingResponseBody body;
+        if (parsedFormat == ProjectExportService.Format.CSV) {
+            if (entity == null) throw new BadRequestException("entity is required for CSV exports (issues, comments or members)");
+            ProjectExportService.Entity parsedEntity = parse(ProjectExportService.Entity.class, entity, "entity");
+            fileName = project.getSlug() + "-" + parsedEntity.name().toLowerCase(Locale.ROOT) + ".csv";
+            contentType = new MediaType("text", "csv", StandardCharsets.UTF_8);
+            body = out -> exportService.writeCsv(projectId, parsedEntity, out);
+        } else {
+            fileName = project.getSlug() + ".ndjson";
+            contentType = MediaType.parseMediaType("application/x-ndjson");
+            body = out -> exportService.writeNdjson(projectId, out);
+        }
+
+        if (gzip) {
+            StreamingResponseBody plain = body;
+            body = out -> {
+                GZIPOutputStream zipped = new GZIPOutputStream(out, 64 * 1024);
+                plain.writeTo(zipped);
+                zipped.finish();
+            };
+            fileName += ".gz";
+            contentType = MediaType.parseMediaType("application/gzip");
+        }
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, String param) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported " + param + " '" + value + "'");
+        }
+    }
+}
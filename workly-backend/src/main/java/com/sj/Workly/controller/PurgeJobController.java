@@ -0,0 +1,24 @@
+package com.sj.Workly.controller;
+
+import com.sj.Workly.dto.purge.PurgeJobResponse;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.service.purge.PurgeService;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/purge-jobs")
+public class PurgeJobController {
+
+    private final PurgeService purgeService;
+
+    public PurgeJobController(PurgeService purgeService) {
+        this.purgeService = purgeService;
+    }
+
+    @GetMapping("/{jobId}")
+    public PurgeJobResponse get(@AuthenticationPrincipal User user,
+                                @PathVariable Long jobId) {
+        return purgeService.get(user, jobId);
+    }
+}
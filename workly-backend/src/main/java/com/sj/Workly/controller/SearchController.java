@@ -0,0 +1,29 @@
+package com.sj.Workly.controller;
+
+import com.sj.Workly.dto.search.QuickSearchResult;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.service.search.QuickSearchService;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/orgs/{orgId}/search")
+public class SearchController {
+
+    private final QuickSearchService quickSearchService;
+
+    public SearchController(QuickSearchService quickSearchService) {
+        this.quickSearchService = quickSearchService;
+    }
+
+    /** Typeahead across the org: issue titles and project names (caller's projects only) and member names. */
+    @GetMapping("/quick")
+    public List<QuickSearchResult> quick(@AuthenticationPrincipal User user,
+                                         @PathVariable Long orgId,
+                                         @RequestParam String q,
+                                         @RequestParam(required = false) Integer limit) {
+        return quickSearchService.search(user, orgId, q, limit);
+    }
+}
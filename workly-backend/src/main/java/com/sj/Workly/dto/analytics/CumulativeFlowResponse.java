@@ -0,0 +1,31 @@
+package com.sj.Workly.dto.analytics;
+
+import com.sj.Workly.entity.enums.IssueStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/** Issues per status at the end of each day (UTC), oldest day first. */
+public class CumulativeFlowResponse {
+
+    private Long projectId;
+    private List<Day> days;
+
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+
+    public List<Day> getDays() { return days; }
+    public void setDays(List<Day> days) { this.days = days; }
+
+    public static class Day {
+        private LocalDate day;
+        private Map<IssueStatus, Long> counts;
+
+        public LocalDate getDay() { return day; }
+        public void setDay(LocalDate day) { this.day = day; }
+
+        public Map<IssueStatus, Long> getCounts() { return counts; }
+        public void setCounts(Map<IssueStatus, Long> counts) { this.counts = counts; }
+    }
+}
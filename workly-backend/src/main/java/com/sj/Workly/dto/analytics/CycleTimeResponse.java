@@ -0,0 +1,51 @@
+package com.sj.Workly.dto.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Resolutions in a range. Lead time is created -> resolved, cycle time is started (first left TO_DO) -> resolved.
+ * Averages are null when nothing was resolved. Days without resolutions are omitted.
+ */
+public class CycleTimeResponse {
+
+    private Long projectId;
+    private long resolved;
+    private Double avgLeadTimeHours;
+    private Double avgCycleTimeHours;
+    private List<Day> days;
+
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+
+    public long getResolved() { return resolved; }
+    public void setResolved(long resolved) { this.resolved = resolved; }
+
+    public Double getAvgLeadTimeHours() { return avgLeadTimeHours; }
+    public void setAvgLeadTimeHours(Double avgLeadTimeHours) { this.avgLeadTimeHours = avgLeadTimeHours; }
+
+    public Double getAvgCycleTimeHours() { return avgCycleTimeHours; }
+    public void setAvgCycleTimeHours(Double avgCycleTimeHours) { this.avgCycleTimeHours = avgCycleTimeHours; }
+
+    public List<Day> getDays() { return days; }
+    public void setDays(List<Day> days) { this.days = days; }
+
+    public static class Day {
+        private LocalDate day;
+        private int resolved;
+        private Double avgLeadTimeHours;
+        private Double avgCycleTimeHours;
+
+        public LocalDate getDay() { return day; }
+        public void setDay(LocalDate day) { this.day = day; }
+
+        public int getResolved() { return resolved; }
+        public void setResolved(int resolved) { this.resolved = resolved; }
+
+        public Double getAvgLeadTimeHours() { return avgLeadTimeHours; }
+        public void setAvgLeadTimeHours(Double avgLeadTimeHours) { this.avgLeadTimeHours = avgLeadTimeHours; }
+
+        public Double getAvgCycleTimeHours() { return avgCycleTimeHours; }
+        public void setAvgCycleTimeHours(Double avgCycleTimeHours) { this.avgCycleTimeHours = avgCycleTimeHours; }
+    }
+}
@@ -1,12 +1,18 @@
 package com.sj.Workly.dto.column;
 
+import com.sj.Workly.entity.enums.IssueStatus;
+
 import java.time.Instant;
+import java.util.Map;
 
 public class ColumnResponse {
     private Long id;
     private Long boardId;
     private String name;
     private Integer orderIndex;
+    private int issueCount;
+    private Integer wipLimit;
+    private Map<IssueStatus, Integer> statusCounts;
     private Instant createdAt;
     private Instant updatedAt;
 
@@ -22,6 +28,15 @@ public class ColumnResponse {
     public Integer getOrderIndex() { return orderIndex; }
     public void setOrderIndex(Integer orderIndex) { this.orderIndex = orderIndex; }
 
+    public int getIssueCount() { return issueCount; }
+    public void setIssueCount(int issueCount) { this.issueCount = issueCount; }
+
+    public Integer getWipLimit() { return wipLimit; }
+    public void setWipLimit(Integer wipLimit) { this.wipLimit = wipLimit; }
+
+    public Map<IssueStatus, Integer> getStatusCounts() { return statusCounts; }
+    public void setStatusCounts(Map<IssueStatus, Integer> statusCounts) { this.statusCounts = statusCounts; }
+
     public Instant getCreatedAt() { return createdAt; }
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
 
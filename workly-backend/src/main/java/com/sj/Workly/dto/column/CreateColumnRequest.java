@@ -1,5 +1,6 @@
 package com.sj.Workly.dto.column;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -9,6 +10,12 @@ public class CreateColumnRequest {
     @Size(min = 1, max = 100)
     private String name;
 
+    @Min(1)
+    private Integer wipLimit; // optional; null = no limit
+
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
+
+    public Integer getWipLimit() { return wipLimit; }
+    public void setWipLimit(Integer wipLimit) { this.wipLimit = wipLimit; }
 }
@@ -0,0 +1,15 @@
+package com.sj.Workly.dto.column;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public class ReorderColumnsRequest {
+
+    @NotEmpty
+    private List<@NotNull Long> columnIds;
+
+    public List<Long> getColumnIds() { return columnIds; }
+    public void setColumnIds(List<Long> columnIds) { this.columnIds = columnIds; }
+}
@@ -1,5 +1,6 @@
 package com.sj.Workly.dto.column;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 
 public class UpdateColumnRequest {
@@ -9,9 +10,15 @@ public class UpdateColumnRequest {
 
     private Integer orderIndex;
 
+    @Min(0)
+    private Integer wipLimit; // 0 removes the limit
+
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
 
     public Integer getOrderIndex() { return orderIndex; }
     public void setOrderIndex(Integer orderIndex) { this.orderIndex = orderIndex; }
+
+    public Integer getWipLimit() { return wipLimit; }
+    public void setWipLimit(Integer wipLimit) { this.wipLimit = wipLimit; }
 }
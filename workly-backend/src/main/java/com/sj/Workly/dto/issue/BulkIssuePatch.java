@@ -0,0 +1,13 @@
+package com.sj.Workly.dto.issue;
+
+import jakarta.validation.constraints.NotNull;
+
+/** One item of a bulk update: the issue to change plus the same optional fields as a single update. */
+public class BulkIssuePatch extends UpdateIssueRequest {
+
+    @NotNull
+    private Long issueId;
+
+    public Long getIssueId() { return issueId; }
+    public void setIssueId(Long issueId) { this.issueId = issueId; }
+}
@@ -0,0 +1,25 @@
+package com.sj.Workly.dto.issue;
+
+public class BulkIssueResult {
+
+    public enum Outcome { UPDATED, NOT_FOUND, REJECTED }
+
+    private Long issueId;
+    private Outcome outcome;
+    // Reason when not UPDATED
+    private String message;
+    // The issue after the update; null when not UPDATED
+    private IssueResponse issue;
+
+    public Long getIssueId() { return issueId; }
+    public void setIssueId(Long issueId) { this.issueId = issueId; }
+
+    public Outcome getOutcome() { return outcome; }
+    public void setOutcome(Outcome outcome) { this.outcome = outcome; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public IssueResponse getIssue() { return issue; }
+    public void setIssue(IssueResponse issue) { this.issue = issue; }
+}
@@ -0,0 +1,17 @@
+package com.sj.Workly.dto.issue;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BulkIssueUpdateRequest {
+
+    @NotEmpty
+    @Size(max = 200)
+    private List<@Valid BulkIssuePatch> items;
+
+    public List<BulkIssuePatch> getItems() { return items; }
+    public void setItems(List<BulkIssuePatch> items) { this.items = items; }
+}
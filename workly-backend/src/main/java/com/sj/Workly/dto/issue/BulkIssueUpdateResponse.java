@@ -0,0 +1,20 @@
+package com.sj.Workly.dto.issue;
+
+import java.util.List;
+
+/** Results are in request order. */
+public class BulkIssueUpdateResponse {
+
+    private int updated;
+    private int failed;
+    private List<BulkIssueResult> results;
+
+    public int getUpdated() { return updated; }
+    public void setUpdated(int updated) { this.updated = updated; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<BulkIssueResult> getResults() { return results; }
+    public void setResults(List<BulkIssueResult> results) { this.results = results; }
+}
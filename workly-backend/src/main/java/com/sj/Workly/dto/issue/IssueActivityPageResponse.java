@@ -0,0 +1,16 @@
+package com.sj.Workly.dto.issue;
+
+import java.util.List;
+
+/** Newest first. Pass nextCursor back as {@code before} to get older entries; null on the last page. */
+public class IssueActivityPageResponse {
+
+    private List<IssueActivityResponse> items;
+    private Long nextCursor;
+
+    public List<IssueActivityResponse> getItems() { return items; }
+    public void setItems(List<IssueActivityResponse> items) { this.items = items; }
+
+    public Long getNextCursor() { return nextCursor; }
+    public void setNextCursor(Long nextCursor) { this.nextCursor = nextCursor; }
+}
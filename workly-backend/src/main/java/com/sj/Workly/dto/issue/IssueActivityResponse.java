@@ -0,0 +1,34 @@
+package com.sj.Workly.dto.issue;
+
+import com.sj.Workly.entity.enums.IssueField;
+
+import java.time.Instant;
+
+/** One changed field. Values are enum names for STATUS/PRIORITY, ids for COLUMN/ASSIGNEE, the order index for RANK. */
+public class IssueActivityResponse {
+
+    private Long id;
+    private Long actorId;
+    private IssueField field;
+    private String from;
+    private String to;
+    private Instant createdAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getActorId() { return actorId; }
+    public void setActorId(Long actorId) { this.actorId = actorId; }
+
+    public IssueField getField() { return field; }
+    public void setField(IssueField field) { this.field = field; }
+
+    public String getFrom() { return from; }
+    public void setFrom(String from) { this.from = from; }
+
+    public String getTo() { return to; }
+    public void setTo(String to) { this.to = to; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,83 @@
+package com.sj.Workly.dto.issue;
+
+import com.sj.Workly.entity.enums.IssuePriority;
+import com.sj.Workly.entity.enums.IssueStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Structured issue filter. Every field is optional; set fields are ANDed, values inside a set are ORed.
+ * Bound from query params (lists as repeated or comma-separated values) and stored as JSON for saved filters.
+ */
+public class IssueFilterRequest {
+
+    public enum SortField { CREATED_AT, UPDATED_AT }
+
+    public enum SortDirection { ASC, DESC }
+
+    private List<Long> assigneeIds;
+    // true -> only issues without assignee (combined with assigneeIds as OR)
+    private Boolean unassigned;
+    private List<Long> reporterIds;
+    private Set<IssuePriority> priorities;
+    private Set<IssueStatus> statuses;
+    private Long columnId;
+
+    // Ranges are [from, to)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant createdFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant createdTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant updatedFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant updatedTo;
+
+    // Full-text, same syntax as /issues/search (quotes, OR, -word)
+    private String text;
+
+    private SortField sort = SortField.CREATED_AT;
+    private SortDirection direction = SortDirection.DESC;
+
+    public List<Long> getAssigneeIds() { return assigneeIds; }
+    public void setAssigneeIds(List<Long> assigneeIds) { this.assigneeIds = assigneeIds; }
+
+    public Boolean getUnassigned() { return unassigned; }
+    public void setUnassigned(Boolean unassigned) { this.unassigned = unassigned; }
+
+    public List<Long> getReporterIds() { return reporterIds; }
+    public void setReporterIds(List<Long> reporterIds) { this.reporterIds = reporterIds; }
+
+    public Set<IssuePriority> getPriorities() { return priorities; }
+    public void setPriorities(Set<IssuePriority> priorities) { this.priorities = priorities; }
+
+    public Set<IssueStatus> getStatuses() { return statuses; }
+    public void setStatuses(Set<IssueStatus> statuses) { this.statuses = statuses; }
+
+    public Long getColumnId() { return columnId; }
+    public void setColumnId(Long columnId) { this.columnId = columnId; }
+
+    public Instant getCreatedFrom() { return createdFrom; }
+    public void setCreatedFrom(Instant createdFrom) { this.createdFrom = createdFrom; }
+
+    public Instant getCreatedTo() { return createdTo; }
+    public void setCreatedTo(Instant createdTo) { this.createdTo = createdTo; }
+
+    public Instant getUpdatedFrom() { return updatedFrom; }
+    public void setUpdatedFrom(Instant updatedFrom) { this.updatedFrom = updatedFrom; }
+
+    public Instant getUpdatedTo() { return updatedTo; }
+    public void setUpdatedTo(Instant updatedTo) { this.updatedTo = updatedTo; }
+
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+
+    public SortField getSort() { return sort; }
+    public void setSort(SortField sort) { this.sort = sort; }
+
+    public SortDirection getDirection() { return direction; }
+    public void setDirection(SortDirection direction) { this.direction = direction; }
+}
@@ -0,0 +1,49 @@
+package com.sj.Workly.dto.issue;
+
+import java.time.Instant;
+import java.util.List;
+
+/** Progress of an issue import; poll until status is COMPLETED or FAILED. */
+public class IssueImportStatusResponse {
+
+    private String id;
+    private Long projectId;
+    private String status;
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private List<String> errors;
+    private String failure;
+    private Instant createdAt;
+    private Instant finishedAt;
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public long getRowsRead() { return rowsRead; }
+    public void setRowsRead(long rowsRead) { this.rowsRead = rowsRead; }
+
+    public long getImported() { return imported; }
+    public void setImported(long imported) { this.imported = imported; }
+
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+
+    public List<String> getErrors() { return errors; }
+    public void setErrors(List<String> errors) { this.errors = errors; }
+
+    public String getFailure() { return failure; }
+    public void setFailure(String failure) { this.failure = failure; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(Instant finishedAt) { this.finishedAt = finishedAt; }
+}
@@ -0,0 +1,16 @@
+package com.sj.Workly.dto.issue;
+
+import java.util.List;
+
+/** One keyset page. Pass nextCursor back as {@code cursor} to get the next page; null on the last page. */
+public class IssuePageResponse {
+
+    private List<IssueResponse> items;
+    private String nextCursor;
+
+    public List<IssueResponse> getItems() { return items; }
+    public void setItems(List<IssueResponse> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
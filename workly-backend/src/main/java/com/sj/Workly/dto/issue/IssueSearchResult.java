@@ -0,0 +1,51 @@
+package com.sj.Workly.dto.issue;
+
+import com.sj.Workly.entity.enums.IssuePriority;
+import com.sj.Workly.entity.enums.IssueStatus;
+
+public class IssueSearchResult {
+
+    private Long id;
+    private Long projectId;
+    private Long columnId;
+
+    private String title;
+    private IssuePriority priority;
+    private IssueStatus status;
+    private Long assigneeId;
+
+    private float rank;
+    // HTML-escaped text with matches wrapped in <mark>...</mark>
+    private String titleHighlight;
+    private String snippet;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+
+    public Long getColumnId() { return columnId; }
+    public void setColumnId(Long columnId) { this.columnId = columnId; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public IssuePriority getPriority() { return priority; }
+    public void setPriority(IssuePriority priority) { this.priority = priority; }
+
+    public IssueStatus getStatus() { return status; }
+    public void setStatus(IssueStatus status) { this.status = status; }
+
+    public Long getAssigneeId() { return assigneeId; }
+    public void setAssigneeId(Long assigneeId) { this.assigneeId = assigneeId; }
+
+    public float getRank() { return rank; }
+    public void setRank(float rank) { this.rank = rank; }
+
+    public String getTitleHighlight() { return titleHighlight; }
+    public void setTitleHighlight(String titleHighlight) { this.titleHighlight = titleHighlight; }
+
+    public String getSnippet() { return snippet; }
+    public void setSnippet(String snippet) { this.snippet = snippet; }
+}
@@ -0,0 +1,21 @@
+package com.sj.Workly.dto.issue;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class SavedIssueFilterRequest {
+
+    @NotBlank
+    @Size(max = 100)
+    private String name;
+
+    @NotNull
+    private IssueFilterRequest filter;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public IssueFilterRequest getFilter() { return filter; }
+    public void setFilter(IssueFilterRequest filter) { this.filter = filter; }
+}
@@ -0,0 +1,31 @@
+package com.sj.Workly.dto.issue;
+
+import java.time.Instant;
+
+public class SavedIssueFilterResponse {
+
+    private Long id;
+    private Long projectId;
+    private String name;
+    private IssueFilterRequest filter;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public IssueFilterRequest getFilter() { return filter; }
+    public void setFilter(IssueFilterRequest filter) { this.filter = filter; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,55 @@
+package com.sj.Workly.dto.purge;
+
+import com.sj.Workly.entity.enums.PurgeJobStatus;
+import com.sj.Workly.entity.enums.PurgeTargetType;
+
+import java.time.Instant;
+
+/** Progress of a project/org purge; the target is already hidden while this runs. */
+public class PurgeJobResponse {
+
+    private Long id;
+    private PurgeTargetType targetType;
+    private Long targetId;
+    private PurgeJobStatus status;
+    private String currentStep;
+    private long rowsDeleted;
+    private int attempts;
+    private String lastError;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Instant finishedAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public PurgeTargetType getTargetType() { return targetType; }
+    public void setTargetType(PurgeTargetType targetType) { this.targetType = targetType; }
+
+    public Long getTargetId() { return targetId; }
+    public void setTargetId(Long targetId) { this.targetId = targetId; }
+
+    public PurgeJobStatus getStatus() { return status; }
+    public void setStatus(PurgeJobStatus status) { this.status = status; }
+
+    public String getCurrentStep() { return currentStep; }
+    public void setCurrentStep(String currentStep) { this.currentStep = currentStep; }
+
+    public long getRowsDeleted() { return rowsDeleted; }
+    public void setRowsDeleted(long rowsDeleted) { this.rowsDeleted = rowsDeleted; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+
+    public Instant getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(Instant finishedAt) { this.finishedAt = finishedAt; }
+}
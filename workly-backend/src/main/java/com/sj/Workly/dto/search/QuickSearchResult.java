@@ -0,0 +1,25 @@
+package com.sj.Workly.dto.search;
+
+import com.sj.Workly.service.search.QuickSearchIndex;
+
+public class QuickSearchResult {
+
+    private QuickSearchIndex.Kind type;
+    // Issue, project or user id depending on type
+    private Long id;
+    // null for members
+    private Long projectId;
+    private String label;
+
+    public QuickSearchIndex.Kind getType() { return type; }
+    public void setType(QuickSearchIndex.Kind type) { this.type = type; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+}
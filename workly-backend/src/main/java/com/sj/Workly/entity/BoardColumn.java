@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "columns")
+@Table(name = "columns", indexes = @Index(name = "idx_column_board_order", columnList = "board_id, order_index"))
 public class BoardColumn {
 
     @Id
@@ -22,6 +22,12 @@ public class BoardColumn {
     @jakarta.persistence.Column(nullable = false)
     private Integer orderIndex; // For ordering columns in the board
 
+    // Maintained only by ColumnCountService's atomic UPDATEs; never written from the entity
+    @jakarta.persistence.Column(nullable = false, insertable = false, updatable = false)
+    private int issueCount;
+
+    private Integer wipLimit; // null = no limit
+
     @jakarta.persistence.Column(nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -73,6 +79,18 @@ public class BoardColumn {
         this.orderIndex = orderIndex;
     }
 
+    public int getIssueCount() {
+        return issueCount;
+    }
+
+    public Integer getWipLimit() {
+        return wipLimit;
+    }
+
+    public void setWipLimit(Integer wipLimit) {
+        this.wipLimit = wipLimit;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
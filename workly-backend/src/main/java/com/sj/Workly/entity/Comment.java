@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "comments", indexes = @Index(name = "idx_comment_issue", columnList = "issue_id"))
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comment_issue", columnList = "issue_id"),
+        @Index(name = "idx_comment_author", columnList = "author_user_id")
+})
 public class Comment {
 
     @Id
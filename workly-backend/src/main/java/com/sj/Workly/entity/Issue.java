@@ -9,12 +9,17 @@ import java.time.Instant;
 @Table(
         name = "issues",
         indexes = {
-                @Index(name = "idx_issue_project", columnList = "project_id"),
-                @Index(name = "idx_issue_assignee", columnList = "assignee_user_id"),
+                // Schema is owned by Flyway (db/migration); these mirror V2__issue_composite_indexes.sql
+                @Index(name = "idx_issue_column_order", columnList = "column_id, order_index"),
+                @Index(name = "idx_issue_project_status_created", columnList = "project_id, status, created_at desc"),
+                @Index(name = "idx_issue_project_created", columnList = "project_id, created_at desc"),
+                @Index(name = "idx_issue_project_updated", columnList = "project_id, updated_at desc, id desc"),
+                @Index(name = "idx_issue_assignee_status", columnList = "assignee_user_id, status"),
                 @Index(name = "idx_issue_status", columnList = "status"),
-                @Index(name = "idx_issue_column", columnList = "column_id")
+                @Index(name = "idx_issue_reporter", columnList = "reporter_user_id")
         }
 )
+// issues.search_vector (full-text search) is maintained by DB triggers, see V4__issue_search_vector.sql
 public class Issue {
 
     @Id
@@ -64,10 +69,20 @@ public class Issue {
     @Column(nullable = false)
     private Integer orderIndex = 0; // For ranking issues within a column
 
+    // First time the issue left TO_DO / last time it reached DONE (null again if reopened); see IssueAnalyticsService
+    private Instant startedAt;
+    private Instant resolvedAt;
+
     // getter/setter
     public Integer getOrderIndex() { return orderIndex; }
     public void setOrderIndex(Integer orderIndex) { this.orderIndex = orderIndex; }
 
+    public Instant getStartedAt() { return startedAt; }
+    public void setStartedAt(Instant startedAt) { this.startedAt = startedAt; }
+
+    public Instant getResolvedAt() { return resolvedAt; }
+    public void setResolvedAt(Instant resolvedAt) { this.resolvedAt = resolvedAt; }
+
     @PrePersist
     void onCreate() {
         createdAt = Instant.now();
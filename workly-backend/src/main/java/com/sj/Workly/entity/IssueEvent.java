@@ -0,0 +1,70 @@
+package com.sj.Workly.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * One changed field of one issue write (see V8__issue_events.sql). Read-only here: rows are inserted
+ * in JDBC batches by IssueActivityService, never through JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "issue_events", indexes = {
+        @Index(name = "idx_issue_event_issue", columnList = "issue_id, id desc")
+})
+public class IssueEvent {
+
+    @Id
+    private Long id;
+
+    @Column(name = "issue_id", nullable = false)
+    private Long issueId;
+
+    @Column(name = "actor_user_id", nullable = false)
+    private Long actorUserId;
+
+    // IssueField code
+    @Column(nullable = false)
+    private short field;
+
+    @Column(length = 64)
+    private String oldValue;
+
+    @Column(length = 64)
+    private String newValue;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    public IssueEvent() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getIssueId() {
+        return issueId;
+    }
+
+    public Long getActorUserId() {
+        return actorUserId;
+    }
+
+    public short getField() {
+        return field;
+    }
+
+    public String getOldValue() {
+        return oldValue;
+    }
+
+    public String getNewValue() {
+        return newValue;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
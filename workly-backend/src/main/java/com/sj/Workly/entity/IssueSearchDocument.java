@@ -0,0 +1,34 @@
+package com.sj.Workly.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Read-only view of {@code issues.search_vector} (maintained by triggers, see V4__issue_search_vector.sql).
+ * Kept off {@link Issue} so loading an issue never reads the vector; criteria queries reach it through
+ * a subquery on this entity (IssueSpecifications) and the {@code text_matches} function (SearchFunctions).
+ */
+@Entity
+@Immutable
+@Table(name = "issues")
+public class IssueSearchDocument {
+
+    @Id
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "search_vector", columnDefinition = "tsvector")
+    private String searchVector;
+
+    protected IssueSearchDocument() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+}
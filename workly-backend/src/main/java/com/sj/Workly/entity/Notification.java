@@ -6,7 +6,11 @@ import org.hibernate.annotations.ColumnTransformer;
 import java.time.Instant;
 
 @Entity
-@Table(name = "notifications", indexes = @Index(name = "idx_notification_user", columnList = "user_id"))
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notification_user_created", columnList = "user_id, created_at desc"),
+        @Index(name = "idx_notification_issue", columnList = "issue_id"),
+        @Index(name = "idx_notification_comment", columnList = "comment_id")
+})
 public class Notification {
 
     public enum Type {
@@ -7,7 +7,8 @@ import java.time.Instant;
 @Entity
 @Table(
         name = "org_members",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"org_id", "user_id"})
+        uniqueConstraints = @UniqueConstraint(columnNames = {"org_id", "user_id"}),
+        indexes = @Index(name = "idx_org_member_user", columnList = "user_id")
 )
 public class OrgMember {
 
@@ -1,10 +1,13 @@
 package com.sj.Workly.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.SQLRestriction;
+
 import java.time.Instant;
 
 @Entity
 @Table(name = "organizations")
+@SQLRestriction("deleted_at is null")
 public class Organization {
 
     @Id
@@ -14,12 +17,16 @@ public class Organization {
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true)
+    // Unique among live orgs (partial index uq_org_slug_live, V11)
+    @Column(nullable = false)
     private String slug; // e.g. "acme", used in URLs
 
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
+    // Set on delete; the row and everything under it is removed later by PurgeWorker
+    private Instant deletedAt;
+
     @PrePersist
     void onCreate() {
         createdAt = Instant.now();
@@ -63,4 +70,12 @@ public class Organization {
     public void setCreatedAt(Instant createdAt) {
         this.createdAt = createdAt;
     }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
 }
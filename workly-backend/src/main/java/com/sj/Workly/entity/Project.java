@@ -1,13 +1,14 @@
 package com.sj.Workly.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.SQLRestriction;
+
 import java.time.Instant;
 
+// Slug is unique per org among live projects only (partial index uq_project_org_slug_live, V11)
 @Entity
-@Table(
-        name = "projects",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"org_id", "slug"})
-)
+@Table(name = "projects")
+@SQLRestriction("deleted_at is null")
 public class Project {
 
     @Id
@@ -35,6 +36,9 @@ public class Project {
     @Column(nullable = false)
     private Instant updatedAt;
 
+    // Set on delete; the row and everything under it is removed later by PurgeWorker
+    private Instant deletedAt;
+
     public Instant getUpdatedAt() {
         return updatedAt;
     }
@@ -101,4 +105,12 @@ public class Project {
     public void setCreatedAt(Instant createdAt) {
         this.createdAt = createdAt;
     }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
 }
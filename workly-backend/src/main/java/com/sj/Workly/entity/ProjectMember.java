@@ -5,7 +5,8 @@ import java.time.Instant;
 
 @Entity
 @Table(name = "project_members",
-        uniqueConstraints = @UniqueConstraint(name = "uq_project_user", columnNames = {"project_id", "user_id"}))
+        uniqueConstraints = @UniqueConstraint(name = "uq_project_user", columnNames = {"project_id", "user_id"}),
+        indexes = @Index(name = "idx_project_member_user", columnList = "user_id"))
 public class ProjectMember {
 
     public enum Role { ADMIN, MEMBER }
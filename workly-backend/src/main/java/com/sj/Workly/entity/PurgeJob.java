@@ -0,0 +1,129 @@
+package com.sj.Workly.entity;
+
+import com.sj.Workly.entity.enums.PurgeJobStatus;
+import com.sj.Workly.entity.enums.PurgeTargetType;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Background removal of a soft-deleted project or organization. Created by the delete endpoints; progress
+ * columns are written by PurgeWorker with plain SQL, so this entity is only saved once.
+ */
+@Entity
+@Table(name = "purge_jobs")
+public class PurgeJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private PurgeTargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PurgeJobStatus status;
+
+    @Column(name = "current_step", length = 100)
+    private String currentStep;
+
+    @Column(name = "rows_deleted", nullable = false)
+    private long rowsDeleted;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    // Plain id: purge history must not block deleting the user
+    @Column(name = "requested_by_user_id", nullable = false)
+    private Long requestedByUserId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    // Heartbeat while RUNNING; a job not updated for a while is picked up again
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @PrePersist
+    void onCreate() {
+        createdAt = Instant.now();
+        updatedAt = createdAt;
+        if (status == null) {
+            status = PurgeJobStatus.PENDING;
+        }
+    }
+
+    public PurgeJob() {}
+
+    public PurgeJob(PurgeTargetType targetType, Long targetId, Long requestedByUserId) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.requestedByUserId = requestedByUserId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public PurgeTargetType getTargetType() {
+        return targetType;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public PurgeJobStatus getStatus() {
+        return status;
+    }
+
+    public String getCurrentStep() {
+        return currentStep;
+    }
+
+    public long getRowsDeleted() {
+        return rowsDeleted;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Long getRequestedByUserId() {
+        return requestedByUserId;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+}
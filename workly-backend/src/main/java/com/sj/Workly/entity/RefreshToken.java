@@ -2,11 +2,17 @@ package com.sj.Workly.entity;
 
 import jakarta.persistence.*;
 import java.time.Instant;
+import java.util.UUID;
 
+/**
+ * Only the SHA-256 of the token is stored (see RefreshTokenService). Every rotation inserts a new row in the
+ * same family; the previous row is revoked and points at its successor.
+ */
 @Entity
 @Table(name = "refresh_tokens", indexes = {
-        @Index(name = "idx_refresh_token_user", columnList = "user_id"),
-        @Index(name = "idx_refresh_token_token", columnList = "token")
+        @Index(name = "idx_refresh_token_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_refresh_token_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_expires", columnList = "expires_at")
 })
 public class RefreshToken {
 
@@ -14,8 +20,11 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 128)
-    private String token;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
+
+    @Column(name = "family_id", nullable = false, updatable = false)
+    private UUID familyId;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
@@ -29,8 +38,8 @@ public class RefreshToken {
 
     private Instant revokedAt;
 
-    @Column(length = 128)
-    private String replacedByToken;
+    @Column(name = "replaced_by_id")
+    private Long replacedById;
 
     @PrePersist
     void onCreate() {
@@ -50,12 +59,20 @@ public class RefreshToken {
         this.id = id;
     }
 
-    public String getToken() {
-        return token;
+    public byte[] getTokenHash() {
+        return tokenHash;
+    }
+
+    public void setTokenHash(byte[] tokenHash) {
+        this.tokenHash = tokenHash;
+    }
+
+    public UUID getFamilyId() {
+        return familyId;
     }
 
-    public void setToken(String token) {
-        this.token = token;
+    public void setFamilyId(UUID familyId) {
+        this.familyId = familyId;
     }
 
     public User getUser() {
@@ -90,11 +107,11 @@ public class RefreshToken {
         this.revokedAt = revokedAt;
     }
 
-    public String getReplacedByToken() {
-        return replacedByToken;
+    public Long getReplacedById() {
+        return replacedById;
     }
 
-    public void setReplacedByToken(String replacedByToken) {
-        this.replacedByToken = replacedByToken;
+    public void setReplacedById(Long replacedById) {
+        this.replacedById = replacedById;
     }
 }
@@ -0,0 +1,73 @@
+package com.sj.Workly.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/** A named issue filter a user saved for one project (see IssueFilterRequest). */
+@Entity
+@Table(
+        name = "saved_issue_filters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_saved_filter_user_project_name", columnNames = {"user_id", "project_id", "name"}),
+        indexes = @Index(name = "idx_saved_filter_project", columnList = "project_id")
+)
+public class SavedIssueFilter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    // Serialized IssueFilterRequest
+    @Column(nullable = false, columnDefinition = "text")
+    private String filterJson;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    void onCreate() {
+        createdAt = Instant.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    public SavedIssueFilter() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public User getUser() { return user; }
+    public void setUser(User user) { this.user = user; }
+
+    public Project getProject() { return project; }
+    public void setProject(Project project) { this.project = project; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getFilterJson() { return filterJson; }
+    public void setFilterJson(String filterJson) { this.filterJson = filterJson; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -1,2 +1,2 @@
 package com.sj.Workly.entity.enums;
-public enum AggregateType { ORG, ORG_MEMBERSHIP, ORG_INVITATION, COMMENT }
+public enum AggregateType { ORG, ORG_MEMBERSHIP, ORG_INVITATION, COMMENT, ISSUE, PROJECT }
@@ -0,0 +1,27 @@
+package com.sj.Workly.entity.enums;
+
+/** Fields tracked in issue_events. The code is what is stored; never reuse or renumber one. */
+public enum IssueField {
+    STATUS(1),
+    COLUMN(2),
+    ASSIGNEE(3),
+    PRIORITY(4),
+    RANK(5);
+
+    private final short code;
+
+    IssueField(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static IssueField fromCode(short code) {
+        for (IssueField f : values()) {
+            if (f.code == code) return f;
+        }
+        throw new IllegalArgumentException("Unknown issue field code " + code);
+    }
+}
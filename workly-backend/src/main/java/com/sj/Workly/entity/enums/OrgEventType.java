@@ -6,5 +6,11 @@ public enum OrgEventType {
     ORG_INVITE_REVOKED,
     ORG_MEMBER_ROLE_CHANGED,
     ORG_MEMBER_REMOVED,
-    ISSUE_COMMENTED
-}
\ No newline at end of file
+    ISSUE_COMMENTED,
+    ISSUE_CREATED,
+    ISSUE_UPDATED,
+    PROJECT_CREATED,
+    PROJECT_UPDATED,
+    PROJECT_DELETED,
+    ISSUES_IMPORTED
+}
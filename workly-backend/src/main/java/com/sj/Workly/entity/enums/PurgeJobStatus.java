@@ -0,0 +1,5 @@
+package com.sj.Workly.entity.enums;
+
+public enum PurgeJobStatus {
+    PENDING, RUNNING, DONE, FAILED
+}
@@ -0,0 +1,5 @@
+package com.sj.Workly.entity.enums;
+
+public enum PurgeTargetType {
+    PROJECT, ORGANIZATION
+}
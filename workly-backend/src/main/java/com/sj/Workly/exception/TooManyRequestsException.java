@@ -0,0 +1,15 @@
+package com.sj.Workly.exception;
+
+/** 429; the handler sends {@code retryAfterSeconds} as Retry-After. */
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
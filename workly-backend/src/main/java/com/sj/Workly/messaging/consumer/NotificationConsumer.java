@@ -3,6 +3,7 @@ package com.sj.Workly.messaging.consumer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sj.Workly.entity.enums.OrgEventType;
+import com.sj.Workly.observability.DomainMetrics;
 import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
@@ -31,13 +32,16 @@ public class NotificationConsumer {
 
     private final ObjectMapper objectMapper;
     private final List<NotificationEventHandler> handlers;
+    private final DomainMetrics metrics;
 
     private Map<OrgEventType, NotificationEventHandler> handlerByEventType;
 
     public NotificationConsumer(ObjectMapper objectMapper,
-                               List<NotificationEventHandler> handlers) {
+                               List<NotificationEventHandler> handlers,
+                               DomainMetrics metrics) {
         this.objectMapper = objectMapper;
         this.handlers = handlers;
+        this.metrics = metrics;
         logger.info("NotificationConsumer initialized with {} handler(s) for event types: {}",
                 handlers.size(),
                 handlers.stream().map(h -> h.getEventType().name()).collect(Collectors.joining(", ")));
@@ -72,7 +76,7 @@ public class NotificationConsumer {
             if (handler == null) return;
 
             JsonNode payload = envelope.path("payload");
-            handler.handle(payload);
+            metrics.recordFanout(eventType, handler.handle(payload));
         } catch (Exception e) {
             logger.error("Notification consumer failed: {}", e.getMessage(), e);
         }
@@ -15,6 +15,8 @@ public interface NotificationEventHandler {
     /**
      * Parse the event payload and create/save one or more notifications.
      * Called within a transaction by the consumer.
+     *
+     * @return how many notifications were created (the event's fan-out, recorded by the consumer)
      */
-    void handle(JsonNode payload);
+    int handle(JsonNode payload);
 }
@@ -0,0 +1,55 @@
+package com.sj.Workly.messaging.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.Workly.entity.enums.OrgEventType;
+import com.sj.Workly.service.search.QuickSearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the in-memory quick-search indexes in sync with org.events.
+ * Every instance holds its own indexes, so every instance needs every event: the group id is unique
+ * per instance and it starts at the latest offset (an index built later reads the database anyway).
+ */
+@Component
+@ConditionalOnProperty(name = "app.kafka.enabled", havingValue = "true")
+public class QuickSearchIndexConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuickSearchIndexConsumer.class);
+
+    private final ObjectMapper objectMapper;
+    private final QuickSearchService quickSearchService;
+
+    public QuickSearchIndexConsumer(ObjectMapper objectMapper, QuickSearchService quickSearchService) {
+        this.objectMapper = objectMapper;
+        this.quickSearchService = quickSearchService;
+    }
+
+    @KafkaListener(
+            topics = "${app.kafka.topics.org-events:org.events}",
+            groupId = "${app.kafka.consumer.groups.quick-search:workly-quick-search}-${random.uuid}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consume(String message) {
+        try {
+            JsonNode envelope = objectMapper.readTree(message);
+            String eventTypeStr = envelope.path("eventType").asText(null);
+            if (eventTypeStr == null || eventTypeStr.isBlank()) return;
+
+            OrgEventType eventType;
+            try {
+                eventType = OrgEventType.valueOf(eventTypeStr);
+            } catch (IllegalArgumentException e) {
+                return; // unknown event type, ignore
+            }
+
+            quickSearchService.apply(eventType, envelope.path("payload"));
+        } catch (Exception e) {
+            logger.error("Quick-search index consumer failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -35,8 +35,8 @@ public class CommentNotificationHandler implements NotificationEventHandler {
     }
 
     @Override
-    public void handle(JsonNode payload) {
-        if (payload == null || payload.isMissingNode() || payload.isNull()) return;
+    public int handle(JsonNode payload) {
+        if (payload == null || payload.isMissingNode() || payload.isNull()) return 0;
 
         long authorId = payload.path("author_id").asLong(-1);
         String authorName = payload.path("author_name").asText("Someone");
@@ -45,15 +45,17 @@ public class CommentNotificationHandler implements NotificationEventHandler {
         String issueTitle = payload.path("issue_title").asText("an issue");
         long commentId = payload.path("comment_id").asLong(-1);
 
+        int created = 0;
+
         // Notify assignee (if any, not the author, and part of the project)
         if (payload.has("assignee_id")) {
             long assigneeId = payload.path("assignee_id").asLong(-1);
             if (assigneeId > 0 && assigneeId != authorId) {
-                userRepository.findById(assigneeId).ifPresent(user -> {
-                    if (isProjectMember(projectId, user.getId())) {
-                        createNotification(user, authorName, issueId, projectId, issueTitle, commentId);
-                    }
-                });
+                User user = userRepository.findById(assigneeId).orElse(null);
+                if (user != null && isProjectMember(projectId, user.getId())) {
+                    createNotification(user, authorName, issueId, projectId, issueTitle, commentId);
+                    created++;
+                }
             }
         }
 
@@ -62,13 +64,14 @@ public class CommentNotificationHandler implements NotificationEventHandler {
             long reporterId = payload.path("reporter_id").asLong(-1);
             long assigneeId = payload.has("assignee_id") ? payload.path("assignee_id").asLong(-1) : -1;
             if (reporterId > 0 && reporterId != authorId && reporterId != assigneeId) {
-                userRepository.findById(reporterId).ifPresent(user -> {
-                    if (isProjectMember(projectId, user.getId())) {
-                        createNotification(user, authorName, issueId, projectId, issueTitle, commentId);
-                    }
-                });
+                User user = userRepository.findById(reporterId).orElse(null);
+                if (user != null && isProjectMember(projectId, user.getId())) {
+                    createNotification(user, authorName, issueId, projectId, issueTitle, commentId);
+                    created++;
+                }
             }
         }
+        return created;
     }
 
     private boolean isProjectMember(long projectId, Long userId) {
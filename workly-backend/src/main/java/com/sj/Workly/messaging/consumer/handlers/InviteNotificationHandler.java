@@ -40,14 +40,14 @@ public class InviteNotificationHandler implements NotificationEventHandler {
     }
 
     @Override
-    public void handle(JsonNode payload) {
-        if (payload == null || payload.isMissingNode() || payload.isNull()) return;
+    public int handle(JsonNode payload) {
+        if (payload == null || payload.isMissingNode() || payload.isNull()) return 0;
 
         String invitedEmail = payload.path("invited_email").asText(null);
-        if (invitedEmail == null || invitedEmail.isBlank()) return;
+        if (invitedEmail == null || invitedEmail.isBlank()) return 0;
 
         var userOpt = userRepository.findByEmail(invitedEmail);
-        if (userOpt.isEmpty()) return;
+        if (userOpt.isEmpty()) return 0;
 
         long organizationId = payload.path("organization_id").asLong(-1);
         long inviteId = payload.path("invite_id").asLong(-1);
@@ -104,5 +104,6 @@ public class InviteNotificationHandler implements NotificationEventHandler {
                 "ORG_INVITE",
                 actionPayloadJson
         );
+        return 1;
     }
 }
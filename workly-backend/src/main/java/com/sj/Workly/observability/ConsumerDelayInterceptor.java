@@ -0,0 +1,49 @@
+package com.sj.Workly.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.RecordInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Consumer lag in time: {@code workly.kafka.consumer.delay} is how long a record waited between being produced
+ * (record timestamp) and reaching its listener, per consumer group. Offset lag per partition comes from the
+ * Kafka client metrics ({@code kafka.consumer.fetch.manager.records.lag}, client ids include the group).
+ * The per-instance suffix of the quick-search group is dropped so the tag stays the same across restarts.
+ */
+public class ConsumerDelayInterceptor implements RecordInterceptor<String, String> {
+
+    private static final Pattern INSTANCE_SUFFIX =
+            Pattern.compile("-[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$");
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public ConsumerDelayInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ConsumerRecord<String, String> intercept(ConsumerRecord<String, String> record,
+                                                    Consumer<String, String> consumer) {
+        long delayMs = System.currentTimeMillis() - record.timestamp();
+        if (record.timestamp() > 0 && delayMs >= 0) {
+            timer(consumer.groupMetadata().groupId()).record(delayMs, TimeUnit.MILLISECONDS);
+        }
+        return record;
+    }
+
+    private Timer timer(String groupId) {
+        return timers.computeIfAbsent(groupId, g -> Timer.builder("workly.kafka.consumer.delay")
+                .description("Time from producing a record to its listener receiving it")
+                .tag("group", INSTANCE_SUFFIX.matcher(g).replaceFirst(""))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
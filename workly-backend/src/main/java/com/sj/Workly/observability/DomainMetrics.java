@@ -0,0 +1,85 @@
+package com.sj.Workly.observability;
+
+import com.sj.Workly.entity.enums.OrgEventType;
+import com.sj.Workly.exception.BadRequestException;
+import com.sj.Workly.exception.ConflictException;
+import com.sj.Workly.exception.NotFoundException;
+import com.sj.Workly.exception.TooManyRequestsException;
+import com.sj.Workly.exception.UnauthorizedException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Domain meters next to Boot's http.server.requests, all with percentile histograms:
+ * <ul>
+ *   <li>{@code workly.operations}: write paths and auth (tags: operation, e.g. {@code issue.move}, and outcome:
+ *   success, not_found, unauthorized, conflict, bad_request, throttled, error). Timed in the controller, so the
+ *   commit is included.</li>
+ *   <li>{@code workly.notifications.fanout}: notifications created per consumed event (tag: event_type).</li>
+ * </ul>
+ * Outbox, consumer and membership-check meters live with their code: OutboxPoller, ConsumerDelayInterceptor,
+ * MembershipCheckMetrics.
+ */
+@Component
+public class DomainMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> operationTimers = new ConcurrentHashMap<>();
+    private final Map<OrgEventType, DistributionSummary> fanouts = new ConcurrentHashMap<>();
+
+    public DomainMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T time(String operation, Supplier<T> work) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = work.get();
+            outcome = "success";
+            return result;
+        } catch (RuntimeException e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            operationTimer(operation, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordFanout(OrgEventType eventType, int notifications) {
+        fanouts.computeIfAbsent(eventType, t -> DistributionSummary.builder("workly.notifications.fanout")
+                        .description("Notifications created per consumed event")
+                        .baseUnit("notifications")
+                        .tag("event_type", t.name())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(notifications);
+    }
+
+    static String outcome(RuntimeException e) {
+        return switch (e) {
+            case NotFoundException ignored -> "not_found";
+            case UnauthorizedException ignored -> "unauthorized";
+            case ConflictException ignored -> "conflict";
+            case BadRequestException ignored -> "bad_request";
+            case TooManyRequestsException ignored -> "throttled";
+            default -> "error";
+        };
+    }
+
+    private Timer operationTimer(String operation, String outcome) {
+        return operationTimers.computeIfAbsent(operation + '|' + outcome, k -> Timer.builder("workly.operations")
+                .description("Domain write and auth operations, including the commit")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
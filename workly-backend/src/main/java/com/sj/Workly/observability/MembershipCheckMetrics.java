@@ -0,0 +1,57 @@
+package com.sj.Workly.observability;
+
+import com.sj.Workly.repository.OrgMemberRepository;
+import com.sj.Workly.repository.ProjectMemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the membership lookups behind every access check ({@code requireProjectMember} and friends in the
+ * services): {@code existsBy...AndUserId} and {@code findBy...AndUserId} on the member repositories, as
+ * {@code workly.membership.checks} (tags: scope = org/project, method, state = success/error).
+ * Registered on the repository factories by MetricsConfig, so the services need no change. The registry is
+ * looked up on first use: repositories are created before it.
+ */
+public class MembershipCheckMetrics implements RepositoryMethodInvocationListener {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public MembershipCheckMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        String scope = scope(invocation.getRepositoryInterface());
+        String method = invocation.getMethod().getName();
+        if (scope == null || !isMembershipCheck(method)) return;
+
+        String state = invocation.getResult().getState().name().toLowerCase(Locale.ROOT);
+        timers.computeIfAbsent(scope + '|' + method + '|' + state, k -> Timer.builder("workly.membership.checks")
+                        .description("Membership lookups of access checks")
+                        .tag("scope", scope)
+                        .tag("method", method)
+                        .tag("state", state)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry.getObject()))
+                .record(invocation.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    private static String scope(Class<?> repository) {
+        if (repository == OrgMemberRepository.class) return "org";
+        if (repository == ProjectMemberRepository.class) return "project";
+        return null;
+    }
+
+    static boolean isMembershipCheck(String method) {
+        return (method.startsWith("exists") || method.startsWith("find")) && method.endsWith("AndUserId");
+    }
+}
@@ -0,0 +1,27 @@
+package com.sj.Workly.observability;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/** datasource-proxy listener that feeds the current QueryScope. Stateless; registered once on the proxied DataSource. */
+public class QueryCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryScope scope = QueryScope.current();
+        if (scope != null) {
+            scope.beforeQuery();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryScope scope = QueryScope.current();
+        if (scope != null) {
+            scope.afterQuery(queryInfoList.stream().map(QueryInfo::getQuery).toList());
+        }
+    }
+}
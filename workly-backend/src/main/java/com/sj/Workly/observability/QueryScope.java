@@ -0,0 +1,102 @@
+package com.sj.Workly.observability;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Statements and database time of one unit of work on the current thread: an HTTP request (QueryStatsFilter)
+ * or a block of a test. QueryCountingListener adds every statement executed through the DataSource to the
+ * innermost open scope; with no open scope nothing is recorded. Work handed to another thread (async streaming
+ * responses, @Async, Kafka listeners) is not attributed to the scope.
+ * <p>
+ * A JDBC batch counts as one statement. Statements are also grouped by shape (whitespace, literals and IN lists
+ * normalized) to spot the same query repeated per row. Per statement only its SQL text is counted; the regexes
+ * that compute shapes run once per distinct text, when {@link #repeated} is asked.
+ */
+public final class QueryScope implements AutoCloseable {
+
+    private static final ThreadLocal<QueryScope> CURRENT = new ThreadLocal<>();
+
+    // Bounds memory for requests that run many distinct statements; repeated shapes show up long before that
+    private static final int MAX_DISTINCT_SQL = 256;
+    private static final int MAX_SHAPE_LENGTH = 300;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final QueryScope previous;
+    private final Map<String, Integer> sqlCounts = new HashMap<>();
+    private int statements;
+    private long nanos;
+    private long startedAt;
+
+    private QueryScope(QueryScope previous) {
+        this.previous = previous;
+    }
+
+    public static QueryScope open() {
+        QueryScope scope = new QueryScope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static QueryScope current() {
+        return CURRENT.get();
+    }
+
+    void beforeQuery() {
+        startedAt = System.nanoTime();
+    }
+
+    void afterQuery(List<String> sql) {
+        nanos += System.nanoTime() - startedAt;
+        statements++;
+        for (String s : sql) {
+            if (sqlCounts.size() < MAX_DISTINCT_SQL || sqlCounts.containsKey(s)) {
+                sqlCounts.merge(s, 1, Integer::sum);
+            }
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+
+    /** Shapes executed more than {@code threshold} times, most repeated first. */
+    public Map<String, Integer> repeated(int threshold) {
+        Map<String, Integer> shapes = new HashMap<>();
+        sqlCounts.forEach((sql, count) -> shapes.merge(shape(sql), count, Integer::sum));
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .filter(e -> e.getValue() > threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(e -> repeated.put(e.getKey(), e.getValue()));
+        return repeated;
+    }
+
+    @Override
+    public void close() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    static String shape(String sql) {
+        String s = STRING_LITERAL.matcher(sql).replaceAll("?");
+        s = NUMBER_LITERAL.matcher(s).replaceAll("?");
+        s = WHITESPACE.matcher(s).replaceAll(" ").trim();
+        s = IN_LIST.matcher(s).replaceAll("in (?)");
+        return s.length() > MAX_SHAPE_LENGTH ? s.substring(0, MAX_SHAPE_LENGTH) + "..." : s;
+    }
+}
@@ -0,0 +1,112 @@
+package com.sj.Workly.observability;
+
+import com.sj.Workly.config.QueryStatsProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements and database time of each request (see QueryScope) and records them per controller
+ * method: {@code workly.db.statements} (distribution summary) and {@code workly.db.time} (timer), both with
+ * percentile histograms and a {@code handler} tag such as {@code IssueController#list}. Requests that never
+ * reached a controller (rejected by security, 404) are tagged {@code none}.
+ * <p>
+ * Runs before the security chain so the user lookup in JwtAuthFilter counts. A statement shape repeated more than
+ * the N+1 threshold, or a request over the statement budget, is logged; in strict mode it throws instead, which
+ * fails the test that made the request. A response already committed (body flushed, streaming started) can no
+ * longer be turned into an error, so strict mode only logs for those. Rows streamed by StreamingResponseBody are read on the async thread after
+ * this filter returns and are not counted.
+ */
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatsFilter.class);
+
+    private record Meters(DistributionSummary statements, Timer time) {}
+
+    private final QueryStatsProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public QueryStatsFilter(QueryStatsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        try (QueryScope scope = QueryScope.open()) {
+            chain.doFilter(request, response);
+            record(request, response, scope);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, QueryScope scope) {
+        String handler = handler(request);
+        Meters m = meters(handler);
+        m.statements().record(scope.statements());
+        m.time().record(scope.nanos(), TimeUnit.NANOSECONDS);
+
+        String problem = null;
+        Map<String, Integer> repeated = scope.repeated(properties.nPlusOneThreshold());
+        if (!repeated.isEmpty()) {
+            problem = "Possible N+1 in " + request.getMethod() + " " + handler + ": " + describe(repeated);
+        }
+        int budget = properties.maxStatementsPerRequest();
+        if (budget > 0 && scope.statements() > budget) {
+            String overBudget = request.getMethod() + " " + handler + " ran " + scope.statements()
+                    + " statements, budget is " + budget;
+            problem = problem == null ? overBudget : problem + "; " + overBudget;
+        }
+        if (problem == null) return;
+
+        if (properties.strict() && !response.isCommitted()) {
+            throw new IllegalStateException(problem);
+        }
+        logger.warn(problem);
+    }
+
+    private static String describe(Map<String, Integer> repeated) {
+        StringBuilder sb = new StringBuilder();
+        repeated.forEach((shape, count) -> sb.append("\n  ").append(count).append("x ").append(shape));
+        return sb.toString();
+    }
+
+    /** Controller class and method, known once the DispatcherServlet has picked a handler. */
+    private static String handler(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+        }
+        return "none";
+    }
+
+    private Meters meters(String handler) {
+        return meters.computeIfAbsent(handler, h -> new Meters(
+                DistributionSummary.builder("workly.db.statements")
+                        .description("SQL statements executed per request")
+                        .baseUnit("statements")
+                        .tag("handler", h)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Timer.builder("workly.db.time")
+                        .description("Time spent executing SQL statements per request")
+                        .tag("handler", h)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)));
+    }
+}
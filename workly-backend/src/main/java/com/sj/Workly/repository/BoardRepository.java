@@ -1,7 +1,10 @@
 package com.sj.Workly.repository;
 
 import com.sj.Workly.entity.Board;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,4 +12,16 @@ import java.util.Optional;
 public interface BoardRepository extends JpaRepository<Board, Long> {
     Optional<Board> findByProjectId(Long projectId);
     boolean existsByProjectId(Long projectId);
+
+    /**
+     * Row lock on the board: changes to its set of columns (create, delete, reorder) run one at a time, so a
+     * reorder never misses a column created concurrently. Issue writes don't take it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select b
+        from Board b
+        where b.project.id = :projectId
+    """)
+    Optional<Board> lockByProjectId(Long projectId);
 }
@@ -1,7 +1,11 @@
 package com.sj.Workly.repository;
 
 import com.sj.Workly.entity.BoardColumn;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +15,23 @@ public interface ColumnRepository extends JpaRepository<BoardColumn, Long> {
     Optional<BoardColumn> findByIdAndBoardId(Long id, Long boardId);
     boolean existsByBoardIdAndNameIgnoreCase(Long boardId, String name);
     Integer countByBoardId(Long boardId);
+
+    /** Row lock: issue writes into the column (counter UPDATEs) wait until the caller commits. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select c
+        from BoardColumn c
+        where c.id = :id and c.board.id = :boardId
+    """)
+    Optional<BoardColumn> lockByIdAndBoardId(Long id, Long boardId);
+
+    /** Sets every column's orderIndex to its position in orderedIds (0-based) in one statement. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        update columns
+        set order_index = array_position(cast(:orderedIds as bigint[]), id) - 1,
+            updated_at = now()
+        where board_id = :boardId
+    """, nativeQuery = true)
+    int reorder(Long boardId, Long[] orderedIds);
 }
@@ -1,7 +1,9 @@
 package com.sj.Workly.repository;
 
 import com.sj.Workly.entity.Comment;
+import com.sj.Workly.repository.projection.CommentView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -9,4 +11,14 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByIssueIdOrderByCreatedAtAsc(Long issueId);
     List<Comment> findByIssueId(Long issueId);
     List<Comment> findByAuthorId(Long authorId);
+
+    /** Comments with their authors in one query. */
+    @Query("""
+        select new com.sj.Workly.repository.projection.CommentView(
+            c.id, c.issue.id, u.id, u.name, u.email, c.body, c.createdAt)
+        from Comment c join c.author u
+        where c.issue.id = :issueId
+        order by c.createdAt asc, c.id asc
+    """)
+    List<CommentView> findViewsByIssueId(Long issueId);
 }
@@ -0,0 +1,12 @@
+package com.sj.Workly.repository;
+
+import com.sj.Workly.entity.IssueEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface IssueEventRepository extends JpaRepository<IssueEvent, Long> {
+    List<IssueEvent> findByIssueIdOrderByIdDesc(Long issueId, Limit limit);
+    List<IssueEvent> findByIssueIdAndIdLessThanOrderByIdDesc(Long issueId, Long beforeId, Limit limit);
+}
@@ -2,23 +2,163 @@ package com.sj.Workly.repository;
 
 import com.sj.Workly.entity.Issue;
 import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.repository.projection.IssueSearchHit;
+import com.sj.Workly.repository.projection.IssueView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface IssueRepository extends JpaRepository<Issue, Long> {
+public interface IssueRepository extends JpaRepository<Issue, Long>, JpaSpecificationExecutor<Issue> {
     List<Issue> findByProjectId(Long projectId);
     List<Issue> findByAssigneeId(Long userId);
     List<Issue> findByProjectIdOrderByCreatedAtDesc(Long projectId);
     List<Issue> findByColumnIdOrderByOrderIndexAsc(Long columnId);
     List<Issue> findByProjectIdAndStatusOrderByCreatedAtDesc(Long projectId, IssueStatus status);
     Optional<Issue> findByIdAndProjectId(Long issueId, Long projectId);
+    boolean existsByIdAndProjectId(Long issueId, Long projectId);
+    boolean existsByColumnId(Long columnId);
+    List<Issue> findAllByIdInAndProjectId(Collection<Long> ids, Long projectId);
+
+    // List endpoints read IssueView rows: only the response columns, no entities in the persistence context.
+    // Keyset pages: the first page, then the page after the last row seen, in the list's order with id as tie-breaker.
+
+    @Query("""
+        select new com.sj.Workly.repository.projection.IssueView(
+            i.id, i.project.id, i.column.id, i.orderIndex, i.title, i.description, i.priority, i.status,
+            i.reporter.id, i.assignee.id, i.createdAt, i.updatedAt, i.startedAt, i.resolvedAt)
+        from Issue i
+        where i.column.id = :columnId
+        order by i.orderIndex asc, i.id asc
+    """)
+    List<IssueView> findViewsByColumnId(Long columnId, Limit limit);
+
+    @Query("""
+        select new com.sj.Workly.repository.projection.IssueView(
+            i.id, i.project.id, i.column.id, i.orderIndex, i.title, i.description, i.priority, i.status,
+            i.reporter.id, i.assignee.id, i.createdAt, i.updatedAt, i.startedAt, i.resolvedAt)
+        from Issue i
+        where i.column.id = :columnId and (i.orderIndex, i.id) > (:orderIndex, :id)
+        order by i.orderIndex asc, i.id asc
+    """)
+    List<IssueView> findViewsByColumnIdAfter(Long columnId, Integer orderIndex, Long id, Limit limit);
+
+    @Query("""
+        select new com.sj.Workly.repository.projection.IssueView(
+            i.id, i.project.id, i.column.id, i.orderIndex, i.title, i.description, i.priority, i.status,
+            i.reporter.id, i.assignee.id, i.createdAt, i.updatedAt, i.startedAt, i.resolvedAt)
+        from Issue i
+        where i.project.id = :projectId and i.status = :status
+        order by i.createdAt desc, i.id desc
+    """)
+    List<IssueView> findViewsByProjectIdAndStatus(Long projectId, IssueStatus status, Limit limit);
+
+    @Query("""
+        select new com.sj.Workly.repository.projection.IssueView(
+            i.id, i.project.id, i.column.id, i.orderIndex, i.title, i.description, i.priority, i.status,
+            i.reporter.id, i.assignee.id, i.createdAt, i.updatedAt, i.startedAt, i.resolvedAt)
+        from Issue i
+        where i.project.id = :projectId and i.status = :status and (i.createdAt, i.id) < (:createdAt, :id)
+        order by i.createdAt desc, i.id desc
+    """)
+    List<IssueView> findViewsByProjectIdAndStatusAfter(Long projectId, IssueStatus status, Instant createdAt, Long id, Limit limit);
+
+    @Query("""
+        select new com.sj.Workly.repository.projection.IssueView(
+            i.id, i.project.id, i.column.id, i.orderIndex, i.title, i.description, i.priority, i.status,
+            i.reporter.id, i.assignee.id, i.createdAt, i.updatedAt, i.startedAt, i.resolvedAt)
+        from Issue i
+        where i.project.id = :projectId
+        order by i.createdAt desc, i.id desc
+    """)
+    List<IssueView> findViewsByProjectId(Long projectId, Limit limit);
+
+    @Query("""
+        select new com.sj.Workly.repository.projection.IssueView(
+            i.id, i.project.id, i.column.id, i.orderIndex, i.title, i.description, i.priority, i.status,
+            i.reporter.id, i.assignee.id, i.createdAt, i.updatedAt, i.startedAt, i.resolvedAt)
+        from Issue i
+        where i.project.id = :projectId and (i.createdAt, i.id) < (:createdAt, :id)
+        order by i.createdAt desc, i.id desc
+    """)
+    List<IssueView> findViewsByProjectIdAfter(Long projectId, Instant createdAt, Long id, Limit limit);
+
     @Query("""
         select max(i.orderIndex)
         from Issue i
         where i.column.id = :columnId
     """)
     Integer findMaxOrderIndex(Long columnId);
+
+    /**
+     * Moves every issue of one column to the bottom of another in a single statement, keeping their relative
+     * order, and records a COLUMN change per issue in issue_events. Returns the number of issues moved.
+     * Clears the persistence context afterwards: issues loaded before still have the old column.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        with ranked as (
+            select id, row_number() over (order by order_index, id) as rn
+            from issues
+            where column_id = :sourceColumnId
+        ),
+        base as (
+            select coalesce(max(order_index), 0) as max_order from issues where column_id = :targetColumnId
+        ),
+        moved as (
+            update issues i
+            set column_id = :targetColumnId,
+                order_index = base.max_order + ranked.rn,
+                updated_at = now()
+            from ranked, base
+            where i.id = ranked.id
+            returning i.id
+        )
+        insert into issue_events (issue_id, actor_user_id, field, old_value, new_value, created_at)
+        select moved.id, :actorId, :columnFieldCode, cast(:sourceColumnId as varchar), cast(:targetColumnId as varchar), now()
+        from moved
+    """, nativeQuery = true)
+    int relocateColumn(Long sourceColumnId, Long targetColumnId, Long actorId, short columnFieldCode);
+
+    /**
+     * Ranked full-text search within a project (issues.search_vector, see V4__issue_search_vector.sql).
+     * Highlights are computed only for the requested page.
+     */
+    @Query(value = """
+        select i.id as id,
+               i.column_id as columnId,
+               i.title as title,
+               i.status as status,
+               i.priority as priority,
+               i.assignee_user_id as assigneeId,
+               hits.rank as rank,
+               ts_headline('english', search_html_escape(i.title), hits.q,
+                           'StartSel=<mark>, StopSel=</mark>, HighlightAll=true') as titleHighlight,
+               ts_headline('english', search_html_escape(i.description), hits.q,
+                           'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=25, MinWords=8') as snippet
+        from (
+            select s.id, q, ts_rank_cd(s.search_vector, q) as rank
+            from issues s, websearch_to_tsquery('english', :query) q
+            where s.project_id = :projectId and s.search_vector @@ q
+            order by rank desc, s.id desc
+            limit :limit offset :offset
+        ) hits
+        join issues i on i.id = hits.id
+        order by hits.rank desc, i.id desc
+    """, nativeQuery = true)
+    List<IssueSearchHit> search(Long projectId, String query, int limit, long offset);
+
+    @Query(value = """
+        select count(*)
+        from issues s
+        where s.project_id = :projectId
+          and s.search_vector @@ websearch_to_tsquery('english', :query)
+    """, nativeQuery = true)
+    long countSearch(Long projectId, String query);
 }
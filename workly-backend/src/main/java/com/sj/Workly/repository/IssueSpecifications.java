@@ -0,0 +1,82 @@
+package com.sj.Workly.repository;
+
+import com.sj.Workly.dto.issue.IssueFilterRequest;
+import com.sj.Workly.entity.Issue;
+import com.sj.Workly.entity.IssueSearchDocument;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles an {@link IssueFilterRequest} into one criteria query on {@code issues}.
+ * Foreign keys are compared via {@code x.id} paths, which Hibernate resolves to the FK column (no joins).
+ * Text goes through a subquery on {@link IssueSearchDocument} with an inline {@code @@} (see SearchFunctions),
+ * which the planner answers from the GIN index on {@code search_vector}.
+ */
+public final class IssueSpecifications {
+
+    private IssueSpecifications() {}
+
+    public static Specification<Issue> matching(Long projectId, IssueFilterRequest f) {
+        return (root, query, cb) -> {
+            List<Predicate> and = new ArrayList<>();
+            and.add(cb.equal(root.get("project").get("id"), projectId));
+
+            if (f.getColumnId() != null) {
+                and.add(cb.equal(root.get("column").get("id"), f.getColumnId()));
+            }
+
+            boolean hasAssignees = f.getAssigneeIds() != null && !f.getAssigneeIds().isEmpty();
+            boolean unassigned = Boolean.TRUE.equals(f.getUnassigned());
+            if (hasAssignees && unassigned) {
+                and.add(cb.or(root.get("assignee").get("id").in(f.getAssigneeIds()), cb.isNull(root.get("assignee"))));
+            } else if (hasAssignees) {
+                and.add(root.get("assignee").get("id").in(f.getAssigneeIds()));
+            } else if (unassigned) {
+                and.add(cb.isNull(root.get("assignee")));
+            }
+
+            if (f.getReporterIds() != null && !f.getReporterIds().isEmpty()) {
+                and.add(root.get("reporter").get("id").in(f.getReporterIds()));
+            }
+            if (f.getPriorities() != null && !f.getPriorities().isEmpty()) {
+                and.add(root.get("priority").in(f.getPriorities()));
+            }
+            if (f.getStatuses() != null && !f.getStatuses().isEmpty()) {
+                and.add(root.get("status").in(f.getStatuses()));
+            }
+
+            if (f.getCreatedFrom() != null) {
+                and.add(cb.greaterThanOrEqualTo(root.<Instant>get("createdAt"), f.getCreatedFrom()));
+            }
+            if (f.getCreatedTo() != null) {
+                and.add(cb.lessThan(root.<Instant>get("createdAt"), f.getCreatedTo()));
+            }
+            if (f.getUpdatedFrom() != null) {
+                and.add(cb.greaterThanOrEqualTo(root.<Instant>get("updatedAt"), f.getUpdatedFrom()));
+            }
+            if (f.getUpdatedTo() != null) {
+                and.add(cb.lessThan(root.<Instant>get("updatedAt"), f.getUpdatedTo()));
+            }
+
+            if (f.getText() != null && !f.getText().isBlank()) {
+                // value(): bound as a parameter, where cb.literal would be inlined into the SQL
+                Subquery<Long> matches = query.subquery(Long.class);
+                Root<IssueSearchDocument> doc = matches.from(IssueSearchDocument.class);
+                matches.select(doc.get("id")).where(
+                        cb.equal(doc.get("projectId"), projectId),
+                        cb.isTrue(cb.function("text_matches", Boolean.class,
+                                doc.get("searchVector"), ((HibernateCriteriaBuilder) cb).value(f.getText().trim()))));
+                and.add(root.get("id").in(matches));
+            }
+
+            return cb.and(and.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -1,7 +1,11 @@
 package com.sj.Workly.repository;
 
 import com.sj.Workly.entity.OrgMember;
+import com.sj.Workly.repository.projection.OrgMemberView;
+import com.sj.Workly.repository.projection.OrgView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,8 +13,38 @@ import java.util.Optional;
 public interface OrgMemberRepository extends JpaRepository<OrgMember, Long> {
     List<OrgMember> findByOrgId(Long orgId);
     List<OrgMember> findByUserId(Long userId);
+    boolean existsByOrgIdAndUserEmail(Long orgId, String email);
+
+    // Membership lookups used for access checks only see live orgs
+
+    @Query("""
+        select m from OrgMember m
+        where m.org.id = :orgId and m.user.id = :userId and m.org.deletedAt is null
+    """)
     Optional<OrgMember> findByOrgIdAndUserId(Long orgId, Long userId);
+
+    @Query("""
+        select case when count(m) > 0 then true else false end from OrgMember m
+        where m.org.id = :orgId and m.user.id = :userId and m.org.deletedAt is null
+    """)
     boolean existsByOrgIdAndUserId(Long orgId, Long userId);
-    boolean existsByOrgIdAndUserEmail(Long orgId, String email);
 
+    /** Live orgs the user is a member of. */
+    @Query("""
+        select new com.sj.Workly.repository.projection.OrgView(o.id, o.name, o.slug, o.createdAt)
+        from OrgMember m join m.org o
+        where m.user.id = :userId and o.deletedAt is null
+        order by o.id
+    """)
+    List<OrgView> findOrgViews(Long userId);
+
+    /** Keyset pages of the member list: ids after {@code afterId} (0 for the first page). */
+    @Query("""
+        select new com.sj.Workly.repository.projection.OrgMemberView(
+            m.id, u.id, u.name, u.email, m.role, m.createdAt)
+        from OrgMember m join m.user u
+        where m.org.id = :orgId and m.id > :afterId
+        order by m.id
+    """)
+    List<OrgMemberView> findMemberViewsAfter(Long orgId, Long afterId, Limit limit);
 }
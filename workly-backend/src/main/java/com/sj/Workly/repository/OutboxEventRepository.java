@@ -10,4 +10,6 @@ public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>
 
     List<OutboxEvent> findTop50ByStatusOrderByCreatedAtAsc(OutboxStatus status);
 
+    long countByStatus(OutboxStatus status);
+
 }
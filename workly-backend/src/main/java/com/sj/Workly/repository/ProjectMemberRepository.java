@@ -2,12 +2,22 @@ package com.sj.Workly.repository;
 
 import com.sj.Workly.entity.ProjectMember;
 import com.sj.Workly.entity.ProjectMember.Role;
+import com.sj.Workly.repository.projection.ProjectMemberView;
+import com.sj.Workly.repository.projection.ProjectView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
+    /** Membership of a live project; deleted projects (waiting to be purged) deny access. */
+    @Query("""
+        select case when count(pm) > 0 then true else false end
+        from ProjectMember pm
+        where pm.project.id = :projectId and pm.user.id = :userId and pm.project.deletedAt is null
+    """)
     boolean existsByProjectIdAndUserId(Long projectId, Long userId);
 
     Optional<ProjectMember> findByProjectIdAndUserId(Long projectId, Long userId);
@@ -17,4 +27,31 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     List<ProjectMember> findByUserId(Long userId);
 
     long countByProjectIdAndRole(Long projectId, Role role);
+
+    /** The subset of userIds that are members of the project, in one query. */
+    @Query("""
+        select pm.user.id
+        from ProjectMember pm
+        where pm.project.id = :projectId and pm.user.id in :userIds
+    """)
+    List<Long> findMemberUserIds(Long projectId, Collection<Long> userIds);
+
+    /** Live projects of the org that the user is a member of. */
+    @Query("""
+        select new com.sj.Workly.repository.projection.ProjectView(
+            p.id, p.org.id, p.name, p.slug, p.createdAt, p.updatedAt)
+        from ProjectMember pm join pm.project p
+        where pm.user.id = :userId and p.org.id = :orgId and p.deletedAt is null
+        order by p.id
+    """)
+    List<ProjectView> findProjectViews(Long userId, Long orgId);
+
+    @Query("""
+        select new com.sj.Workly.repository.projection.ProjectMemberView(
+            pm.id, u.id, u.name, u.email, pm.role, pm.createdAt)
+        from ProjectMember pm join pm.user u
+        where pm.project.id = :projectId
+        order by pm.id
+    """)
+    List<ProjectMemberView> findMemberViews(Long projectId);
 }
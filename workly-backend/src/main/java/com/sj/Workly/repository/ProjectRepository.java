@@ -2,7 +2,10 @@ package com.sj.Workly.repository;
 
 import com.sj.Workly.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +13,9 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     boolean existsByOrgIdAndSlug(Long orgId, String slug);
     List<Project> findByOrgIdOrderByCreatedAtDesc(Long orgId);
     Optional<Project> findByIdAndOrgId(Long projectId, Long orgId);
+
+    /** Hides all live projects of an org that is being deleted; they are purged with it. */
+    @Modifying
+    @Query("update Project p set p.deletedAt = :deletedAt where p.org.id = :orgId and p.deletedAt is null")
+    int markDeletedByOrgId(Long orgId, Instant deletedAt);
 }
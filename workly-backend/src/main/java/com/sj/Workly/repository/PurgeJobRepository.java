@@ -0,0 +1,10 @@
+package com.sj.Workly.repository;
+
+import com.sj.Workly.entity.PurgeJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface PurgeJobRepository extends JpaRepository<PurgeJob, Long> {
+    Optional<PurgeJob> findByIdAndRequestedByUserId(Long id, Long requestedByUserId);
+}
@@ -2,11 +2,39 @@ package com.sj.Workly.repository;
 
 import com.sj.Workly.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.Instant;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
-    long deleteByExpiresAtBefore(Instant cutoff);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    /** 1 if this call revoked the token, 0 if it was already revoked (e.g. by a concurrent rotation). */
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.id = :id and t.revokedAt is null")
+    int revokeIfActive(Long id, Instant now);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(UUID familyId, Instant now);
+
+    /**
+     * Revokes all but the {@code keep} newest active tokens of a user. Rows locked by a concurrent login are
+     * skipped rather than waited for: two logins revoking overlapping sets would otherwise lock them in different
+     * orders and deadlock. The cap can briefly be exceeded under contention; the next login trims it again.
+     */
+    @Modifying
+    @Query(value = """
+        update refresh_tokens set revoked_at = :now
+        where id in (
+            select id from refresh_tokens
+            where user_id = :userId and revoked_at is null and expires_at > :now
+            order by created_at desc, id desc
+            offset :keep
+            for update skip locked)
+        """, nativeQuery = true)
+    int revokeOldestActive(Long userId, int keep, Instant now);
 }
@@ -0,0 +1,13 @@
+package com.sj.Workly.repository;
+
+import com.sj.Workly.entity.SavedIssueFilter;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SavedIssueFilterRepository extends JpaRepository<SavedIssueFilter, Long> {
+    List<SavedIssueFilter> findByUserIdAndProjectIdOrderByNameAsc(Long userId, Long projectId);
+    Optional<SavedIssueFilter> findByIdAndUserIdAndProjectId(Long id, Long userId, Long projectId);
+    boolean existsByUserIdAndProjectIdAndName(Long userId, Long projectId, String name);
+}
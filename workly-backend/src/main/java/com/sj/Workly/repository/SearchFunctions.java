@@ -0,0 +1,23 @@
+package com.sj.Workly.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Full-text predicates for HQL and criteria queries, registered through
+ * META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ * <p>
+ * {@code text_matches(vector, query)} renders as an inline {@code @@} against the same query syntax as the
+ * ranked search endpoint, so the planner can use the GIN index on {@code issues.search_vector}.
+ */
+public class SearchFunctions implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functions) {
+        functions.getFunctionRegistry().registerPattern(
+                "text_matches",
+                "(?1 @@ websearch_to_tsquery('english', ?2))",
+                functions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
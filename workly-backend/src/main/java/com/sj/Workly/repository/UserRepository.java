@@ -2,10 +2,17 @@ package com.sj.Workly.repository;
 
 import com.sj.Workly.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    /** Replaces the hash only if it is still {@code oldHash}, so a concurrent password change wins. */
+    @Modifying
+    @Query("update User u set u.hashedPassword = :newHash where u.id = :id and u.hashedPassword = :oldHash")
+    int replacePasswordHash(Long id, String oldHash, String newHash);
 }
@@ -0,0 +1,7 @@
+package com.sj.Workly.repository.projection;
+
+import java.time.Instant;
+
+/** Comment list row with its author joined in. */
+public record CommentView(Long id, Long issueId, Long authorId, String authorName, String authorEmail,
+                          String body, Instant createdAt) {}
@@ -0,0 +1,14 @@
+package com.sj.Workly.repository.projection;
+
+/** Row returned by {@link com.sj.Workly.repository.IssueRepository#search}. */
+public interface IssueSearchHit {
+    Long getId();
+    Long getColumnId();
+    String getTitle();
+    String getStatus();
+    String getPriority();
+    Long getAssigneeId();
+    Float getRank();
+    String getTitleHighlight();
+    String getSnippet();
+}
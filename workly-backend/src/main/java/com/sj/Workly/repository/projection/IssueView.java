@@ -0,0 +1,14 @@
+package com.sj.Workly.repository.projection;
+
+import com.sj.Workly.entity.enums.IssuePriority;
+import com.sj.Workly.entity.enums.IssueStatus;
+
+import java.time.Instant;
+
+/**
+ * Issue list row: the IssueResponse columns, read without loading Issue entities.
+ * orderIndex is not in the response; it is the page key of the column list.
+ */
+public record IssueView(Long id, Long projectId, Long columnId, Integer orderIndex, String title,
+                        String description, IssuePriority priority, IssueStatus status, Long reporterId, Long assigneeId,
+                        Instant createdAt, Instant updatedAt, Instant startedAt, Instant resolvedAt) {}
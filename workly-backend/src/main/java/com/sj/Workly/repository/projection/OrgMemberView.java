@@ -0,0 +1,8 @@
+package com.sj.Workly.repository.projection;
+
+import com.sj.Workly.entity.enums.Role;
+
+import java.time.Instant;
+
+/** Org member row with the user joined in. */
+public record OrgMemberView(Long id, Long userId, String userName, String userEmail, Role role, Instant createdAt) {}
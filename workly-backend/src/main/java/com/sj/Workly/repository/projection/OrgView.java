@@ -0,0 +1,6 @@
+package com.sj.Workly.repository.projection;
+
+import java.time.Instant;
+
+/** Organization list row (OrganizationResponse columns). */
+public record OrgView(Long id, String name, String slug, Instant createdAt) {}
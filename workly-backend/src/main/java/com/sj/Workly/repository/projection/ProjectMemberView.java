@@ -0,0 +1,9 @@
+package com.sj.Workly.repository.projection;
+
+import com.sj.Workly.entity.ProjectMember;
+
+import java.time.Instant;
+
+/** Project member row with the user joined in. */
+public record ProjectMemberView(Long id, Long userId, String userName, String userEmail,
+                                ProjectMember.Role role, Instant createdAt) {}
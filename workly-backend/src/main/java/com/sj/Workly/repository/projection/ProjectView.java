@@ -0,0 +1,6 @@
+package com.sj.Workly.repository.projection;
+
+import java.time.Instant;
+
+/** Project list row (ProjectResponse columns). */
+public record ProjectView(Long id, Long orgId, String name, String slug, Instant createdAt, Instant updatedAt) {}
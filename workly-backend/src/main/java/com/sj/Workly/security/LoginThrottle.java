@@ -0,0 +1,112 @@
+package com.sj.Workly.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sj.Workly.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-memory login throttling, checked before any password is hashed.
+ * <ul>
+ *   <li>Per client IP: every attempt counts, at most {@code app.auth.throttle.ip-max-attempts} per window.</li>
+ *   <li>Per account: failed attempts count, at most {@code app.auth.throttle.account-max-failures} per window;
+ *   a successful login resets the account.</li>
+ * </ul>
+ * Windows slide: the previous fixed window is weighted by how much of it still overlaps, so there is no burst
+ * allowance at window boundaries and each key costs three numbers. Keys expire after two idle windows and are
+ * capped at {@code app.auth.throttle.max-keys}. Counters are per instance.
+ */
+@Component
+public class LoginThrottle {
+
+    private final Cache<String, Window> windows;
+    private final long windowMs;
+    private final int ipMaxAttempts;
+    private final int accountMaxFailures;
+
+    public LoginThrottle(@Value("${app.auth.throttle.window-seconds:300}") long windowSeconds,
+                         @Value("${app.auth.throttle.ip-max-attempts:100}") int ipMaxAttempts,
+                         @Value("${app.auth.throttle.account-max-failures:10}") int accountMaxFailures,
+                         @Value("${app.auth.throttle.max-keys:100000}") long maxKeys) {
+        this.windowMs = windowSeconds * 1000;
+        this.ipMaxAttempts = ipMaxAttempts;
+        this.accountMaxFailures = accountMaxFailures;
+        this.windows = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(2 * windowMs))
+                .maximumSize(maxKeys)
+                .build();
+    }
+
+    /** Counts an attempt from {@code ip}; 429 if the IP or the account is over its limit. */
+    public void check(String email, String ip) {
+        long now = System.currentTimeMillis();
+        if (ip != null) {
+            Window w = windows.get(ipKey(ip), k -> new Window(now, windowMs));
+            if (w.add(now) > ipMaxAttempts) {
+                throw new TooManyRequestsException("Too many sign-in attempts, try again later", w.retryAfterSeconds(now));
+            }
+        }
+        Window w = windows.getIfPresent(accountKey(email));
+        if (w != null && w.estimate(now) >= accountMaxFailures) {
+            throw new TooManyRequestsException("Too many failed sign-in attempts, try again later", w.retryAfterSeconds(now));
+        }
+    }
+
+    public void failed(String email) {
+        long now = System.currentTimeMillis();
+        windows.get(accountKey(email), k -> new Window(now, windowMs)).add(now);
+    }
+
+    public void succeeded(String email) {
+        windows.invalidate(accountKey(email));
+    }
+
+    private static String ipKey(String ip) {
+        return "ip:" + ip;
+    }
+
+    private static String accountKey(String email) {
+        return "account:" + email;
+    }
+
+    private static final class Window {
+        private final long length;
+        private long start;
+        private int previous;
+        private int current;
+
+        Window(long now, long length) {
+            this.length = length;
+            this.start = now;
+        }
+
+        synchronized double add(long now) {
+            roll(now);
+            current++;
+            return estimate(now);
+        }
+
+        synchronized double estimate(long now) {
+            roll(now);
+            double overlap = 1.0 - (double) (now - start) / length;
+            return previous * overlap + current;
+        }
+
+        /** Until the current window ends; by then at least the previous window's weight is gone. */
+        synchronized long retryAfterSeconds(long now) {
+            roll(now);
+            return Math.max(1, (start + length - now + 999) / 1000);
+        }
+
+        private void roll(long now) {
+            long elapsed = now - start;
+            if (elapsed < length) return;
+            previous = elapsed < 2 * length ? current : 0;
+            current = 0;
+            start += (elapsed / length) * length;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.sj.Workly.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sj.Workly.config.RateLimitProperties;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free buckets: each is an immutable (tokens, time) pair behind an AtomicReference, refilled lazily and
+ * updated with compare-and-set, so concurrent requests for one user never block each other. Rejections do not
+ * write. Idle buckets (which would be full again anyway) expire from the Caffeine map, which also holds at most
+ * {@code maxBuckets}; evicting one early only hands its owner a full bucket again.
+ */
+public class InMemoryRateLimiter implements RateLimiter {
+
+    private record State(double tokens, long nanos) {}
+
+    private final Cache<String, AtomicReference<State>> buckets;
+
+    public InMemoryRateLimiter(Duration idleExpiry, long maxBuckets) {
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleExpiry)
+                .maximumSize(maxBuckets)
+                .build();
+    }
+
+    @Override
+    public Decision tryAcquire(String key, RateLimitProperties.Limit limit) {
+        AtomicReference<State> bucket = buckets.get(key,
+                k -> new AtomicReference<>(new State(limit.capacity(), System.nanoTime())));
+        while (true) {
+            State s = bucket.get();
+            long now = System.nanoTime();
+            double elapsed = Math.max(0, now - s.nanos()) / 1e9;
+            double tokens = Math.min(limit.capacity(), s.tokens() + elapsed * limit.refillPerSecond());
+            if (tokens < 1) {
+                return Decision.rejected((long) Math.ceil((1 - tokens) / limit.refillPerSecond()));
+            }
+            if (bucket.compareAndSet(s, new State(tokens - 1, Math.max(now, s.nanos())))) {
+                return Decision.ALLOWED;
+            }
+        }
+    }
+}
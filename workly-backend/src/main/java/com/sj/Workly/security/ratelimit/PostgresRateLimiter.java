@@ -0,0 +1,49 @@
+package com.sj.Workly.security.ratelimit;
+
+import com.sj.Workly.config.RateLimitProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Buckets shared by all instances (rate_limit_buckets, see V13__rate_limit_buckets.sql). Taking a token is one
+ * upsert that refills and decrements in the same statement; the row lock it takes serializes concurrent
+ * requests for the same bucket only. When the bucket has no token the update's WHERE fails and no row comes
+ * back. The table is unlogged: a crash just resets every bucket to full.
+ */
+public class PostgresRateLimiter implements RateLimiter {
+
+    private static final String ACQUIRE = """
+            insert into rate_limit_buckets as b (bucket_key, tokens, refilled_at)
+            values (?, ? - 1, now())
+            on conflict (bucket_key) do update
+            set tokens = least(?, b.tokens + extract(epoch from now() - b.refilled_at) * ?) - 1,
+                refilled_at = now()
+            where least(?, b.tokens + extract(epoch from now() - b.refilled_at) * ?) >= 1
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final Duration idleExpiry;
+
+    public PostgresRateLimiter(JdbcTemplate jdbc, Duration idleExpiry) {
+        this.jdbc = jdbc;
+        this.idleExpiry = idleExpiry;
+    }
+
+    @Override
+    public Decision tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long capacity = limit.capacity();
+        double rate = limit.refillPerSecond();
+        int updated = jdbc.update(ACQUIRE, key, capacity, capacity, rate, capacity, rate);
+        // Upper bound: the bucket holds less than one token, so one comes back within 1/rate seconds
+        return updated == 1 ? Decision.ALLOWED : Decision.rejected((long) Math.ceil(1 / rate));
+    }
+
+    /** Idle buckets are full again; dropping them keeps the table as small as the set of active clients. */
+    @Scheduled(fixedDelayString = "${app.rate-limit.cleanup-ms:60000}")
+    public void deleteIdle() {
+        jdbc.update("delete from rate_limit_buckets where refilled_at < now() - make_interval(secs => ?)",
+                (double) idleExpiry.toSeconds());
+    }
+}
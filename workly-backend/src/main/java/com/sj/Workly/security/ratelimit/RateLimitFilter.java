@@ -0,0 +1,198 @@
+package com.sj.Workly.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sj.Workly.config.RateLimitProperties;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.repository.OrgMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user and per-org token buckets for authenticated requests (see RateLimitProperties). Runs in the security
+ * chain right after JwtAuthFilter, so it sees the user; anonymous requests (/auth, health, docs) pass through,
+ * login has its own throttle. A rejection is a 429 with Retry-After and the usual {"message": ...} body.
+ * <p>
+ * The org bucket is only charged for members of that org: the filter runs before any access check, and
+ * charging every caller would let anyone drain another org's budget. Membership answers are cached for a
+ * minute per (org, user), so a removed member can still count against the org until their entry expires.
+ * <p>
+ * Every decision is counted in {@code workly.rate_limit.decisions} (tags: group, scope = user/org,
+ * outcome = allowed/rejected/error). If the limiter itself fails (database down in postgres mode) the request
+ * is let through.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final PathPattern ORG_PATH = PathPatternParser.defaultInstance.parse("/orgs/{orgId}/**");
+
+    private static final Duration MEMBERSHIP_TTL = Duration.ofMinutes(1);
+    private static final long MEMBERSHIP_CACHE_SIZE = 10_000;
+
+    private record Membership(Long orgId, Long userId) {}
+
+    private record Group(String name, List<Route> routes, RateLimitProperties.Limit user,
+                         RateLimitProperties.Limit org) {}
+
+    /** {@code method} is null when the entry had no method prefix (any method). */
+    private record Route(String method, PathPattern path) {
+
+        static Route parse(String entry) {
+            String trimmed = entry.trim();
+            int space = trimmed.indexOf(' ');
+            return space < 0
+                    ? new Route(null, PathPatternParser.defaultInstance.parse(trimmed))
+                    : new Route(trimmed.substring(0, space).toUpperCase(Locale.ROOT),
+                            PathPatternParser.defaultInstance.parse(trimmed.substring(space + 1).trim()));
+        }
+
+        boolean matches(String requestMethod, PathContainer requestPath) {
+            return (method == null || method.equals(requestMethod)) && path.matches(requestPath);
+        }
+    }
+
+    private final boolean enabled;
+    private final List<Group> groups;
+    private final RateLimiter limiter;
+    private final OrgMemberRepository orgMemberRepo;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Cache<Membership, Boolean> memberships = Caffeine.newBuilder()
+            .expireAfterWrite(MEMBERSHIP_TTL)
+            .maximumSize(MEMBERSHIP_CACHE_SIZE)
+            .build();
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimiter limiter, OrgMemberRepository orgMemberRepo,
+                           MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.groups = properties.groups() == null ? List.of() : properties.groups().stream()
+                .map(g -> new Group(g.name(),
+                        g.paths().stream().map(Route::parse).toList(),
+                        g.user(), g.org()))
+                .toList();
+        this.limiter = limiter;
+        this.orgMemberRepo = orgMemberRepo;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof User user)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        Group group = match(request.getMethod(), path);
+        if (group == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RateLimiter.Decision decision = RateLimiter.Decision.ALLOWED;
+        if (group.user() != null) {
+            decision = acquire(group, "user", user.getId().toString(), group.user());
+        }
+        if (decision.allowed() && group.org() != null) {
+            Long orgId = orgId(path);
+            if (orgId != null && isMember(orgId, user.getId())) {
+                decision = acquire(group, "org", orgId.toString(), group.org());
+            }
+        }
+
+        if (!decision.allowed()) {
+            response.setStatus(429);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"message\":\"Too many requests, try again later\"}");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private Group match(String method, PathContainer path) {
+        for (Group g : groups) {
+            for (Route r : g.routes()) {
+                if (r.matches(method, path)) return g;
+            }
+        }
+        return null;
+    }
+
+    private static Long orgId(PathContainer path) {
+        PathPattern.PathMatchInfo info = ORG_PATH.matchAndExtract(path);
+        if (info == null) return null;
+        String id = info.getUriVariables().get("orgId");
+        if (id.isEmpty() || !id.chars().allMatch(Character::isDigit)) return null;
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** Non-members are left to the access check downstream; a failed lookup charges nothing, like a failed limiter. */
+    private boolean isMember(Long orgId, Long userId) {
+        try {
+            return memberships.get(new Membership(orgId, userId),
+                    m -> orgMemberRepo.existsByOrgIdAndUserId(m.orgId(), m.userId()));
+        } catch (RuntimeException e) {
+            logger.warn("Org membership lookup failed, not charging the org: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private RateLimiter.Decision acquire(Group group, String scope, String id, RateLimitProperties.Limit limit) {
+        RateLimiter.Decision decision;
+        String outcome;
+        try {
+            decision = limiter.tryAcquire(group.name() + ":" + scope + ":" + id, limit);
+            outcome = decision.allowed() ? "allowed" : "rejected";
+        } catch (RuntimeException e) {
+            logger.warn("Rate limiter failed, allowing request: {}", e.getMessage());
+            decision = RateLimiter.Decision.ALLOWED;
+            outcome = "error";
+        }
+        counter(group.name(), scope, outcome).increment();
+        return decision;
+    }
+
+    private Counter counter(String group, String scope, String outcome) {
+        return counters.computeIfAbsent(group + '|' + scope + '|' + outcome, k -> Counter.builder("workly.rate_limit.decisions")
+                .description("Rate limiter decisions per route group")
+                .tag("group", group)
+                .tag("scope", scope)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
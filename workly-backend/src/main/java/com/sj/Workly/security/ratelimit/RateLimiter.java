@@ -0,0 +1,18 @@
+package com.sj.Workly.security.ratelimit;
+
+import com.sj.Workly.config.RateLimitProperties;
+
+/** A token bucket store. Buckets are created full on first use. */
+public interface RateLimiter {
+
+    record Decision(boolean allowed, long retryAfterSeconds) {
+        public static final Decision ALLOWED = new Decision(true, 0);
+
+        public static Decision rejected(long retryAfterSeconds) {
+            return new Decision(false, Math.max(1, retryAfterSeconds));
+        }
+    }
+
+    /** Takes one token from {@code key}'s bucket if there is one. */
+    Decision tryAcquire(String key, RateLimitProperties.Limit limit);
+}
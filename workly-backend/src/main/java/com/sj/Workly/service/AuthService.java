@@ -3,34 +3,34 @@ package com.sj.Workly.service;
 import com.sj.Workly.dto.auth.*;
 import com.sj.Workly.entity.OrgMember;
 import com.sj.Workly.entity.Organization;
-import com.sj.Workly.entity.RefreshToken;
 import com.sj.Workly.entity.User;
 import com.sj.Workly.entity.enums.Role;
 import com.sj.Workly.exception.ConflictException;
+import com.sj.Workly.exception.TooManyRequestsException;
 import com.sj.Workly.exception.UnauthorizedException;
 import com.sj.Workly.repository.OrgMemberRepository;
 import com.sj.Workly.repository.OrganizationRepository;
-import com.sj.Workly.repository.RefreshTokenRepository;
 import com.sj.Workly.repository.UserRepository;
 import com.sj.Workly.security.JwtService;
+import com.sj.Workly.security.LoginThrottle;
+import com.sj.Workly.security.PasswordHashingService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseCookie;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.text.Normalizer;
-import java.time.Instant;
 import java.util.Locale;
-import java.util.UUID;
 
 @Service
 public class AuthService {
 
     private final UserRepository userRepo;
-    private final RefreshTokenRepository refreshRepo;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokens;
+    private final PasswordHashingService passwordHashing;
+    private final LoginThrottle loginThrottle;
     private final JwtService jwtService;
+    private final TransactionTemplate tx;
 
     private final int refreshDays;
     private final boolean cookieSecure;
@@ -42,9 +42,11 @@ public class AuthService {
 
     public AuthService(
             UserRepository userRepo,
-            RefreshTokenRepository refreshRepo,
-            PasswordEncoder passwordEncoder,
+            RefreshTokenService refreshTokens,
+            PasswordHashingService passwordHashing,
+            LoginThrottle loginThrottle,
             JwtService jwtService,
+            PlatformTransactionManager transactionManager,
             @Value("${app.jwt.refresh-days}") int refreshDays,
             @Value("${app.cookie.secure}") boolean cookieSecure,
             @Value("${app.cookie.same-site}") String sameSite,
@@ -52,9 +54,11 @@ public class AuthService {
             OrgMemberRepository orgMemberRepo
     ) {
         this.userRepo = userRepo;
-        this.refreshRepo = refreshRepo;
-        this.passwordEncoder = passwordEncoder;
+        this.refreshTokens = refreshTokens;
+        this.passwordHashing = passwordHashing;
+        this.loginThrottle = loginThrottle;
         this.jwtService = jwtService;
+        this.tx = new TransactionTemplate(transactionManager);
         this.refreshDays = refreshDays;
         this.cookieSecure = cookieSecure;
         this.sameSite = sameSite;
@@ -62,16 +66,8 @@ public class AuthService {
         this.orgMemberRepo = orgMemberRepo;
     }
 
-    private String slugify(String input) {
-        String s = Normalizer.normalize(input, Normalizer.Form.NFKD);
-        s = s.replaceAll("[^\\p{Alnum}]+", "-");
-        s = s.replaceAll("(^-+|-+$)", "");
-        s = s.toLowerCase(Locale.ROOT);
-        return s.isBlank() ? "org" : s;
-    }
-
     private String generateUniqueOrgSlug(String orgName) {
-        String base = slugify(orgName);
+        String base = SlugUtils.slugify(orgName, "org");
         String slug = base;
         int i = 2;
         while (orgRepo.existsBySlug(slug)) {
@@ -82,80 +78,88 @@ public class AuthService {
     }
 
 
-    @Transactional
+    // Hashes before the transaction starts, so a queued hash never holds a connection
     public AuthResult register(RegisterRequest req) {
         String email = req.getEmail().trim().toLowerCase(Locale.ROOT);
 
         if (userRepo.existsByEmail(email)) {
             throw new ConflictException("Email already exists");
         }
+        String hashedPassword = passwordHashing.encode(req.getPassword());
 
-        // Create user (and your org bootstrap)
-        User user = new User(req.getName().trim(), email, passwordEncoder.encode(req.getPassword()));
-        user = userRepo.save(user);
+        return tx.execute(status -> {
+            // Create user (and your org bootstrap)
+            User user = new User(req.getName().trim(), email, hashedPassword);
+            user = userRepo.save(user);
 
-        // 2) Create Organization
-        Organization org = new Organization(req.getOrgName(), generateUniqueOrgSlug(req.getOrgName().trim()));
-        org = orgRepo.save(org);
+            // 2) Create Organization
+            Organization org = new Organization(req.getOrgName(), generateUniqueOrgSlug(req.getOrgName().trim()));
+            org = orgRepo.save(org);
 
-        // 3) Create OrgMember OWNER
-        OrgMember member = new OrgMember(org, user, Role.OWNER);
-        orgMemberRepo.save(member);
+            // 3) Create OrgMember OWNER
+            OrgMember member = new OrgMember(org, user, Role.OWNER);
+            orgMemberRepo.save(member);
 
+            String access = jwtService.createAccessToken(user.getId(), user.getEmail());
+            String refresh = refreshTokens.issue(user);
 
-        String access = jwtService.createAccessToken(user.getId(), user.getEmail());
-        RefreshToken refresh = createRefreshToken(user);
-
-        return new AuthResult(new AuthResponse(access, user.getId()), buildRefreshCookie(refresh.getToken()));
+            return new AuthResult(new AuthResponse(access, user.getId()), buildRefreshCookie(refresh));
+        });
     }
 
-    @Transactional
-    public AuthResult login(LoginRequest req) {
+    /**
+     * Throttled (LoginThrottle) before anything is hashed; the password check runs on the hashing executor
+     * outside any transaction. Only the token insert (and a rehash, if the stored hash is weaker than the
+     * current bcrypt strength) runs in a short transaction afterwards.
+     */
+    public AuthResult login(LoginRequest req, String clientIp) {
         String email = req.getEmail().trim().toLowerCase(Locale.ROOT);
+        loginThrottle.check(email, clientIp);
 
-        User user = userRepo.findByEmail(email)
-                .orElseThrow(() -> new UnauthorizedException("Invalid email or password"));
-
-        if (!passwordEncoder.matches(req.getPassword(), user.getHashedPassword())) {
+        User user = userRepo.findByEmail(email).orElse(null);
+        if (user == null || !passwordHashing.matches(req.getPassword(), user.getHashedPassword())) {
+            loginThrottle.failed(email);
             throw new UnauthorizedException("Invalid email or password");
         }
+        loginThrottle.succeeded(email);
+
+        String oldHash = user.getHashedPassword();
+        String newHash = null;
+        if (passwordHashing.needsRehash(oldHash)) {
+            try {
+                newHash = passwordHashing.encode(req.getPassword());
+            } catch (TooManyRequestsException e) {
+                // Busy: the login still succeeds, the next one upgrades the hash
+            }
+        }
 
-        String access = jwtService.createAccessToken(user.getId(), user.getEmail());
-        RefreshToken refresh = createRefreshToken(user);
+        String rehash = newHash;
+        String refresh = tx.execute(status -> {
+            if (rehash != null) {
+                userRepo.replacePasswordHash(user.getId(), oldHash, rehash);
+            }
+            return refreshTokens.issue(user);
+        });
 
-        return new AuthResult(new AuthResponse(access, user.getId()), buildRefreshCookie(refresh.getToken()));
+        String access = jwtService.createAccessToken(user.getId(), user.getEmail());
+        return new AuthResult(new AuthResponse(access, user.getId()), buildRefreshCookie(refresh));
     }
 
-    @Transactional
+    // Not @Transactional: a detected token reuse revokes the token family and must commit although the call fails
     public AuthResult refresh(String refreshTokenValue) {
         if (refreshTokenValue == null || refreshTokenValue.isBlank()) {
             throw new UnauthorizedException("Missing refresh token");
         }
 
-        RefreshToken old = refreshRepo.findByToken(refreshTokenValue)
-                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
-
-        if (old.isRevoked() || old.getExpiresAt().isBefore(Instant.now())) {
-            throw new UnauthorizedException("Refresh token expired");
-        }
-
-        // Rotate refresh token
-        old.setRevokedAt(Instant.now());
-        RefreshToken next = createRefreshToken(old.getUser());
-        old.setReplacedByToken(next.getToken());
-        refreshRepo.save(old);
+        RefreshTokenService.Issued next = refreshTokens.rotate(refreshTokenValue);
 
-        String access = jwtService.createAccessToken(old.getUser().getId(), old.getUser().getEmail());
-        return new AuthResult(new AuthResponse(access, old.getUser().getId()), buildRefreshCookie(next.getToken()));
+        String access = jwtService.createAccessToken(next.userId(), next.email());
+        return new AuthResult(new AuthResponse(access, next.userId()), buildRefreshCookie(next.token()));
     }
 
-    @Transactional
     public ResponseCookie logout(String refreshTokenValue) {
         if (refreshTokenValue != null && !refreshTokenValue.isBlank()) {
-            refreshRepo.findByToken(refreshTokenValue).ifPresent(rt -> {
-                rt.setRevokedAt(Instant.now());
-                refreshRepo.save(rt);
-            });
+            refreshTokens.revoke(refreshTokenValue);
         }
         return clearRefreshCookie();
     }
@@ -183,14 +187,6 @@ public class AuthService {
                 .build();
     }
 
-    private RefreshToken createRefreshToken(User user) {
-        RefreshToken rt = new RefreshToken();
-        rt.setUser(user);
-        rt.setToken(UUID.randomUUID().toString().replace("-", "") + UUID.randomUUID().toString().replace("-", ""));
-        rt.setExpiresAt(Instant.now().plusSeconds(refreshDays * 24L * 60L * 60L));
-        return refreshRepo.save(rt);
-    }
-
     // Small helper record to return both JSON + cookie
     public record AuthResult(AuthResponse body, ResponseCookie refreshCookie) {}
 }
@@ -10,7 +10,6 @@ import com.sj.Workly.exception.UnauthorizedException;
 import com.sj.Workly.repository.BoardRepository;
 import com.sj.Workly.repository.ColumnRepository;
 import com.sj.Workly.repository.ProjectMemberRepository;
-import com.sj.Workly.repository.ProjectRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,17 +18,17 @@ public class BoardService {
 
     private final BoardRepository boardRepo;
     private final ColumnRepository columnRepo;
-    private final ProjectRepository projectRepo;
     private final ProjectMemberRepository projectMemberRepo;
+    private final ReferenceDataService references;
 
     public BoardService(BoardRepository boardRepo,
                         ColumnRepository columnRepo,
-                        ProjectRepository projectRepo,
-                        ProjectMemberRepository projectMemberRepo) {
+                        ProjectMemberRepository projectMemberRepo,
+                        ReferenceDataService references) {
         this.boardRepo = boardRepo;
         this.columnRepo = columnRepo;
-        this.projectRepo = projectRepo;
         this.projectMemberRepo = projectMemberRepo;
+        this.references = references;
     }
 
     /**
@@ -64,11 +63,15 @@ public class BoardService {
     public BoardResponse getBoard(User actor, Long orgId, Long projectId) {
         requireProjectMember(actor.getId(), projectId);
 
-        Project project = projectRepo.findByIdAndOrgId(projectId, orgId)
-                .orElseThrow(() -> new NotFoundException("Project not found"));
+        ReferenceDataService.ProjectRef project = references.project(projectId);
+        if (project == null || !project.orgId().equals(orgId)) {
+            throw new NotFoundException("Project not found");
+        }
 
-        Board board = boardRepo.findByProjectId(projectId)
-                .orElseThrow(() -> new NotFoundException("Board not found for this project"));
+        ReferenceDataService.BoardRef board = references.board(projectId);
+        if (board == null) {
+            throw new NotFoundException("Board not found for this project");
+        }
 
         return toResponse(board);
     }
@@ -79,12 +82,12 @@ public class BoardService {
         }
     }
 
-    private BoardResponse toResponse(Board b) {
+    private BoardResponse toResponse(ReferenceDataService.BoardRef b) {
         BoardResponse r = new BoardResponse();
-        r.setId(b.getId());
-        r.setProjectId(b.getProject().getId());
-        r.setCreatedAt(b.getCreatedAt());
-        r.setUpdatedAt(b.getUpdatedAt());
+        r.setId(b.id());
+        r.setProjectId(b.projectId());
+        r.setCreatedAt(b.createdAt());
+        r.setUpdatedAt(b.updatedAt());
         return r;
     }
 }
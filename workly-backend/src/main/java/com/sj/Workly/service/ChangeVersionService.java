@@ -0,0 +1,164 @@
+package com.sj.Workly.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Version counters for conditional GETs on list endpoints ({@code project_change_versions},
+ * {@code org_change_versions}, see V14__change_versions.sql).
+ * <ul>
+ *   <li>Writers only record what changed; the counters are bumped by one upsert per table just before the
+ *   writing transaction commits, so a counter value is never visible before the data it stands for. Concurrent
+ *   writers in one project wait for each other only between that upsert and their commit, and never on the
+ *   project row itself. Ids are bumped in ascending order, so two transactions cannot deadlock on them.</li>
+ *   <li>Outside a transaction the bump runs immediately.</li>
+ *   <li>Controllers read the tag before reading the list. A tag can then only be older than the data sent with
+ *   it, which costs a refetch later, never a stale 304.</li>
+ *   <li>Tags include the user id: lists depend on the caller's memberships, and a browser shared by two users
+ *   must not revalidate one user's list with the other's tag.</li>
+ *   <li>Reading a tag is one indexed lookup that doubles as the membership check; non-members get null and
+ *   the endpoint produces its usual error.</li>
+ * </ul>
+ */
+@Service
+public class ChangeVersionService {
+
+    private static final String BUMP_PROJECTS = """
+            insert into project_change_versions (project_id, version)
+            select id, 1 from unnest(?::bigint[]) id order by id
+            on conflict (project_id) do update set version = project_change_versions.version + 1
+            """;
+
+    private static final String BUMP_ORGS = """
+            insert into org_change_versions (org_id, version)
+            select id, 1 from unnest(?::bigint[]) id order by id
+            on conflict (org_id) do update set version = org_change_versions.version + 1
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    public ChangeVersionService(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** Ids changed by the current transaction; bound to it as a resource keyed by this service. */
+    private static final class Pending {
+        final SortedSet<Long> projects = new TreeSet<>();
+        final SortedSet<Long> orgs = new TreeSet<>();
+    }
+
+    /** Issues, comments, columns or members of the project changed. */
+    public void projectChanged(Long projectId) {
+        Pending pending = pending();
+        pending.projects.add(projectId);
+        bumpUnlessDeferred(pending);
+    }
+
+    /** The org's project list or its members changed. */
+    public void orgChanged(Long orgId) {
+        Pending pending = pending();
+        pending.orgs.add(orgId);
+        bumpUnlessDeferred(pending);
+    }
+
+    /** Project membership changes show in the project's member list and in the user's project list of the org. */
+    public void projectMembersChanged(Long orgId, Long projectId) {
+        Pending pending = pending();
+        pending.projects.add(projectId);
+        pending.orgs.add(orgId);
+        bumpUnlessDeferred(pending);
+    }
+
+    /** A user's name shows in member lists and comments of everything they belong to. */
+    public void userChanged(Long userId) {
+        Pending pending = pending();
+        pending.projects.addAll(jdbc.queryForList(
+                "select project_id from project_members where user_id = ?", Long.class, userId));
+        pending.orgs.addAll(jdbc.queryForList(
+                "select org_id from org_members where user_id = ?", Long.class, userId));
+        bumpUnlessDeferred(pending);
+    }
+
+    /** Weak ETag for lists inside a project, or null if the user is not a member of a live project of the org. */
+    public String projectTag(Long userId, Long orgId, Long projectId) {
+        bumpOwnChanges();
+        List<Long> version = jdbc.queryForList("""
+                select coalesce(v.version, 0) from projects p
+                join project_members m on m.project_id = p.id
+                left join project_change_versions v on v.project_id = p.id
+                where p.id = ? and p.org_id = ? and p.deleted_at is null and m.user_id = ?
+                """, Long.class, projectId, orgId, userId);
+        return version.isEmpty() ? null : tag("p" + projectId, version.get(0), userId);
+    }
+
+    /** Weak ETag for org-level lists, or null if the user is not a member of the live org. */
+    public String orgTag(Long userId, Long orgId) {
+        bumpOwnChanges();
+        List<Long> version = jdbc.queryForList("""
+                select coalesce(v.version, 0) from organizations o
+                join org_members m on m.org_id = o.id
+                left join org_change_versions v on v.org_id = o.id
+                where o.id = ? and o.deleted_at is null and m.user_id = ?
+                """, Long.class, orgId, userId);
+        return version.isEmpty() ? null : tag("o" + orgId, version.get(0), userId);
+    }
+
+    private Pending pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new Pending();
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Pending created = new Pending();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    bump(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeVersionService.this);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private void bumpUnlessDeferred(Pending pending) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(pending);
+        }
+    }
+
+    /** A tag read inside a writing transaction sees that transaction's changes. */
+    private void bumpOwnChanges() {
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            bump(pending);
+        }
+    }
+
+    private void bump(Pending pending) {
+        if (!pending.projects.isEmpty()) {
+            jdbc.update(BUMP_PROJECTS, (Object) pending.projects.toArray(Long[]::new));
+            pending.projects.clear();
+        }
+        if (!pending.orgs.isEmpty()) {
+            jdbc.update(BUMP_ORGS, (Object) pending.orgs.toArray(Long[]::new));
+            pending.orgs.clear();
+        }
+    }
+
+    private static String tag(String scope, long version, Long userId) {
+        return "W/\"" + scope + "-" + version + "-u" + userId + "\"";
+    }
+}
@@ -0,0 +1,161 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.exception.ConflictException;
+import com.sj.Workly.exception.NotFoundException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Denormalized issue counts per column ({@code columns.issue_count}) and per column and status
+ * ({@code column_status_counts}), so board headers need no COUNT(*).
+ * <ul>
+ *   <li>Writers collect +1/-1 moves in a {@link Changes} and {@link Changes#apply} them once, inside their
+ *   transaction. Deltas are merged per column first, so bulk moves cost one UPDATE per touched column.</li>
+ *   <li>Increments are one conditional UPDATE that also checks {@code wip_limit}; if it matches no row the
+ *   limit would be exceeded and a ConflictException rolls the whole write back. If the column itself is gone
+ *   (deleted after the caller checked it against a cached board) it is a NotFoundException instead.</li>
+ *   <li>Columns are updated in id order so concurrent moves in opposite directions cannot deadlock.</li>
+ *   <li>Lock order across tables: writers apply these counts before flushing the project's analytics rollups
+ *   ({@code IssueAnalyticsService.Recorder#flush}), never the other way round.</li>
+ * </ul>
+ */
+@Service
+public class ColumnCountService {
+
+    private static final String INCREMENT = """
+            update columns set issue_count = issue_count + ?
+            where id = ? and (wip_limit is null or issue_count + ? <= wip_limit)
+            """;
+
+    private static final String INCREMENT_UNCHECKED = """
+            update columns set issue_count = issue_count + ? where id = ?
+            """;
+
+    private static final String UPSERT_STATUS = """
+            insert into column_status_counts (column_id, status, issue_count)
+            values (?, ?, ?)
+            on conflict (column_id, status) do update
+            set issue_count = column_status_counts.issue_count + excluded.issue_count
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    public ColumnCountService(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public Changes changes() {
+        return new Changes();
+    }
+
+    /** Per-status counts of the given columns: columnId -> status -> count (zero counts omitted). */
+    public Map<Long, Map<IssueStatus, Integer>> statusCounts(Collection<Long> columnIds) {
+        Map<Long, Map<IssueStatus, Integer>> result = new HashMap<>();
+        if (columnIds.isEmpty()) return result;
+        jdbc.query("""
+                select column_id, status, issue_count from column_status_counts
+                where column_id = any (?) and issue_count <> 0
+                """,
+                rs -> {
+                    result.computeIfAbsent(rs.getLong(1), id -> new EnumMap<>(IssueStatus.class))
+                            .put(IssueStatus.valueOf(rs.getString(2)), rs.getInt(3));
+                }, (Object) columnIds.toArray(Long[]::new));
+        return result;
+    }
+
+    /**
+     * Adds the counts of a column whose {@code moved} issues were all relocated into {@code targetColumnId}.
+     * Throws ConflictException if that would exceed the target's WIP limit.
+     */
+    public void columnMerged(Long sourceColumnId, Long targetColumnId, int moved) {
+        if (moved == 0) return;
+        if (jdbc.update(INCREMENT, moved, targetColumnId, moved) == 0) {
+            throw rejected(targetColumnId, "Target column's WIP limit would be exceeded");
+        }
+        jdbc.update("""
+                insert into column_status_counts (column_id, status, issue_count)
+                select ?, status, issue_count from column_status_counts where column_id = ?
+                on conflict (column_id, status) do update
+                set issue_count = column_status_counts.issue_count + excluded.issue_count
+                """, targetColumnId, sourceColumnId);
+    }
+
+    /** Why an increment matched no row: the WIP limit, or a column that no longer exists. Only runs on failure. */
+    private RuntimeException rejected(Long columnId, String wipLimitMessage) {
+        Boolean exists = jdbc.queryForObject("select exists (select 1 from columns where id = ?)", Boolean.class, columnId);
+        return Boolean.TRUE.equals(exists)
+                ? new ConflictException(wipLimitMessage)
+                : new NotFoundException("Column not found in this project");
+    }
+
+    /** Removes the per-status rows of a column that is being deleted. */
+    public void forgetColumn(Long columnId) {
+        jdbc.update("delete from column_status_counts where column_id = ?", columnId);
+    }
+
+    public final class Changes {
+        private final Map<Long, Integer> columnDeltas = new TreeMap<>();
+        private final Map<Long, Map<IssueStatus, Integer>> statusDeltas = new TreeMap<>();
+
+        private Changes() {}
+
+        public Changes added(Long columnId, IssueStatus status) {
+            return delta(columnId, status, 1);
+        }
+
+        /** Issue moved between columns and/or statuses; no-op if neither changed. */
+        public Changes moved(Long fromColumnId, IssueStatus fromStatus, Long toColumnId, IssueStatus toStatus) {
+            if (fromColumnId.equals(toColumnId) && fromStatus == toStatus) return this;
+            delta(fromColumnId, fromStatus, -1);
+            return delta(toColumnId, toStatus, 1);
+        }
+
+        private Changes delta(Long columnId, IssueStatus status, int n) {
+            columnDeltas.merge(columnId, n, Integer::sum);
+            statusDeltas.computeIfAbsent(columnId, id -> new EnumMap<>(IssueStatus.class)).merge(status, n, Integer::sum);
+            return this;
+        }
+
+        /**
+         * Applies all deltas (in column id, then status order). Throws ConflictException if an increment would
+         * exceed a WIP limit, NotFoundException if a column no longer exists.
+         */
+        public void apply() {
+            apply(true);
+        }
+
+        /** Imports pass {@code false}: they fill columns in bulk and are not held to WIP limits. */
+        public void apply(boolean enforceWipLimits) {
+            for (Map.Entry<Long, Integer> e : columnDeltas.entrySet()) {
+                int n = e.getValue();
+                if (n == 0) continue;
+                if (n > 0 && enforceWipLimits) {
+                    if (jdbc.update(INCREMENT, n, e.getKey(), n) == 0) {
+                        throw rejected(e.getKey(), "Column has reached its WIP limit");
+                    }
+                } else if (jdbc.update(INCREMENT_UNCHECKED, n, e.getKey()) == 0) {
+                    throw new NotFoundException("Column not found in this project");
+                }
+            }
+
+            List<Object[]> rows = new ArrayList<>();
+            statusDeltas.forEach((columnId, byStatus) -> byStatus.forEach((status, n) -> {
+                if (n != 0) rows.add(new Object[] { columnId, status.name(), n });
+            }));
+            if (!rows.isEmpty()) {
+                jdbc.batchUpdate(UPSERT_STATUS, rows);
+            }
+            columnDeltas.clear();
+            statusDeltas.clear();
+        }
+    }
+}
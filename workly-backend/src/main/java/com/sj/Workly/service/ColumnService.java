@@ -3,46 +3,61 @@ package com.sj.Workly.service;
 import com.sj.Workly.dto.column.*;
 import com.sj.Workly.entity.Board;
 import com.sj.Workly.entity.BoardColumn;
-import com.sj.Workly.entity.Project;
 import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.IssueField;
+import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.exception.BadRequestException;
 import com.sj.Workly.exception.ConflictException;
 import com.sj.Workly.exception.NotFoundException;
 import com.sj.Workly.exception.UnauthorizedException;
 import com.sj.Workly.repository.BoardRepository;
 import com.sj.Workly.repository.ColumnRepository;
+import com.sj.Workly.repository.IssueRepository;
 import com.sj.Workly.repository.ProjectMemberRepository;
-import com.sj.Workly.repository.ProjectRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ColumnService {
 
     private final ColumnRepository columnRepo;
+    private final IssueRepository issueRepo;
     private final BoardRepository boardRepo;
-    private final ProjectRepository projectRepo;
     private final ProjectMemberRepository projectMemberRepo;
+    private final ColumnCountService columnCounts;
+    private final ReferenceDataService references;
+    private final ChangeVersionService changeVersions;
 
     public ColumnService(ColumnRepository columnRepo,
+                         IssueRepository issueRepo,
                          BoardRepository boardRepo,
-                         ProjectRepository projectRepo,
-                         ProjectMemberRepository projectMemberRepo) {
+                         ProjectMemberRepository projectMemberRepo,
+                         ColumnCountService columnCounts,
+                         ReferenceDataService references,
+                         ChangeVersionService changeVersions) {
         this.columnRepo = columnRepo;
+        this.issueRepo = issueRepo;
         this.boardRepo = boardRepo;
-        this.projectRepo = projectRepo;
         this.projectMemberRepo = projectMemberRepo;
+        this.columnCounts = columnCounts;
+        this.references = references;
+        this.changeVersions = changeVersions;
     }
 
     @Transactional
     public ColumnResponse create(User actor, Long orgId, Long projectId, CreateColumnRequest req) {
         requireProjectMember(actor.getId(), projectId);
 
-        Project project = projectRepo.findByIdAndOrgId(projectId, orgId)
-                .orElseThrow(() -> new NotFoundException("Project not found"));
+        requireProject(orgId, projectId);
 
-        Board board = boardRepo.findByProjectId(projectId)
+        Board board = boardRepo.lockByProjectId(projectId)
                 .orElseThrow(() -> new NotFoundException("Board not found for this project"));
 
         if (columnRepo.existsByBoardIdAndNameIgnoreCase(board.getId(), req.getName())) {
@@ -57,24 +72,32 @@ public class ColumnService {
         column.setBoard(board);
         column.setName(req.getName().trim());
         column.setOrderIndex(maxOrder);
+        column.setWipLimit(req.getWipLimit());
 
         column = columnRepo.save(column);
-        return toResponse(column);
+        references.evictBoard(projectId);
+        changeVersions.projectChanged(projectId);
+        return toResponse(column, Map.of());
     }
 
     @Transactional(readOnly = true)
     public List<ColumnResponse> list(User actor, Long orgId, Long projectId) {
         requireProjectMember(actor.getId(), projectId);
 
-        Project project = projectRepo.findByIdAndOrgId(projectId, orgId)
-                .orElseThrow(() -> new NotFoundException("Project not found"));
+        requireProject(orgId, projectId);
 
-        Board board = boardRepo.findByProjectId(projectId)
-                .orElseThrow(() -> new NotFoundException("Board not found for this project"));
+        ReferenceDataService.BoardRef board = references.board(projectId);
+        if (board == null) {
+            throw new NotFoundException("Board not found for this project");
+        }
 
-        return columnRepo.findByBoardIdOrderByOrderIndexAsc(board.getId())
-                .stream()
-                .map(this::toResponse)
+        // Counters change with every issue write, so the columns themselves are read fresh
+        List<BoardColumn> columns = columnRepo.findByBoardIdOrderByOrderIndexAsc(board.id());
+        // Header counts come from the denormalized counters: one small query instead of COUNT(*) per column
+        Map<Long, Map<IssueStatus, Integer>> statusCounts =
+                columnCounts.statusCounts(columns.stream().map(BoardColumn::getId).toList());
+        return columns.stream()
+                .map(c -> toResponse(c, statusCounts.getOrDefault(c.getId(), Map.of())))
                 .toList();
     }
 
@@ -82,8 +105,7 @@ public class ColumnService {
     public ColumnResponse update(User actor, Long orgId, Long projectId, Long columnId, UpdateColumnRequest req) {
         requireProjectMember(actor.getId(), projectId);
 
-        Project project = projectRepo.findByIdAndOrgId(projectId, orgId)
-                .orElseThrow(() -> new NotFoundException("Project not found"));
+        requireProject(orgId, projectId);
 
         Board board = boardRepo.findByProjectId(projectId)
                 .orElseThrow(() -> new NotFoundException("Board not found for this project"));
@@ -104,28 +126,88 @@ public class ColumnService {
             column.setOrderIndex(req.getOrderIndex());
         }
 
+        if (req.getWipLimit() != null) {
+            // 0 removes the limit; lowering it below the current count only blocks further additions
+            column.setWipLimit(req.getWipLimit() == 0 ? null : req.getWipLimit());
+        }
+
         column = columnRepo.save(column);
-        return toResponse(column);
+        references.evictBoard(projectId);
+        changeVersions.projectChanged(projectId);
+        return toResponse(column, columnCounts.statusCounts(List.of(column.getId())).getOrDefault(column.getId(), Map.of()));
     }
 
+    /**
+     * Deletes a column. Its issues are appended to {@code targetColumnId} (in their current order) by one
+     * set-based UPDATE; without a target, a column that still has issues is not deleted.
+     */
     @Transactional
-    public void delete(User actor, Long orgId, Long projectId, Long columnId) {
+    public void delete(User actor, Long orgId, Long projectId, Long columnId, Long targetColumnId) {
         requireProjectMember(actor.getId(), projectId);
 
-        Project project = projectRepo.findByIdAndOrgId(projectId, orgId)
-                .orElseThrow(() -> new NotFoundException("Project not found"));
+        requireProject(orgId, projectId);
 
-        Board board = boardRepo.findByProjectId(projectId)
+        Board board = boardRepo.lockByProjectId(projectId)
                 .orElseThrow(() -> new NotFoundException("Board not found for this project"));
 
-        BoardColumn column = columnRepo.findByIdAndBoardId(columnId, board.getId())
-                .orElseThrow(() -> new NotFoundException("Column not found"));
+        if (columnId.equals(targetColumnId)) {
+            throw new BadRequestException("targetColumnId must be a different column");
+        }
 
-        // TODO: Handle issues in this column - either move them or prevent deletion
-        // For now, we'll prevent deletion if there are issues
-        // This should be handled by cascade delete or moving issues to another column
+        // Locked so no issue can be added to the column while it is being emptied. The target is locked too,
+        // both in id order like the count updates, so a move between the two columns cannot deadlock with this
+        BoardColumn column = null;
+        for (Long id : targetColumnId == null ? List.of(columnId) : Stream.of(columnId, targetColumnId).sorted().toList()) {
+            BoardColumn locked = columnRepo.lockByIdAndBoardId(id, board.getId())
+                    .orElseThrow(() -> new NotFoundException(id.equals(columnId) ? "Column not found" : "Target column not found"));
+            if (id.equals(columnId)) column = locked;
+        }
+
+        if (targetColumnId != null) {
+            int moved = issueRepo.relocateColumn(columnId, targetColumnId, actor.getId(), IssueField.COLUMN.getCode());
+            columnCounts.columnMerged(columnId, targetColumnId, moved);
+        } else if (column.getIssueCount() > 0 || issueRepo.existsByColumnId(columnId)) {
+            throw new ConflictException("Column still has issues; pass targetColumnId to move them");
+        }
 
+        columnCounts.forgetColumn(column.getId());
         columnRepo.delete(column);
+        references.evictBoard(projectId);
+        changeVersions.projectChanged(projectId);
+    }
+
+    /**
+     * Rewrites the order of all columns of the board in one statement; columnIds must list every column once.
+     * The board stays locked from reading its columns to the rewrite, so a concurrent create or delete waits.
+     */
+    @Transactional
+    public List<ColumnResponse> reorder(User actor, Long orgId, Long projectId, ReorderColumnsRequest req) {
+        requireProjectMember(actor.getId(), projectId);
+
+        requireProject(orgId, projectId);
+
+        Board board = boardRepo.lockByProjectId(projectId)
+                .orElseThrow(() -> new NotFoundException("Board not found for this project"));
+
+        Set<Long> current = columnRepo.findByBoardIdOrderByOrderIndexAsc(board.getId()).stream()
+                .map(BoardColumn::getId)
+                .collect(Collectors.toSet());
+        List<Long> ordered = req.getColumnIds();
+        if (ordered.size() != current.size() || !current.equals(new HashSet<>(ordered))) {
+            throw new BadRequestException("columnIds must contain each column of the board exactly once");
+        }
+
+        columnRepo.reorder(board.getId(), ordered.toArray(Long[]::new));
+        references.evictBoard(projectId);
+        changeVersions.projectChanged(projectId);
+        return list(actor, orgId, projectId);
+    }
+
+    private void requireProject(Long orgId, Long projectId) {
+        ReferenceDataService.ProjectRef project = references.project(projectId);
+        if (project == null || !project.orgId().equals(orgId)) {
+            throw new NotFoundException("Project not found");
+        }
     }
 
     private void requireProjectMember(Long userId, Long projectId) {
@@ -134,12 +216,15 @@ public class ColumnService {
         }
     }
 
-    private ColumnResponse toResponse(BoardColumn c) {
+    private ColumnResponse toResponse(BoardColumn c, Map<IssueStatus, Integer> statusCounts) {
         ColumnResponse r = new ColumnResponse();
         r.setId(c.getId());
         r.setBoardId(c.getBoard().getId());
         r.setName(c.getName());
         r.setOrderIndex(c.getOrderIndex());
+        r.setIssueCount(c.getIssueCount());
+        r.setWipLimit(c.getWipLimit());
+        r.setStatusCounts(statusCounts);
         r.setCreatedAt(c.getCreatedAt());
         r.setUpdatedAt(c.getUpdatedAt());
         return r;
@@ -13,6 +13,7 @@ import com.sj.Workly.exception.UnauthorizedException;
 import com.sj.Workly.repository.CommentRepository;
 import com.sj.Workly.repository.IssueRepository;
 import com.sj.Workly.repository.ProjectMemberRepository;
+import com.sj.Workly.repository.projection.CommentView;
 import com.sj.Workly.service.outbox.OutboxWriter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,17 +28,20 @@ public class CommentService {
     private final CommentRepository commentRepo;
     private final IssueRepository issueRepo;
     private final ProjectMemberRepository projectMemberRepo;
+    private final ChangeVersionService changeVersions;
     private final OutboxWriter outboxWriter;
     private final ObjectMapper objectMapper;
 
     public CommentService(CommentRepository commentRepo,
                           IssueRepository issueRepo,
                           ProjectMemberRepository projectMemberRepo,
+                          ChangeVersionService changeVersions,
                           OutboxWriter outboxWriter,
                           ObjectMapper objectMapper) {
         this.commentRepo = commentRepo;
         this.issueRepo = issueRepo;
         this.projectMemberRepo = projectMemberRepo;
+        this.changeVersions = changeVersions;
         this.outboxWriter = outboxWriter;
         this.objectMapper = objectMapper;
     }
@@ -46,10 +50,11 @@ public class CommentService {
     public List<CommentResponse> listByIssue(User actor, Long orgId, Long projectId, Long issueId) {
         requireProjectMember(actor.getId(), projectId);
 
-        Issue issue = issueRepo.findByIdAndProjectId(issueId, projectId)
-                .orElseThrow(() -> new NotFoundException("Issue not found"));
+        if (!issueRepo.existsByIdAndProjectId(issueId, projectId)) {
+            throw new NotFoundException("Issue not found");
+        }
 
-        return commentRepo.findByIssueIdOrderByCreatedAtAsc(issue.getId())
+        return commentRepo.findViewsByIssueId(issueId)
                 .stream()
                 .map(this::toResponse)
                 .toList();
@@ -83,6 +88,7 @@ public class CommentService {
         comment.setBody(req.getBody().trim());
 
         comment = commentRepo.save(comment);
+        changeVersions.projectChanged(projectId);
 
         publishCommentAddedEvent(comment, issue);
 
@@ -104,6 +110,7 @@ public class CommentService {
             throw new UnauthorizedException("Only the comment author can delete this comment");
         }
         commentRepo.delete(comment);
+        changeVersions.projectChanged(projectId);
     }
 
     private void publishCommentAddedEvent(Comment comment, Issue issue) {
@@ -162,4 +169,15 @@ public class CommentService {
         r.setCreatedAt(c.getCreatedAt());
         return r;
     }
+
+    private CommentResponse toResponse(CommentView c) {
+        CommentResponse r = new CommentResponse();
+        r.setId(c.id());
+        r.setIssueId(c.issueId());
+        r.setAuthorId(c.authorId());
+        r.setAuthorName(c.authorName() != null ? c.authorName() : c.authorEmail());
+        r.setBody(c.body());
+        r.setCreatedAt(c.createdAt());
+        return r;
+    }
 }
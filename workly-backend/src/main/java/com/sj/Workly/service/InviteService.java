@@ -19,6 +19,8 @@ import com.sj.Workly.repository.InviteRepository;
 import com.sj.Workly.repository.OrgMemberRepository;
 import com.sj.Workly.repository.OrganizationRepository;
 import com.sj.Workly.service.outbox.OutboxWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,9 +35,12 @@ import java.util.UUID;
 @Service
 public class InviteService {
 
+    private static final Logger logger = LoggerFactory.getLogger(InviteService.class);
+
     private final OrganizationRepository orgRepo;
     private final OrgMemberRepository memberRepo;
     private final InviteRepository inviteRepo;
+    private final ChangeVersionService changeVersions;
     private final OutboxWriter outboxWriter;
     private final ObjectMapper objectMapper;
 
@@ -45,6 +50,7 @@ public class InviteService {
             OrganizationRepository orgRepo,
             OrgMemberRepository memberRepo,
             InviteRepository inviteRepo,
+            ChangeVersionService changeVersions,
             OutboxWriter outboxWriter,
             ObjectMapper objectMapper,
             @Value("${app.invite.days:7}") int inviteDays
@@ -52,6 +58,7 @@ public class InviteService {
         this.orgRepo = orgRepo;
         this.memberRepo = memberRepo;
         this.inviteRepo = inviteRepo;
+        this.changeVersions = changeVersions;
         this.outboxWriter = outboxWriter;
         this.objectMapper = objectMapper;
         this.inviteDays = inviteDays;
@@ -146,10 +153,13 @@ public class InviteService {
         m.setOrg(invite.getOrg());
         m.setUser(actor);
         m.setRole(invite.getInvitedRole() == null ? Role.MEMBER : invite.getInvitedRole());
-        memberRepo.save(m);
+        m = memberRepo.save(m);
+        changeVersions.orgChanged(orgId);
 
         invite.setStatus(InviteStatus.ACCEPTED);
         inviteRepo.save(invite);
+
+        publishInviteAcceptedEvent(invite, m, actor);
     }
 
     @Transactional
@@ -220,6 +230,31 @@ public class InviteService {
         return r;
     }
 
+    private void publishInviteAcceptedEvent(Invite invite, OrgMember member, User actor) {
+        try {
+            Long orgId = invite.getOrg().getId();
+
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("org_id", orgId);
+            payload.put("invite_id", invite.getId());
+            payload.put("user_id", actor.getId());
+            payload.put("user_name", actor.getName());
+            payload.put("user_email", actor.getEmail());
+            payload.put("role", member.getRole().name());
+
+            outboxWriter.enqueueOrgEvent(
+                    OrgEventType.ORG_INVITE_ACCEPTED,
+                    OutboxWriter.longToUuid(orgId),
+                    AggregateType.ORG_MEMBERSHIP,
+                    OutboxWriter.longToUuid(member.getId()),
+                    String.valueOf(orgId),
+                    objectMapper.writeValueAsString(payload)
+            );
+        } catch (Exception e) {
+            logger.error("Failed to enqueue outbox event for accepted invite {}: {}", invite.getId(), e.getMessage());
+        }
+    }
+
     private void publishOrgMemberInvitedEvent(Invite invite, Organization org, User actor) {
         try {
             // Create JSON payload
@@ -252,8 +287,7 @@ public class InviteService {
         } catch (Exception e) {
             // Log error but don't fail the transaction
             // The outbox pattern ensures eventual consistency
-            // In production, you might want to use a logger here
-            System.err.println("Failed to enqueue outbox event for invite: " + e.getMessage());
+            logger.error("Failed to enqueue outbox event for invite {}: {}", invite.getId(), e.getMessage());
         }
     }
 }
@@ -0,0 +1,159 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.dto.issue.IssueActivityPageResponse;
+import com.sj.Workly.dto.issue.IssueActivityResponse;
+import com.sj.Workly.entity.Issue;
+import com.sj.Workly.entity.IssueEvent;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.IssueField;
+import com.sj.Workly.exception.NotFoundException;
+import com.sj.Workly.exception.UnauthorizedException;
+import com.sj.Workly.repository.IssueEventRepository;
+import com.sj.Workly.repository.IssueRepository;
+import com.sj.Workly.repository.ProjectMemberRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Issue history (issue_events). Callers take a {@link Snapshot} of the loaded issue before changing it and
+ * pass it to {@link #diff} afterwards, so recording costs no extra reads; {@link #append} writes all rows of
+ * a request as one JDBC batch in the caller's transaction.
+ */
+@Service
+public class IssueActivityService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final String INSERT_EVENT = """
+            insert into issue_events (issue_id, actor_user_id, field, old_value, new_value, created_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final IssueEventRepository eventRepo;
+    private final IssueRepository issueRepo;
+    private final ProjectMemberRepository projectMemberRepo;
+    private final JdbcTemplate jdbc;
+
+    public IssueActivityService(IssueEventRepository eventRepo,
+                                IssueRepository issueRepo,
+                                ProjectMemberRepository projectMemberRepo,
+                                JdbcTemplate jdbc) {
+        this.eventRepo = eventRepo;
+        this.issueRepo = issueRepo;
+        this.projectMemberRepo = projectMemberRepo;
+        this.jdbc = jdbc;
+    }
+
+    /** Tracked fields of an issue at one point in time. Reads ids only, so lazy associations stay unloaded. */
+    public record Snapshot(Long columnId, String status, Long assigneeId, String priority, Integer rank) {
+        public static Snapshot of(Issue i) {
+            return new Snapshot(
+                    i.getColumn().getId(),
+                    i.getStatus() == null ? null : i.getStatus().name(),
+                    i.getAssignee() == null ? null : i.getAssignee().getId(),
+                    i.getPriority() == null ? null : i.getPriority().name(),
+                    i.getOrderIndex());
+        }
+    }
+
+    public record Change(IssueField field, String from, String to) {}
+
+    public List<Change> diff(Snapshot before, Issue issue) {
+        Snapshot after = Snapshot.of(issue);
+        List<Change> changes = new ArrayList<>(2);
+        add(changes, IssueField.STATUS, before.status(), after.status());
+        add(changes, IssueField.COLUMN, before.columnId(), after.columnId());
+        add(changes, IssueField.ASSIGNEE, before.assigneeId(), after.assigneeId());
+        add(changes, IssueField.PRIORITY, before.priority(), after.priority());
+        add(changes, IssueField.RANK, before.rank(), after.rank());
+        return changes;
+    }
+
+    /** Inserts the changes of any number of issues in one batch. Must run inside the writing transaction. */
+    public void append(Long actorId, Map<Long, List<Change>> changesByIssue) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>();
+        changesByIssue.forEach((issueId, changes) -> {
+            for (Change c : changes) {
+                rows.add(new Object[] { issueId, actorId, c.field().getCode(), c.from(), c.to(), now });
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbc.batchUpdate(INSERT_EVENT, rows);
+        }
+    }
+
+    public void append(Long actorId, Long issueId, List<Change> changes) {
+        if (!changes.isEmpty()) append(actorId, Map.of(issueId, changes));
+    }
+
+    /** Newest first. Pass nextCursor back as {@code before} for the next page. */
+    @Transactional(readOnly = true)
+    public IssueActivityPageResponse list(User actor, Long projectId, Long issueId, Long before, int size) {
+        requireProjectMember(actor.getId(), projectId);
+        if (!issueRepo.existsByIdAndProjectId(issueId, projectId)) {
+            throw new NotFoundException("Issue not found");
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // One extra row tells whether there is a next page
+        List<IssueEvent> events = before == null
+                ? eventRepo.findByIssueIdOrderByIdDesc(issueId, Limit.of(limit + 1))
+                : eventRepo.findByIssueIdAndIdLessThanOrderByIdDesc(issueId, before, Limit.of(limit + 1));
+
+        boolean hasMore = events.size() > limit;
+        List<IssueEvent> page = hasMore ? events.subList(0, limit) : events;
+
+        IssueActivityPageResponse r = new IssueActivityPageResponse();
+        r.setItems(page.stream().map(this::toResponse).toList());
+        r.setNextCursor(hasMore ? page.get(page.size() - 1).getId() : null);
+        return r;
+    }
+
+    /** Outbox payload form of a diff: [{field, from, to}, ...]. */
+    public static List<Map<String, String>> toPayload(Collection<Change> changes) {
+        List<Map<String, String>> list = new ArrayList<>(changes.size());
+        for (Change c : changes) {
+            Map<String, String> m = new LinkedHashMap<>();
+            m.put("field", c.field().name());
+            m.put("from", c.from());
+            m.put("to", c.to());
+            list.add(m);
+        }
+        return list;
+    }
+
+    private static void add(List<Change> changes, IssueField field, Object from, Object to) {
+        if (!Objects.equals(from, to)) {
+            changes.add(new Change(field, from == null ? null : from.toString(), to == null ? null : to.toString()));
+        }
+    }
+
+    private void requireProjectMember(Long userId, Long projectId) {
+        if (!projectMemberRepo.existsByProjectIdAndUserId(projectId, userId)) {
+            throw new UnauthorizedException("Not a project member");
+        }
+    }
+
+    private IssueActivityResponse toResponse(IssueEvent e) {
+        IssueActivityResponse r = new IssueActivityResponse();
+        r.setId(e.getId());
+        r.setActorId(e.getActorUserId());
+        r.setField(IssueField.fromCode(e.getField()));
+        r.setFrom(e.getOldValue());
+        r.setTo(e.getNewValue());
+        r.setCreatedAt(e.getCreatedAt());
+        return r;
+    }
+}
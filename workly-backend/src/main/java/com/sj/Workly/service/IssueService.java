@@ -1,58 +1,117 @@
 package com.sj.Workly.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sj.Workly.dto.issue.*;
 import com.sj.Workly.entity.BoardColumn;
 import com.sj.Workly.entity.Issue;
 import com.sj.Workly.entity.Project;
 import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.AggregateType;
+import com.sj.Workly.entity.enums.IssuePriority;
 import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.entity.enums.OrgEventType;
+import com.sj.Workly.exception.BadRequestException;
 import com.sj.Workly.exception.NotFoundException;
 import com.sj.Workly.exception.UnauthorizedException;
 import com.sj.Workly.repository.ColumnRepository;
 import com.sj.Workly.repository.IssueRepository;
+import com.sj.Workly.repository.IssueSpecifications;
 import com.sj.Workly.repository.ProjectMemberRepository;
 import com.sj.Workly.repository.ProjectRepository;
 import com.sj.Workly.repository.UserRepository;
+import com.sj.Workly.repository.projection.IssueSearchHit;
+import com.sj.Workly.repository.projection.IssueView;
+import com.sj.Workly.service.analytics.IssueAnalyticsService;
+import com.sj.Workly.service.outbox.OutboxWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class IssueService {
 
+    private static final Logger logger = LoggerFactory.getLogger(IssueService.class);
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final int MAX_FILTER_PAGE_SIZE = 100;
+
     private final IssueRepository issueRepo;
     private final ProjectRepository projectRepo;
     private final ProjectMemberRepository projectMemberRepo;
     private final ColumnRepository columnRepo;
     private final UserRepository userRepo;
+    private final IssueActivityService activityService;
+    private final IssueAnalyticsService analyticsService;
+    private final ColumnCountService columnCounts;
+    private final ReferenceDataService references;
+    private final ChangeVersionService changeVersions;
+    private final OutboxWriter outboxWriter;
+    private final ObjectMapper objectMapper;
+    private final StreamingJsonWriter streamingJson;
 
     public IssueService(IssueRepository issueRepo,
                         ProjectRepository projectRepo,
                         ProjectMemberRepository projectMemberRepo,
                         ColumnRepository columnRepo,
-                        UserRepository userRepo) {
+                        UserRepository userRepo,
+                        IssueActivityService activityService,
+                        IssueAnalyticsService analyticsService,
+                        ColumnCountService columnCounts,
+                        ReferenceDataService references,
+                        ChangeVersionService changeVersions,
+                        OutboxWriter outboxWriter,
+                        ObjectMapper objectMapper,
+                        StreamingJsonWriter streamingJson) {
         this.issueRepo = issueRepo;
         this.projectRepo = projectRepo;
         this.projectMemberRepo = projectMemberRepo;
         this.columnRepo = columnRepo;
         this.userRepo = userRepo;
+        this.activityService = activityService;
+        this.analyticsService = analyticsService;
+        this.columnCounts = columnCounts;
+        this.references = references;
+        this.changeVersions = changeVersions;
+        this.outboxWriter = outboxWriter;
+        this.objectMapper = objectMapper;
+        this.streamingJson = streamingJson;
     }
 
     @Transactional
     public IssueResponse create(User actor, Long orgId, Long projectId, CreateIssueRequest req) {
         requireProjectMember(actor.getId(), projectId);
 
-        Project project = projectRepo.findByIdAndOrgId(projectId, orgId)
-                .orElseThrow(() -> new NotFoundException("Project not found"));
+        Project project = requireProject(orgId, projectId);
 
-        // Get column and verify it belongs to this project's board
-        BoardColumn column = columnRepo.findById(req.getColumnId())
-                .orElseThrow(() -> new NotFoundException("Column not found"));
-        
-        if (!column.getBoard().getProject().getId().equals(projectId)) {
-            throw new NotFoundException("Column does not belong to this project");
-        }
+        // Verify the column belongs to this project's board
+        BoardColumn column = requireColumn(projectId, req.getColumnId());
 
         // Get max orderIndex in the column and add 1
         Integer maxOrder = issueRepo.findMaxOrderIndex(column.getId());
@@ -76,32 +135,99 @@ public class IssueService {
             issue.setAssignee(assignee);
         }
 
+        applyCounts(projectId, columnCounts.changes().added(column.getId(), issue.getStatus()));
+        IssueAnalyticsService.Recorder analytics = analyticsService.recorder(projectId);
+        analytics.created(issue);
+
         issue = issueRepo.save(issue);
+        analytics.flush();
+        changeVersions.projectChanged(projectId);
+        publishIssueEvent(OrgEventType.ISSUE_CREATED, issue, actor, List.of());
         return toResponse(issue);
     }
 
+    /** Checks access for {@link #writeList} before the response starts; the rows are written later on an async thread. */
     @Transactional(readOnly = true)
-    public List<IssueResponse> list(User actor, Long projectId, Long columnId, IssueStatus status) {
+    public void authorizeList(User actor, Long projectId, Long columnId) {
         requireProjectMember(actor.getId(), projectId);
-
         if (columnId != null) {
             // Verify column belongs to this project
-            BoardColumn column = columnRepo.findById(columnId)
-                    .orElseThrow(() -> new NotFoundException("Column not found"));
-            if (!column.getBoard().getProject().getId().equals(projectId)) {
-                throw new NotFoundException("Column does not belong to this project");
-            }
-            return issueRepo.findByColumnIdOrderByOrderIndexAsc(columnId)
-                    .stream().map(this::toResponse).toList();
+            requireColumn(projectId, columnId);
         }
+    }
 
+    /** Writes the project's issues (or one column's, or one status's) to {@code out} as a JSON array. */
+    public void writeList(Long projectId, Long columnId, IssueStatus status, OutputStream out) throws IOException {
+        streamingJson.writeArray(out,
+                (IssueView after, Limit limit) -> listPage(projectId, columnId, status, after, limit),
+                IssueService::toResponse);
+    }
+
+    private List<IssueView> listPage(Long projectId, Long columnId, IssueStatus status, IssueView after, Limit limit) {
+        if (columnId != null) {
+            return after == null
+                    ? issueRepo.findViewsByColumnId(columnId, limit)
+                    : issueRepo.findViewsByColumnIdAfter(columnId, after.orderIndex(), after.id(), limit);
+        }
         if (status != null) {
-            return issueRepo.findByProjectIdAndStatusOrderByCreatedAtDesc(projectId, status)
-                    .stream().map(this::toResponse).toList();
+            return after == null
+                    ? issueRepo.findViewsByProjectIdAndStatus(projectId, status, limit)
+                    : issueRepo.findViewsByProjectIdAndStatusAfter(projectId, status, after.createdAt(), after.id(), limit);
+        }
+        return after == null
+                ? issueRepo.findViewsByProjectId(projectId, limit)
+                : issueRepo.findViewsByProjectIdAfter(projectId, after.createdAt(), after.id(), limit);
+    }
+
+    /**
+     * Structured filter evaluated as one query, with keyset pagination on (sort field, id):
+     * each page continues after the last row of the previous one, so deep pages cost the same as the first.
+     */
+    @Transactional(readOnly = true)
+    public IssuePageResponse filter(User actor, Long projectId, IssueFilterRequest filter, String cursor, int size) {
+        requireProjectMember(actor.getId(), projectId);
+
+        String sortProperty = filter.getSort() == IssueFilterRequest.SortField.UPDATED_AT ? "updatedAt" : "createdAt";
+        Sort.Direction direction = filter.getDirection() == IssueFilterRequest.SortDirection.ASC
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortProperty, "id");
+        int limit = Math.min(Math.max(size, 1), MAX_FILTER_PAGE_SIZE);
+        ScrollPosition position = decodeCursor(cursor, sortProperty);
+
+        Window<Issue> window = issueRepo.findBy(IssueSpecifications.matching(projectId, filter),
+                q -> q.sortBy(sort).limit(limit).scroll(position));
+
+        IssuePageResponse r = new IssuePageResponse();
+        r.setItems(window.getContent().stream().map(this::toResponse).toList());
+        r.setNextCursor(window.hasNext() && !window.isEmpty()
+                ? encodeCursor((KeysetScrollPosition) window.positionAt(window.size() - 1), sortProperty)
+                : null);
+        return r;
+    }
+
+    /**
+     * Ranked full-text search over title, description and comment bodies of a project's issues.
+     * Blank queries return an empty page rather than every issue.
+     */
+    @Transactional(readOnly = true)
+    public Page<IssueSearchResult> search(User actor, Long projectId, String query, int page, int size) {
+        requireProjectMember(actor.getId(), projectId);
+
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE));
+        if (query == null || query.isBlank()) {
+            return Page.empty(pageable);
         }
 
-        return issueRepo.findByProjectIdOrderByCreatedAtDesc(projectId)
-                .stream().map(this::toResponse).toList();
+        String q = query.trim();
+        List<IssueSearchResult> hits = issueRepo.search(projectId, q, pageable.getPageSize(), pageable.getOffset())
+                .stream()
+                .map(h -> toSearchResult(projectId, h))
+                .toList();
+        long total = hits.size() < pageable.getPageSize() && pageable.getOffset() == 0
+                ? hits.size()
+                : issueRepo.countSearch(projectId, q);
+        return new PageImpl<>(hits, pageable, total);
     }
 
     @Transactional(readOnly = true)
@@ -120,6 +246,8 @@ public class IssueService {
 
         Issue issue = issueRepo.findByIdAndProjectId(issueId, projectId)
                 .orElseThrow(() -> new NotFoundException("Issue not found"));
+        IssueActivityService.Snapshot before = IssueActivityService.Snapshot.of(issue);
+        IssueAnalyticsService.Recorder analytics = analyticsService.recorder(projectId);
 
         if (req.getTitle() != null && !req.getTitle().trim().isEmpty()) {
             issue.setTitle(req.getTitle().trim());
@@ -134,16 +262,13 @@ public class IssueService {
         }
 
         if (req.getStatus() != null) {
+            IssueStatus previous = issue.getStatus();
             issue.setStatus(req.getStatus());
+            analytics.statusChanged(issue, previous);
         }
 
         if (req.getColumnId() != null) {
-            BoardColumn column = columnRepo.findById(req.getColumnId())
-                    .orElseThrow(() -> new NotFoundException("Column not found"));
-            if (!column.getBoard().getProject().getId().equals(projectId)) {
-                throw new NotFoundException("Column does not belong to this project");
-            }
-            issue.setColumn(column);
+            issue.setColumn(requireColumn(projectId, req.getColumnId()));
         }
 
         if (req.getAssigneeId() != null) {
@@ -154,10 +279,144 @@ public class IssueService {
             issue.setAssignee(assignee);
         }
 
+        applyCounts(projectId, columnCounts.changes()
+                .moved(before.columnId(), IssueStatus.valueOf(before.status()), issue.getColumn().getId(), issue.getStatus()));
+        analytics.flush();
+
         issue = issueRepo.save(issue);
+        List<IssueActivityService.Change> changes = activityService.diff(before, issue);
+        activityService.append(actor.getId(), issue.getId(), changes);
+        changeVersions.projectChanged(projectId);
+        publishIssueEvent(OrgEventType.ISSUE_UPDATED, issue, actor, changes);
         return toResponse(issue);
     }
 
+    /**
+     * Applies many patches in one transaction (triage). Issues, target columns and assignees are each
+     * loaded/validated with one query per request, not per item; the changed rows are flushed as
+     * batched UPDATEs (hibernate.jdbc.batch_size). Invalid items are reported and skipped, the rest apply.
+     * Issues moved to another column are appended at its bottom, in request order. A move that would exceed
+     * a column's WIP limit fails the whole request (409), since the limit is checked once per column.
+     */
+    @Transactional
+    public BulkIssueUpdateResponse bulkUpdate(User actor, Long projectId, BulkIssueUpdateRequest req) {
+        requireProjectMember(actor.getId(), projectId);
+        List<BulkIssuePatch> items = req.getItems();
+
+        Set<Long> issueIds = distinct(items, BulkIssuePatch::getIssueId);
+        Set<Long> columnIds = distinct(items, BulkIssuePatch::getColumnId);
+        Set<Long> assigneeIds = distinct(items, BulkIssuePatch::getAssigneeId);
+
+        Map<Long, Issue> issues = issueRepo.findAllByIdInAndProjectId(issueIds, projectId).stream()
+                .collect(Collectors.toMap(Issue::getId, Function.identity()));
+        Map<Long, BoardColumn> columns = new HashMap<>();
+        ReferenceDataService.BoardRef board = columnIds.isEmpty() ? null : references.board(projectId);
+        for (Long columnId : columnIds) {
+            if (board != null && board.column(columnId) != null) {
+                columns.put(columnId, columnRepo.getReferenceById(columnId));
+            }
+        }
+        Set<Long> members = assigneeIds.isEmpty()
+                ? Set.of()
+                : Set.copyOf(projectMemberRepo.findMemberUserIds(projectId, assigneeIds));
+
+        // Read before any issue is changed: a query after that flushes the changes, locking issue rows ahead of
+        // the column counters (see ColumnCountService)
+        Map<Long, Integer> nextOrderByColumn = new HashMap<>();
+        for (Long columnId : columns.keySet()) {
+            Integer max = issueRepo.findMaxOrderIndex(columnId);
+            nextOrderByColumn.put(columnId, (max == null ? 0 : max) + 1);
+        }
+        Map<Long, IssueActivityService.Snapshot> before = new HashMap<>();
+        IssueAnalyticsService.Recorder analytics = analyticsService.recorder(projectId);
+        Set<Issue> changed = new LinkedHashSet<>();
+        List<BulkIssueResult> results = new ArrayList<>(items.size());
+        List<Issue> resultIssues = new ArrayList<>(items.size());
+
+        for (BulkIssuePatch patch : items) {
+            BulkIssueResult result = new BulkIssueResult();
+            result.setIssueId(patch.getIssueId());
+            results.add(result);
+            resultIssues.add(null);
+
+            Issue issue = issues.get(patch.getIssueId());
+            if (issue == null) {
+                reject(result, BulkIssueResult.Outcome.NOT_FOUND, "Issue not found");
+                continue;
+            }
+            if (patch.getColumnId() != null && !columns.containsKey(patch.getColumnId())) {
+                reject(result, BulkIssueResult.Outcome.REJECTED, "Column does not belong to this project");
+                continue;
+            }
+            if (patch.getAssigneeId() != null && !members.contains(patch.getAssigneeId())) {
+                reject(result, BulkIssueResult.Outcome.REJECTED, "Assignee is not a project member");
+                continue;
+            }
+            before.putIfAbsent(issue.getId(), IssueActivityService.Snapshot.of(issue));
+
+            if (patch.getTitle() != null && !patch.getTitle().trim().isEmpty()) {
+                issue.setTitle(patch.getTitle().trim());
+            }
+            if (patch.getDescription() != null) {
+                issue.setDescription(patch.getDescription());
+            }
+            if (patch.getPriority() != null) {
+                issue.setPriority(patch.getPriority());
+            }
+            if (patch.getStatus() != null) {
+                IssueStatus previous = issue.getStatus();
+                issue.setStatus(patch.getStatus());
+                analytics.statusChanged(issue, previous);
+            }
+            if (patch.getColumnId() != null && !patch.getColumnId().equals(issue.getColumn().getId())) {
+                int order = nextOrderByColumn.merge(patch.getColumnId(), 1, Integer::sum) - 1;
+                issue.setColumn(columns.get(patch.getColumnId()));
+                issue.setOrderIndex(order);
+            }
+            if (patch.getAssigneeId() != null) {
+                issue.setAssignee(userRepo.getReferenceById(patch.getAssigneeId())); // membership checked above
+            }
+
+            changed.add(issue);
+            result.setOutcome(BulkIssueResult.Outcome.UPDATED);
+            resultIssues.set(resultIssues.size() - 1, issue);
+        }
+
+        ColumnCountService.Changes counts = columnCounts.changes();
+        for (Issue issue : changed) {
+            IssueActivityService.Snapshot was = before.get(issue.getId());
+            counts.moved(was.columnId(), IssueStatus.valueOf(was.status()), issue.getColumn().getId(), issue.getStatus());
+        }
+        applyCounts(projectId, counts);
+
+        // Flush now so @PreUpdate timestamps are in the responses
+        issueRepo.saveAllAndFlush(changed);
+        analytics.flush();
+        Map<Long, List<IssueActivityService.Change>> changes = new LinkedHashMap<>();
+        for (Issue issue : changed) {
+            changes.put(issue.getId(), activityService.diff(before.get(issue.getId()), issue));
+        }
+        activityService.append(actor.getId(), changes);
+        if (!changed.isEmpty()) {
+            changeVersions.projectChanged(projectId);
+        }
+        publishIssueEvents(OrgEventType.ISSUE_UPDATED, changed, actor, changes);
+
+        int updated = 0;
+        for (int i = 0; i < results.size(); i++) {
+            if (resultIssues.get(i) != null) {
+                results.get(i).setIssue(toResponse(resultIssues.get(i)));
+                updated++;
+            }
+        }
+
+        BulkIssueUpdateResponse r = new BulkIssueUpdateResponse();
+        r.setUpdated(updated);
+        r.setFailed(results.size() - updated);
+        r.setResults(results);
+        return r;
+    }
+
     /**
      * Move an issue to another column (board) and/or change its position within the column.
      * Used when dragging an issue in the Kanban UI.
@@ -174,27 +433,38 @@ public class IssueService {
 
         Issue issue = issueRepo.findByIdAndProjectId(issueId, projectId)
                 .orElseThrow(() -> new NotFoundException("Issue not found"));
+        IssueActivityService.Snapshot before = IssueActivityService.Snapshot.of(issue);
 
         // Get target column and verify it belongs to this project
-        BoardColumn targetColumn = columnRepo.findById(req.getColumnId())
-                .orElseThrow(() -> new NotFoundException("Column not found"));
-        if (!targetColumn.getBoard().getProject().getId().equals(projectId)) {
-            throw new NotFoundException("Column does not belong to this project");
-        }
+        BoardColumn targetColumn = requireColumn(projectId, req.getColumnId());
+        // Before the issue is changed: the lookups would flush it, locking its row ahead of the column counters
+        Integer newOrderIndex = computeNewOrderIndex(req.getColumnId(), req.getBeforeIssueId(), req.getAfterIssueId());
+        IssueAnalyticsService.Recorder analytics = analyticsService.recorder(projectId);
 
         // 1) status (optional; e.g. frontend can send status matching target column)
         if (req.getStatus() != null) {
+            IssueStatus previous = issue.getStatus();
             issue.setStatus(req.getStatus());
+            analytics.statusChanged(issue, previous);
         }
 
         // 2) column = which board/column the issue now lives in
         issue.setColumn(targetColumn);
 
         // 3) orderIndex = position within that column (for drag order)
-        Integer newOrderIndex = computeNewOrderIndex(req.getColumnId(), req.getBeforeIssueId(), req.getAfterIssueId());
         issue.setOrderIndex(newOrderIndex);
 
+        applyCounts(projectId, columnCounts.changes()
+                .moved(before.columnId(), IssueStatus.valueOf(before.status()), targetColumn.getId(), issue.getStatus()));
+        analytics.flush();
+
         issue = issueRepo.save(issue);
+        List<IssueActivityService.Change> changes = activityService.diff(before, issue);
+        activityService.append(actor.getId(), issue.getId(), changes);
+        changeVersions.projectChanged(projectId); // also when only the position changed
+        if (!changes.isEmpty()) {
+            publishIssueEvent(OrgEventType.ISSUE_UPDATED, issue, actor, changes);
+        }
         return toResponse(issue);
     }
 
@@ -221,29 +491,155 @@ public class IssueService {
             }
         }
 
+        if (before == null && after == null) {
+            // No neighbors given -> put at bottom of target column
+            Integer max = issueRepo.findMaxOrderIndex(columnId);
+            if (max == null) max = 0;
+            return max + 1;
+        }
+        return orderIndexBetween(before == null ? null : before.getOrderIndex(),
+                after == null ? null : after.getOrderIndex());
+    }
+
+    /** The arithmetic part of computeNewOrderIndex, for one or both neighbours; no lookups. */
+    static int orderIndexBetween(Integer beforeIndex, Integer afterIndex) {
         // Place between before and after
-        if (before != null && after != null) {
-            int a = before.getOrderIndex();
-            int b = after.getOrderIndex();
+        if (beforeIndex != null && afterIndex != null) {
             // If they're consecutive, we need to reorder all issues in between
             // For simplicity, use average (may need adjustment later)
-            return (a + b) / 2;
+            return (beforeIndex + afterIndex) / 2;
         }
 
         // Place after "before" (towards bottom)
-        if (before != null) {
-            return before.getOrderIndex() + 1;
+        if (beforeIndex != null) {
+            return beforeIndex + 1;
         }
 
         // Place before "after" (towards top)
-        if (after != null) {
-            return Math.max(0, after.getOrderIndex() - 1);
+        return Math.max(0, afterIndex - 1);
+    }
+
+    private void publishIssueEvent(OrgEventType eventType, Issue issue, User actor,
+                                   List<IssueActivityService.Change> changes) {
+        try {
+            OutboxWriter.OrgEventDraft e = issueEvent(eventType, issue, actor, changes);
+            outboxWriter.enqueueOrgEvent(e.eventType(), e.orgId(), e.aggregateType(), e.aggregateId(),
+                    e.partitionKey(), e.payloadJson());
+        } catch (Exception e) {
+            logger.error("Failed to enqueue outbox event for issue {}: {}", issue.getId(), e.getMessage());
+        }
+    }
+
+    private void publishIssueEvents(OrgEventType eventType, Collection<Issue> issues, User actor,
+                                    Map<Long, List<IssueActivityService.Change>> changes) {
+        try {
+            List<OutboxWriter.OrgEventDraft> events = new ArrayList<>(issues.size());
+            for (Issue issue : issues) {
+                events.add(issueEvent(eventType, issue, actor, changes.getOrDefault(issue.getId(), List.of())));
+            }
+            outboxWriter.enqueueOrgEvents(events);
+        } catch (Exception e) {
+            logger.error("Failed to enqueue outbox events for {} issues: {}", issues.size(), e.getMessage());
+        }
+    }
+
+    private OutboxWriter.OrgEventDraft issueEvent(OrgEventType eventType, Issue issue, User actor,
+                                                  List<IssueActivityService.Change> changes) throws JsonProcessingException {
+        Long orgId = requireProjectRef(issue.getProject().getId()).orgId();
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("org_id", orgId);
+        payload.put("project_id", issue.getProject().getId());
+        payload.put("issue_id", issue.getId());
+        payload.put("issue_title", issue.getTitle());
+        payload.put("actor_id", actor.getId());
+        if (!changes.isEmpty()) {
+            payload.put("changes", IssueActivityService.toPayload(changes));
+        }
+
+        return new OutboxWriter.OrgEventDraft(
+                eventType,
+                OutboxWriter.longToUuid(orgId),
+                AggregateType.ISSUE,
+                OutboxWriter.longToUuid(issue.getId()),
+                String.valueOf(issue.getId()),
+                objectMapper.writeValueAsString(payload)
+        );
+    }
+
+    // Cursor: base64url("<sortProperty>|<instant>|<id>"), opaque to clients
+    private String encodeCursor(KeysetScrollPosition position, String sortProperty) {
+        Map<String, ?> keys = position.getKeys();
+        String raw = sortProperty + "|" + keys.get(sortProperty) + "|" + keys.get("id");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ScrollPosition decodeCursor(String cursor, String sortProperty) {
+        if (cursor == null || cursor.isBlank()) return ScrollPosition.keyset();
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !parts[0].equals(sortProperty)) {
+                throw new BadRequestException("Cursor does not match the requested sort");
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(sortProperty, Instant.parse(parts[1]));
+            keys.put("id", Long.parseLong(parts[2]));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    private static Set<Long> distinct(List<BulkIssuePatch> items, Function<BulkIssuePatch, Long> id) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (BulkIssuePatch item : items) {
+            Long value = id.apply(item);
+            if (value != null) ids.add(value);
+        }
+        return ids;
+    }
+
+    private static void reject(BulkIssueResult result, BulkIssueResult.Outcome outcome, String message) {
+        result.setOutcome(outcome);
+        result.setMessage(message);
+    }
+
+    /** Checked against the cached project; returns a reference, so no SELECT. */
+    private Project requireProject(Long orgId, Long projectId) {
+        if (!requireProjectRef(projectId).orgId().equals(orgId)) {
+            throw new NotFoundException("Project not found");
         }
+        return projectRepo.getReferenceById(projectId);
+    }
 
-        // No neighbors given -> put at bottom of target column
-        Integer max = issueRepo.findMaxOrderIndex(columnId);
-        if (max == null) max = 0;
-        return max + 1;
+    private ReferenceDataService.ProjectRef requireProjectRef(Long projectId) {
+        ReferenceDataService.ProjectRef ref = references.project(projectId);
+        if (ref == null) {
+            throw new NotFoundException("Project not found");
+        }
+        return ref;
+    }
+
+    /**
+     * Columns are checked against the cached board, which can still list a column deleted on another instance:
+     * the count update then finds no column. Drops that board so the next request sees the deletion.
+     */
+    private void applyCounts(Long projectId, ColumnCountService.Changes counts) {
+        try {
+            counts.apply();
+        } catch (NotFoundException e) {
+            references.evictBoard(projectId);
+            throw e;
+        }
+    }
+
+    /** Checked against the project's cached board; returns a reference, so no SELECT. */
+    private BoardColumn requireColumn(Long projectId, Long columnId) {
+        ReferenceDataService.BoardRef board = references.board(projectId);
+        if (board == null || board.column(columnId) == null) {
+            throw new NotFoundException("Column not found in this project");
+        }
+        return columnRepo.getReferenceById(columnId);
     }
 
     private void requireProjectMember(Long userId, Long projectId) {
@@ -268,6 +664,44 @@ public class IssueService {
 
         r.setCreatedAt(i.getCreatedAt());
         r.setUpdatedAt(i.getUpdatedAt());
+        r.setStartedAt(i.getStartedAt());
+        r.setResolvedAt(i.getResolvedAt());
+        return r;
+    }
+
+    static IssueResponse toResponse(IssueView v) {
+        IssueResponse r = new IssueResponse();
+        r.setId(v.id());
+        r.setProjectId(v.projectId());
+        r.setColumnId(v.columnId());
+
+        r.setTitle(v.title());
+        r.setDescription(v.description());
+        r.setPriority(v.priority());
+        r.setStatus(v.status());
+
+        r.setReporterId(v.reporterId());
+        r.setAssigneeId(v.assigneeId());
+
+        r.setCreatedAt(v.createdAt());
+        r.setUpdatedAt(v.updatedAt());
+        r.setStartedAt(v.startedAt());
+        r.setResolvedAt(v.resolvedAt());
+        return r;
+    }
+
+    private IssueSearchResult toSearchResult(Long projectId, IssueSearchHit h) {
+        IssueSearchResult r = new IssueSearchResult();
+        r.setId(h.getId());
+        r.setProjectId(projectId);
+        r.setColumnId(h.getColumnId());
+        r.setTitle(h.getTitle());
+        r.setStatus(IssueStatus.valueOf(h.getStatus()));
+        r.setPriority(IssuePriority.valueOf(h.getPriority()));
+        r.setAssigneeId(h.getAssigneeId());
+        r.setRank(h.getRank() == null ? 0f : h.getRank());
+        r.setTitleHighlight(h.getTitleHighlight());
+        r.setSnippet(h.getSnippet());
         return r;
     }
 }
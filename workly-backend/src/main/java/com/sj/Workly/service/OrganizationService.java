@@ -1,31 +1,51 @@
 package com.sj.Workly.service;
 
 import com.sj.Workly.dto.organization.*;
+import com.sj.Workly.dto.purge.PurgeJobResponse;
 import com.sj.Workly.entity.OrgMember;
 import com.sj.Workly.entity.Organization;
 import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.PurgeTargetType;
 import com.sj.Workly.entity.enums.Role;
 import com.sj.Workly.exception.ConflictException;
 import com.sj.Workly.exception.NotFoundException;
 import com.sj.Workly.exception.UnauthorizedException;
 import com.sj.Workly.repository.OrgMemberRepository;
 import com.sj.Workly.repository.OrganizationRepository;
+import com.sj.Workly.repository.ProjectRepository;
+import com.sj.Workly.repository.projection.OrgMemberView;
+import com.sj.Workly.repository.projection.OrgView;
+import com.sj.Workly.service.purge.PurgeService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.text.Normalizer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.util.List;
-import java.util.Locale;
 
 @Service
 public class OrganizationService {
 
     private final OrganizationRepository orgRepo;
     private final OrgMemberRepository memberRepo;
-
-    public OrganizationService(OrganizationRepository orgRepo, OrgMemberRepository memberRepo) {
+    private final ProjectRepository projectRepo;
+    private final PurgeService purgeService;
+    private final ReferenceDataService references;
+    private final StreamingJsonWriter streamingJson;
+
+    public OrganizationService(OrganizationRepository orgRepo,
+                               OrgMemberRepository memberRepo,
+                               ProjectRepository projectRepo,
+                               PurgeService purgeService,
+                               ReferenceDataService references,
+                               StreamingJsonWriter streamingJson) {
         this.orgRepo = orgRepo;
         this.memberRepo = memberRepo;
+        this.projectRepo = projectRepo;
+        this.purgeService = purgeService;
+        this.references = references;
+        this.streamingJson = streamingJson;
     }
 
     @Transactional
@@ -47,35 +67,48 @@ public class OrganizationService {
     @Transactional(readOnly = true)
     public OrganizationResponse get(User actor, Long orgId) {
         requireMember(actor.getId(), orgId);
-        Organization org = orgRepo.findById(orgId)
-                .orElseThrow(() -> new NotFoundException("Organization not found"));
-        return toOrgResponse(org);
+        ReferenceDataService.OrgRef org = references.org(orgId);
+        if (org == null) {
+            throw new NotFoundException("Organization not found");
+        }
+        OrganizationResponse r = new OrganizationResponse();
+        r.setId(org.id());
+        r.setName(org.name());
+        r.setSlug(org.slug());
+        r.setCreatedAt(org.createdAt());
+        return r;
     }
 
     @Transactional(readOnly = true)
     public List<OrganizationResponse> listMyOrgs(User actor) {
         // membership table is the truth
-        return memberRepo.findByUserId(actor.getId()).stream()
-                .map(OrgMember::getOrg)
+        return memberRepo.findOrgViews(actor.getId()).stream()
                 .map(this::toOrgResponse)
                 .toList();
     }
 
+    /** Checks access for {@link #writeMembers} before the response starts. */
     @Transactional(readOnly = true)
-    public List<OrgMemberResponse> listMembers(User actor, Long orgId) {
+    public void authorizeMembers(User actor, Long orgId) {
         requireMember(actor.getId(), orgId);
+    }
+
+    /** Writes the org's members to {@code out} as a JSON array. */
+    public void writeMembers(Long orgId, OutputStream out) throws IOException {
+        streamingJson.writeArray(out,
+                (after, limit) -> memberRepo.findMemberViewsAfter(orgId, after == null ? 0L : after.id(), limit),
+                OrganizationService::toMemberResponse);
+    }
 
-        return memberRepo.findByOrgId(orgId).stream()
-                .map(m -> {
-                    OrgMemberResponse r = new OrgMemberResponse();
-                    r.setId(m.getId());
-                    r.setUserId(m.getUser().getId());
-                    r.setUserName(m.getUser().getName());
-                    r.setUserEmail(m.getUser().getEmail());
-                    r.setRole(m.getRole());
-                    r.setCreatedAt(m.getCreatedAt());
-                    return r;
-                }).toList();
+    static OrgMemberResponse toMemberResponse(OrgMemberView m) {
+        OrgMemberResponse r = new OrgMemberResponse();
+        r.setId(m.id());
+        r.setUserId(m.userId());
+        r.setUserName(m.userName());
+        r.setUserEmail(m.userEmail());
+        r.setRole(m.role());
+        r.setCreatedAt(m.createdAt());
+        return r;
     }
 
     @Transactional
@@ -90,20 +123,32 @@ public class OrganizationService {
         }
 
         org = orgRepo.save(org);
+        references.evictOrg(orgId);
         return toOrgResponse(org);
     }
 
+    /**
+     * Hides the org and all of its projects right away (deleted_at) and queues a purge job that removes
+     * everything under them in the background.
+     */
     @Transactional
-    public void delete(User actor, Long orgId) {
+    public PurgeJobResponse delete(User actor, Long orgId) {
         // MVP: only OWNER can delete
         requireOwner(actor.getId(), orgId);
 
         // prevent deleting org if multiple owners? optional
         // long owners = memberRepo.countByOrgIdAndRole(orgId, OrgMember.Role.OWNER);
 
-        // delete memberships first to avoid FK issues
-        memberRepo.deleteAll(memberRepo.findByOrgId(orgId));
-        orgRepo.deleteById(orgId);
+        Organization org = orgRepo.findById(orgId)
+                .orElseThrow(() -> new NotFoundException("Organization not found"));
+
+        Instant now = Instant.now();
+        org.setDeletedAt(now);
+        orgRepo.save(org);
+        projectRepo.markDeletedByOrgId(orgId, now);
+        references.evictOrg(orgId);
+        references.evictAllProjects();
+        return purgeService.enqueue(actor, PurgeTargetType.ORGANIZATION, orgId);
     }
 
     // ---- access checks ----
@@ -138,10 +183,19 @@ public class OrganizationService {
         return r;
     }
 
+    private OrganizationResponse toOrgResponse(OrgView org) {
+        OrganizationResponse r = new OrganizationResponse();
+        r.setId(org.id());
+        r.setName(org.name());
+        r.setSlug(org.slug());
+        r.setCreatedAt(org.createdAt());
+        return r;
+    }
+
     // ---- slug helpers ----
 
     private String generateUniqueSlug(String name) {
-        String base = slugify(name);
+        String base = SlugUtils.slugify(name, "org");
         String slug = base;
         int i = 2;
         while (orgRepo.existsBySlug(slug)) {
@@ -150,12 +204,4 @@ public class OrganizationService {
         }
         return slug;
     }
-
-    private String slugify(String input) {
-        String s = Normalizer.normalize(input, Normalizer.Form.NFKD);
-        s = s.replaceAll("[^\\p{Alnum}]+", "-");
-        s = s.replaceAll("(^-+|-+$)", "");
-        s = s.toLowerCase(Locale.ROOT);
-        return s.isBlank() ? "org" : s;
-    }
 }
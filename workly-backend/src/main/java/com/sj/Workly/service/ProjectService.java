@@ -1,28 +1,46 @@
 package com.sj.Workly.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sj.Workly.dto.project.*;
+import com.sj.Workly.dto.purge.PurgeJobResponse;
 import com.sj.Workly.entity.*;
+import com.sj.Workly.entity.enums.AggregateType;
+import com.sj.Workly.entity.enums.OrgEventType;
+import com.sj.Workly.entity.enums.PurgeTargetType;
 import com.sj.Workly.entity.enums.Role;
 import com.sj.Workly.exception.ConflictException;
 import com.sj.Workly.exception.NotFoundException;
 import com.sj.Workly.exception.UnauthorizedException;
 import com.sj.Workly.repository.*;
+import com.sj.Workly.repository.projection.ProjectView;
+import com.sj.Workly.service.outbox.OutboxWriter;
+import com.sj.Workly.service.purge.PurgeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.text.Normalizer;
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 
 @Service
 public class ProjectService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ProjectService.class);
+
     private final OrganizationRepository orgRepo;
     private final OrgMemberRepository orgMemberRepo;
     private final UserRepository userRepo;
     private final ProjectRepository projectRepo;
     private final ProjectMemberRepository projectMemberRepo;
     private final BoardService boardService;
+    private final PurgeService purgeService;
+    private final ReferenceDataService references;
+    private final ChangeVersionService changeVersions;
+    private final OutboxWriter outboxWriter;
+    private final ObjectMapper objectMapper;
 
     public ProjectService(
             OrganizationRepository orgRepo,
@@ -30,7 +48,12 @@ public class ProjectService {
             UserRepository userRepo,
             ProjectRepository projectRepo,
             ProjectMemberRepository projectMemberRepo,
-            BoardService boardService
+            BoardService boardService,
+            PurgeService purgeService,
+            ReferenceDataService references,
+            ChangeVersionService changeVersions,
+            OutboxWriter outboxWriter,
+            ObjectMapper objectMapper
     ) {
         this.orgRepo = orgRepo;
         this.orgMemberRepo = orgMemberRepo;
@@ -38,17 +61,23 @@ public class ProjectService {
         this.projectRepo = projectRepo;
         this.projectMemberRepo = projectMemberRepo;
         this.boardService = boardService;
+        this.purgeService = purgeService;
+        this.references = references;
+        this.changeVersions = changeVersions;
+        this.outboxWriter = outboxWriter;
+        this.objectMapper = objectMapper;
     }
 
     @Transactional
     public ProjectResponse create(User actor, Long orgId, CreateProjectRequest req) {
         requireOrgAdminOrOwner(actor.getId(), orgId);
 
-        Organization org = orgRepo.findById(orgId)
-                .orElseThrow(() -> new NotFoundException("Organization not found"));
+        if (references.org(orgId) == null) {
+            throw new NotFoundException("Organization not found");
+        }
 
         Project project = new Project();
-        project.setOrg(org);
+        project.setOrg(orgRepo.getReferenceById(orgId));
         project.setName(req.getName().trim());
         project.setSlug(generateUniqueProjectSlug(orgId, req.getName().trim()));
         project.setCreatedBy(actor);
@@ -64,7 +93,9 @@ public class ProjectService {
 
         // Create board with default columns for the project
         boardService.createBoardForProject(project);
+        changeVersions.orgChanged(orgId);
 
+        publishProjectEvent(OrgEventType.PROJECT_CREATED, project, actor);
         return toProjectResponse(project);
     }
 
@@ -73,9 +104,7 @@ public class ProjectService {
         // any org member can list only projects they are in
         requireOrgMember(actor.getId(), orgId);
 
-        return projectMemberRepo.findByUserId(actor.getId()).stream()
-                .map(ProjectMember::getProject)
-                .filter(p -> p.getOrg().getId().equals(orgId))
+        return projectMemberRepo.findProjectViews(actor.getId(), orgId).stream()
                 .map(this::toProjectResponse)
                 .toList();
     }
@@ -106,18 +135,29 @@ public class ProjectService {
         }
 
         project = projectRepo.save(project);
+        references.evictProject(projectId);
+        changeVersions.orgChanged(orgId);
+        publishProjectEvent(OrgEventType.PROJECT_UPDATED, project, actor);
         return toProjectResponse(project);
     }
 
+    /**
+     * Hides the project right away (deleted_at) and queues a purge job that removes its issues, comments,
+     * board and members in the background. Cost here does not depend on the project's size.
+     */
     @Transactional
-    public void delete(User actor, Long orgId, Long projectId) {
+    public PurgeJobResponse delete(User actor, Long orgId, Long projectId) {
         requireOrgAdminOrOwner(actor.getId(), orgId);
 
         Project project = projectRepo.findByIdAndOrgId(projectId, orgId)
                 .orElseThrow(() -> new NotFoundException("Project not found"));
 
-        projectMemberRepo.deleteAll(projectMemberRepo.findByProjectId(projectId));
-        projectRepo.delete(project);
+        project.setDeletedAt(Instant.now());
+        projectRepo.save(project);
+        references.evictProject(projectId);
+        changeVersions.orgChanged(orgId);
+        publishProjectEvent(OrgEventType.PROJECT_DELETED, project, actor);
+        return purgeService.enqueue(actor, PurgeTargetType.PROJECT, projectId);
     }
 
     // ---- Project member management ----
@@ -149,6 +189,7 @@ public class ProjectService {
         pm.setUser(target);
         pm.setRole(req.getRole() == null ? ProjectMember.Role.MEMBER : req.getRole());
         projectMemberRepo.save(pm);
+        changeVersions.projectMembersChanged(orgId, projectId);
     }
 
     @Transactional
@@ -170,6 +211,7 @@ public class ProjectService {
         }
 
         projectMemberRepo.delete(pm);
+        changeVersions.projectMembersChanged(orgId, projectId);
     }
 
     @Transactional(readOnly = true)
@@ -180,21 +222,44 @@ public class ProjectService {
             throw new UnauthorizedException("Not a member of this project");
         }
 
-        return projectMemberRepo.findByProjectId(projectId).stream()
+        return projectMemberRepo.findMemberViews(projectId).stream()
                 .map(pm -> {
                     ProjectMemberResponse r = new ProjectMemberResponse();
-                    r.setId(pm.getId());
-                    r.setUserId(pm.getUser().getId());
-                    r.setUserName(pm.getUser().getName());
-                    r.setUserEmail(pm.getUser().getEmail());
-                    r.setRole(pm.getRole());
-                    r.setCreatedAt(pm.getCreatedAt());
+                    r.setId(pm.id());
+                    r.setUserId(pm.userId());
+                    r.setUserName(pm.userName());
+                    r.setUserEmail(pm.userEmail());
+                    r.setRole(pm.role());
+                    r.setCreatedAt(pm.createdAt());
                     return r;
                 }).toList();
     }
 
     // ---- helpers ----
 
+    private void publishProjectEvent(OrgEventType eventType, Project project, User actor) {
+        try {
+            Long orgId = project.getOrg().getId();
+
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("org_id", orgId);
+            payload.put("project_id", project.getId());
+            payload.put("project_name", project.getName());
+            payload.put("actor_id", actor.getId());
+
+            outboxWriter.enqueueOrgEvent(
+                    eventType,
+                    OutboxWriter.longToUuid(orgId),
+                    AggregateType.PROJECT,
+                    OutboxWriter.longToUuid(project.getId()),
+                    String.valueOf(orgId),
+                    objectMapper.writeValueAsString(payload)
+            );
+        } catch (Exception e) {
+            logger.error("Failed to enqueue outbox event for project {}: {}", project.getId(), e.getMessage());
+        }
+    }
+
     private void requireOrgMember(Long userId, Long orgId) {
         orgMemberRepo.findByOrgIdAndUserId(orgId, userId)
                 .orElseThrow(() -> new UnauthorizedException("Not a member of this organization"));
@@ -220,8 +285,19 @@ public class ProjectService {
         return r;
     }
 
+    private ProjectResponse toProjectResponse(ProjectView p) {
+        ProjectResponse r = new ProjectResponse();
+        r.setId(p.id());
+        r.setOrgId(p.orgId());
+        r.setName(p.name());
+        r.setSlug(p.slug());
+        r.setCreatedAt(p.createdAt());
+        r.setUpdatedAt(p.updatedAt());
+        return r;
+    }
+
     private String generateUniqueProjectSlug(Long orgId, String name) {
-        String base = slugify(name);
+        String base = SlugUtils.slugify(name, "project");
         String slug = base;
         int i = 2;
         while (projectRepo.existsByOrgIdAndSlug(orgId, slug)) {
@@ -230,12 +306,4 @@ public class ProjectService {
         }
         return slug;
     }
-
-    private String slugify(String input) {
-        String s = Normalizer.normalize(input, Normalizer.Form.NFKD);
-        s = s.replaceAll("[^\\p{Alnum}]+", "-");
-        s = s.replaceAll("(^-+|-+$)", "");
-        s = s.toLowerCase(Locale.ROOT);
-        return s.isBlank() ? "project" : s;
-    }
 }
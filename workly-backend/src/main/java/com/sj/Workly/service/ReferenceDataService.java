@@ -0,0 +1,150 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.entity.Board;
+import com.sj.Workly.entity.BoardColumn;
+import com.sj.Workly.entity.Organization;
+import com.sj.Workly.entity.Project;
+import com.sj.Workly.repository.BoardRepository;
+import com.sj.Workly.repository.ColumnRepository;
+import com.sj.Workly.repository.OrganizationRepository;
+import com.sj.Workly.repository.ProjectRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Cached, immutable snapshots of orgs, projects and boards with their columns: rows read on nearly every
+ * request but rarely changed. Spring Cache over Caffeine (spec and stats in application.properties, hit rates
+ * under /actuator/metrics/cache.gets).
+ * <ul>
+ *   <li>Values are records, never entities, so nothing lazy or managed leaks between sessions. Callers that
+ *   need an entity for an association use {@code getReferenceById} after checking the snapshot.</li>
+ *   <li>Mutable counters ({@code columns.issue_count}) are not part of a snapshot; they are always read from
+ *   the database.</li>
+ *   <li>Services that change a cached row call the matching {@code evict*} method. It evicts immediately and
+ *   again after the transaction completes, so a concurrent reader cannot re-cache the old row in between.</li>
+ *   <li>Eviction is per instance; with several instances, {@code expireAfterWrite} bounds how long another
+ *   instance can serve an old snapshot. Access checks (membership) are never cached.</li>
+ * </ul>
+ */
+@Service
+public class ReferenceDataService {
+
+    public static final String ORGS = "orgs";
+    public static final String PROJECTS = "projects";
+    public static final String BOARDS = "boards";
+
+    public record OrgRef(Long id, String name, String slug, Instant createdAt) {}
+
+    public record ProjectRef(Long id, Long orgId, String name, String slug) {}
+
+    public record ColumnRef(Long id, String name, int orderIndex, Integer wipLimit) {}
+
+    public record BoardRef(Long id, Long projectId, Instant createdAt, Instant updatedAt, List<ColumnRef> columns) {
+        /** The column if it is on this board, else null. */
+        public ColumnRef column(Long columnId) {
+            for (ColumnRef c : columns) {
+                if (c.id().equals(columnId)) return c;
+            }
+            return null;
+        }
+    }
+
+    private final OrganizationRepository orgRepo;
+    private final ProjectRepository projectRepo;
+    private final BoardRepository boardRepo;
+    private final ColumnRepository columnRepo;
+    private final CacheManager cacheManager;
+
+    public ReferenceDataService(OrganizationRepository orgRepo,
+                                ProjectRepository projectRepo,
+                                BoardRepository boardRepo,
+                                ColumnRepository columnRepo,
+                                CacheManager cacheManager) {
+        this.orgRepo = orgRepo;
+        this.projectRepo = projectRepo;
+        this.boardRepo = boardRepo;
+        this.columnRepo = columnRepo;
+        this.cacheManager = cacheManager;
+    }
+
+    /** Live org, or null. Misses are not cached. */
+    @Cacheable(cacheNames = ORGS, unless = "#result == null")
+    @Transactional(readOnly = true)
+    public OrgRef org(Long orgId) {
+        Organization o = orgRepo.findById(orgId).orElse(null);
+        return o == null ? null : new OrgRef(o.getId(), o.getName(), o.getSlug(), o.getCreatedAt());
+    }
+
+    /** Live project, or null. Misses are not cached. */
+    @Cacheable(cacheNames = PROJECTS, unless = "#result == null")
+    @Transactional(readOnly = true)
+    public ProjectRef project(Long projectId) {
+        Project p = projectRepo.findById(projectId).orElse(null);
+        return p == null ? null : new ProjectRef(p.getId(), p.getOrg().getId(), p.getName(), p.getSlug());
+    }
+
+    /** The project's board with its columns in board order, or null. Misses are not cached. */
+    @Cacheable(cacheNames = BOARDS, unless = "#result == null")
+    @Transactional(readOnly = true)
+    public BoardRef board(Long projectId) {
+        Board b = boardRepo.findByProjectId(projectId).orElse(null);
+        if (b == null) return null;
+        List<ColumnRef> columns = columnRepo.findByBoardIdOrderByOrderIndexAsc(b.getId()).stream()
+                .map(c -> new ColumnRef(c.getId(), c.getName(), c.getOrderIndex(), c.getWipLimit()))
+                .toList();
+        return new BoardRef(b.getId(), projectId, b.getCreatedAt(), b.getUpdatedAt(), columns);
+    }
+
+    public void evictOrg(Long orgId) {
+        evict(ORGS, orgId);
+    }
+
+    public void evictProject(Long projectId) {
+        evict(PROJECTS, projectId);
+        evict(BOARDS, projectId);
+    }
+
+    /** After any column change (create, rename, WIP limit, reorder, delete). */
+    public void evictBoard(Long projectId) {
+        evict(BOARDS, projectId);
+    }
+
+    /** Org deletion hides all of its projects; cheaper to drop every project snapshot than to look them up. */
+    public void evictAllProjects() {
+        clear(PROJECTS);
+        clear(BOARDS);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) return;
+        cache.evict(key);
+        afterCompletion(() -> cache.evict(key));
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) return;
+        cache.clear();
+        afterCompletion(cache::clear);
+    }
+
+    private static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+}
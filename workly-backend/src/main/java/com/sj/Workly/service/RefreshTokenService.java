@@ -0,0 +1,184 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.entity.RefreshToken;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.exception.UnauthorizedException;
+import com.sj.Workly.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Refresh token storage (refresh_tokens, see V12__refresh_token_hashing.sql).
+ * <ul>
+ *   <li>Tokens are 256 random bits; only their SHA-256 is stored, in a 32-byte unique key. A leaked table
+ *   cannot be replayed, and lookups compare fixed-width keys.</li>
+ *   <li>A login starts a family; each refresh revokes the presented token and issues its successor in the same
+ *   family. Presenting an already rotated token again means it was copied: the whole family is revoked, so
+ *   both the thief and the victim have to log in again. A second use within
+ *   {@code app.refresh.reuse-grace-seconds} is treated as a client race (two tabs refreshing at once) and only
+ *   rejected.</li>
+ *   <li>A user has at most {@code app.refresh.max-active-per-user} active tokens (one per family); a new login
+ *   revokes the oldest ones.</li>
+ *   <li>{@link #purge()} deletes expired tokens, and revoked ones once {@code app.refresh.revoked-retention-hours}
+ *   have passed (reuse of older tokens is then just an invalid token), in bounded batches.</li>
+ * </ul>
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private static final String PURGE = """
+            delete from refresh_tokens where id in (
+                select id from refresh_tokens
+                where expires_at < now() or revoked_at < now() - make_interval(hours => ?)
+                limit ?)
+            """;
+
+    private final RefreshTokenRepository refreshRepo;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final SecureRandom random = new SecureRandom();
+
+    private final int refreshDays;
+    private final int maxActivePerUser;
+    private final int reuseGraceSeconds;
+    private final int revokedRetentionHours;
+    private final int purgeBatchSize;
+
+    public RefreshTokenService(RefreshTokenRepository refreshRepo,
+                               JdbcTemplate jdbc,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.jwt.refresh-days}") int refreshDays,
+                               @Value("${app.refresh.max-active-per-user:10}") int maxActivePerUser,
+                               @Value("${app.refresh.reuse-grace-seconds:10}") int reuseGraceSeconds,
+                               @Value("${app.refresh.revoked-retention-hours:24}") int revokedRetentionHours,
+                               @Value("${app.refresh.purge-batch-size:1000}") int purgeBatchSize) {
+        this.refreshRepo = refreshRepo;
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.refreshDays = refreshDays;
+        this.maxActivePerUser = maxActivePerUser;
+        this.reuseGraceSeconds = reuseGraceSeconds;
+        this.revokedRetentionHours = revokedRetentionHours;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    /** A token handed to the client, with the user it belongs to. */
+    public record Issued(Long userId, String email, String token) {}
+
+    /** Starts a new family (login, registration) and enforces the per-user cap. Returns the raw token. */
+    @Transactional
+    public String issue(User user) {
+        Instant now = Instant.now();
+        String token = newToken();
+        refreshRepo.saveAndFlush(newRow(user, UUID.randomUUID(), token, now));
+        refreshRepo.revokeOldestActive(user.getId(), maxActivePerUser, now);
+        return token;
+    }
+
+    /**
+     * Revokes the presented token and issues its successor. Runs its own transactions: when reuse is detected
+     * the family revocation must be committed even though the call fails.
+     */
+    public Issued rotate(String token) {
+        byte[] hash = hash(token);
+        Instant now = Instant.now();
+
+        Issued issued = tx.execute(status -> {
+            RefreshToken old = refreshRepo.findByTokenHash(hash)
+                    .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+            if (old.isRevoked()) {
+                if (old.getReplacedById() == null
+                        || old.getRevokedAt().isAfter(now.minusSeconds(reuseGraceSeconds))) {
+                    throw new UnauthorizedException("Refresh token expired");
+                }
+                int revoked = refreshRepo.revokeFamily(old.getFamilyId(), now);
+                logger.warn("Refresh token reuse for user {}: revoked family {} ({} active tokens)",
+                        old.getUser().getId(), old.getFamilyId(), revoked);
+                return null;
+            }
+            if (old.getExpiresAt().isBefore(now)) {
+                throw new UnauthorizedException("Refresh token expired");
+            }
+            if (refreshRepo.revokeIfActive(old.getId(), now) == 0) {
+                throw new UnauthorizedException("Refresh token expired"); // lost a concurrent rotation
+            }
+
+            User user = old.getUser();
+            String next = newToken();
+            RefreshToken successor = refreshRepo.save(newRow(user, old.getFamilyId(), next, now));
+            // The entity still holds the pre-update state; keep it in line with the row before it is flushed
+            old.setRevokedAt(now);
+            old.setReplacedById(successor.getId());
+            return new Issued(user.getId(), user.getEmail(), next);
+        });
+
+        if (issued == null) {
+            throw new UnauthorizedException("Refresh token reuse detected");
+        }
+        return issued;
+    }
+
+    /** Logout: revokes the token's family. Unknown tokens are ignored. */
+    @Transactional
+    public void revoke(String token) {
+        refreshRepo.findByTokenHash(hash(token))
+                .ifPresent(rt -> refreshRepo.revokeFamily(rt.getFamilyId(), Instant.now()));
+    }
+
+    /** Deletes expired and long-revoked tokens, one autocommitted batch at a time. */
+    @Scheduled(fixedDelayString = "${app.refresh.purge-poll-ms:3600000}")
+    public void purge() {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbc.update(PURGE, revokedRetentionHours, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+        if (total > 0) {
+            logger.info("Purged {} expired or revoked refresh tokens", total);
+        }
+    }
+
+    private RefreshToken newRow(User user, UUID familyId, String token, Instant now) {
+        RefreshToken rt = new RefreshToken();
+        rt.setUser(user);
+        rt.setFamilyId(familyId);
+        rt.setTokenHash(hash(token));
+        rt.setExpiresAt(now.plusSeconds(refreshDays * 24L * 60L * 60L));
+        return rt;
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.sj.Workly.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.Workly.dto.issue.IssueFilterRequest;
+import com.sj.Workly.dto.issue.SavedIssueFilterRequest;
+import com.sj.Workly.dto.issue.SavedIssueFilterResponse;
+import com.sj.Workly.entity.Project;
+import com.sj.Workly.entity.SavedIssueFilter;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.exception.ConflictException;
+import com.sj.Workly.exception.NotFoundException;
+import com.sj.Workly.exception.UnauthorizedException;
+import com.sj.Workly.repository.ProjectMemberRepository;
+import com.sj.Workly.repository.ProjectRepository;
+import com.sj.Workly.repository.SavedIssueFilterRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/** Named issue filters, private to the user who saved them. */
+@Service
+public class SavedIssueFilterService {
+
+    private final SavedIssueFilterRepository filterRepo;
+    private final ProjectRepository projectRepo;
+    private final ProjectMemberRepository projectMemberRepo;
+    private final ObjectMapper objectMapper;
+
+    public SavedIssueFilterService(SavedIssueFilterRepository filterRepo,
+                                   ProjectRepository projectRepo,
+                                   ProjectMemberRepository projectMemberRepo,
+                                   ObjectMapper objectMapper) {
+        this.filterRepo = filterRepo;
+        this.projectRepo = projectRepo;
+        this.projectMemberRepo = projectMemberRepo;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedIssueFilterResponse> list(User actor, Long projectId) {
+        requireProjectMember(actor.getId(), projectId);
+        return filterRepo.findByUserIdAndProjectIdOrderByNameAsc(actor.getId(), projectId)
+                .stream().map(this::toResponse).toList();
+    }
+
+    @Transactional
+    public SavedIssueFilterResponse create(User actor, Long orgId, Long projectId, SavedIssueFilterRequest req) {
+        requireProjectMember(actor.getId(), projectId);
+
+        Project project = projectRepo.findByIdAndOrgId(projectId, orgId)
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+
+        String name = req.getName().trim();
+        if (filterRepo.existsByUserIdAndProjectIdAndName(actor.getId(), projectId, name)) {
+            throw new ConflictException("A filter with this name already exists");
+        }
+
+        SavedIssueFilter f = new SavedIssueFilter();
+        f.setUser(actor);
+        f.setProject(project);
+        f.setName(name);
+        f.setFilterJson(writeFilter(req.getFilter()));
+        return toResponse(filterRepo.save(f));
+    }
+
+    @Transactional
+    public SavedIssueFilterResponse update(User actor, Long projectId, Long filterId, SavedIssueFilterRequest req) {
+        SavedIssueFilter f = require(actor, projectId, filterId);
+
+        String name = req.getName().trim();
+        if (!name.equals(f.getName()) && filterRepo.existsByUserIdAndProjectIdAndName(actor.getId(), projectId, name)) {
+            throw new ConflictException("A filter with this name already exists");
+        }
+        f.setName(name);
+        f.setFilterJson(writeFilter(req.getFilter()));
+        return toResponse(filterRepo.save(f));
+    }
+
+    @Transactional
+    public void delete(User actor, Long projectId, Long filterId) {
+        filterRepo.delete(require(actor, projectId, filterId));
+    }
+
+    /** The stored filter, for evaluation by IssueService.filter. */
+    @Transactional(readOnly = true)
+    public IssueFilterRequest load(User actor, Long projectId, Long filterId) {
+        return readFilter(require(actor, projectId, filterId).getFilterJson());
+    }
+
+    // ---- helpers ----
+
+    private SavedIssueFilter require(User actor, Long projectId, Long filterId) {
+        requireProjectMember(actor.getId(), projectId);
+        return filterRepo.findByIdAndUserIdAndProjectId(filterId, actor.getId(), projectId)
+                .orElseThrow(() -> new NotFoundException("Filter not found"));
+    }
+
+    private void requireProjectMember(Long userId, Long projectId) {
+        if (!projectMemberRepo.existsByProjectIdAndUserId(projectId, userId)) {
+            throw new UnauthorizedException("Not a project member");
+        }
+    }
+
+    private String writeFilter(IssueFilterRequest filter) {
+        try {
+            return objectMapper.writeValueAsString(filter);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize issue filter", e);
+        }
+    }
+
+    private IssueFilterRequest readFilter(String json) {
+        try {
+            return objectMapper.readValue(json, IssueFilterRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read saved issue filter", e);
+        }
+    }
+
+    private SavedIssueFilterResponse toResponse(SavedIssueFilter f) {
+        SavedIssueFilterResponse r = new SavedIssueFilterResponse();
+        r.setId(f.getId());
+        r.setProjectId(f.getProject().getId());
+        r.setName(f.getName());
+        r.setFilter(readFilter(f.getFilterJson()));
+        r.setCreatedAt(f.getCreatedAt());
+        r.setUpdatedAt(f.getUpdatedAt());
+        return r;
+    }
+}
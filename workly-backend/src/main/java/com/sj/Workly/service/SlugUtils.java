@@ -0,0 +1,24 @@
+package com.sj.Workly.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/** URL slugs for orgs and projects: ASCII letters and digits separated by single dashes, lower case. */
+final class SlugUtils {
+
+    private static final Pattern NON_ALNUM = Pattern.compile("[^\\p{Alnum}]+");
+    private static final Pattern EDGE_DASHES = Pattern.compile("(^-+|-+$)");
+
+    private SlugUtils() {
+    }
+
+    /** Accents are dropped (NFKD splits them off); {@code fallback} if nothing is left. */
+    static String slugify(String input, String fallback) {
+        String s = Normalizer.normalize(input, Normalizer.Form.NFKD);
+        s = NON_ALNUM.matcher(s).replaceAll("-");
+        s = EDGE_DASHES.matcher(s).replaceAll("");
+        s = s.toLowerCase(Locale.ROOT);
+        return s.isBlank() ? fallback : s;
+    }
+}
@@ -0,0 +1,75 @@
+package com.sj.Workly.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Writes a list response as a JSON array page by page, for endpoints that return StreamingResponseBody.
+ * <ul>
+ *   <li>Rows are fetched in keyset pages of {@link #PAGE_SIZE}, each in its own short read-only transaction.
+ *   The pooled connection goes back between pages, so a slow client holds the async thread, never a
+ *   connection; the pool stays available to requests however many downloads are running.</li>
+ *   <li>Pages are read at different moments: rows changed during a download may show in their old or new
+ *   place, but keyset paging never repeats or skips rows that did not change.</li>
+ *   <li>Each element is serialized with the application ObjectMapper, so the output matches a List response.</li>
+ *   <li>The generator flushes after every page: the first rows reach the client without waiting for the last,
+ *   without a network write per row.</li>
+ * </ul>
+ * Access checks belong before the response starts; once rows are written an error can only abort the response.
+ */
+@Component
+public class StreamingJsonWriter {
+
+    static final int PAGE_SIZE = 500;
+
+    private static final Limit PAGE = Limit.of(PAGE_SIZE);
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter elementWriter;
+    private final TransactionTemplate readOnlyTx;
+
+    public StreamingJsonWriter(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        // Flushing after every value would send one chunk per row
+        this.elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * @param pageAfter the page after the given row, or the first page for null; a short page is the last one
+     * @param element   the JSON element for a row
+     */
+    public <T> void writeArray(OutputStream out, BiFunction<T, Limit, List<T>> pageAfter,
+                               Function<T, ?> element) throws IOException {
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.writeStartArray();
+            T last = null;
+            List<T> page;
+            do {
+                T after = last;
+                page = readOnlyTx.execute(status -> pageAfter.apply(after, PAGE));
+                for (T row : page) {
+                    elementWriter.writeValue(gen, element.apply(row));
+                }
+                gen.flush();
+                if (!page.isEmpty()) last = page.get(page.size() - 1);
+            } while (page.size() == PAGE_SIZE);
+            gen.writeEndArray();
+        }
+    }
+}
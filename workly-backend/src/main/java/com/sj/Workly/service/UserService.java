@@ -1,36 +1,55 @@
 package com.sj.Workly.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sj.Workly.dto.user.*;
 import com.sj.Workly.entity.*;
+import com.sj.Workly.entity.enums.AggregateType;
+import com.sj.Workly.entity.enums.OrgEventType;
 import com.sj.Workly.entity.enums.Role;
 import com.sj.Workly.exception.ConflictException;
 import com.sj.Workly.exception.NotFoundException;
 import com.sj.Workly.repository.*;
+import com.sj.Workly.service.outbox.OutboxWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 @Service
 public class UserService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+
     private final UserRepository userRepo;
     private final OrganizationRepository orgRepo;
     private final OrgMemberRepository orgMemberRepo;
     private final PasswordEncoder passwordEncoder;
+    private final ChangeVersionService changeVersions;
+    private final OutboxWriter outboxWriter;
+    private final ObjectMapper objectMapper;
 
     public UserService(
             UserRepository userRepo,
             OrganizationRepository orgRepo,
             OrgMemberRepository orgMemberRepo,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            ChangeVersionService changeVersions,
+            OutboxWriter outboxWriter,
+            ObjectMapper objectMapper
     ) {
         this.userRepo = userRepo;
         this.orgRepo = orgRepo;
         this.orgMemberRepo = orgMemberRepo;
         this.passwordEncoder = passwordEncoder;
+        this.changeVersions = changeVersions;
+        this.outboxWriter = outboxWriter;
+        this.objectMapper = objectMapper;
     }
 
     @Transactional
@@ -75,6 +94,7 @@ public class UserService {
 
         if (req.getName() != null && !req.getName().trim().isEmpty()) {
             user.setName(req.getName().trim());
+            changeVersions.userChanged(id);
         }
 
         if (req.getPassword() != null && !req.getPassword().trim().isEmpty()) {
@@ -95,10 +115,32 @@ public class UserService {
             throw new NotFoundException("User not found");
         }
 
-        orgMemberRepo.deleteAll(orgMemberRepo.findByUserId(id));
+        List<OrgMember> memberships = orgMemberRepo.findByUserId(id);
+        publishMembersRemovedEvents(memberships, id);
+        orgMemberRepo.deleteAll(memberships);
         userRepo.deleteById(id);
     }
 
+    private void publishMembersRemovedEvents(List<OrgMember> memberships, Long userId) {
+        try {
+            List<OutboxWriter.OrgEventDraft> events = new ArrayList<>(memberships.size());
+            for (OrgMember member : memberships) {
+                Long orgId = member.getOrg().getId();
+                events.add(new OutboxWriter.OrgEventDraft(
+                        OrgEventType.ORG_MEMBER_REMOVED,
+                        OutboxWriter.longToUuid(orgId),
+                        AggregateType.ORG_MEMBERSHIP,
+                        OutboxWriter.longToUuid(member.getId()),
+                        String.valueOf(orgId),
+                        objectMapper.writeValueAsString(Map.of("org_id", orgId, "user_id", userId))
+                ));
+            }
+            outboxWriter.enqueueOrgEvents(events);
+        } catch (Exception e) {
+            logger.error("Failed to enqueue outbox events for removed user {}: {}", userId, e.getMessage());
+        }
+    }
+
     // ---- Helpers ----
 
     private UserResponse toUserResponse(User user) {
@@ -112,7 +154,7 @@ public class UserService {
     }
 
     private String generateUniqueOrgSlug(String orgName) {
-        String base = slugify(orgName);
+        String base = SlugUtils.slugify(orgName, "org");
         String slug = base;
         int i = 2;
         while (orgRepo.existsBySlug(slug)) {
@@ -121,12 +163,4 @@ public class UserService {
         }
         return slug;
     }
-
-    private String slugify(String input) {
-        String s = Normalizer.normalize(input, Normalizer.Form.NFKD);
-        s = s.replaceAll("[^\\p{Alnum}]+", "-");
-        s = s.replaceAll("(^-+|-+$)", "");
-        s = s.toLowerCase(Locale.ROOT);
-        return s.isBlank() ? "org" : s;
-    }
 }
@@ -0,0 +1,250 @@
+package com.sj.Workly.service.analytics;
+
+import com.sj.Workly.dto.analytics.CumulativeFlowResponse;
+import com.sj.Workly.dto.analytics.CycleTimeResponse;
+import com.sj.Workly.entity.Issue;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.exception.BadRequestException;
+import com.sj.Workly.exception.UnauthorizedException;
+import com.sj.Workly.repository.ProjectMemberRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cumulative flow and lead/cycle time from daily rollups (issue_status_daily, issue_resolution_daily,
+ * see V9__issue_analytics.sql) rather than from the issues table.
+ * <ul>
+ *   <li>Writers open a {@link Recorder}, report status changes as they apply them, then {@link Recorder#flush()}
+ *   once, after the column counts are applied (the lock order every writer follows). Deltas for the same bucket
+ *   are merged in memory, so a 200-issue bulk move is a handful of upserts.</li>
+ *   <li>The recorder also maintains {@code Issue.startedAt} (first time out of TO_DO) and {@code resolvedAt}
+ *   (entered DONE; cleared on reopen). Reopened issues count again when resolved again.</li>
+ *   <li>Reads touch one row per (day, status) in the range plus a per-status sum for everything before it,
+ *   so cost depends on the number of days, not the number of issues.</li>
+ * </ul>
+ * Days are UTC.
+ */
+@Service
+public class IssueAnalyticsService {
+
+    private static final int MAX_RANGE_DAYS = 731;
+
+    private static final String UPSERT_STATUS = """
+            insert into issue_status_daily (project_id, day, status, entered, exited)
+            values (?, ?, ?, ?, ?)
+            on conflict (project_id, day, status) do update
+            set entered = issue_status_daily.entered + excluded.entered,
+                exited  = issue_status_daily.exited + excluded.exited
+            """;
+
+    private static final String UPSERT_RESOLUTION = """
+            insert into issue_resolution_daily (project_id, day, resolved, lead_time_seconds, cycle_time_seconds)
+            values (?, ?, ?, ?, ?)
+            on conflict (project_id, day) do update
+            set resolved           = issue_resolution_daily.resolved + excluded.resolved,
+                lead_time_seconds  = issue_resolution_daily.lead_time_seconds + excluded.lead_time_seconds,
+                cycle_time_seconds = issue_resolution_daily.cycle_time_seconds + excluded.cycle_time_seconds
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final ProjectMemberRepository projectMemberRepo;
+
+    public IssueAnalyticsService(JdbcTemplate jdbc, ProjectMemberRepository projectMemberRepo) {
+        this.jdbc = jdbc;
+        this.projectMemberRepo = projectMemberRepo;
+    }
+
+    public Recorder recorder(Long projectId) {
+        return new Recorder(projectId);
+    }
+
+    /**
+     * Collects bucket deltas for one project within one transaction. Call {@link #created} / {@link #statusChanged}
+     * before the issue is flushed (they set startedAt/resolvedAt on the entity), then {@link #flush()} once.
+     */
+    public final class Recorder {
+        private final Long projectId;
+        private final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        private final Map<IssueStatus, int[]> statusDeltas = new EnumMap<>(IssueStatus.class);
+        private int resolved;
+        private long leadSeconds;
+        private long cycleSeconds;
+
+        private Recorder(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        /** A new issue. Issues created directly as DONE are not counted as resolutions (no lead or cycle time). */
+        public void created(Issue issue) {
+            Instant now = Instant.now();
+            if (issue.getStatus() != IssueStatus.TO_DO) issue.setStartedAt(now);
+            if (issue.getStatus() == IssueStatus.DONE) issue.setResolvedAt(now);
+            created(issue.getStatus(), 1);
+        }
+
+        /** Issues inserted without an entity (import). */
+        public void created(IssueStatus status, int count) {
+            statusDeltas.computeIfAbsent(status, s -> new int[2])[0] += count;
+        }
+
+        public void statusChanged(Issue issue, IssueStatus from) {
+            IssueStatus to = issue.getStatus();
+            if (from == to) return;
+
+            statusDeltas.computeIfAbsent(from, s -> new int[2])[1]++;
+            statusDeltas.computeIfAbsent(to, s -> new int[2])[0]++;
+
+            Instant now = Instant.now();
+            if (to != IssueStatus.TO_DO && issue.getStartedAt() == null) {
+                issue.setStartedAt(now);
+            }
+            if (to == IssueStatus.DONE) {
+                issue.setResolvedAt(now);
+                resolved++;
+                leadSeconds += Duration.between(issue.getCreatedAt(), now).getSeconds();
+                cycleSeconds += Duration.between(issue.getStartedAt(), now).getSeconds();
+            } else if (from == IssueStatus.DONE) {
+                issue.setResolvedAt(null);
+            }
+        }
+
+        /** Writes the merged deltas; one batch for status buckets and at most one resolution upsert. */
+        public void flush() {
+            Date day = Date.valueOf(today);
+            if (!statusDeltas.isEmpty()) {
+                List<Object[]> rows = new ArrayList<>(statusDeltas.size());
+                statusDeltas.forEach((status, d) -> rows.add(new Object[] { projectId, day, status.name(), d[0], d[1] }));
+                jdbc.batchUpdate(UPSERT_STATUS, rows);
+                statusDeltas.clear();
+            }
+            if (resolved > 0) {
+                jdbc.update(UPSERT_RESOLUTION, projectId, day, resolved, leadSeconds, cycleSeconds);
+                resolved = 0;
+                leadSeconds = 0;
+                cycleSeconds = 0;
+            }
+        }
+    }
+
+    // ---- reads ----
+
+    /** Issues per status at the end of each day in [from, to]. */
+    @Transactional(readOnly = true)
+    public CumulativeFlowResponse cumulativeFlow(User actor, Long projectId, LocalDate from, LocalDate to) {
+        requireProjectMember(actor.getId(), projectId);
+        LocalDate[] range = range(from, to);
+
+        Map<IssueStatus, Long> running = new EnumMap<>(IssueStatus.class);
+        for (IssueStatus s : IssueStatus.values()) running.put(s, 0L);
+        jdbc.query("""
+                select status, sum(entered - exited) from issue_status_daily
+                where project_id = ? and day < ?
+                group by status
+                """,
+                rs -> {
+                    running.merge(IssueStatus.valueOf(rs.getString(1)), rs.getLong(2), Long::sum);
+                }, projectId, Date.valueOf(range[0]));
+
+        Map<LocalDate, Map<IssueStatus, Long>> deltas = new HashMap<>();
+        jdbc.query("""
+                select day, status, entered - exited from issue_status_daily
+                where project_id = ? and day between ? and ?
+                """,
+                rs -> {
+                    deltas.computeIfAbsent(rs.getDate(1).toLocalDate(), d -> new EnumMap<>(IssueStatus.class))
+                            .put(IssueStatus.valueOf(rs.getString(2)), rs.getLong(3));
+                }, projectId, Date.valueOf(range[0]), Date.valueOf(range[1]));
+
+        List<CumulativeFlowResponse.Day> days = new ArrayList<>();
+        for (LocalDate d = range[0]; !d.isAfter(range[1]); d = d.plusDays(1)) {
+            Map<IssueStatus, Long> delta = deltas.get(d);
+            if (delta != null) delta.forEach((status, n) -> running.merge(status, n, Long::sum));
+
+            CumulativeFlowResponse.Day day = new CumulativeFlowResponse.Day();
+            day.setDay(d);
+            day.setCounts(new LinkedHashMap<>(running));
+            days.add(day);
+        }
+
+        CumulativeFlowResponse r = new CumulativeFlowResponse();
+        r.setProjectId(projectId);
+        r.setDays(days);
+        return r;
+    }
+
+    /** Resolutions per day in [from, to] with average lead and cycle time, plus totals for the range. */
+    @Transactional(readOnly = true)
+    public CycleTimeResponse cycleTime(User actor, Long projectId, LocalDate from, LocalDate to) {
+        requireProjectMember(actor.getId(), projectId);
+        LocalDate[] range = range(from, to);
+
+        List<CycleTimeResponse.Day> days = new ArrayList<>();
+        long[] totals = new long[3];
+        jdbc.query("""
+                select day, resolved, lead_time_seconds, cycle_time_seconds from issue_resolution_daily
+                where project_id = ? and day between ? and ?
+                order by day
+                """,
+                rs -> {
+                    int resolved = rs.getInt(2);
+                    long lead = rs.getLong(3);
+                    long cycle = rs.getLong(4);
+                    totals[0] += resolved;
+                    totals[1] += lead;
+                    totals[2] += cycle;
+
+                    CycleTimeResponse.Day day = new CycleTimeResponse.Day();
+                    day.setDay(rs.getDate(1).toLocalDate());
+                    day.setResolved(resolved);
+                    day.setAvgLeadTimeHours(hours(lead, resolved));
+                    day.setAvgCycleTimeHours(hours(cycle, resolved));
+                    days.add(day);
+                }, projectId, Date.valueOf(range[0]), Date.valueOf(range[1]));
+
+        CycleTimeResponse r = new CycleTimeResponse();
+        r.setProjectId(projectId);
+        r.setResolved(totals[0]);
+        r.setAvgLeadTimeHours(hours(totals[1], totals[0]));
+        r.setAvgCycleTimeHours(hours(totals[2], totals[0]));
+        r.setDays(days);
+        return r;
+    }
+
+    /** Defaults to the last 30 days; at most two years. */
+    private static LocalDate[] range(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end)) {
+            throw new BadRequestException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException("Range is limited to " + MAX_RANGE_DAYS + " days");
+        }
+        return new LocalDate[] { start, end };
+    }
+
+    private static Double hours(long seconds, long count) {
+        return count == 0 ? null : seconds / 3600.0 / count;
+    }
+
+    private void requireProjectMember(Long userId, Long projectId) {
+        if (!projectMemberRepo.existsByProjectIdAndUserId(projectId, userId)) {
+            throw new UnauthorizedException("Not a project member");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sj.Workly.service.export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/** RFC 4180 writer: fields are quoted only when they contain a comma, quote or line break. Records end in CRLF. */
+class CsvWriter {
+
+    private final Writer out;
+    private boolean firstField = true;
+
+    CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    CsvWriter field(Object value) throws IOException {
+        if (!firstField) out.write(',');
+        firstField = false;
+        if (value == null) return this;
+
+        String s = value.toString();
+        if (needsQuotes(s)) {
+            out.write('"');
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c == '"') out.write('"');
+                out.write(c);
+            }
+            out.write('"');
+        } else {
+            out.write(s);
+        }
+        return this;
+    }
+
+    void endRecord() throws IOException {
+        out.write("\r\n");
+        firstField = true;
+    }
+
+    void record(String... fields) throws IOException {
+        for (String f : fields) field(f);
+        endRecord();
+    }
+
+    private static boolean needsQuotes(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') return true;
+        }
+        return false;
+    }
+}
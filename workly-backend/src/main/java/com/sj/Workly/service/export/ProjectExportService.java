@@ -0,0 +1,232 @@
+package com.sj.Workly.service.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.Workly.entity.Project;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.exception.NotFoundException;
+import com.sj.Workly.exception.UnauthorizedException;
+import com.sj.Workly.repository.ProjectMemberRepository;
+import com.sj.Workly.repository.ProjectRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Streams a project's members, columns, issues and comments to an output stream in constant memory.
+ * <ul>
+ *   <li>Rows come from forward-only JDBC cursors with a fetch size, so the driver holds one fetch
+ *   of rows at a time and no entities are created.</li>
+ *   <li>Each row is written as soon as it is read. Nothing is collected.</li>
+ *   <li>All queries run in one read-only REPEATABLE READ transaction, so comments match the issues
+ *   exported before them even while the project is being edited.</li>
+ * </ul>
+ * NDJSON holds everything, one typed record per line ({@code "type": "member" | "column" | "issue" | "comment"}).
+ * CSV holds one entity per file. The issue CSV uses the same headers as the issue import.
+ */
+@Service
+public class ProjectExportService {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final String MEMBERS_SQL = """
+            select u.id, u.name, u.email, pm.role, pm.created_at
+            from project_members pm join users u on u.id = pm.user_id
+            where pm.project_id = ?
+            order by u.id
+            """;
+
+    private static final String COLUMNS_SQL = """
+            select c.id, c.name, c.order_index
+            from columns c join boards b on b.id = c.board_id
+            where b.project_id = ?
+            order by c.order_index
+            """;
+
+    private static final String ISSUES_SQL = """
+            select i.id, i.column_id, c.name, i.title, i.description, i.priority, i.status,
+                   r.email, a.email, i.order_index, i.created_at, i.updated_at
+            from issues i
+            join columns c on c.id = i.column_id
+            join users r on r.id = i.reporter_user_id
+            left join users a on a.id = i.assignee_user_id
+            where i.project_id = ?
+            order by i.id
+            """;
+
+    private static final String COMMENTS_SQL = """
+            select cm.id, cm.issue_id, u.email, cm.body, cm.created_at
+            from comments cm
+            join issues i on i.id = cm.issue_id
+            join users u on u.id = cm.author_user_id
+            where i.project_id = ?
+            order by cm.id
+            """;
+
+    private final ProjectRepository projectRepo;
+    private final ProjectMemberRepository projectMemberRepo;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate snapshotTx;
+
+    public ProjectExportService(ProjectRepository projectRepo,
+                                ProjectMemberRepository projectMemberRepo,
+                                ObjectMapper objectMapper,
+                                DataSource dataSource,
+                                PlatformTransactionManager transactionManager) {
+        this.projectRepo = projectRepo;
+        this.projectMemberRepo = projectMemberRepo;
+        this.objectMapper = objectMapper;
+
+        // Postgres only uses a cursor with a fetch size inside a transaction (autocommit off)
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(FETCH_SIZE);
+        this.snapshotTx = new TransactionTemplate(transactionManager);
+        this.snapshotTx.setReadOnly(true);
+        this.snapshotTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public enum Format { NDJSON, CSV }
+
+    public enum Entity { ISSUES, COMMENTS, MEMBERS }
+
+    /** Checks access before the response starts; the export itself runs later on an async thread. */
+    public Project authorize(User actor, Long orgId, Long projectId) {
+        requireProjectMember(actor.getId(), projectId);
+        return projectRepo.findByIdAndOrgId(projectId, orgId)
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+    }
+
+    public void writeNdjson(Long projectId, OutputStream out) throws IOException {
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.setRootValueSeparator(null);
+            snapshotTx.executeWithoutResult(status -> {
+                stream(MEMBERS_SQL, projectId, rs -> {
+                    gen.writeStartObject();
+                    gen.writeStringField("type", "member");
+                    gen.writeNumberField("userId", rs.getLong(1));
+                    gen.writeStringField("name", rs.getString(2));
+                    gen.writeStringField("email", rs.getString(3));
+                    gen.writeStringField("role", rs.getString(4));
+                    gen.writeStringField("joinedAt", iso(rs.getTimestamp(5)));
+                    endLine(gen);
+                });
+                stream(COLUMNS_SQL, projectId, rs -> {
+                    gen.writeStartObject();
+                    gen.writeStringField("type", "column");
+                    gen.writeNumberField("id", rs.getLong(1));
+                    gen.writeStringField("name", rs.getString(2));
+                    gen.writeNumberField("orderIndex", rs.getInt(3));
+                    endLine(gen);
+                });
+                stream(ISSUES_SQL, projectId, rs -> {
+                    gen.writeStartObject();
+                    gen.writeStringField("type", "issue");
+                    gen.writeNumberField("id", rs.getLong(1));
+                    gen.writeNumberField("columnId", rs.getLong(2));
+                    gen.writeStringField("column", rs.getString(3));
+                    gen.writeStringField("title", rs.getString(4));
+                    gen.writeStringField("description", rs.getString(5));
+                    gen.writeStringField("priority", rs.getString(6));
+                    gen.writeStringField("status", rs.getString(7));
+                    gen.writeStringField("reporter", rs.getString(8));
+                    gen.writeStringField("assignee", rs.getString(9));
+                    gen.writeNumberField("orderIndex", rs.getInt(10));
+                    gen.writeStringField("createdAt", iso(rs.getTimestamp(11)));
+                    gen.writeStringField("updatedAt", iso(rs.getTimestamp(12)));
+                    endLine(gen);
+                });
+                stream(COMMENTS_SQL, projectId, rs -> {
+                    gen.writeStartObject();
+                    gen.writeStringField("type", "comment");
+                    gen.writeNumberField("id", rs.getLong(1));
+                    gen.writeNumberField("issueId", rs.getLong(2));
+                    gen.writeStringField("author", rs.getString(3));
+                    gen.writeStringField("body", rs.getString(4));
+                    gen.writeStringField("createdAt", iso(rs.getTimestamp(5)));
+                    endLine(gen);
+                });
+            });
+        }
+    }
+
+    public void writeCsv(Long projectId, Entity entity, OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        CsvWriter csv = new CsvWriter(writer);
+        switch (entity) {
+            case MEMBERS -> {
+                csv.record("user_id", "name", "email", "role", "joined_at");
+                snapshotTx.executeWithoutResult(status -> stream(MEMBERS_SQL, projectId, rs -> {
+                    csv.field(rs.getLong(1)).field(rs.getString(2)).field(rs.getString(3))
+                            .field(rs.getString(4)).field(iso(rs.getTimestamp(5)));
+                    csv.endRecord();
+                }));
+            }
+            case ISSUES -> {
+                csv.record("id", "title", "description", "priority", "status", "column",
+                        "assignee", "reporter", "order_index", "created_at", "updated_at");
+                snapshotTx.executeWithoutResult(status -> stream(ISSUES_SQL, projectId, rs -> {
+                    csv.field(rs.getLong(1)).field(rs.getString(4)).field(rs.getString(5))
+                            .field(rs.getString(6)).field(rs.getString(7)).field(rs.getString(3))
+                            .field(rs.getString(9)).field(rs.getString(8)).field(rs.getInt(10))
+                            .field(iso(rs.getTimestamp(11))).field(iso(rs.getTimestamp(12)));
+                    csv.endRecord();
+                }));
+            }
+            case COMMENTS -> {
+                csv.record("id", "issue_id", "author", "body", "created_at");
+                snapshotTx.executeWithoutResult(status -> stream(COMMENTS_SQL, projectId, rs -> {
+                    csv.field(rs.getLong(1)).field(rs.getLong(2)).field(rs.getString(3))
+                            .field(rs.getString(4)).field(iso(rs.getTimestamp(5)));
+                    csv.endRecord();
+                }));
+            }
+        }
+        writer.flush();
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+
+    private void stream(String sql, Long projectId, RowWriter writer) {
+        jdbc.query(sql, rs -> {
+            try {
+                writer.write(rs);
+            } catch (IOException e) {
+                // Usually the client went away; abort the query instead of reading the rest
+                throw new UncheckedIOException(e);
+            }
+        }, projectId);
+    }
+
+    private static void endLine(JsonGenerator gen) throws IOException {
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+    }
+
+    private static String iso(Timestamp ts) {
+        return ts == null ? null : ts.toInstant().toString();
+    }
+
+    private void requireProjectMember(Long userId, Long projectId) {
+        if (!projectMemberRepo.existsByProjectIdAndUserId(projectId, userId)) {
+            throw new UnauthorizedException("Not a project member");
+        }
+    }
+}
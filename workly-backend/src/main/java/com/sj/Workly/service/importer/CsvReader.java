@@ -0,0 +1,126 @@
+package com.sj.Workly.service.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: one record at a time from a {@link Reader}, so memory does not
+ * grow with the file. Handles quoted fields, doubled quotes and line breaks inside quotes; accepts
+ * LF and CRLF line endings.
+ * <p>
+ * A record longer than {@code maxRecordChars} is skipped to its end without being buffered and reported with
+ * {@link RecordTooLongException}; reading continues with the next record. An unterminated quote therefore
+ * costs at most that much memory, however large the rest of the file.
+ */
+class CsvReader {
+
+    /** The current record exceeded the limit; it was consumed, the next call reads the following record. */
+    static class RecordTooLongException extends RuntimeException {
+        RecordTooLongException(int maxRecordChars) {
+            super("record longer than " + maxRecordChars + " characters");
+        }
+    }
+
+    private final Reader in;
+    private final int maxRecordChars;
+    private final StringBuilder field = new StringBuilder();
+    private int recordChars;
+    private int pushedBack = -2;
+
+    CsvReader(Reader in, int maxRecordChars) {
+        this.in = in;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    /** The next record, or null at end of input. Blank lines are skipped. */
+    List<String> next() throws IOException {
+        while (true) {
+            List<String> record = readRecord();
+            if (record == null) return null;
+            if (record.size() > 1 || !record.get(0).isEmpty()) return record;
+        }
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) return null;
+
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        recordChars = 0;
+        boolean quoted = false;
+        boolean afterQuote = false;
+
+        while (true) {
+            if (++recordChars > maxRecordChars) {
+                skipRest(c, quoted);
+                throw new RecordTooLongException(maxRecordChars);
+            }
+            if (quoted) {
+                if (c == -1) throw new IOException("Unterminated quoted field");
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        afterQuote = true;
+                        c = n;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (c == '\n' || c == -1) {
+                record.add(field.toString());
+                return record;
+            } else if (c == '\r') {
+                int n = read();
+                if (n != '\n') unread(n);
+                record.add(field.toString());
+                return record;
+            } else if (c == '"' && field.isEmpty() && !afterQuote) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /** Reads up to the end of the current record (or input), keeping track of quotes but not of the content. */
+    private void skipRest(int c, boolean quoted) throws IOException {
+        field.setLength(0);
+        while (c != -1) {
+            if (c == '"') {
+                quoted = !quoted; // a doubled quote toggles twice
+            } else if (!quoted && (c == '\n' || c == '\r')) {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') unread(n);
+                }
+                return;
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return in.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
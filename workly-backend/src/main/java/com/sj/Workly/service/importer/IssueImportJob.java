@@ -0,0 +1,79 @@
+package com.sj.Workly.service.importer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Progress of one import, updated by the import thread and read by status requests. */
+public class IssueImportJob {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private static final int MAX_ERRORS = 100;
+
+    private final String id = UUID.randomUUID().toString();
+    private final long orgId;
+    private final long projectId;
+    private final long userId;
+    private final Instant createdAt = Instant.now();
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String failure;
+    private volatile Instant finishedAt;
+
+    IssueImportJob(long orgId, long projectId, long userId) {
+        this.orgId = orgId;
+        this.projectId = projectId;
+        this.userId = userId;
+    }
+
+    void rowRead() { rowsRead.incrementAndGet(); }
+
+    void imported(int count) { imported.addAndGet(count); }
+
+    /** Records a rejected row; only the first MAX_ERRORS messages are kept. */
+    void reject(long row, String message) {
+        rejected.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) errors.add("row " + row + ": " + message);
+        }
+    }
+
+    void running() { status = Status.RUNNING; }
+
+    void completed() {
+        finishedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    void failed(String message) {
+        failure = message;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+
+    public String getId() { return id; }
+    public long getOrgId() { return orgId; }
+    public long getProjectId() { return projectId; }
+    public long getUserId() { return userId; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+    public Status getStatus() { return status; }
+    public String getFailure() { return failure; }
+    public long getRowsRead() { return rowsRead.get(); }
+    public long getImported() { return imported.get(); }
+    public long getRejected() { return rejected.get(); }
+
+    public List<String> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+}
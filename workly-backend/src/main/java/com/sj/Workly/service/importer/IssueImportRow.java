@@ -0,0 +1,37 @@
+package com.sj.Workly.service.importer;
+
+/**
+ * One input row. CSV headers and NDJSON keys use these names (case-insensitive for CSV);
+ * {@code column} is a column name or id, {@code assignee}/{@code reporter} are user emails.
+ */
+public class IssueImportRow {
+
+    private String title;
+    private String description;
+    private String priority;
+    private String status;
+    private String column;
+    private String assignee;
+    private String reporter;
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public String getPriority() { return priority; }
+    public void setPriority(String priority) { this.priority = priority; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getColumn() { return column; }
+    public void setColumn(String column) { this.column = column; }
+
+    public String getAssignee() { return assignee; }
+    public void setAssignee(String assignee) { this.assignee = assignee; }
+
+    public String getReporter() { return reporter; }
+    public void setReporter(String reporter) { this.reporter = reporter; }
+}
@@ -0,0 +1,490 @@
+package com.sj.Workly.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.AggregateType;
+import com.sj.Workly.entity.enums.IssuePriority;
+import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.entity.enums.OrgEventType;
+import com.sj.Workly.exception.BadRequestException;
+import com.sj.Workly.exception.ConflictException;
+import com.sj.Workly.exception.NotFoundException;
+import com.sj.Workly.exception.UnauthorizedException;
+import com.sj.Workly.repository.ProjectMemberRepository;
+import com.sj.Workly.repository.ProjectRepository;
+import com.sj.Workly.service.ChangeVersionService;
+import com.sj.Workly.service.ColumnCountService;
+import com.sj.Workly.service.analytics.IssueAnalyticsService;
+import com.sj.Workly.service.outbox.OutboxWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Imports issues from CSV or NDJSON uploads.
+ * <ul>
+ *   <li>The request body is streamed to a temp file (never held in memory) and the request returns a job id.</li>
+ *   <li>An import thread reads the file one row at a time, validates it against maps of the project's
+ *   columns and members loaded once, and inserts rows with JDBC batches, one transaction per batch.</li>
+ *   <li>Order ranks are pre-allocated per column from one max(order_index) read at the start.</li>
+ *   <li>Progress is polled with {@link #status}; jobs live in memory on the instance that runs them.</li>
+ * </ul>
+ * Rejected rows are skipped and reported; committed batches stay committed if a later batch fails.
+ */
+@Service
+public class IssueImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueImportService.class);
+
+    private static final int MAX_TITLE_LENGTH = 200;
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+
+    private static final String INSERT_ISSUE = """
+            insert into issues (project_id, column_id, title, description, priority, status,
+                                reporter_user_id, assignee_user_id, order_index, created_at, updated_at,
+                                started_at, resolved_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final ProjectRepository projectRepo;
+    private final ProjectMemberRepository projectMemberRepo;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final ObjectReader rowReader;
+    private final ObjectMapper objectMapper;
+    private final OutboxWriter outboxWriter;
+    private final IssueAnalyticsService analyticsService;
+    private final ColumnCountService columnCounts;
+    private final ChangeVersionService changeVersions;
+    private final TaskExecutor importExecutor;
+    private final long maxUploadBytes;
+    private final int batchSize;
+    private final int maxRecordChars;
+
+    private final Map<String, IssueImportJob> jobs = new ConcurrentHashMap<>();
+
+    public IssueImportService(ProjectRepository projectRepo,
+                              ProjectMemberRepository projectMemberRepo,
+                              JdbcTemplate jdbc,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              OutboxWriter outboxWriter,
+                              IssueAnalyticsService analyticsService,
+                              ColumnCountService columnCounts,
+                              ChangeVersionService changeVersions,
+                              @Qualifier("issueImportExecutor") TaskExecutor importExecutor,
+                              @Value("${app.import.max-upload-mb:200}") long maxUploadMb,
+                              @Value("${app.import.batch-size:1000}") int batchSize,
+                              @Value("${app.import.max-record-kb:1024}") int maxRecordKb) {
+        this.projectRepo = projectRepo;
+        this.projectMemberRepo = projectMemberRepo;
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.rowReader = objectMapper.readerFor(IssueImportRow.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.outboxWriter = outboxWriter;
+        this.analyticsService = analyticsService;
+        this.columnCounts = columnCounts;
+        this.changeVersions = changeVersions;
+        this.importExecutor = importExecutor;
+        this.maxUploadBytes = maxUploadMb * 1024 * 1024;
+        this.batchSize = batchSize;
+        this.maxRecordChars = maxRecordKb * 1024;
+    }
+
+    public enum Format { CSV, NDJSON }
+
+    /** Spools the upload and queues the import. Returns once the body is on disk. */
+    public IssueImportJob start(User actor, Long orgId, Long projectId, Format format, InputStream body) {
+        requireProjectMember(actor.getId(), projectId);
+        projectRepo.findByIdAndOrgId(projectId, orgId)
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+
+        Path file = spool(body);
+        IssueImportJob job = new IssueImportJob(orgId, projectId, actor.getId());
+        jobs.put(job.getId(), job);
+        try {
+            importExecutor.execute(() -> run(job, format, file));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            deleteQuietly(file);
+            throw new ConflictException("Too many imports in progress, try again later");
+        }
+        return job;
+    }
+
+    public IssueImportJob status(User actor, Long projectId, String jobId) {
+        requireProjectMember(actor.getId(), projectId);
+        IssueImportJob job = jobs.get(jobId);
+        if (job == null || job.getProjectId() != projectId) {
+            throw new NotFoundException("Import not found");
+        }
+        return job;
+    }
+
+    @Scheduled(fixedDelay = 600_000)
+    void forgetFinishedJobs() {
+        Instant cutoff = Instant.now().minus(JOB_RETENTION);
+        jobs.values().removeIf(j -> j.getFinishedAt() != null && j.getFinishedAt().isBefore(cutoff));
+    }
+
+    // ---- import thread ----
+
+    private void run(IssueImportJob job, Format format, Path file) {
+        job.running();
+        long start = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            ProjectContext ctx = loadContext(job.getProjectId(), job.getUserId());
+            List<Object[]> batch = new ArrayList<>(batchSize);
+
+            RowSource rows = format == Format.CSV ? csvRows(reader) : ndjsonRows(reader);
+            long rowNumber = 0;
+            IssueImportRow row;
+            while ((row = nextRow(rows, job, ++rowNumber)) != null) {
+                if (row == SKIPPED) continue;
+                job.rowRead();
+
+                Object[] params = toParams(row, ctx, job, rowNumber);
+                if (params == null) continue;
+                batch.add(params);
+                if (batch.size() == batchSize) {
+                    insert(batch, job);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) insert(batch, job);
+
+            publishImported(job);
+            job.completed();
+            logger.info("Issue import {} for project {}: {} imported, {} rejected in {} ms",
+                    job.getId(), job.getProjectId(), job.getImported(), job.getRejected(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            logger.error("Issue import {} failed: {}", job.getId(), e.getMessage(), e);
+            job.failed(e.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void insert(List<Object[]> batch, IssueImportJob job) {
+        IssueAnalyticsService.Recorder analytics = analyticsService.recorder(job.getProjectId());
+        ColumnCountService.Changes counts = columnCounts.changes();
+        for (Object[] row : batch) {
+            IssueStatus status = IssueStatus.valueOf((String) row[5]);
+            analytics.created(status, 1);
+            counts.added((Long) row[1], status);
+        }
+        tx.executeWithoutResult(status -> {
+            jdbc.batchUpdate(INSERT_ISSUE, batch);
+            counts.apply(false);
+            analytics.flush();
+            changeVersions.projectChanged(job.getProjectId());
+        });
+        job.imported(batch.size());
+    }
+
+    /** Validates one row into insert parameters, or rejects it and returns null. */
+    private Object[] toParams(IssueImportRow row, ProjectContext ctx, IssueImportJob job, long rowNumber) {
+        String title = trimToNull(row.getTitle());
+        if (title == null) {
+            job.reject(rowNumber, "title is required");
+            return null;
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            job.reject(rowNumber, "title is longer than " + MAX_TITLE_LENGTH + " characters");
+            return null;
+        }
+
+        IssuePriority priority = parseEnum(IssuePriority.class, row.getPriority(), IssuePriority.MEDIUM);
+        IssueStatus status = parseEnum(IssueStatus.class, row.getStatus(), IssueStatus.TO_DO);
+        if (priority == null || status == null) {
+            job.reject(rowNumber, "unknown " + (priority == null ? "priority '" + row.getPriority() : "status '" + row.getStatus()) + "'");
+            return null;
+        }
+
+        Long columnId = ctx.resolveColumn(trimToNull(row.getColumn()));
+        if (columnId == null) {
+            job.reject(rowNumber, "unknown column '" + row.getColumn() + "'");
+            return null;
+        }
+
+        Long assigneeId = null;
+        String assignee = trimToNull(row.getAssignee());
+        if (assignee != null) {
+            assigneeId = ctx.memberIdByEmail.get(assignee.toLowerCase(Locale.ROOT));
+            if (assigneeId == null) {
+                job.reject(rowNumber, "assignee '" + assignee + "' is not a project member");
+                return null;
+            }
+        }
+
+        Long reporterId = ctx.defaultReporterId;
+        String reporter = trimToNull(row.getReporter());
+        if (reporter != null) {
+            reporterId = ctx.memberIdByEmail.get(reporter.toLowerCase(Locale.ROOT));
+            if (reporterId == null) {
+                job.reject(rowNumber, "reporter '" + reporter + "' is not a project member");
+                return null;
+            }
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        return new Object[] {
+                job.getProjectId(), columnId, title, row.getDescription(), priority.name(), status.name(),
+                reporterId, assigneeId, ctx.nextOrderIndex(columnId), now, now,
+                status != IssueStatus.TO_DO ? now : null, status == IssueStatus.DONE ? now : null
+        };
+    }
+
+    private ProjectContext loadContext(long projectId, long actorId) {
+        ProjectContext ctx = new ProjectContext(actorId);
+        // One round trip for columns and their current bottom rank (index-only via idx_issue_column_order)
+        jdbc.query("""
+                select c.id, c.name, (select max(i.order_index) from issues i where i.column_id = c.id)
+                from columns c join boards b on b.id = c.board_id
+                where b.project_id = ?
+                order by c.order_index
+                """,
+                rs -> {
+                    long columnId = rs.getLong(1);
+                    if (ctx.defaultColumnId == null) ctx.defaultColumnId = columnId;
+                    ctx.columnIdByName.putIfAbsent(rs.getString(2).trim().toLowerCase(Locale.ROOT), columnId);
+                    ctx.nextOrderByColumn.put(columnId, rs.getInt(3) + 1); // getInt is 0 for null
+                }, projectId);
+        jdbc.query("""
+                select u.id, u.email from project_members pm join users u on u.id = pm.user_id
+                where pm.project_id = ?
+                """,
+                rs -> {
+                    ctx.memberIdByEmail.put(rs.getString(2).toLowerCase(Locale.ROOT), rs.getLong(1));
+                }, projectId);
+        if (ctx.defaultColumnId == null) {
+            throw new IllegalStateException("Project has no board columns");
+        }
+        return ctx;
+    }
+
+    /** Tells search indexes to reload the project; one event instead of one per imported issue. */
+    private void publishImported(IssueImportJob job) {
+        if (job.getImported() == 0) return;
+        try {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("org_id", job.getOrgId());
+            payload.put("project_id", job.getProjectId());
+            payload.put("import_id", job.getId());
+            payload.put("imported", job.getImported());
+            payload.put("actor_id", job.getUserId());
+            String payloadJson = objectMapper.writeValueAsString(payload);
+
+            tx.executeWithoutResult(status -> outboxWriter.enqueueOrgEvents(List.of(new OutboxWriter.OrgEventDraft(
+                    OrgEventType.ISSUES_IMPORTED,
+                    OutboxWriter.longToUuid(job.getOrgId()),
+                    AggregateType.PROJECT,
+                    OutboxWriter.longToUuid(job.getProjectId()),
+                    String.valueOf(job.getOrgId()),
+                    payloadJson
+            ))));
+        } catch (Exception e) {
+            logger.error("Failed to enqueue outbox event for import {}: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    // ---- parsing ----
+
+    /** Marker for a row that failed to parse and was already reported. */
+    private static final IssueImportRow SKIPPED = new IssueImportRow();
+
+    private interface RowSource {
+        IssueImportRow next() throws IOException;
+    }
+
+    private IssueImportRow nextRow(RowSource rows, IssueImportJob job, long rowNumber) throws IOException {
+        try {
+            return rows.next();
+        } catch (RowFormatException e) {
+            job.rowRead();
+            job.reject(rowNumber, e.getMessage());
+            return SKIPPED;
+        }
+    }
+
+    private RowSource csvRows(BufferedReader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader, maxRecordChars);
+        List<String> header = csv.next();
+        if (header == null) return () -> null;
+
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            index.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!index.containsKey("title")) {
+            throw new IOException("CSV header must contain a 'title' column");
+        }
+
+        return () -> {
+            List<String> record;
+            try {
+                record = csv.next();
+            } catch (CsvReader.RecordTooLongException e) {
+                throw new RowFormatException(e.getMessage());
+            }
+            if (record == null) return null;
+            IssueImportRow row = new IssueImportRow();
+            row.setTitle(cell(record, index, "title"));
+            row.setDescription(cell(record, index, "description"));
+            row.setPriority(cell(record, index, "priority"));
+            row.setStatus(cell(record, index, "status"));
+            row.setColumn(cell(record, index, "column"));
+            row.setAssignee(cell(record, index, "assignee"));
+            row.setReporter(cell(record, index, "reporter"));
+            return row;
+        };
+    }
+
+    private RowSource ndjsonRows(BufferedReader reader) {
+        // One line at a time, so a malformed line is rejected without ending the import
+        return () -> {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) return null;
+            } while (line.isBlank());
+            try {
+                return rowReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                throw new RowFormatException("invalid JSON: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    private static String cell(List<String> record, Map<String, Integer> index, String name) {
+        Integer i = index.get(name);
+        return i == null || i >= record.size() ? null : record.get(i);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String raw, E defaultValue) {
+        String value = trimToNull(raw);
+        if (value == null) return defaultValue;
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT).replace(' ', '_').replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String trimToNull(String s) {
+        if (s == null) return null;
+        String t = s.trim();
+        return t.isEmpty() ? null : t;
+    }
+
+    // ---- upload ----
+
+    private Path spool(InputStream body) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("workly-import-", ".tmp");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                byte[] buffer = new byte[64 * 1024];
+                long total = 0;
+                int n;
+                while ((n = body.read(buffer)) != -1) {
+                    total += n;
+                    if (total > maxUploadBytes) {
+                        throw new BadRequestException("Upload is larger than " + (maxUploadBytes >> 20) + " MB");
+                    }
+                    out.write(buffer, 0, n);
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new IllegalStateException("Failed to store upload", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete import file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void requireProjectMember(Long userId, Long projectId) {
+        if (!projectMemberRepo.existsByProjectIdAndUserId(projectId, userId)) {
+            throw new UnauthorizedException("Not a project member");
+        }
+    }
+
+    private static class RowFormatException extends RuntimeException {
+        RowFormatException(String message) {
+            super(message);
+        }
+    }
+
+    /** Columns and members of the project, resolved once per import. */
+    private static class ProjectContext {
+        final long defaultReporterId;
+        Long defaultColumnId;
+        final Map<String, Long> columnIdByName = new HashMap<>();
+        final Map<Long, Integer> nextOrderByColumn = new HashMap<>();
+        final Map<String, Long> memberIdByEmail = new HashMap<>();
+
+        ProjectContext(long defaultReporterId) {
+            this.defaultReporterId = defaultReporterId;
+        }
+
+        /** By name (case-insensitive), then by id; blank means the board's first column. */
+        Long resolveColumn(String column) {
+            if (column == null) return defaultColumnId;
+            Long id = columnIdByName.get(column.toLowerCase(Locale.ROOT));
+            if (id != null) return id;
+            try {
+                long parsed = Long.parseLong(column);
+                return nextOrderByColumn.containsKey(parsed) ? parsed : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        int nextOrderIndex(long columnId) {
+            return nextOrderByColumn.merge(columnId, 1, Integer::sum) - 1;
+        }
+    }
+}
@@ -4,6 +4,9 @@ import com.sj.Workly.entity.OutboxEvent;
 import com.sj.Workly.entity.enums.OutboxStatus;
 import com.sj.Workly.messaging.producer.OrgEventProducer;
 import com.sj.Workly.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -13,11 +16,23 @@ import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes PENDING outbox events to Kafka in creation order. Metrics:
+ * <ul>
+ *   <li>{@code workly.outbox.backlog}: events still pending after the last poll. Counted only when a poll
+ *   found a full batch; otherwise it is the events that failed and stay pending.</li>
+ *   <li>{@code workly.outbox.publish}: Kafka send until acknowledged (tag: outcome = success/error).</li>
+ *   <li>{@code workly.outbox.delay}: from the event's creation to its publication.</li>
+ * </ul>
+ */
 @Component
 @ConditionalOnProperty(name="app.kafka.enabled", havingValue="true")
 public class OutboxPoller {
@@ -27,6 +42,10 @@ public class OutboxPoller {
     private final OutboxEventRepository outboxRepo;
     private final OrgEventProducer producer;
     private final OrgEventSerializer serializer;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Timer publishedTimer;
+    private final Timer failedTimer;
+    private final Timer delayTimer;
 
     @Value("${app.outbox.batch-size:50}")
     private int batchSize;
@@ -34,10 +53,29 @@ public class OutboxPoller {
     @Value("${app.outbox.max-attempts:5}")
     private int maxAttempts;
 
-    public OutboxPoller(OutboxEventRepository outboxRepo, OrgEventProducer producer, OrgEventSerializer serializer) {
+    public OutboxPoller(OutboxEventRepository outboxRepo, OrgEventProducer producer, OrgEventSerializer serializer,
+                        MeterRegistry meterRegistry) {
         this.outboxRepo = outboxRepo;
         this.producer = producer;
         this.serializer = serializer;
+
+        Gauge.builder("workly.outbox.backlog", backlog, AtomicLong::get)
+                .description("Outbox events waiting to be published")
+                .register(meterRegistry);
+        this.publishedTimer = publishTimer(meterRegistry, "success");
+        this.failedTimer = publishTimer(meterRegistry, "error");
+        this.delayTimer = Timer.builder("workly.outbox.delay")
+                .description("Time from creating an outbox event to publishing it")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Timer publishTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("workly.outbox.publish")
+                .description("Kafka send of an outbox event until acknowledged")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     @Scheduled(fixedDelayString = "${app.outbox.poll-ms:1000}")
@@ -47,11 +85,14 @@ public class OutboxPoller {
         List<OutboxEvent> pendingEvents = outboxRepo.findTop50ByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING);
         
         if (pendingEvents.isEmpty()) {
+            backlog.set(0);
             return; // No events to process
         }
 
         // 2) Process each event
+        int stillPending = 0;
         for (OutboxEvent event : pendingEvents) {
+            long sendStart = 0;
             try {
                 // Build envelope JSON
                 String envelopeJson = serializer.toJsonEnvelope(
@@ -64,19 +105,32 @@ public class OutboxPoller {
 
                 // 3) Publish to Kafka with partitionKey
                 logger.info("Publishing outbox event id={} to topic={} key={}", event.getId(), event.getTopic(), event.getPartitionKey());
+                sendStart = System.nanoTime();
                 producer.publish(event.getPartitionKey(), envelopeJson);
+                publishedTimer.record(System.nanoTime() - sendStart, TimeUnit.NANOSECONDS);
+                sendStart = 0;
 
                 // 4) Mark event as PUBLISHED with publishedAt timestamp
                 event.setStatus(OutboxStatus.PUBLISHED);
                 event.setPublishedAt(Instant.now());
                 outboxRepo.save(event);
+                if (event.getCreatedAt() != null) {
+                    delayTimer.record(Duration.between(event.getCreatedAt(), event.getPublishedAt()));
+                }
 
             } catch (Exception e) {
                 // 5) On error: increment attempts, set lastError, mark as FAILED after max attempts
+                if (sendStart != 0) {
+                    failedTimer.record(System.nanoTime() - sendStart, TimeUnit.NANOSECONDS);
+                }
                 logger.error("Failed to publish outbox event {}: {}", event.getId(), e.getMessage(), e);
                 handlePublishError(event, e);
+                if (event.getStatus() == OutboxStatus.PENDING) stillPending++;
             }
         }
+
+        // A full batch (findTop50) means more are probably waiting; only then is a count worth a query
+        backlog.set(pendingEvents.size() == 50 ? outboxRepo.countByStatus(OutboxStatus.PENDING) : stillPending);
     }
 
     private void handlePublishError(OutboxEvent event, Exception e) {
@@ -6,21 +6,38 @@ import com.sj.Workly.entity.enums.OrgEventType;
 import com.sj.Workly.entity.enums.OutboxStatus;
 import com.sj.Workly.repository.OutboxEventRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @Component
 public class OutboxWriter {
 
+    /** One event for {@link #enqueueOrgEvents}; same fields as {@link #enqueueOrgEvent}. */
+    public record OrgEventDraft(
+            OrgEventType eventType,
+            UUID orgId,
+            AggregateType aggregateType,
+            UUID aggregateId,
+            String partitionKey,
+            String payloadJson
+    ) {}
+
     private final OutboxEventRepository outboxRepo;
+    private final JdbcTemplate jdbc;
     private final String orgEventsTopic;
 
     public OutboxWriter(
             OutboxEventRepository outboxRepo,
+            JdbcTemplate jdbc,
             @Value("${app.kafka.topics.org-events:org.events}") String orgEventsTopic
     ) {
         this.outboxRepo = outboxRepo;
+        this.jdbc = jdbc;
         this.orgEventsTopic = orgEventsTopic;
     }
 
@@ -46,6 +63,34 @@ public class OutboxWriter {
         outboxRepo.save(event);
     }
 
+    /**
+     * Enqueues many events with one JDBC batch (bulk and import paths). The identity id of
+     * outbox_events keeps Hibernate from batching these inserts, so they bypass the entity.
+     * Runs in the caller's transaction like {@link #enqueueOrgEvent}.
+     */
+    public void enqueueOrgEvents(List<OrgEventDraft> events) {
+        if (events.isEmpty()) return;
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbc.batchUpdate("""
+                insert into outbox_events (topic, event_type, aggregate_type, aggregate_id, org_id,
+                                           partition_key, payload_json, status, attempts, created_at)
+                values (?, ?, ?, ?, ?, ?, ?::jsonb, ?, 0, ?)
+                """,
+                events,
+                events.size(),
+                (ps, e) -> {
+                    ps.setString(1, orgEventsTopic);
+                    ps.setString(2, e.eventType().name());
+                    ps.setString(3, e.aggregateType().name());
+                    ps.setObject(4, e.aggregateId());
+                    ps.setObject(5, e.orgId());
+                    ps.setString(6, e.partitionKey());
+                    ps.setString(7, e.payloadJson());
+                    ps.setString(8, OutboxStatus.PENDING.name());
+                    ps.setTimestamp(9, now);
+                });
+    }
+
     /**
      * Helper method to convert Long ID to UUID for outbox events.
      * Uses a deterministic UUID generation based on the Long value.
@@ -0,0 +1,55 @@
+package com.sj.Workly.service.purge;
+
+import com.sj.Workly.dto.purge.PurgeJobResponse;
+import com.sj.Workly.entity.PurgeJob;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.PurgeTargetType;
+import com.sj.Workly.exception.NotFoundException;
+import com.sj.Workly.repository.PurgeJobRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Queues purges of soft-deleted projects and organizations and reports their progress. Callers hide the target
+ * (set deleted_at) in the same transaction; {@link PurgeWorker} removes the data afterwards.
+ */
+@Service
+public class PurgeService {
+
+    private final PurgeJobRepository purgeJobRepo;
+
+    public PurgeService(PurgeJobRepository purgeJobRepo) {
+        this.purgeJobRepo = purgeJobRepo;
+    }
+
+    /** Must run in the transaction that soft-deletes the target, so a rollback drops the job too. */
+    @Transactional
+    public PurgeJobResponse enqueue(User actor, PurgeTargetType targetType, Long targetId) {
+        PurgeJob job = purgeJobRepo.save(new PurgeJob(targetType, targetId, actor.getId()));
+        return toResponse(job);
+    }
+
+    /** Jobs are only visible to the user who requested them; the target itself is already gone for everyone. */
+    @Transactional(readOnly = true)
+    public PurgeJobResponse get(User actor, Long jobId) {
+        PurgeJob job = purgeJobRepo.findByIdAndRequestedByUserId(jobId, actor.getId())
+                .orElseThrow(() -> new NotFoundException("Purge job not found"));
+        return toResponse(job);
+    }
+
+    private PurgeJobResponse toResponse(PurgeJob job) {
+        PurgeJobResponse r = new PurgeJobResponse();
+        r.setId(job.getId());
+        r.setTargetType(job.getTargetType());
+        r.setTargetId(job.getTargetId());
+        r.setStatus(job.getStatus());
+        r.setCurrentStep(job.getCurrentStep());
+        r.setRowsDeleted(job.getRowsDeleted());
+        r.setAttempts(job.getAttempts());
+        r.setLastError(job.getLastError());
+        r.setCreatedAt(job.getCreatedAt());
+        r.setUpdatedAt(job.getUpdatedAt());
+        r.setFinishedAt(job.getFinishedAt());
+        return r;
+    }
+}
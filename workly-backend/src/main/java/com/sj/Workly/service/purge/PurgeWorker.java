@@ -0,0 +1,240 @@
+package com.sj.Workly.service.purge;
+
+import com.sj.Workly.entity.enums.PurgeTargetType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Deletes soft-deleted projects and organizations in the background (purge_jobs).
+ * <ul>
+ *   <li>Dependents are removed leaf-first, at most {@code app.purge.batch-size} rows per statement, each batch in
+ *   its own short transaction. Row locks are held briefly and no table lock is taken, so the purge can run next to
+ *   normal traffic on the same tables.</li>
+ *   <li>Every batch also bumps the job's progress and heartbeat. A RUNNING job whose heartbeat is older than
+ *   {@code app.purge.stale-minutes} (instance died) is picked up again; all steps are idempotent, so it simply
+ *   continues where the data says it stopped.</li>
+ *   <li>Jobs are claimed with {@code for update skip locked}, so several instances never work on the same job.</li>
+ * </ul>
+ */
+@Component
+public class PurgeWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(PurgeWorker.class);
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private record Step(String name, String sql) {}
+
+    // Each statement takes (target id, batch size). Order matters: children before parents.
+    private static final List<Step> PROJECT_STEPS = List.of(
+            new Step("comment notifications", """
+                    delete from notifications where id in (
+                        select n.id from notifications n
+                        join comments c on c.id = n.comment_id
+                        join issues i on i.id = c.issue_id
+                        where i.project_id = ? limit ?)
+                    """),
+            new Step("issue notifications", """
+                    delete from notifications where id in (
+                        select n.id from notifications n
+                        join issues i on i.id = n.issue_id
+                        where i.project_id = ? limit ?)
+                    """),
+            new Step("comments", """
+                    delete from comments where id in (
+                        select c.id from comments c
+                        join issues i on i.id = c.issue_id
+                        where i.project_id = ? limit ?)
+                    """),
+            new Step("issue events", """
+                    delete from issue_events where id in (
+                        select e.id from issue_events e
+                        join issues i on i.id = e.issue_id
+                        where i.project_id = ? limit ?)
+                    """),
+            new Step("issues", """
+                    delete from issues where id in (
+                        select id from issues where project_id = ? limit ?)
+                    """),
+            new Step("column counts", """
+                    delete from column_status_counts where ctid in (
+                        select s.ctid from column_status_counts s
+                        join columns c on c.id = s.column_id
+                        join boards b on b.id = c.board_id
+                        where b.project_id = ? limit ?)
+                    """),
+            new Step("columns", """
+                    delete from columns where id in (
+                        select c.id from columns c
+                        join boards b on b.id = c.board_id
+                        where b.project_id = ? limit ?)
+                    """),
+            new Step("boards", """
+                    delete from boards where id in (
+                        select id from boards where project_id = ? limit ?)
+                    """),
+            new Step("saved filters", """
+                    delete from saved_issue_filters where id in (
+                        select id from saved_issue_filters where project_id = ? limit ?)
+                    """),
+            new Step("status rollups", """
+                    delete from issue_status_daily where ctid in (
+                        select ctid from issue_status_daily where project_id = ? limit ?)
+                    """),
+            new Step("resolution rollups", """
+                    delete from issue_resolution_daily where ctid in (
+                        select ctid from issue_resolution_daily where project_id = ? limit ?)
+                    """),
+            new Step("members", """
+                    delete from project_members where id in (
+                        select id from project_members where project_id = ? limit ?)
+                    """),
+            new Step("change version", """
+                    delete from project_change_versions where project_id in (
+                        select project_id from project_change_versions where project_id = ? limit ?)
+                    """),
+            new Step("project", """
+                    delete from projects where id in (
+                        select id from projects where id = ? and deleted_at is not null limit ?)
+                    """)
+    );
+
+    // Run after all of the org's projects are purged
+    private static final List<Step> ORG_STEPS = List.of(
+            new Step("invites", """
+                    delete from invites where id in (
+                        select id from invites where org_id = ? limit ?)
+                    """),
+            new Step("members", """
+                    delete from org_members where id in (
+                        select id from org_members where org_id = ? limit ?)
+                    """),
+            new Step("change version", """
+                    delete from org_change_versions where org_id in (
+                        select org_id from org_change_versions where org_id = ? limit ?)
+                    """),
+            new Step("organization", """
+                    delete from organizations where id in (
+                        select id from organizations where id = ? and deleted_at is not null limit ?)
+                    """)
+    );
+
+    private static final String CLAIM = """
+            update purge_jobs
+            set status = 'RUNNING', attempts = attempts + 1, updated_at = now(),
+                started_at = coalesce(started_at, now())
+            where id = (
+                select id from purge_jobs
+                where status = 'PENDING'
+                   or (status = 'RUNNING' and updated_at < now() - make_interval(mins => ?))
+                order by id
+                limit 1
+                for update skip locked)
+            returning id, target_type, target_id, attempts
+            """;
+
+    private static final String PROGRESS = """
+            update purge_jobs set rows_deleted = rows_deleted + ?, current_step = ?, updated_at = now()
+            where id = ?
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+
+    @Value("${app.purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.purge.pause-ms:50}")
+    private long pauseMs;
+
+    @Value("${app.purge.stale-minutes:10}")
+    private int staleMinutes;
+
+    public PurgeWorker(JdbcTemplate jdbc, PlatformTransactionManager transactionManager) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    private record Claimed(long id, PurgeTargetType targetType, long targetId, int attempts) {}
+
+    /** Works off queued jobs one at a time until none is left. */
+    @Scheduled(fixedDelayString = "${app.purge.poll-ms:15000}")
+    public void run() {
+        Claimed job;
+        while ((job = claim()) != null) {
+            try {
+                if (job.targetType() == PurgeTargetType.PROJECT) {
+                    purgeProject(job.id(), job.targetId());
+                } else {
+                    purgeOrganization(job.id(), job.targetId());
+                }
+                jdbc.update("""
+                        update purge_jobs set status = 'DONE', current_step = null, last_error = null,
+                            updated_at = now(), finished_at = now()
+                        where id = ?
+                        """, job.id());
+                logger.info("Purged {} {} (job {})", job.targetType(), job.targetId(), job.id());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return; // shutting down; the heartbeat goes stale and the job is resumed later
+            } catch (RuntimeException e) {
+                boolean giveUp = job.attempts() >= MAX_ATTEMPTS;
+                logger.error("Purge job {} failed (attempt {}): {}", job.id(), job.attempts(), e.getMessage());
+                jdbc.update("""
+                        update purge_jobs set status = ?, last_error = ?, updated_at = now(),
+                            finished_at = case when ? then now() end
+                        where id = ?
+                        """, giveUp ? "FAILED" : "PENDING", String.valueOf(e.getMessage()), giveUp, job.id());
+                if (!giveUp) return; // retry on the next poll rather than in a tight loop
+            }
+        }
+    }
+
+    private Claimed claim() {
+        List<Claimed> claimed = jdbc.query(CLAIM, (rs, i) -> new Claimed(
+                rs.getLong(1), PurgeTargetType.valueOf(rs.getString(2)), rs.getLong(3), rs.getInt(4)), staleMinutes);
+        return claimed.isEmpty() ? null : claimed.get(0);
+    }
+
+    private void purgeOrganization(long jobId, long orgId) throws InterruptedException {
+        List<Long> projectIds = jdbc.queryForList(
+                "select id from projects where org_id = ? order by id", Long.class, orgId);
+        for (Long projectId : projectIds) {
+            // Normally hidden together with the org already; marks any straggler so the project step's guard lets it go
+            jdbc.update("update projects set deleted_at = now() where id = ? and deleted_at is null", projectId);
+            purgeProject(jobId, projectId);
+        }
+        runSteps(jobId, "organization " + orgId, ORG_STEPS, orgId);
+    }
+
+    private void purgeProject(long jobId, long projectId) throws InterruptedException {
+        runSteps(jobId, "project " + projectId, PROJECT_STEPS, projectId);
+    }
+
+    private void runSteps(long jobId, String label, List<Step> steps, long targetId) throws InterruptedException {
+        for (Step step : steps) {
+            String current = label + ": " + step.name();
+            int deleted;
+            do {
+                deleted = tx.execute(status -> {
+                    // Skips per-row work in triggers, e.g. rebuilding search vectors of issues deleted next
+                    jdbc.execute("set local workly.purge = 'on'");
+                    int n = jdbc.update(step.sql(), targetId, batchSize);
+                    jdbc.update(PROGRESS, n, current, jobId);
+                    return n;
+                });
+                if (deleted == batchSize && pauseMs > 0) {
+                    Thread.sleep(pauseMs); // let autovacuum and replicas keep up on large projects
+                }
+            } while (deleted == batchSize);
+        }
+    }
+}
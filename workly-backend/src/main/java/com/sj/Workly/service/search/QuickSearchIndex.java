@@ -0,0 +1,569 @@
+package com.sj.Workly.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory quick-search index for ONE organization (issue titles, project names, member names).
+ * <ul>
+ *   <li>Every word is indexed by its 1-, 2- and 3-char prefixes and by all of its trigrams; the label's
+ *   first word also by its prefixes in a separate key space.</li>
+ *   <li>A query is answered in three match classes - label prefix, word prefix, substring - each from
+ *   the intersection of the matching postings, verified against the label.</li>
+ * </ul>
+ * Documents get increasing internal ids, so postings stay sorted by appending. Removed documents are
+ * tombstoned and the postings are rebuilt once tombstones outnumber a quarter of the live documents.
+ * Reads take a shared lock; writes (incremental updates from org.events) take the exclusive lock.
+ */
+public class QuickSearchIndex {
+
+    public enum Kind { ISSUE, PROJECT, MEMBER }
+
+    /** projectId is null for org-wide documents (members). */
+    public record Hit(Kind kind, long id, Long projectId, String label, int score) {}
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Kind[] KINDS = Kind.values();
+    private static final long WORD_START_FLAG = 1L << 48;
+    private static final long LABEL_START_FLAG = 1L << 49;
+    private static final long NO_PROJECT = -1L;
+
+    // Caps verification work per match class when few candidates pass the project filter.
+    // Postings are walked newest-first, so the cap favours recently added documents.
+    private static final int MAX_CANDIDATES = 20_000;
+
+    private static final int SCORE_LABEL_PREFIX = 300;
+    private static final int SCORE_WORD_PREFIX = 200;
+    private static final int SCORE_SUBSTRING = 100;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private final LongIntMap docByKey = new LongIntMap();
+
+    private byte[] kinds = new byte[64];
+    private long[] ids = new long[64];
+    private long[] projectIds = new long[64];
+    private String[] labels = new String[64]; // null = tombstone
+    private int docCount;
+    private int liveCount;
+    private long labelChars;
+
+    // ---- writes ----
+
+    /** Adds or replaces the document for (kind, id). */
+    public void put(Kind kind, long id, Long projectId, String label) {
+        if (label == null || label.isBlank()) {
+            remove(kind, id);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int existing = docByKey.get(key(kind, id));
+            if (existing >= 0 && label.equals(labels[existing])
+                    && projectIds[existing] == (projectId == null ? NO_PROJECT : projectId)) {
+                return;
+            }
+            if (existing >= 0) tombstone(existing);
+            addDoc(kind, id, projectId, label);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Kind kind, long id) {
+        lock.writeLock().lock();
+        try {
+            int existing = docByKey.get(key(kind, id));
+            if (existing >= 0) {
+                tombstone(existing);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Removes a project and every issue that belongs to it. */
+    public void removeProject(long projectId) {
+        lock.writeLock().lock();
+        try {
+            for (int doc = 0; doc < docCount; doc++) {
+                if (labels[doc] != null && projectIds[doc] == projectId) {
+                    tombstone(doc);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ---- reads ----
+
+    /**
+     * Returns up to {@code limit} hits, best match class first and newest first within a class.
+     * Each class is collected from its own (smaller) candidate set and the search stops as soon as
+     * {@code limit} hits are found, so common typeahead queries touch only a few postings entries.
+     *
+     * @param projectFilter documents with a projectId are only returned if this accepts it
+     */
+    public List<Hit> search(String query, int limit, LongPredicate projectFilter) {
+        String[] words = words(normalize(query));
+        if (words.length == 0 || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            List<Hit> result = new ArrayList<>(limit);
+            collect(labelPrefixCandidates(words), SCORE_LABEL_PREFIX, words, limit, projectFilter, result);
+            if (result.size() < limit) {
+                collect(wordPrefixCandidates(words), SCORE_WORD_PREFIX, words, limit, projectFilter, result);
+            }
+            if (result.size() < limit) {
+                collect(substringCandidates(words), SCORE_SUBSTRING, words, limit, projectFilter, result);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Rough heap footprint, used by {@link QuickSearchService} to bound memory across orgs. */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = (long) kinds.length * (1 + 8 + 8 + 8) + docByKey.capacity() * 12L;
+            bytes += labelChars + (long) liveCount * 56; // compact label bytes + String/array headers
+            for (IntList list : postings.values()) {
+                bytes += 64 + list.data.length * 4L; // map entry + boxed key + IntList + array
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ---- internals ----
+
+    /**
+     * Walks the intersection of {@code lists} newest-first without materializing it: the smallest list
+     * drives the walk and membership in the others is checked by binary search below a cursor that only
+     * moves down. Stops after {@code limit} hits, so cost depends on how far we walk, not on list sizes.
+     */
+    private void collect(List<IntList> lists, int matchClass, String[] words, int limit,
+                         LongPredicate projectFilter, List<Hit> result) {
+        if (lists == null) return;
+        lists.sort(Comparator.comparingInt(l -> l.size));
+        IntList driver = lists.get(0);
+        int[] upper = new int[lists.size()];
+        for (int l = 1; l < upper.length; l++) upper[l] = lists.get(l).size;
+
+        int scanned = 0;
+        walk:
+        for (int i = driver.size - 1; i >= 0 && scanned < MAX_CANDIDATES; i--) {
+            int doc = driver.data[i];
+            for (int l = 1; l < upper.length; l++) {
+                int at = Arrays.binarySearch(lists.get(l).data, 0, upper[l], doc);
+                if (at < 0) {
+                    upper[l] = -at - 1;
+                    continue walk;
+                }
+                upper[l] = at;
+            }
+            scanned++;
+
+            String label = labels[doc];
+            if (label == null) continue;
+            long projectId = projectIds[doc];
+            if (projectId != NO_PROJECT && !projectFilter.test(projectId)) continue;
+            if (matchClass(label, words) != matchClass || contains(result, doc)) continue;
+
+            result.add(hit(doc, matchClass));
+            if (result.size() == limit) return;
+        }
+    }
+
+    private boolean contains(List<Hit> result, int doc) {
+        for (Hit h : result) {
+            if (h.id() == ids[doc] && h.kind().ordinal() == kinds[doc]) return true;
+        }
+        return false;
+    }
+
+    /** First query word starts the label, every later word starts some label word. */
+    private List<IntList> labelPrefixCandidates(String[] words) {
+        List<IntList> lists = new ArrayList<>();
+        if (!add(lists, postings.get(labelStartKey(words[0]))) || !addTrigrams(lists, words[0], 1)) return null;
+        for (int w = 1; w < words.length; w++) {
+            if (!add(lists, postings.get(wordStartKey(words[w]))) || !addTrigrams(lists, words[w], 1)) return null;
+        }
+        return lists;
+    }
+
+    /** Every query word starts some label word. */
+    private List<IntList> wordPrefixCandidates(String[] words) {
+        List<IntList> lists = new ArrayList<>();
+        for (String word : words) {
+            if (!add(lists, postings.get(wordStartKey(word))) || !addTrigrams(lists, word, 1)) return null;
+        }
+        return lists;
+    }
+
+    /** Query words of 3+ chars may appear anywhere in the label; shorter ones must still start a word. */
+    private List<IntList> substringCandidates(String[] words) {
+        List<IntList> lists = new ArrayList<>();
+        for (String word : words) {
+            boolean found = word.length() < 3
+                    ? add(lists, postings.get(wordStartKey(word)))
+                    : addTrigrams(lists, word, 0);
+            if (!found) return null;
+        }
+        return lists;
+    }
+
+    private static boolean add(List<IntList> lists, IntList list) {
+        if (list == null) return false;
+        lists.add(list);
+        return true;
+    }
+
+    /** Adds the postings of every trigram starting at {@code from} or later (0 is covered by the start keys). */
+    private boolean addTrigrams(List<IntList> lists, String word, int from) {
+        for (int i = from; i + 3 <= word.length(); i++) {
+            if (!add(lists, postings.get(trigramKey(word, i)))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Verifies a candidate against the (already normalized) query words. Allocation-free for ASCII
+     * labels, which are compared case-insensitively in place; other labels are normalized first.
+     */
+    static int matchClass(String label, String[] words) {
+        String text = isAscii(label) ? label : normalize(label);
+
+        // Label prefix: query words match the leading label words in order, the last one as a prefix
+        int pos = 0;
+        boolean labelPrefix = true;
+        for (int w = 0; w < words.length && labelPrefix; w++) {
+            pos = nextWordStart(text, pos);
+            String word = words[w];
+            int end = wordEnd(text, pos);
+            boolean last = w == words.length - 1;
+            labelPrefix = pos < text.length()
+                    && (last ? end - pos >= word.length() : end - pos == word.length())
+                    && text.regionMatches(true, pos, word, 0, word.length());
+            pos = end;
+        }
+        if (labelPrefix) return SCORE_LABEL_PREFIX;
+
+        boolean allWordPrefixes = true;
+        for (String word : words) {
+            if (startsSomeWord(text, word)) continue;
+            allWordPrefixes = false;
+            if (word.length() < 3 || !containsIgnoreCase(text, word)) return 0;
+        }
+        return allWordPrefixes ? SCORE_WORD_PREFIX : SCORE_SUBSTRING;
+    }
+
+    private static boolean startsSomeWord(String text, String word) {
+        for (int pos = nextWordStart(text, 0); pos < text.length(); pos = nextWordStart(text, wordEnd(text, pos))) {
+            if (text.regionMatches(true, pos, word, 0, word.length())) return true;
+        }
+        return false;
+    }
+
+    private static boolean containsIgnoreCase(String text, String word) {
+        for (int pos = 0; pos + word.length() <= text.length(); pos++) {
+            if (text.regionMatches(true, pos, word, 0, word.length())) return true;
+        }
+        return false;
+    }
+
+    private static int nextWordStart(String text, int from) {
+        int i = from;
+        while (i < text.length() && !Character.isLetterOrDigit(text.charAt(i))) i++;
+        return i;
+    }
+
+    private static int wordEnd(String text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) i++;
+        return i;
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0x7F) return false;
+        }
+        return true;
+    }
+
+    private Hit hit(int doc, int score) {
+        long projectId = projectIds[doc];
+        return new Hit(KINDS[kinds[doc]], ids[doc], projectId == NO_PROJECT ? null : projectId, labels[doc], score);
+    }
+
+    private void addDoc(Kind kind, long id, Long projectId, String label) {
+        ensureCapacity(docCount + 1);
+        int doc = docCount++;
+        kinds[doc] = (byte) kind.ordinal();
+        ids[doc] = id;
+        projectIds[doc] = projectId == null ? NO_PROJECT : projectId;
+        labels[doc] = label;
+        docByKey.put(key(kind, id), doc);
+        liveCount++;
+        labelChars += label.length();
+        indexGrams(doc, label);
+    }
+
+    private void indexGrams(int doc, String label) {
+        String[] words = words(normalize(label));
+        for (int w = 0; w < words.length; w++) {
+            String word = words[w];
+            for (int len = 1; len <= Math.min(3, word.length()); len++) {
+                String prefix = word.substring(0, len);
+                append(wordStartKey(prefix), doc);
+                if (w == 0) append(labelStartKey(prefix), doc);
+            }
+            for (int i = 0; i + 3 <= word.length(); i++) {
+                append(trigramKey(word, i), doc);
+            }
+        }
+    }
+
+    private void append(long gram, int doc) {
+        IntList list = postings.computeIfAbsent(gram, g -> new IntList(4));
+        // Grams of one document are appended together, so a repeat is always the last element
+        if (list.size > 0 && list.data[list.size - 1] == doc) return;
+        list.add(doc);
+    }
+
+    private void tombstone(int doc) {
+        docByKey.remove(key(KINDS[kinds[doc]], ids[doc]));
+        labelChars -= labels[doc].length();
+        labels[doc] = null;
+        liveCount--;
+    }
+
+    private void compactIfNeeded() {
+        int dead = docCount - liveCount;
+        if (dead < 1024 || dead * 4 < liveCount) return;
+
+        byte[] oldKinds = kinds;
+        long[] oldIds = ids;
+        long[] oldProjects = projectIds;
+        String[] oldLabels = labels;
+        int oldCount = docCount;
+
+        int capacity = Math.max(64, liveCount + liveCount / 2);
+        kinds = new byte[capacity];
+        ids = new long[capacity];
+        projectIds = new long[capacity];
+        labels = new String[capacity];
+        docCount = 0;
+        liveCount = 0;
+        labelChars = 0;
+        postings.clear();
+        docByKey.clear();
+
+        for (int doc = 0; doc < oldCount; doc++) {
+            if (oldLabels[doc] == null) continue;
+            long projectId = oldProjects[doc];
+            addDoc(KINDS[oldKinds[doc]], oldIds[doc], projectId == NO_PROJECT ? null : projectId, oldLabels[doc]);
+        }
+        for (IntList list : postings.values()) list.trim();
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= kinds.length) return;
+        int capacity = Math.max(needed, kinds.length + (kinds.length >> 1));
+        kinds = Arrays.copyOf(kinds, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        projectIds = Arrays.copyOf(projectIds, capacity);
+        labels = Arrays.copyOf(labels, capacity);
+    }
+
+    private static long key(Kind kind, long id) {
+        return ((long) kind.ordinal() << 60) | id;
+    }
+
+    /** Key for the first (up to) 3 chars of any word. */
+    private static long wordStartKey(String word) {
+        return WORD_START_FLAG | shortGram(word);
+    }
+
+    /** Key for the first (up to) 3 chars of the label's first word. */
+    private static long labelStartKey(String word) {
+        return LABEL_START_FLAG | shortGram(word);
+    }
+
+    private static long shortGram(String word) {
+        long c1 = word.charAt(0);
+        long c2 = word.length() > 1 ? word.charAt(1) : 0;
+        long c3 = word.length() > 2 ? word.charAt(2) : 0;
+        return (c1 << 32) | (c2 << 16) | c3;
+    }
+
+    private static long trigramKey(String word, int i) {
+        return ((long) word.charAt(i) << 32) | ((long) word.charAt(i + 1) << 16) | word.charAt(i + 2);
+    }
+
+    static String normalize(String input) {
+        if (input == null) return "";
+        String s = input;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0x7F) {
+                s = COMBINING_MARKS.matcher(Normalizer.normalize(s, Normalizer.Form.NFKD)).replaceAll("");
+                break;
+            }
+        }
+        return s.toLowerCase(Locale.ROOT);
+    }
+
+    private static String[] words(String normalized) {
+        List<String> out = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean alnum = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (alnum && start < 0) {
+                start = i;
+            } else if (!alnum && start >= 0) {
+                out.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return out.toArray(new String[0]);
+    }
+
+    // ---- small primitive collections (avoid boxing a million entries) ----
+
+    private static final class IntList {
+        int[] data;
+        int size;
+
+        IntList(int capacity) {
+            data = new int[capacity];
+        }
+
+        void add(int value) {
+            if (size == data.length) data = Arrays.copyOf(data, Math.max(4, size + (size >> 1)));
+            data[size++] = value;
+        }
+
+        void trim() {
+            if (data.length != size) data = Arrays.copyOf(data, size);
+        }
+    }
+
+    /** Open-addressing long -> int map; -1 means absent. */
+    private static final class LongIntMap {
+        private static final long EMPTY = Long.MIN_VALUE;
+        private static final long REMOVED = Long.MIN_VALUE + 1;
+
+        private long[] keys = newKeys(64);
+        private int[] values = new int[64];
+        private int size; // live slots
+        private int used; // live + removed slots
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                long k = keys[i];
+                if (k == EMPTY) return -1;
+                if (k == key) return values[i];
+            }
+        }
+
+        void put(long key, int value) {
+            if ((used + 1) * 4 >= keys.length * 3) {
+                // Mostly tombstones -> clean up in place, otherwise grow
+                rehash(size * 2 >= keys.length ? keys.length * 2 : keys.length);
+            }
+            int mask = keys.length - 1;
+            int firstRemoved = -1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                long k = keys[i];
+                if (k == key) {
+                    values[i] = value;
+                    return;
+                }
+                if (k == REMOVED && firstRemoved < 0) firstRemoved = i;
+                if (k == EMPTY) {
+                    int slot = firstRemoved >= 0 ? firstRemoved : i;
+                    if (firstRemoved < 0) used++;
+                    size++;
+                    keys[slot] = key;
+                    values[slot] = value;
+                    return;
+                }
+            }
+        }
+
+        void remove(long key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                long k = keys[i];
+                if (k == EMPTY) return;
+                if (k == key) {
+                    keys[i] = REMOVED;
+                    size--;
+                    return;
+                }
+            }
+        }
+
+        void clear() {
+            keys = newKeys(64);
+            values = new int[64];
+            size = 0;
+            used = 0;
+        }
+
+        int capacity() {
+            return keys.length;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = newKeys(capacity);
+            values = new int[capacity];
+            size = 0;
+            used = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY && oldKeys[i] != REMOVED) put(oldKeys[i], oldValues[i]);
+            }
+        }
+
+        private static long[] newKeys(int capacity) {
+            long[] k = new long[capacity];
+            Arrays.fill(k, EMPTY);
+            return k;
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.sj.Workly.service.search;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sj.Workly.dto.search.QuickSearchResult;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.OrgEventType;
+import com.sj.Workly.exception.UnauthorizedException;
+import com.sj.Workly.repository.OrgMemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+
+/**
+ * Org-wide typeahead over issue titles, project names and member names, served from one
+ * {@link QuickSearchIndex} per organization.
+ * <ul>
+ *   <li>An org's index is built on its first search (one streamed query per document kind) and kept
+ *   up to date from org.events by {@link #apply}; events for orgs without an index are ignored.</li>
+ *   <li>Indexes are rebuilt after {@code max-age-minutes} so anything the events missed heals itself, and after
+ *   bulk imports. Rebuilds run on {@code quickSearchRebuildExecutor}; searches keep using the old index until
+ *   the new one replaces it, and events reach both meanwhile.</li>
+ *   <li>When the indexes together exceed {@code max-memory-mb}, the least recently searched orgs are dropped.</li>
+ * </ul>
+ * Issues and projects are only returned for projects the caller is a member of. Memberships are cached
+ * per (user, org) for {@code access-cache-seconds}, so a keystroke costs no database round trip.
+ */
+@Service
+public class QuickSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuickSearchService.class);
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+    private static final int FETCH_SIZE = 5_000;
+
+    private final OrgMemberRepository orgMemberRepo;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate readOnlyTx;
+    private final TaskExecutor rebuildExecutor;
+
+    private final long maxMemoryBytes;
+    private final long maxAgeMillis;
+    private final long accessCacheMillis;
+
+    private final Map<Long, OrgEntry> orgs = new ConcurrentHashMap<>();
+    /** Background rebuilds in progress; an entry here replaces the org's entry in {@link #orgs} when built. */
+    private final Map<Long, OrgEntry> rebuilds = new ConcurrentHashMap<>();
+    private final Map<AccessKey, Access> accessCache = new ConcurrentHashMap<>();
+
+    public QuickSearchService(OrgMemberRepository orgMemberRepo,
+                              DataSource dataSource,
+                              PlatformTransactionManager transactionManager,
+                              @Qualifier("quickSearchRebuildExecutor") TaskExecutor rebuildExecutor,
+                              @Value("${app.quick-search.max-memory-mb:256}") long maxMemoryMb,
+                              @Value("${app.quick-search.max-age-minutes:30}") long maxAgeMinutes,
+                              @Value("${app.quick-search.access-cache-seconds:30}") long accessCacheSeconds) {
+        this.orgMemberRepo = orgMemberRepo;
+
+        // Own template: a fetch size makes the Postgres driver stream rows instead of buffering the org
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(FETCH_SIZE);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.rebuildExecutor = rebuildExecutor;
+
+        this.maxMemoryBytes = maxMemoryMb * 1024 * 1024;
+        this.maxAgeMillis = maxAgeMinutes * 60_000;
+        this.accessCacheMillis = accessCacheSeconds * 1_000;
+    }
+
+    public List<QuickSearchResult> search(User actor, Long orgId, String query, Integer limit) {
+        Access access = access(actor.getId(), orgId);
+        if (query == null || query.isBlank()) return List.of();
+
+        int max = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+        long[] projectIds = access.projectIds();
+        return index(orgId).search(query, max, projectId -> Arrays.binarySearch(projectIds, projectId) >= 0)
+                .stream()
+                .map(this::toResult)
+                .toList();
+    }
+
+    /** Applies one org.events message to the org's index, if that index is loaded (or loading). */
+    public void apply(OrgEventType eventType, JsonNode payload) {
+        long orgId = payload.path("org_id").asLong(-1);
+        if (orgId <= 0) return;
+
+        switch (eventType) {
+            case ISSUE_CREATED, ISSUE_UPDATED -> update(orgId, index -> index.put(QuickSearchIndex.Kind.ISSUE,
+                    payload.path("issue_id").asLong(), payload.path("project_id").asLong(), payload.path("issue_title").asText(null)));
+            case PROJECT_CREATED, PROJECT_UPDATED -> {
+                long projectId = payload.path("project_id").asLong();
+                // The creator is a member of the new project; don't make them wait for the access cache
+                accessCache.remove(new AccessKey(payload.path("actor_id").asLong(), orgId));
+                update(orgId, index -> index.put(QuickSearchIndex.Kind.PROJECT,
+                        projectId, projectId, payload.path("project_name").asText(null)));
+            }
+            case PROJECT_DELETED -> update(orgId, index -> index.removeProject(payload.path("project_id").asLong()));
+            // Bulk imports publish one event, not one per issue: rebuild on the next search instead
+            case ISSUES_IMPORTED -> markStale(orgId);
+            case ORG_INVITE_ACCEPTED -> {
+                long userId = payload.path("user_id").asLong();
+                accessCache.remove(new AccessKey(userId, orgId));
+                update(orgId, index -> index.put(QuickSearchIndex.Kind.MEMBER, userId, null,
+                        memberLabel(payload.path("user_name").asText(null), payload.path("user_email").asText(null))));
+            }
+            case ORG_MEMBER_REMOVED -> {
+                long userId = payload.path("user_id").asLong();
+                accessCache.remove(new AccessKey(userId, orgId));
+                update(orgId, index -> index.remove(QuickSearchIndex.Kind.MEMBER, userId));
+            }
+            default -> { }
+        }
+    }
+
+    // ---- index lifecycle ----
+
+    private QuickSearchIndex index(Long orgId) {
+        long now = System.currentTimeMillis();
+        OrgEntry entry = orgs.get(orgId);
+        if (entry != null && entry.builtIndex() != null && (entry.stale || now - entry.builtAt > maxAgeMillis)) {
+            rebuildInBackground(orgId);
+        }
+        if (entry == null) {
+            OrgEntry created = new OrgEntry(orgId);
+            entry = orgs.putIfAbsent(orgId, created);
+            if (entry == null) {
+                // Build on this thread, outside the map; concurrent searches for the org wait on the task
+                entry = created;
+                created.task.run();
+                evictIfOverBudget(created);
+            }
+        }
+        entry.lastAccess = now;
+
+        try {
+            return entry.task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building quick-search index", e);
+        } catch (ExecutionException e) {
+            orgs.remove(orgId, entry); // let the next search retry
+            throw new IllegalStateException("Failed to build quick-search index for org " + orgId, e.getCause());
+        }
+    }
+
+    /** Builds a new index for the org while the current one keeps serving; at most one rebuild per org at a time. */
+    private void rebuildInBackground(long orgId) {
+        OrgEntry rebuilt = new OrgEntry(orgId);
+        if (rebuilds.putIfAbsent(orgId, rebuilt) != null) return;
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuilt.task.run();
+                    rebuilt.task.get();
+                    // Evicted meanwhile: stay evicted
+                    OrgEntry replaced = orgs.computeIfPresent(orgId, (id, old) -> {
+                        rebuilt.lastAccess = old.lastAccess;
+                        return rebuilt;
+                    });
+                    if (replaced == rebuilt) evictIfOverBudget(rebuilt);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    // The old index stays; a later search tries again
+                    logger.warn("Failed to rebuild quick-search index for org {}: {}", orgId, e.getCause().getMessage());
+                } finally {
+                    rebuilds.remove(orgId, rebuilt);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rebuilds.remove(orgId, rebuilt);
+        }
+    }
+
+    /** The org's index misses changes not sent as events: rebuild it on the next search. */
+    private void markStale(long orgId) {
+        // A rebuild in progress may have read the database before the change
+        OrgEntry rebuilding = rebuilds.get(orgId);
+        if (rebuilding != null) rebuilding.stale = true;
+        OrgEntry entry = orgs.get(orgId);
+        if (entry != null) entry.stale = true;
+    }
+
+    private void update(long orgId, Consumer<QuickSearchIndex> change) {
+        // Rebuild first: a finished rebuild is put into orgs before it leaves rebuilds, so no event misses it
+        OrgEntry rebuilding = rebuilds.get(orgId);
+        if (rebuilding != null) rebuilding.apply(change);
+        OrgEntry entry = orgs.get(orgId);
+        if (entry != null && entry != rebuilding) entry.apply(change);
+    }
+
+    private QuickSearchIndex build(long orgId) {
+        long start = System.nanoTime();
+        QuickSearchIndex index = new QuickSearchIndex();
+        readOnlyTx.executeWithoutResult(status -> {
+            jdbc.query("""
+                    select p.id, p.name from projects p where p.org_id = ? order by p.id
+                    """,
+                    rs -> {
+                        long projectId = rs.getLong(1);
+                        index.put(QuickSearchIndex.Kind.PROJECT, projectId, projectId, rs.getString(2));
+                    }, orgId);
+            jdbc.query("""
+                    select u.id, u.name, u.email from org_members m join users u on u.id = m.user_id
+                    where m.org_id = ? order by u.id
+                    """,
+                    rs -> {
+                        index.put(QuickSearchIndex.Kind.MEMBER, rs.getLong(1), null, memberLabel(rs.getString(2), rs.getString(3)));
+                    }, orgId);
+            // Ascending ids: newer issues get higher doc ids and win ties in the index
+            jdbc.query("""
+                    select i.id, i.project_id, i.title from issues i join projects p on p.id = i.project_id
+                    where p.org_id = ? order by i.id
+                    """,
+                    rs -> {
+                        index.put(QuickSearchIndex.Kind.ISSUE, rs.getLong(1), rs.getLong(2), rs.getString(3));
+                    }, orgId);
+        });
+        logger.info("Built quick-search index for org {}: {} documents, ~{} KB in {} ms",
+                orgId, index.size(), index.estimatedBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    /** Drops the least recently searched orgs (never the one just built) until the total fits the budget. */
+    private void evictIfOverBudget(OrgEntry keep) {
+        List<OrgEntry> built = new ArrayList<>();
+        long total = 0;
+        for (OrgEntry entry : orgs.values()) {
+            if (!entry.task.isDone() || entry.builtIndex() == null) continue;
+            built.add(entry);
+            total += entry.builtIndex().estimatedBytes();
+        }
+        if (total <= maxMemoryBytes) return;
+
+        built.sort(Comparator.comparingLong(e -> e.lastAccess));
+        for (OrgEntry entry : built) {
+            if (total <= maxMemoryBytes) break;
+            if (entry == keep) continue;
+            if (orgs.remove(entry.orgId, entry)) {
+                total -= entry.builtIndex().estimatedBytes();
+                logger.info("Evicted quick-search index for org {}", entry.orgId);
+            }
+        }
+    }
+
+    // ---- access ----
+
+    private Access access(Long userId, Long orgId) {
+        AccessKey key = new AccessKey(userId, orgId);
+        long now = System.currentTimeMillis();
+        Access cached = accessCache.get(key);
+        if (cached != null && cached.expiresAt() > now) return cached;
+
+        if (!orgMemberRepo.existsByOrgIdAndUserId(orgId, userId)) {
+            accessCache.remove(key);
+            throw new UnauthorizedException("Not a member of this organization");
+        }
+        long[] projectIds = jdbc.queryForList("""
+                select pm.project_id from project_members pm join projects p on p.id = pm.project_id
+                where pm.user_id = ? and p.org_id = ? order by pm.project_id
+                """, Long.class, userId, orgId)
+                .stream().mapToLong(Long::longValue).toArray();
+
+        Access access = new Access(projectIds, now + accessCacheMillis);
+        if (accessCache.size() > 10_000) {
+            accessCache.values().removeIf(a -> a.expiresAt() <= now);
+        }
+        accessCache.put(key, access);
+        return access;
+    }
+
+    private static String memberLabel(String name, String email) {
+        if (name == null || name.isBlank()) return email;
+        return email == null ? name : name + " (" + email + ")";
+    }
+
+    private QuickSearchResult toResult(QuickSearchIndex.Hit h) {
+        QuickSearchResult r = new QuickSearchResult();
+        r.setType(h.kind());
+        r.setId(h.id());
+        r.setProjectId(h.projectId());
+        r.setLabel(h.label());
+        return r;
+    }
+
+    private record AccessKey(long userId, long orgId) {}
+
+    /** projectIds is sorted for binary search. */
+    private record Access(long[] projectIds, long expiresAt) {}
+
+    /**
+     * One org's index. Events that arrive while it is still being built are queued and replayed
+     * onto the built index, so nothing committed after the snapshot queries is lost.
+     */
+    private final class OrgEntry {
+        final long orgId;
+        final FutureTask<QuickSearchIndex> task;
+        volatile long lastAccess = System.currentTimeMillis();
+        volatile long builtAt;
+        volatile boolean stale;
+
+        private QuickSearchIndex index;
+        private List<Consumer<QuickSearchIndex>> pending = new ArrayList<>();
+
+        OrgEntry(long orgId) {
+            this.orgId = orgId;
+            this.task = new FutureTask<>(() -> ready(build(orgId)));
+        }
+
+        void apply(Consumer<QuickSearchIndex> change) {
+            QuickSearchIndex target;
+            synchronized (this) {
+                if (index == null) {
+                    pending.add(change);
+                    return;
+                }
+                target = index;
+            }
+            change.accept(target);
+        }
+
+        private synchronized QuickSearchIndex ready(QuickSearchIndex built) {
+            pending.forEach(change -> change.accept(built));
+            pending = null;
+            index = built;
+            builtAt = System.currentTimeMillis();
+            return built;
+        }
+
+        synchronized QuickSearchIndex builtIndex() {
+            return index;
+        }
+    }
+}
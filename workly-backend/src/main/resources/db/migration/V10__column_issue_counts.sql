@@ -0,0 +1,21 @@
+-- Denormalized issue counts for board column headers, maintained by ColumnCountService in the same
+-- transaction as the issue write, plus an optional WIP limit checked by the same conditional UPDATE.
+
+alter table columns add column if not exists issue_count integer not null default 0;
+alter table columns add column if not exists wip_limit   integer;
+
+create table if not exists column_status_counts (
+    column_id   bigint      not null references columns (id),
+    status      varchar(20) not null,
+    issue_count integer     not null default 0,
+    primary key (column_id, status)
+);
+
+update columns c
+set issue_count = (select count(*) from issues i where i.column_id = c.id);
+
+insert into column_status_counts (column_id, status, issue_count)
+select column_id, status, count(*)
+from issues
+group by column_id, status
+on conflict (column_id, status) do update set issue_count = excluded.issue_count;
@@ -0,0 +1,79 @@
+-- Soft delete for projects and organizations: deleting sets deleted_at (hidden immediately) and queues a
+-- purge_jobs row; PurgeWorker then deletes dependent rows in small batches in the background.
+
+alter table projects      add column if not exists deleted_at timestamp(6) with time zone;
+alter table organizations add column if not exists deleted_at timestamp(6) with time zone;
+
+-- Slugs only need to be unique among live rows, so a deleted project/org does not block reusing its slug
+-- while it waits to be purged. Constraint names differ between databases created by Flyway and by the old
+-- ddl-auto=update, so look them up.
+do $$
+declare
+    r record;
+begin
+    for r in
+        select con.conname, con.conrelid::regclass as tbl
+        from pg_constraint con
+        where con.contype = 'u'
+          and con.conrelid in ('projects'::regclass, 'organizations'::regclass)
+          and (select array_agg(att.attname::text order by att.attname)
+               from pg_attribute att
+               where att.attrelid = con.conrelid and att.attnum = any (con.conkey))
+              = case when con.conrelid = 'projects'::regclass then array['org_id', 'slug'] else array['slug'] end
+    loop
+        execute format('alter table %s drop constraint %I', r.tbl, r.conname);
+    end loop;
+end
+$$;
+
+create unique index if not exists uq_project_org_slug_live on projects (org_id, slug) where deleted_at is null;
+create unique index if not exists uq_org_slug_live on organizations (slug) where deleted_at is null;
+
+create table if not exists purge_jobs (
+    id                   bigint generated by default as identity primary key,
+    target_type          varchar(20)                 not null,
+    target_id            bigint                      not null,
+    status               varchar(20)                 not null,
+    current_step         varchar(100),
+    rows_deleted         bigint                      not null default 0,
+    attempts             integer                     not null default 0,
+    last_error           text,
+    requested_by_user_id bigint                      not null,
+    created_at           timestamp(6) with time zone not null,
+    updated_at           timestamp(6) with time zone not null,
+    started_at           timestamp(6) with time zone,
+    finished_at          timestamp(6) with time zone
+);
+
+create index if not exists idx_purge_job_open on purge_jobs (id) where status in ('PENDING', 'RUNNING');
+
+-- Deleting a comment normally rebuilds its issue's comment_search_vector; pointless when the issue is being
+-- purged too. The purge sets workly.purge for its own transactions only (set local). Otherwise as in V4.
+create or replace function comments_search_vector_trigger()
+returns trigger
+language plpgsql
+as $$
+begin
+    if current_setting('workly.purge', true) = 'on' then
+        return null;
+    end if;
+
+    if tg_op = 'INSERT' then
+        update issues i
+        set comment_search_vector = coalesce(i.comment_search_vector, ''::tsvector) || comment_search_document(new.body)
+        where i.id = new.issue_id;
+        return null;
+    end if;
+
+    update issues i
+    set comment_search_vector = issue_comments_search_document(i.id)
+    where i.id = old.issue_id;
+
+    if tg_op = 'UPDATE' and old.issue_id <> new.issue_id then
+        update issues i
+        set comment_search_vector = issue_comments_search_document(i.id)
+        where i.id = new.issue_id;
+    end if;
+    return null;
+end
+$$;
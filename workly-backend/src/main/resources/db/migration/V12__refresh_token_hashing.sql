@@ -0,0 +1,38 @@
+-- Refresh tokens: store SHA-256 of the token instead of the token itself, group rotations into families
+-- (one family per login) and index for the per-user cap and the background purge.
+
+alter table refresh_tokens add column if not exists token_hash     bytea;
+alter table refresh_tokens add column if not exists family_id      uuid;
+alter table refresh_tokens add column if not exists replaced_by_id bigint;
+
+-- Same hash the application computes (SHA-256 of the UTF-8 token), so cookies issued before this migration
+-- keep working.
+update refresh_tokens set token_hash = sha256(convert_to(token, 'UTF8')) where token_hash is null;
+
+update refresh_tokens r set replaced_by_id = n.id
+from refresh_tokens n
+where n.token = r.replaced_by_token and r.replaced_by_id is null;
+
+-- Older rotation chains are not reconstructed: every existing row starts a family of its own.
+update refresh_tokens set family_id = gen_random_uuid() where family_id is null;
+
+alter table refresh_tokens
+    alter column token_hash set not null,
+    alter column family_id set not null;
+
+alter table refresh_tokens drop constraint if exists ck_refresh_token_hash_len;
+alter table refresh_tokens add constraint ck_refresh_token_hash_len check (octet_length(token_hash) = 32);
+
+create unique index if not exists uq_refresh_token_hash on refresh_tokens (token_hash);
+
+-- Dropping the column also drops its unique constraint; idx_refresh_token_token duplicated that constraint.
+drop index if exists idx_refresh_token_token;
+alter table refresh_tokens drop column if exists token;
+alter table refresh_tokens drop column if exists replaced_by_token;
+
+-- (user_id, created_at) serves the FK and the "oldest active tokens of a user" lookup for the cap
+drop index if exists idx_refresh_token_user;
+create index if not exists idx_refresh_token_user_created on refresh_tokens (user_id, created_at);
+create index if not exists idx_refresh_token_family on refresh_tokens (family_id);
+create index if not exists idx_refresh_token_expires on refresh_tokens (expires_at);
+create index if not exists idx_refresh_token_revoked on refresh_tokens (revoked_at) where revoked_at is not null;
@@ -0,0 +1,7 @@
+-- Token buckets for app.rate-limit.mode=postgres, shared by all instances (PostgresRateLimiter).
+-- Unlogged: not written to the WAL or replicated; after a crash the table is empty, i.e. every bucket is full.
+create unlogged table if not exists rate_limit_buckets (
+    bucket_key  varchar(200)                not null primary key,
+    tokens      double precision            not null,
+    refilled_at timestamp(6) with time zone not null
+);
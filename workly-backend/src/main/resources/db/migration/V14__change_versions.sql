@@ -0,0 +1,14 @@
+-- Change counters behind list ETags (ChangeVersionService). Kept out of projects/organizations so a writer
+-- never holds a lock on the parent row; bumped by one upsert just before the writing transaction commits.
+--   project_change_versions: issues, comments, columns/board and members of the project
+--   org_change_versions:     the org's projects, org members, project memberships (project lists)
+-- A missing row means version 0.
+create table if not exists project_change_versions (
+    project_id bigint primary key references projects (id),
+    version    bigint not null
+);
+
+create table if not exists org_change_versions (
+    org_id  bigint primary key references organizations (id),
+    version bigint not null
+);
@@ -0,0 +1,152 @@
+-- Baseline schema, matching what ddl-auto=update produced from the entities.
+-- Every statement is IF NOT EXISTS so databases created before migrations were
+-- introduced can run this script as a no-op (see spring.flyway.baseline-*).
+
+create table if not exists users (
+    id              bigint generated by default as identity primary key,
+    name            varchar(255)                not null,
+    email           varchar(255)                not null unique,
+    created_at      timestamp(6) with time zone not null,
+    updated_at      timestamp(6) with time zone not null,
+    hashed_password varchar(255)                not null
+);
+
+create table if not exists organizations (
+    id         bigint generated by default as identity primary key,
+    name       varchar(255)                not null,
+    slug       varchar(255)                not null unique,
+    created_at timestamp(6) with time zone not null
+);
+
+create table if not exists org_members (
+    id         bigint generated by default as identity primary key,
+    org_id     bigint                      not null references organizations (id),
+    user_id    bigint                      not null references users (id),
+    role       varchar(255)                not null,
+    created_at timestamp(6) with time zone not null,
+    unique (org_id, user_id)
+);
+
+create table if not exists projects (
+    id                 bigint generated by default as identity primary key,
+    org_id             bigint                      not null references organizations (id),
+    name               varchar(255)                not null,
+    slug               varchar(255)                not null,
+    created_by_user_id bigint                      not null references users (id),
+    created_at         timestamp(6) with time zone not null,
+    updated_at         timestamp(6) with time zone not null,
+    unique (org_id, slug)
+);
+
+create table if not exists project_members (
+    id         bigint generated by default as identity primary key,
+    project_id bigint                      not null references projects (id),
+    user_id    bigint                      not null references users (id),
+    role       varchar(20)                 not null,
+    created_at timestamp(6) with time zone not null,
+    constraint uq_project_user unique (project_id, user_id)
+);
+
+create table if not exists boards (
+    id         bigint generated by default as identity primary key,
+    project_id bigint                      not null unique references projects (id),
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null
+);
+
+create table if not exists columns (
+    id          bigint generated by default as identity primary key,
+    board_id    bigint                      not null references boards (id),
+    name        varchar(255)                not null,
+    order_index integer                     not null,
+    created_at  timestamp(6) with time zone not null,
+    updated_at  timestamp(6) with time zone not null
+);
+
+create table if not exists issues (
+    id               bigint generated by default as identity primary key,
+    project_id       bigint                      not null references projects (id),
+    column_id        bigint                      not null references columns (id),
+    title            varchar(255)                not null,
+    description      text,
+    priority         varchar(255)                not null,
+    status           varchar(255)                not null,
+    reporter_user_id bigint                      not null references users (id),
+    assignee_user_id bigint references users (id),
+    created_at       timestamp(6) with time zone not null,
+    updated_at       timestamp(6) with time zone not null,
+    order_index      integer                     not null
+);
+
+create index if not exists idx_issue_project on issues (project_id);
+create index if not exists idx_issue_assignee on issues (assignee_user_id);
+create index if not exists idx_issue_status on issues (status);
+create index if not exists idx_issue_column on issues (column_id);
+
+create table if not exists comments (
+    id             bigint generated by default as identity primary key,
+    issue_id       bigint                      not null references issues (id),
+    author_user_id bigint                      not null references users (id),
+    body           text                        not null,
+    created_at     timestamp(6) with time zone not null
+);
+
+create index if not exists idx_comment_issue on comments (issue_id);
+
+create table if not exists invites (
+    id                 bigint generated by default as identity primary key,
+    org_id             bigint                      not null references organizations (id),
+    invited_by_user_id bigint                      not null references users (id),
+    invited_email      varchar(255)                not null,
+    token              varchar(255)                not null unique,
+    status             varchar(255)                not null,
+    invited_role       varchar(255)                not null,
+    expires_at         timestamp(6) with time zone not null,
+    created_at         timestamp(6) with time zone not null
+);
+
+create index if not exists idx_invite_org on invites (org_id);
+
+create table if not exists notifications (
+    id             bigint generated by default as identity primary key,
+    user_id        bigint                      not null references users (id),
+    type           varchar(255)                not null,
+    message        varchar(255)                not null,
+    action_event   varchar(100),
+    action_payload jsonb,
+    issue_id       bigint references issues (id),
+    comment_id     bigint references comments (id),
+    created_at     timestamp(6) with time zone not null,
+    read_at        timestamp(6) with time zone
+);
+
+create index if not exists idx_notification_user on notifications (user_id);
+
+create table if not exists outbox_events (
+    id             bigint generated by default as identity primary key,
+    topic          varchar(255)                not null,
+    event_type     varchar(100)                not null,
+    aggregate_type varchar(100)                not null,
+    aggregate_id   uuid                        not null,
+    org_id         uuid                        not null,
+    partition_key  varchar(200)                not null,
+    payload_json   jsonb                       not null,
+    status         varchar(30)                 not null,
+    attempts       integer                     not null,
+    last_error     varchar(255),
+    published_at   timestamp(6) with time zone,
+    created_at     timestamp(6) with time zone not null
+);
+
+create table if not exists refresh_tokens (
+    id                bigint generated by default as identity primary key,
+    token             varchar(128)                not null unique,
+    user_id           bigint                      not null references users (id),
+    expires_at        timestamp(6) with time zone not null,
+    created_at        timestamp(6) with time zone not null,
+    revoked_at        timestamp(6) with time zone,
+    replaced_by_token varchar(128)
+);
+
+create index if not exists idx_refresh_token_user on refresh_tokens (user_id);
+create index if not exists idx_refresh_token_token on refresh_tokens (token);
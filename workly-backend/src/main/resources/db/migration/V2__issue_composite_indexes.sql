@@ -0,0 +1,17 @@
+-- Composite indexes for the board/list queries in IssueRepository:
+--   findByColumnIdOrderByOrderIndexAsc / findMaxOrderIndex -> (column_id, order_index)
+--   findByProjectIdAndStatusOrderByCreatedAtDesc           -> (project_id, status, created_at desc)
+--   findByProjectIdOrderByCreatedAtDesc                    -> (project_id, created_at desc)
+--   findByAssigneeId (+ status filters)                    -> (assignee_user_id, status)
+--
+-- Built CONCURRENTLY so deploys don't block writes on issues (see V2__issue_composite_indexes.sql.conf).
+
+create index concurrently if not exists idx_issue_column_order on issues (column_id, order_index);
+create index concurrently if not exists idx_issue_project_status_created on issues (project_id, status, created_at desc);
+create index concurrently if not exists idx_issue_project_created on issues (project_id, created_at desc);
+create index concurrently if not exists idx_issue_assignee_status on issues (assignee_user_id, status);
+
+-- The single-column indexes below are now leading prefixes of the composites above.
+drop index concurrently if exists idx_issue_column;
+drop index concurrently if exists idx_issue_project;
+drop index concurrently if exists idx_issue_assignee;
@@ -0,0 +1,18 @@
+-- Postgres does not index foreign keys automatically. These cover the remaining
+-- lookup paths (membership checks, notification paging, outbox polling) and the
+-- FK checks done when parent rows are deleted.
+--
+-- Built CONCURRENTLY so deploys don't block writes (see V3__foreign_key_and_lookup_indexes.sql.conf).
+
+create index concurrently if not exists idx_column_board_order on columns (board_id, order_index);
+create index concurrently if not exists idx_project_member_user on project_members (user_id);
+create index concurrently if not exists idx_org_member_user on org_members (user_id);
+create index concurrently if not exists idx_issue_reporter on issues (reporter_user_id);
+create index concurrently if not exists idx_comment_author on comments (author_user_id);
+create index concurrently if not exists idx_notification_user_created on notifications (user_id, created_at desc);
+create index concurrently if not exists idx_notification_issue on notifications (issue_id);
+create index concurrently if not exists idx_notification_comment on notifications (comment_id);
+create index concurrently if not exists idx_outbox_status_created on outbox_events (status, created_at);
+
+-- Prefix of idx_notification_user_created.
+drop index concurrently if exists idx_notification_user;
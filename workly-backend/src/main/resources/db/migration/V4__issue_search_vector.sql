@@ -0,0 +1,118 @@
+-- Full-text search over issues: title (weight A), description (B) and comment bodies (C).
+-- issues.search_vector and issues.comment_search_vector are maintained by triggers and are intentionally
+-- not mapped on the Issue entity.
+--
+-- comment_search_vector holds the comments' part so neither trigger has to re-read every comment of an
+-- issue on the hot paths: a new comment is appended to it, a title/description edit reuses it. Only
+-- editing, moving or deleting a comment rebuilds it from all of the issue's comments.
+--
+-- Runs outside a transaction (see V4__issue_search_vector.sql.conf) so the backfill can commit per batch.
+-- Every statement is idempotent, so a failed run can be repeated.
+
+alter table issues add column if not exists search_vector tsvector;
+alter table issues add column if not exists comment_search_vector tsvector;
+
+drop function if exists issue_search_document(bigint, text, text);
+
+create or replace function issue_search_document(p_title text, p_description text, p_comments tsvector)
+returns tsvector
+language sql
+immutable
+as $$
+    select setweight(to_tsvector('english', coalesce(p_title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(p_description, '')), 'B')
+        || coalesce(p_comments, ''::tsvector)
+$$;
+
+create or replace function comment_search_document(p_body text)
+returns tsvector
+language sql
+immutable
+as $$
+    select setweight(to_tsvector('english', coalesce(p_body, '')), 'C')
+$$;
+
+create or replace function issue_comments_search_document(p_issue_id bigint)
+returns tsvector
+language sql
+stable
+as $$
+    select comment_search_document((select string_agg(c.body, ' ' order by c.id) from comments c where c.issue_id = p_issue_id))
+$$;
+
+-- Escapes text before ts_headline wraps matches in <mark>, so highlights are safe to render as HTML.
+create or replace function search_html_escape(p_text text)
+returns text
+language sql
+immutable
+as $$
+    select replace(replace(replace(coalesce(p_text, ''), '&', '&amp;'), '<', '&lt;'), '>', '&gt;')
+$$;
+
+create or replace function issues_search_vector_trigger()
+returns trigger
+language plpgsql
+as $$
+begin
+    new.search_vector := issue_search_document(new.title, new.description, new.comment_search_vector);
+    return new;
+end
+$$;
+
+drop trigger if exists trg_issues_search_vector on issues;
+create trigger trg_issues_search_vector
+    before insert or update of title, description, comment_search_vector on issues
+    for each row execute function issues_search_vector_trigger();
+
+create or replace function comments_search_vector_trigger()
+returns trigger
+language plpgsql
+as $$
+begin
+    if tg_op = 'INSERT' then
+        update issues i
+        set comment_search_vector = coalesce(i.comment_search_vector, ''::tsvector) || comment_search_document(new.body)
+        where i.id = new.issue_id;
+        return null;
+    end if;
+
+    update issues i
+    set comment_search_vector = issue_comments_search_document(i.id)
+    where i.id = old.issue_id;
+
+    if tg_op = 'UPDATE' and old.issue_id <> new.issue_id then
+        update issues i
+        set comment_search_vector = issue_comments_search_document(i.id)
+        where i.id = new.issue_id;
+    end if;
+    return null;
+end
+$$;
+
+drop trigger if exists trg_comments_search_vector on comments;
+create trigger trg_comments_search_vector
+    after insert or update of body, issue_id or delete on comments
+    for each row execute function comments_search_vector_trigger();
+
+-- Backfill existing rows in id batches, one transaction each, so no batch holds row locks on more than
+-- 1000 issues. Setting comment_search_vector fires trg_issues_search_vector, which sets search_vector.
+do $$
+declare
+    v_last_id bigint := 0;
+    v_batch_end bigint;
+begin
+    loop
+        select max(b.id) into v_batch_end
+        from (select id from issues where id > v_last_id order by id limit 1000) b;
+        exit when v_batch_end is null;
+
+        update issues i
+        set comment_search_vector = issue_comments_search_document(i.id)
+        where i.id > v_last_id and i.id <= v_batch_end
+          and i.search_vector is null;
+        commit;
+
+        v_last_id := v_batch_end;
+    end loop;
+end
+$$;
@@ -0,0 +1,4 @@
+-- GIN index for issue full-text search. Kept separate from V4 so it is built once, after V4's backfill,
+-- instead of being updated by every backfill batch.
+
+create index concurrently if not exists idx_issue_search_vector on issues using gin (search_vector);
@@ -0,0 +1,15 @@
+-- Saved issue filters (per user, per project). The filter itself is stored as the
+-- serialized IssueFilterRequest and compiled by IssueSpecifications.
+
+create table if not exists saved_issue_filters (
+    id          bigint generated by default as identity primary key,
+    user_id     bigint                      not null references users (id),
+    project_id  bigint                      not null references projects (id),
+    name        varchar(100)                not null,
+    filter_json text                        not null,
+    created_at  timestamp(6) with time zone not null,
+    updated_at  timestamp(6) with time zone not null,
+    constraint uk_saved_filter_user_project_name unique (user_id, project_id, name)
+);
+
+create index if not exists idx_saved_filter_project on saved_issue_filters (project_id);
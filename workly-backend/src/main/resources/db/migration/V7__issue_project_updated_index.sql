@@ -0,0 +1,6 @@
+-- Keyset pagination of the structured issue filter when sorted by updated_at
+-- (created_at sorts use idx_issue_project_created from V2).
+--
+-- Built CONCURRENTLY so deploys don't block writes on issues (see V7__issue_project_updated_index.sql.conf).
+
+create index concurrently if not exists idx_issue_project_updated on issues (project_id, updated_at desc, id desc);
@@ -0,0 +1,29 @@
+-- Field-level issue history. One row per changed field per write; field is an IssueField code and
+-- values are short strings (enum names, ids, ranks). Rows are only ever inserted.
+
+create table if not exists issue_events (
+    id            bigint generated by default as identity primary key,
+    issue_id      bigint                      not null references issues (id),
+    actor_user_id bigint                      not null references users (id),
+    field         smallint                    not null,
+    old_value     varchar(64),
+    new_value     varchar(64),
+    created_at    timestamp(6) with time zone not null
+);
+
+-- Activity pages: newest first per issue
+create index if not exists idx_issue_event_issue on issue_events (issue_id, id desc);
+
+create or replace function issue_events_append_only()
+returns trigger
+language plpgsql
+as $$
+begin
+    raise exception 'issue_events is append-only';
+end
+$$;
+
+drop trigger if exists trg_issue_events_append_only on issue_events;
+create trigger trg_issue_events_append_only
+    before update on issue_events
+    for each row execute function issue_events_append_only();
@@ -0,0 +1,85 @@
+-- Board analytics (cumulative flow, lead/cycle time) from pre-aggregated daily buckets instead of issue scans.
+-- Buckets are keyed by UTC day and kept up to date by IssueAnalyticsService in the writing transaction.
+--
+-- Runs outside a transaction (see V9__issue_analytics.sql.conf) so the backfill can commit per batch.
+-- Every statement is idempotent, so a failed run can be repeated.
+
+alter table issues add column if not exists started_at  timestamp(6) with time zone;
+alter table issues add column if not exists resolved_at timestamp(6) with time zone;
+
+-- Issues that entered / left each status per day. The count in a status on day D is the sum of
+-- (entered - exited) over all days <= D.
+create table if not exists issue_status_daily (
+    project_id bigint      not null references projects (id),
+    day        date        not null,
+    status     varchar(20) not null,
+    entered    integer     not null default 0,
+    exited     integer     not null default 0,
+    primary key (project_id, day, status)
+);
+
+-- Issues resolved (moved to DONE) per day with summed lead time (created -> resolved) and cycle time
+-- (started -> resolved) in seconds; averages over any range are sum / resolved.
+create table if not exists issue_resolution_daily (
+    project_id         bigint  not null references projects (id),
+    day                date    not null,
+    resolved           integer not null default 0,
+    lead_time_seconds  bigint  not null default 0,
+    cycle_time_seconds bigint  not null default 0,
+    primary key (project_id, day)
+);
+
+-- Backfill. Issues had no history before this, so every existing issue is treated as having entered its
+-- current status when it was created and, if DONE, as resolved at its last update. Today's counts are exact;
+-- the shape of past days is an approximation.
+--
+-- Issues are updated in id batches of 1000, one transaction each, so no batch holds row locks on more issues.
+do $$
+declare
+    v_last_id bigint := 0;
+    v_batch_end bigint;
+begin
+    loop
+        select max(b.id) into v_batch_end
+        from (select id from issues where id > v_last_id order by id limit 1000) b;
+        exit when v_batch_end is null;
+
+        update issues set started_at = created_at
+        where id > v_last_id and id <= v_batch_end and status <> 'TO_DO' and started_at is null;
+        update issues set resolved_at = updated_at
+        where id > v_last_id and id <= v_batch_end and status = 'DONE' and resolved_at is null;
+        commit;
+
+        v_last_id := v_batch_end;
+    end loop;
+end
+$$;
+
+-- Rollups one project per transaction: only reads issues, and a project's buckets are written all or none,
+-- which keeps "on conflict do nothing" safe when a failed run is repeated.
+do $$
+declare
+    v_project_id bigint;
+begin
+    for v_project_id in select id from projects order by id loop
+        insert into issue_status_daily (project_id, day, status, entered)
+        select project_id, (created_at at time zone 'UTC')::date, status, count(*)
+        from issues
+        where project_id = v_project_id
+        group by 1, 2, 3
+        on conflict do nothing;
+
+        insert into issue_resolution_daily (project_id, day, resolved, lead_time_seconds, cycle_time_seconds)
+        select project_id,
+               (resolved_at at time zone 'UTC')::date,
+               count(*),
+               sum(extract(epoch from resolved_at - created_at))::bigint,
+               sum(extract(epoch from resolved_at - started_at))::bigint
+        from issues
+        where project_id = v_project_id and resolved_at is not null
+        group by 1, 2
+        on conflict do nothing;
+        commit;
+    end loop;
+end
+$$;
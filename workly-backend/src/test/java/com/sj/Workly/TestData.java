@@ -0,0 +1,108 @@
+package com.sj.Workly;
+
+import com.sj.Workly.dto.issue.CreateIssueRequest;
+import com.sj.Workly.dto.organization.CreateOrganizationRequest;
+import com.sj.Workly.dto.project.AddProjectMemberRequest;
+import com.sj.Workly.dto.project.CreateProjectRequest;
+import com.sj.Workly.entity.OrgMember;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.IssuePriority;
+import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.entity.enums.Role;
+import com.sj.Workly.repository.OrgMemberRepository;
+import com.sj.Workly.repository.OrganizationRepository;
+import com.sj.Workly.repository.UserRepository;
+import com.sj.Workly.service.IssueService;
+import com.sj.Workly.service.OrganizationService;
+import com.sj.Workly.service.ProjectService;
+import com.sj.Workly.service.ReferenceDataService;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Shared test fixtures: users, organizations, projects and issues with unique names, created through the
+ * services so every side table (members, board, columns, counters) is set up as in production.
+ */
+@Component
+public class TestData {
+
+	private final UserRepository userRepo;
+	private final OrganizationRepository orgRepo;
+	private final OrgMemberRepository orgMemberRepo;
+	private final OrganizationService orgService;
+	private final ProjectService projectService;
+	private final IssueService issueService;
+	private final ReferenceDataService references;
+
+	public TestData(UserRepository userRepo, OrganizationRepository orgRepo, OrgMemberRepository orgMemberRepo,
+	                OrganizationService orgService, ProjectService projectService, IssueService issueService,
+	                ReferenceDataService references) {
+		this.userRepo = userRepo;
+		this.orgRepo = orgRepo;
+		this.orgMemberRepo = orgMemberRepo;
+		this.orgService = orgService;
+		this.projectService = projectService;
+		this.issueService = issueService;
+		this.references = references;
+	}
+
+	public User newUser() {
+		String id = UUID.randomUUID().toString();
+		return userRepo.save(new User("user-" + id, id + "@example.test", "not-a-hash"));
+	}
+
+	public Long newOrg(User owner) {
+		return orgService.create(owner, orgRequest()).getId();
+	}
+
+	public Long newProject(User owner, Long orgId) {
+		return projectService.create(owner, orgId, projectRequest()).getId();
+	}
+
+	/** A new user who is a MEMBER of the organization and of the project. */
+	public User addMember(User owner, Long orgId, Long projectId) {
+		User user = newUser();
+		OrgMember m = new OrgMember();
+		m.setOrg(orgRepo.getReferenceById(orgId));
+		m.setUser(user);
+		m.setRole(Role.MEMBER);
+		orgMemberRepo.save(m);
+
+		AddProjectMemberRequest req = new AddProjectMemberRequest();
+		req.setUserId(user.getId());
+		projectService.addMember(owner, orgId, projectId, req);
+		return user;
+	}
+
+	/** Id of the n-th column (by order) of the project's default board. */
+	public Long column(Long projectId, int n) {
+		return references.board(projectId).columns().get(n).id();
+	}
+
+	/** A TO_DO, MEDIUM issue in the first column. */
+	public Long newIssue(User actor, Long orgId, Long projectId) {
+		return issueService.create(actor, orgId, projectId, issueRequest(column(projectId, 0))).getId();
+	}
+
+	public static CreateOrganizationRequest orgRequest() {
+		CreateOrganizationRequest req = new CreateOrganizationRequest();
+		req.setName("Org " + UUID.randomUUID());
+		return req;
+	}
+
+	public static CreateProjectRequest projectRequest() {
+		CreateProjectRequest req = new CreateProjectRequest();
+		req.setName("Project " + UUID.randomUUID());
+		return req;
+	}
+
+	public static CreateIssueRequest issueRequest(Long columnId) {
+		CreateIssueRequest req = new CreateIssueRequest();
+		req.setTitle("Issue " + UUID.randomUUID());
+		req.setPriority(IssuePriority.MEDIUM);
+		req.setStatus(IssueStatus.TO_DO);
+		req.setColumnId(columnId);
+		return req;
+	}
+}
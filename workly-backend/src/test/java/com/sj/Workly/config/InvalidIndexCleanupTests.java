@@ -0,0 +1,68 @@
+package com.sj.Workly.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Not @Transactional: {@code create/drop index concurrently} cannot run inside a transaction.
+ */
+@SpringBootTest
+class InvalidIndexCleanupTests {
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@AfterEach
+	void dropTable() {
+		jdbc.execute("drop table if exists invalid_index_probe");
+	}
+
+	@Test
+	void failedConcurrentBuildIsDropped() throws Exception {
+		jdbc.execute("create table invalid_index_probe (v int)");
+		jdbc.execute("insert into invalid_index_probe values (1), (1)");
+		// The duplicate fails the unique build after the catalog entry exists: an INVALID leftover
+		assertThatThrownBy(() -> jdbc.execute(
+				"create unique index concurrently idx_invalid_index_probe on invalid_index_probe (v)"))
+				.hasMessageContaining("could not create unique index");
+		assertThat(isValid("idx_invalid_index_probe")).containsExactly(false);
+
+		List<String> dropped;
+		try (Connection connection = dataSource.getConnection()) {
+			dropped = InvalidIndexCleanup.dropInvalidIndexes(connection);
+		}
+
+		assertThat(dropped).anyMatch(name -> name.endsWith(".idx_invalid_index_probe"));
+		assertThat(isValid("idx_invalid_index_probe")).isEmpty();
+	}
+
+	@Test
+	void validIndexesAreKept() throws Exception {
+		jdbc.execute("create table invalid_index_probe (v int)");
+		jdbc.execute("create index concurrently idx_invalid_index_probe on invalid_index_probe (v)");
+
+		try (Connection connection = dataSource.getConnection()) {
+			assertThat(InvalidIndexCleanup.dropInvalidIndexes(connection)).isEmpty();
+		}
+		assertThat(isValid("idx_invalid_index_probe")).containsExactly(true);
+	}
+
+	private List<Boolean> isValid(String index) {
+		return jdbc.queryForList("""
+				select i.indisvalid from pg_index i join pg_class c on c.oid = i.indexrelid where c.relname = ?
+				""", Boolean.class, index);
+	}
+}
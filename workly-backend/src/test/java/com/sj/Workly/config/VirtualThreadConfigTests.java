@@ -0,0 +1,70 @@
+package com.sj.Workly.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class VirtualThreadConfigTests {
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Autowired
+	private TaskScheduler taskScheduler;
+
+	@Autowired
+	private ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	void scheduledJobsAndListenersRunOnVirtualThreads() throws Exception {
+		CompletableFuture<Boolean> scheduled = new CompletableFuture<>();
+		taskScheduler.schedule(() -> scheduled.complete(Thread.currentThread().isVirtual()), Instant.now());
+
+		AsyncTaskExecutor listenerExecutor = kafkaListenerContainerFactory.getContainerProperties().getListenerTaskExecutor();
+		assertThat(listenerExecutor).isNotNull();
+		CompletableFuture<Boolean> listener = new CompletableFuture<>();
+		listenerExecutor.execute(() -> listener.complete(Thread.currentThread().isVirtual()));
+
+		assertThat(scheduled.get(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(listener.get(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(context.getBeansOfType(VirtualThreadMetrics.class)).hasSize(1);
+	}
+
+	@Test
+	void connectionPoolIsFixedSizeAndBoundsTheWait() throws Exception {
+		HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+
+		assertThat(pool.getMaximumPoolSize()).isEqualTo(20);
+		assertThat(pool.getMinimumIdle()).isEqualTo(pool.getMaximumPoolSize());
+		assertThat(pool.getConnectionTimeout()).isEqualTo(10_000);
+	}
+
+	@Test
+	void pinningMetricsOnlyInVirtualThreadMode() {
+		ApplicationContextRunner runner = new ApplicationContextRunner().withUserConfiguration(VirtualThreadConfig.class);
+
+		runner.withPropertyValues("spring.threads.virtual.enabled=true")
+				.run(ctx -> assertThat(ctx).hasSingleBean(VirtualThreadMetrics.class));
+		runner.withPropertyValues("spring.threads.virtual.enabled=false")
+				.run(ctx -> assertThat(ctx).doesNotHaveBean(VirtualThreadMetrics.class));
+		runner.run(ctx -> assertThat(ctx).doesNotHaveBean(VirtualThreadMetrics.class));
+	}
+}
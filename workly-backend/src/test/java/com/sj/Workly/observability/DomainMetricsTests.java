@@ -0,0 +1,66 @@
+package com.sj.Workly.observability;
+
+import com.sj.Workly.entity.enums.OrgEventType;
+import com.sj.Workly.exception.NotFoundException;
+import com.sj.Workly.repository.ProjectMemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class DomainMetricsTests {
+
+	@Autowired
+	private DomainMetrics metrics;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private ProjectMemberRepository projectMemberRepo;
+
+	@Test
+	void operationsAreTimedWithTheirOutcome() {
+		assertThat(metrics.time("test.ok", () -> "done")).isEqualTo("done");
+		assertThatThrownBy(() -> metrics.time("test.missing", () -> {
+			throw new NotFoundException("Issue not found");
+		})).isInstanceOf(NotFoundException.class);
+
+		assertThat(operations("test.ok", "success")).isEqualTo(1);
+		assertThat(operations("test.missing", "not_found")).isEqualTo(1);
+	}
+
+	@Test
+	void membershipLookupsAreTimedThroughTheRepository() {
+		long before = membershipChecks();
+
+		projectMemberRepo.existsByProjectIdAndUserId(-1L, -1L);
+		projectMemberRepo.findByProjectId(-1L);
+
+		assertThat(membershipChecks()).isEqualTo(before + 1);
+	}
+
+	@Test
+	void fanoutIsRecordedPerEventType() {
+		metrics.recordFanout(OrgEventType.ISSUE_COMMENTED, 2);
+
+		assertThat(meterRegistry.get("workly.notifications.fanout").tag("event_type", "ISSUE_COMMENTED")
+				.summary().totalAmount()).isGreaterThanOrEqualTo(2);
+	}
+
+	private long operations(String operation, String outcome) {
+		return meterRegistry.get("workly.operations").tag("operation", operation).tag("outcome", outcome).timer().count();
+	}
+
+	private long membershipChecks() {
+		var timer = meterRegistry.find("workly.membership.checks")
+				.tag("scope", "project").tag("method", "existsByProjectIdAndUserId").timer();
+		return timer == null ? 0 : timer.count();
+	}
+}
@@ -0,0 +1,110 @@
+package com.sj.Workly.observability;
+
+import com.sj.Workly.config.QueryStatsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Statements executed through the application DataSource are counted in the current QueryScope, and a shape
+ * repeated once per row (the N+1 pattern) is reported.
+ */
+@SpringBootTest
+@Transactional
+class QueryStatsTests {
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Test
+	void scopeCountsStatementsAndGroupsThemByShape() {
+		try (QueryScope scope = QueryScope.open()) {
+			for (int i = 0; i < 5; i++) {
+				jdbc.queryForObject("select count(*) from users where id = ?", Long.class, i);
+			}
+			jdbc.queryForObject("select 1", Integer.class);
+
+			assertThat(scope.statements()).isEqualTo(6);
+			assertThat(scope.nanos()).isPositive();
+			assertThat(scope.repeated(4)).containsOnlyKeys("select count(*) from users where id = ?");
+			assertThat(scope.repeated(5)).isEmpty();
+		}
+		assertThat(QueryScope.current()).isNull();
+	}
+
+	@Test
+	void shapeIgnoresLiteralsWhitespaceAndInListLength() {
+		assertThat(QueryScope.shape("select *  from issues\n where id = 42 and title = 'it''s'"))
+				.isEqualTo("select * from issues where id = ? and title = ?");
+		assertThat(QueryScope.shape("select * from users where id in (?, ?, ?)"))
+				.isEqualTo(QueryScope.shape("select * from users where id in (?)"));
+	}
+
+	@Test
+	void strictModeFailsRequestsWithRepeatedStatements() {
+		QueryStatsFilter filter = new QueryStatsFilter(new QueryStatsProperties(true, 3, 0, true), new SimpleMeterRegistry());
+
+		assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/orgs/1/projects"),
+				new MockHttpServletResponse(), (req, res) -> {
+					for (int i = 0; i < 4; i++) {
+						jdbc.queryForObject("select count(*) from issues where project_id = ?", Long.class, i);
+					}
+				}))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("Possible N+1")
+				.hasMessageContaining("4x select count(*) from issues where project_id = ?");
+	}
+
+	@Test
+	void strictModeFailsRequestsOverBudget() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		QueryStatsFilter filter = new QueryStatsFilter(new QueryStatsProperties(true, 10, 2, true), registry);
+
+		assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/orgs"),
+				new MockHttpServletResponse(), (req, res) -> {
+					jdbc.queryForObject("select 1", Integer.class);
+					jdbc.queryForObject("select 2", Integer.class);
+					jdbc.queryForObject("select 3", Integer.class);
+				}))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("ran 3 statements, budget is 2");
+		assertThat(registry.get("workly.db.statements").tag("handler", "none").summary().totalAmount()).isEqualTo(3);
+	}
+
+	@Test
+	void strictModeOnlyLogsOnceTheResponseIsCommitted() throws Exception {
+		QueryStatsFilter filter = new QueryStatsFilter(new QueryStatsProperties(true, 10, 1, true), new SimpleMeterRegistry());
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/orgs"), response, (req, res) -> {
+			jdbc.queryForObject("select 1", Integer.class);
+			jdbc.queryForObject("select 2", Integer.class);
+			res.getWriter().write("[]");
+			res.flushBuffer();
+		});
+
+		assertThat(response.isCommitted()).isTrue();
+		assertThat(response.getContentAsString()).isEqualTo("[]");
+	}
+
+	@Test
+	void statementsDifferingOnlyInLiteralsShareAShape() {
+		try (QueryScope scope = QueryScope.open()) {
+			for (int i = 0; i < 4; i++) {
+				jdbc.queryForObject("select count(*) from issues where project_id = " + i, Long.class);
+			}
+
+			assertThat(scope.repeated(3)).containsExactly(Map.entry("select count(*) from issues where project_id = ?", 4));
+		}
+	}
+}
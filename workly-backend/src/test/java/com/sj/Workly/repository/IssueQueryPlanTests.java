@@ -0,0 +1,112 @@
+package com.sj.Workly.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the composite indexes from V2__issue_composite_indexes.sql: each hot IssueRepository
+ * query must be answered by an index scan in the requested order, without a Sort node.
+ * <p>
+ * On an empty table every index costs about the same, so each test seeds 50 projects with
+ * 4 columns of 40 issues and analyzes {@code issues} (rolled back with the test). Sequential and
+ * bitmap scans are disabled: a bitmap scan can use the right index but loses its order.
+ */
+@SpringBootTest
+@Transactional
+class IssueQueryPlanTests {
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private long projectId;
+	private long columnId;
+	private long userId;
+
+	@BeforeEach
+	void seedAndAnalyze() {
+		String tag = UUID.randomUUID().toString();
+		userId = jdbc.queryForObject("""
+				insert into users (name, email, created_at, updated_at, hashed_password)
+				values ('plan', ?, now(), now(), 'not-a-hash') returning id
+				""", Long.class, tag + "@example.test");
+		long orgId = jdbc.queryForObject("""
+				insert into organizations (name, slug, created_at) values ('plan', ?, now()) returning id
+				""", Long.class, "plan-" + tag);
+		jdbc.update("""
+				insert into projects (org_id, name, slug, created_by_user_id, created_at, updated_at)
+				select ?, 'Project ' || g, 'plan-' || g, ?, now(), now() from generate_series(1, 50) g
+				""", orgId, userId);
+		jdbc.update("""
+				insert into boards (project_id, created_at, updated_at)
+				select id, now(), now() from projects where org_id = ?
+				""", orgId);
+		jdbc.update("""
+				insert into columns (board_id, name, order_index, created_at, updated_at)
+				select b.id, 'Column ' || g, g, now(), now()
+				from boards b join projects p on p.id = b.project_id, generate_series(0, 3) g
+				where p.org_id = ?
+				""", orgId);
+		jdbc.update("""
+				insert into issues (project_id, column_id, title, priority, status, reporter_user_id,
+				                    assignee_user_id, order_index, created_at, updated_at)
+				select b.project_id, c.id, 'Issue ' || g, 'MEDIUM', (array['TO_DO', 'IN_PROGRESS', 'DONE'])[1 + g % 3],
+				       ?, ?, g, now() - g * interval '1 minute', now()
+				from columns c join boards b on b.id = c.board_id join projects p on p.id = b.project_id,
+				     generate_series(1, 40) g
+				where p.org_id = ?
+				""", userId, userId, orgId);
+		projectId = jdbc.queryForObject("select min(id) from projects where org_id = ?", Long.class, orgId);
+		columnId = jdbc.queryForObject(
+				"select min(c.id) from columns c join boards b on b.id = c.board_id where b.project_id = ?",
+				Long.class, projectId);
+
+		jdbc.execute("analyze issues");
+		jdbc.execute("set local enable_seqscan = off");
+		jdbc.execute("set local enable_bitmapscan = off");
+	}
+
+	@Test
+	void columnListUsesColumnOrderIndex() {
+		String plan = explain("select * from issues where column_id = " + columnId + " order by order_index asc");
+		assertThat(plan).contains("idx_issue_column_order").doesNotContain("Sort");
+	}
+
+	@Test
+	void maxOrderIndexUsesColumnOrderIndex() {
+		String plan = explain("select max(order_index) from issues where column_id = " + columnId);
+		assertThat(plan).contains("idx_issue_column_order");
+	}
+
+	@Test
+	void projectStatusListUsesProjectStatusCreatedIndex() {
+		String plan = explain("select * from issues where project_id = " + projectId
+				+ " and status = 'TO_DO' order by created_at desc");
+		assertThat(plan).contains("idx_issue_project_status_created").doesNotContain("Sort");
+	}
+
+	@Test
+	void projectListUsesProjectCreatedIndex() {
+		String plan = explain("select * from issues where project_id = " + projectId + " order by created_at desc");
+		assertThat(plan).contains("idx_issue_project_created").doesNotContain("Sort");
+	}
+
+	@Test
+	void assigneeStatusLookupUsesAssigneeStatusIndex() {
+		String plan = explain("select * from issues where assignee_user_id = " + userId + " and status = 'IN_PROGRESS'");
+		assertThat(plan).contains("idx_issue_assignee_status");
+	}
+
+	private String explain(String sql) {
+		List<String> lines = jdbc.queryForList("explain " + sql, String.class);
+		return String.join("\n", lines);
+	}
+}
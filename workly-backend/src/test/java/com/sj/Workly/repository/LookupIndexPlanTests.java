@@ -0,0 +1,85 @@
+package com.sj.Workly.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the concurrently built indexes from V3, V5 and V7 the way {@link IssueQueryPlanTests} does for V2:
+ * none is left INVALID by a failed build, and each lookup is answered by its index. Every one of these is
+ * the only index covering its filter and order, so no seed data is needed.
+ */
+@SpringBootTest
+@Transactional
+class LookupIndexPlanTests {
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@BeforeEach
+	void disableScansWithoutIndexOrder() {
+		jdbc.execute("set local enable_seqscan = off");
+		jdbc.execute("set local enable_bitmapscan = off");
+		// Tests that commit leave statistics behind; with them a small sort can look cheaper than the index order
+		jdbc.execute("set local enable_sort = off");
+	}
+
+	@Test
+	void noIndexIsInvalid() {
+		List<String> invalid = jdbc.queryForList("""
+				select c.relname from pg_index i join pg_class c on c.oid = i.indexrelid
+				join pg_namespace n on n.oid = c.relnamespace
+				where not i.indisvalid and n.nspname = current_schema()
+				""", String.class);
+		assertThat(invalid).isEmpty();
+	}
+
+	@Test
+	void boardColumnsUseBoardOrderIndex() {
+		String plan = explain("select * from columns where board_id = 1 order by order_index");
+		assertThat(plan).contains("idx_column_board_order").doesNotContain("Sort");
+	}
+
+	@Test
+	void membershipLookupsByUserUseUserIndexes() {
+		assertThat(explain("select * from project_members where user_id = 1")).contains("idx_project_member_user");
+		assertThat(explain("select * from org_members where user_id = 1")).contains("idx_org_member_user");
+	}
+
+	@Test
+	void notificationPageUsesUserCreatedIndex() {
+		String plan = explain("select * from notifications where user_id = 1 order by created_at desc limit 20");
+		assertThat(plan).contains("idx_notification_user_created").doesNotContain("Sort");
+	}
+
+	@Test
+	void outboxPollUsesStatusCreatedIndex() {
+		String plan = explain("select * from outbox_events where status = 'PENDING' order by created_at asc limit 50");
+		assertThat(plan).contains("idx_outbox_status_created").doesNotContain("Sort");
+	}
+
+	@Test
+	void textSearchUsesGinIndex() {
+		jdbc.execute("set local enable_bitmapscan = on"); // GIN only supports bitmap scans
+		String plan = explain("select id from issues where search_vector @@ websearch_to_tsquery('english', 'login bug')");
+		assertThat(plan).contains("idx_issue_search_vector");
+	}
+
+	@Test
+	void filterKeysetPageUsesProjectUpdatedIndex() {
+		String plan = explain("select * from issues where project_id = 1 order by updated_at desc, id desc limit 50");
+		assertThat(plan).contains("idx_issue_project_updated").doesNotContain("Sort");
+	}
+
+	private String explain(String sql) {
+		List<String> lines = jdbc.queryForList("explain " + sql, String.class);
+		return String.join("\n", lines);
+	}
+}
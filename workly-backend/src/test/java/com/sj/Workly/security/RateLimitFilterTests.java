@@ -0,0 +1,161 @@
+package com.sj.Workly.security;
+
+import com.sj.Workly.TestData;
+import com.sj.Workly.config.RateLimitProperties;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.repository.OrgMemberRepository;
+import com.sj.Workly.security.ratelimit.InMemoryRateLimiter;
+import com.sj.Workly.security.ratelimit.RateLimitFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.search.MeterNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Route groups as configured in application.properties: which group a request is charged to.
+ */
+@SpringBootTest
+@Transactional
+class RateLimitFilterTests {
+
+	@Autowired
+	private RateLimitProperties properties;
+
+	@Autowired
+	private OrgMemberRepository orgMemberRepo;
+
+	@Autowired
+	private TestData data;
+
+	private SimpleMeterRegistry meters;
+	private RateLimitFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		meters = new SimpleMeterRegistry();
+		filter = new RateLimitFilter(properties, new InMemoryRateLimiter(Duration.ofMinutes(1), 1000), orgMemberRepo,
+				meters);
+		authenticate(data.newUser());
+	}
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void importSubmissionIsBulkButStatusPollingIsNot() throws Exception {
+		assertThat(groupOf("POST", "/orgs/1/projects/2/issues/import")).isEqualTo("bulk");
+		assertThat(groupOf("GET", "/orgs/1/projects/2/issues/import/7")).isEqualTo("default");
+		assertThat(groupOf("GET", "/orgs/1/projects/2/export")).isEqualTo("bulk");
+	}
+
+	@Test
+	void issueSearchAndFilterAreSearch() throws Exception {
+		assertThat(groupOf("GET", "/orgs/1/projects/2/issues/search")).isEqualTo("search");
+		assertThat(groupOf("GET", "/orgs/1/projects/2/issues/filter")).isEqualTo("search");
+		assertThat(groupOf("GET", "/orgs/1/search/quick")).isEqualTo("search");
+		assertThat(groupOf("GET", "/orgs/1/projects/2/issues/filters")).isEqualTo("default");
+	}
+
+	@Test
+	void pollingDoesNotUseUpTheImportBudget() throws Exception {
+		for (int i = 0; i < 50; i++) {
+			assertThat(call("GET", "/orgs/1/projects/2/issues/import/7").getStatus()).isEqualTo(200);
+		}
+		assertThat(call("POST", "/orgs/1/projects/2/issues/import").getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void unauthenticatedRequestsAreNotCounted() throws Exception {
+		SecurityContextHolder.clearContext();
+		call("POST", "/orgs/1/projects/2/issues/import");
+		assertThatThrownBy(() -> meters.get("workly.rate_limit.decisions").counter())
+				.isInstanceOf(MeterNotFoundException.class);
+	}
+
+	@Test
+	void nonMembersCannotDrainAnOrgsBudget() throws Exception {
+		User owner = data.newUser();
+		Long orgId = data.newOrg(owner);
+		String importPath = "/orgs/" + orgId + "/projects/1/issues/import";
+
+		for (int i = 0; i < 3; i++) {
+			authenticate(data.newUser());
+			for (int j = 0; j < 5; j++) {
+				assertThat(call("POST", importPath).getStatus()).isEqualTo(200);
+			}
+		}
+		assertThat(meters.find("workly.rate_limit.decisions").tag("scope", "org").counters()).isEmpty();
+
+		authenticate(owner);
+		assertThat(call("POST", importPath).getStatus()).isEqualTo(200);
+		assertThat(meters.get("workly.rate_limit.decisions").tags("scope", "org", "outcome", "allowed").counter().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void membersShareTheOrgBudget() throws Exception {
+		User owner = data.newUser();
+		Long orgId = data.newOrg(owner);
+		Long projectId = data.newProject(owner, orgId);
+		String importPath = "/orgs/" + orgId + "/projects/" + projectId + "/issues/import";
+		List<User> members = List.of(owner, data.addMember(owner, orgId, projectId), data.addMember(owner, orgId, projectId));
+
+		int allowed = 0;
+		for (User member : members) {
+			authenticate(member);
+			for (int i = 0; i < 5; i++) {
+				if (call("POST", importPath).getStatus() == 200) allowed++;
+			}
+		}
+
+		assertThat(allowed).as("org capacity, not three user capacities").isEqualTo(10);
+	}
+
+	private static void authenticate(User user) {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(user, null, List.of()));
+	}
+
+	/** The group charged for one request: the one whose user-scope decision counter moved. */
+	private String groupOf(String method, String path) throws Exception {
+		Map<String, Double> before = userDecisionsByGroup();
+		call(method, path);
+		Map<String, Double> after = userDecisionsByGroup();
+		return after.keySet().stream()
+				.filter(group -> after.get(group) > before.getOrDefault(group, 0.0))
+				.findFirst()
+				.orElse(null);
+	}
+
+	private Map<String, Double> userDecisionsByGroup() {
+		return meters.find("workly.rate_limit.decisions").tag("scope", "user").counters().stream()
+				.collect(Collectors.toMap(c -> c.getId().getTag("group"), Counter::count, Double::sum));
+	}
+
+	private MockHttpServletResponse call(String method, String path) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
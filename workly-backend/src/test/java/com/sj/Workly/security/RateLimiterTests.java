@@ -0,0 +1,69 @@
+package com.sj.Workly.security;
+
+import com.sj.Workly.config.RateLimitProperties;
+import com.sj.Workly.security.ratelimit.InMemoryRateLimiter;
+import com.sj.Workly.security.ratelimit.PostgresRateLimiter;
+import com.sj.Workly.security.ratelimit.RateLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class RateLimiterTests {
+
+	// Slow refill: nothing comes back while a test runs
+	private static final RateLimitProperties.Limit LIMIT = new RateLimitProperties.Limit(3, 0.01);
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Test
+	void inMemoryAllowsBurstThenRejectsWithRetryAfter() {
+		assertBurstThenRejected(new InMemoryRateLimiter(Duration.ofMinutes(1), 1000));
+	}
+
+	@Test
+	void postgresAllowsBurstThenRejectsWithRetryAfter() {
+		assertBurstThenRejected(new PostgresRateLimiter(jdbc, Duration.ofMinutes(1)));
+	}
+
+	@Test
+	void inMemoryNeverHandsOutMoreThanCapacityUnderContention() throws Exception {
+		RateLimiter limiter = new InMemoryRateLimiter(Duration.ofMinutes(1), 1000);
+		RateLimitProperties.Limit limit = new RateLimitProperties.Limit(100, 0.01);
+		AtomicInteger allowed = new AtomicInteger();
+
+		try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+			for (int i = 0; i < 1000; i++) {
+				pool.submit(() -> {
+					if (limiter.tryAcquire("contended", limit).allowed()) allowed.incrementAndGet();
+				});
+			}
+		}
+
+		assertThat(allowed.get()).isEqualTo(100);
+	}
+
+	private static void assertBurstThenRejected(RateLimiter limiter) {
+		String key = "test:user:" + UUID.randomUUID();
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire(key, LIMIT).allowed()).isTrue();
+		}
+		RateLimiter.Decision rejected = limiter.tryAcquire(key, LIMIT);
+		assertThat(rejected.allowed()).isFalse();
+		assertThat(rejected.retryAfterSeconds()).isPositive();
+
+		assertThat(limiter.tryAcquire("test:user:" + UUID.randomUUID(), LIMIT).allowed()).isTrue();
+	}
+}
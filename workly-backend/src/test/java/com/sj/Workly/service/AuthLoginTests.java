@@ -0,0 +1,131 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.dto.auth.LoginRequest;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.exception.TooManyRequestsException;
+import com.sj.Workly.exception.UnauthorizedException;
+import com.sj.Workly.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Not @Transactional: logins run on other threads and in their own transactions, so the user is committed
+ * and removed again after each test.
+ */
+@SpringBootTest(properties = {
+		"app.auth.bcrypt-strength=5",
+		"app.auth.hash-threads=2",
+		"app.auth.hash-queue-capacity=50",
+		"app.auth.throttle.ip-max-attempts=5",
+		"app.auth.throttle.account-max-failures=3"
+})
+class AuthLoginTests {
+
+	private static final String PASSWORD = "correct horse battery staple";
+	private static final int CONCURRENT_LOGINS = 1000;
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private User user;
+
+	@BeforeEach
+	void seed() {
+		String id = UUID.randomUUID().toString();
+		// Cost 4, below the configured 5: the first successful login upgrades it
+		String hash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+		user = userRepo.save(new User("user-" + id, id + "@example.test", hash));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbc.update("delete from refresh_tokens where user_id = ?", user.getId());
+		userRepo.deleteById(user.getId());
+	}
+
+	@Test
+	void concurrentLoginsSucceedOrAreRejectedFast() throws Exception {
+		AtomicInteger ok = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		List<Future<?>> calls = new ArrayList<>(CONCURRENT_LOGINS);
+
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+				String ip = "10.0." + (i / 250) + "." + (i % 250);
+				calls.add(clients.submit(() -> {
+					try {
+						authService.login(login(PASSWORD), ip);
+						ok.incrementAndGet();
+					} catch (TooManyRequestsException e) {
+						assertThat(e.getRetryAfterSeconds()).isPositive();
+						rejected.incrementAndGet();
+					}
+				}));
+			}
+			for (Future<?> call : calls) {
+				call.get(60, TimeUnit.SECONDS); // rethrows anything other than success or 429
+			}
+		}
+
+		assertThat(ok.get() + rejected.get()).isEqualTo(CONCURRENT_LOGINS);
+		assertThat(ok.get()).isPositive();
+	}
+
+	@Test
+	void weakerHashIsUpgradedOnLogin() {
+		authService.login(login(PASSWORD), "10.1.0.1");
+
+		String stored = userRepo.findById(user.getId()).orElseThrow().getHashedPassword();
+		assertThat(stored).startsWith("$2a$05$");
+		assertThat(new BCryptPasswordEncoder(5).matches(PASSWORD, stored)).isTrue();
+	}
+
+	@Test
+	void repeatedFailuresThrottleTheAccount() {
+		for (int i = 0; i < 3; i++) {
+			String ip = "10.2.0." + i;
+			assertThatThrownBy(() -> authService.login(login("wrong"), ip)).isInstanceOf(UnauthorizedException.class);
+		}
+		assertThatThrownBy(() -> authService.login(login(PASSWORD), "10.2.1.1"))
+				.isInstanceOf(TooManyRequestsException.class);
+	}
+
+	@Test
+	void attemptsPerIpAreLimited() {
+		for (int i = 0; i < 5; i++) {
+			authService.login(login(PASSWORD), "10.3.0.1");
+		}
+		assertThatThrownBy(() -> authService.login(login(PASSWORD), "10.3.0.1"))
+				.isInstanceOf(TooManyRequestsException.class);
+	}
+
+	private LoginRequest login(String password) {
+		LoginRequest req = new LoginRequest();
+		req.setEmail(user.getEmail());
+		req.setPassword(password);
+		return req;
+	}
+}
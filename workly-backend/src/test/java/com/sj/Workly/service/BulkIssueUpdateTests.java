@@ -0,0 +1,147 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.issue.BulkIssuePatch;
+import com.sj.Workly.dto.issue.BulkIssueResult;
+import com.sj.Workly.dto.issue.BulkIssueUpdateRequest;
+import com.sj.Workly.dto.issue.BulkIssueUpdateResponse;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.IssueField;
+import com.sj.Workly.entity.enums.IssuePriority;
+import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.observability.QueryScope;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class BulkIssueUpdateTests {
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private TestData data;
+
+	private User owner;
+	private Long orgId;
+	private Long projectId;
+
+	@BeforeEach
+	void seed() {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+	}
+
+	@Test
+	void invalidItemsAreReportedAndTheRestApply() {
+		Long issueId = data.newIssue(owner, orgId, projectId);
+		Long otherProject = data.newProject(owner, orgId);
+		Long foreignIssue = data.newIssue(owner, orgId, otherProject);
+		Long outsider = data.newUser().getId();
+
+		BulkIssueUpdateResponse response = bulk(
+				patch(issueId, p -> p.setPriority(IssuePriority.HIGH)),
+				patch(foreignIssue, p -> p.setPriority(IssuePriority.HIGH)),
+				patch(issueId, p -> p.setColumnId(data.column(otherProject, 1))),
+				patch(issueId, p -> p.setAssigneeId(outsider)));
+
+		assertThat(response.getUpdated()).isEqualTo(1);
+		assertThat(response.getFailed()).isEqualTo(3);
+		assertThat(response.getResults()).extracting(BulkIssueResult::getOutcome).containsExactly(
+				BulkIssueResult.Outcome.UPDATED, BulkIssueResult.Outcome.NOT_FOUND,
+				BulkIssueResult.Outcome.REJECTED, BulkIssueResult.Outcome.REJECTED);
+		assertThat(response.getResults().get(0).getIssue().getPriority()).isEqualTo(IssuePriority.HIGH);
+		assertThat(jdbc.queryForObject("select priority from issues where id = ?", String.class, foreignIssue))
+				.isEqualTo("MEDIUM");
+	}
+
+	@Test
+	void movedIssuesAreAppendedInRequestOrder() {
+		Long doing = data.column(projectId, 1);
+		Long existing = data.newIssue(owner, orgId, projectId);
+		bulk(patch(existing, p -> p.setColumnId(doing)));
+		Long a = data.newIssue(owner, orgId, projectId);
+		Long b = data.newIssue(owner, orgId, projectId);
+		Long c = data.newIssue(owner, orgId, projectId);
+
+		bulk(patch(c, p -> p.setColumnId(doing)), patch(a, p -> p.setColumnId(doing)), patch(b, p -> p.setColumnId(doing)));
+
+		em.flush();
+		assertThat(jdbc.queryForList("select id from issues where column_id = ? order by order_index, id", Long.class, doing))
+				.containsExactly(existing, c, a, b);
+	}
+
+	@Test
+	void changesAreRecordedPerField() {
+		Long issueId = data.newIssue(owner, orgId, projectId);
+
+		bulk(patch(issueId, p -> {
+			p.setStatus(IssueStatus.IN_PROGRESS);
+			p.setPriority(IssuePriority.LOW);
+		}));
+
+		assertThat(jdbc.queryForList("select field from issue_events where issue_id = ? order by field", Short.class, issueId))
+				.containsExactlyInAnyOrder(IssueField.STATUS.getCode(), IssueField.PRIORITY.getCode());
+	}
+
+	@Test
+	void statementCountDoesNotGrowWithTheItems() {
+		Long doing = data.column(projectId, 1);
+		List<Long> issues = new ArrayList<>();
+		for (int i = 0; i < 24; i++) {
+			issues.add(data.newIssue(owner, orgId, projectId));
+		}
+
+		int few = statements(issues.subList(0, 3), doing);
+		int many = statements(issues.subList(3, 24), doing);
+
+		assertThat(many).isEqualTo(few);
+	}
+
+	private int statements(List<Long> issueIds, Long columnId) {
+		BulkIssuePatch[] patches = issueIds.stream()
+				.map(id -> patch(id, p -> {
+					p.setColumnId(columnId);
+					p.setStatus(IssueStatus.IN_PROGRESS);
+				}))
+				.toArray(BulkIssuePatch[]::new);
+		em.flush();
+		em.clear();
+		try (QueryScope scope = QueryScope.open()) {
+			assertThat(bulk(patches).getFailed()).isZero();
+			return scope.statements();
+		}
+	}
+
+	private BulkIssueUpdateResponse bulk(BulkIssuePatch... patches) {
+		BulkIssueUpdateRequest req = new BulkIssueUpdateRequest();
+		req.setItems(List.of(patches));
+		return issueService.bulkUpdate(owner, projectId, req);
+	}
+
+	private static BulkIssuePatch patch(Long issueId, Consumer<BulkIssuePatch> changes) {
+		BulkIssuePatch patch = new BulkIssuePatch();
+		patch.setIssueId(issueId);
+		changes.accept(patch);
+		return patch;
+	}
+}
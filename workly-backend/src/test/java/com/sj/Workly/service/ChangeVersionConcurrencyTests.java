@@ -0,0 +1,95 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.TestData;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.service.purge.PurgeWorker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not @Transactional: every issue is created in its own committed transaction, as under real traffic.
+ */
+@SpringBootTest
+class ChangeVersionConcurrencyTests {
+
+	private static final int WRITERS = 8;
+	private static final int ISSUES_PER_WRITER = 10;
+
+	@Autowired
+	private OrganizationService orgService;
+
+	@Autowired
+	private PurgeWorker purgeWorker;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private TestData data;
+
+	private User owner;
+	private Long orgId;
+	private Long projectId;
+
+	@BeforeEach
+	void seed() {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+	}
+
+	@AfterEach
+	void purge() {
+		orgService.delete(owner, orgId);
+		purgeWorker.run();
+	}
+
+	@Test
+	void concurrentWritersInOneProjectEachBumpTheVersionOnce() throws Exception {
+		long before = version();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+		try {
+			List<Future<?>> writers = new ArrayList<>();
+			for (int w = 0; w < WRITERS; w++) {
+				writers.add(pool.submit(() -> {
+					start.await();
+					for (int i = 0; i < ISSUES_PER_WRITER; i++) {
+						data.newIssue(owner, orgId, projectId);
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> writer : writers) {
+				writer.get(60, TimeUnit.SECONDS); // rethrows any deadlock or lock timeout
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertThat(version()).isEqualTo(before + WRITERS * ISSUES_PER_WRITER);
+		assertThat(jdbc.queryForObject("select count(*) from issues where project_id = ?", Long.class, projectId))
+				.isEqualTo(WRITERS * ISSUES_PER_WRITER);
+	}
+
+	private long version() {
+		return jdbc.queryForObject("""
+				select coalesce((select version from project_change_versions where project_id = ?), 0)
+				""", Long.class, projectId);
+	}
+}
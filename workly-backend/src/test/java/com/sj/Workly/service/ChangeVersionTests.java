@@ -0,0 +1,70 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.comment.CreateCommentRequest;
+import com.sj.Workly.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ChangeVersionTests {
+
+	@Autowired
+	private ChangeVersionService changeVersions;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private TestData data;
+
+	private User owner;
+	private Long orgId;
+	private Long projectId;
+
+	@BeforeEach
+	void seed() {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+	}
+
+	@Test
+	void projectTagChangesOnIssueAndCommentWrites() {
+		String before = changeVersions.projectTag(owner.getId(), orgId, projectId);
+		assertThat(changeVersions.projectTag(owner.getId(), orgId, projectId)).isEqualTo(before);
+
+		Long issueId = data.newIssue(owner, orgId, projectId);
+		String afterIssue = changeVersions.projectTag(owner.getId(), orgId, projectId);
+		assertThat(afterIssue).isNotEqualTo(before);
+
+		CreateCommentRequest comment = new CreateCommentRequest();
+		comment.setBody("First");
+		commentService.add(owner, orgId, projectId, issueId, comment);
+		assertThat(changeVersions.projectTag(owner.getId(), orgId, projectId)).isNotEqualTo(afterIssue);
+	}
+
+	@Test
+	void orgTagChangesWhenProjectsChange() {
+		String before = changeVersions.orgTag(owner.getId(), orgId);
+
+		data.newProject(owner, orgId);
+
+		assertThat(changeVersions.orgTag(owner.getId(), orgId)).isNotEqualTo(before);
+	}
+
+	@Test
+	void tagsArePerUserAndNullForNonMembers() {
+		User outsider = data.newUser();
+
+		assertThat(changeVersions.projectTag(outsider.getId(), orgId, projectId)).isNull();
+		assertThat(changeVersions.orgTag(outsider.getId(), orgId)).isNull();
+		assertThat(changeVersions.projectTag(owner.getId(), orgId, projectId)).contains("-u" + owner.getId());
+	}
+}
@@ -0,0 +1,309 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.column.UpdateColumnRequest;
+import com.sj.Workly.dto.issue.BulkIssuePatch;
+import com.sj.Workly.dto.issue.BulkIssueUpdateRequest;
+import com.sj.Workly.dto.issue.MoveIssueRequest;
+import com.sj.Workly.dto.issue.UpdateIssueRequest;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.exception.ConflictException;
+import com.sj.Workly.service.purge.PurgeWorker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Not @Transactional: a rejected move must roll back its own transaction, and concurrent moves must each commit.
+ * After every test the stored counts have to match a COUNT(*) over the issues.
+ */
+@SpringBootTest
+class ColumnCountServiceTests {
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private ColumnService columnService;
+
+	@Autowired
+	private OrganizationService orgService;
+
+	@Autowired
+	private PurgeWorker purgeWorker;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private TestData data;
+
+	private User owner;
+	private Long orgId;
+	private Long projectId;
+
+	@BeforeEach
+	void seed() {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+	}
+
+	@AfterEach
+	void purge() {
+		orgService.delete(owner, orgId);
+		purgeWorker.run();
+	}
+
+	@Test
+	void countsFollowCreatesMovesAndStatusChanges() {
+		Long todo = data.column(projectId, 0);
+		Long doing = data.column(projectId, 1);
+		Long a = data.newIssue(owner, orgId, projectId);
+		Long b = data.newIssue(owner, orgId, projectId);
+		data.newIssue(owner, orgId, projectId);
+
+		move(a, doing);
+		UpdateIssueRequest status = new UpdateIssueRequest();
+		status.setStatus(IssueStatus.IN_PROGRESS);
+		issueService.update(owner, projectId, b, status);
+
+		assertThat(issueCount(todo)).isEqualTo(2);
+		assertThat(issueCount(doing)).isEqualTo(1);
+		assertThat(statusCounts(todo)).containsExactlyInAnyOrderEntriesOf(
+				Map.of(IssueStatus.TO_DO, 1, IssueStatus.IN_PROGRESS, 1));
+		assertCountsMatchIssues();
+	}
+
+	@Test
+	void moveOverTheWipLimitIsRejectedAndRolledBack() {
+		Long todo = data.column(projectId, 0);
+		Long doing = data.column(projectId, 1);
+		wipLimit(doing, 1);
+		Long a = data.newIssue(owner, orgId, projectId);
+		Long b = data.newIssue(owner, orgId, projectId);
+
+		move(a, doing);
+		assertThatThrownBy(() -> move(b, doing)).isInstanceOf(ConflictException.class);
+		assertThatThrownBy(() -> issueService.create(owner, orgId, projectId, TestData.issueRequest(doing)))
+				.isInstanceOf(ConflictException.class);
+
+		assertThat(columnOf(b)).isEqualTo(todo);
+		assertThat(issueCount(todo)).isEqualTo(1);
+		assertThat(issueCount(doing)).isEqualTo(1);
+		assertCountsMatchIssues();
+	}
+
+	@Test
+	void bulkMoveOverTheWipLimitMovesNothing() {
+		Long todo = data.column(projectId, 0);
+		Long done = data.column(projectId, 2);
+		wipLimit(done, 2);
+		Long a = data.newIssue(owner, orgId, projectId);
+		Long b = data.newIssue(owner, orgId, projectId);
+		Long c = data.newIssue(owner, orgId, projectId);
+
+		BulkIssueUpdateRequest req = new BulkIssueUpdateRequest();
+		req.setItems(List.of(patch(a, done), patch(b, done), patch(c, done)));
+		assertThatThrownBy(() -> issueService.bulkUpdate(owner, projectId, req)).isInstanceOf(ConflictException.class);
+
+		assertThat(List.of(columnOf(a), columnOf(b), columnOf(c))).containsOnly(todo);
+		assertThat(issueCount(done)).isZero();
+		assertCountsMatchIssues();
+	}
+
+	@Test
+	void concurrentMovesIntoALimitedColumnAdmitExactlyTheLimit() throws Exception {
+		Long doing = data.column(projectId, 1);
+		wipLimit(doing, 3);
+		List<Long> issues = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			issues.add(data.newIssue(owner, orgId, projectId));
+		}
+
+		List<Throwable> failures = concurrently(issues.stream().<Runnable>map(id -> () -> move(id, doing)).toList());
+
+		assertThat(failures).hasSize(5).allMatch(ConflictException.class::isInstance);
+		assertThat(issueCount(doing)).isEqualTo(3);
+		assertCountsMatchIssues();
+	}
+
+	@Test
+	void concurrentMovesInOppositeDirectionsAllCommit() throws Exception {
+		Long todo = data.column(projectId, 0);
+		Long doing = data.column(projectId, 1);
+		List<Runnable> moves = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			Long down = data.newIssue(owner, orgId, projectId);
+			Long up = data.newIssue(owner, orgId, projectId);
+			move(up, doing);
+			moves.add(() -> move(down, doing));
+			moves.add(() -> move(up, todo));
+		}
+
+		assertThat(concurrently(moves)).as("no deadlocks or lost updates").isEmpty();
+		assertThat(issueCount(todo)).isEqualTo(6);
+		assertThat(issueCount(doing)).isEqualTo(6);
+		assertCountsMatchIssues();
+	}
+
+	@Test
+	void concurrentCreatesAndStatusMovesInOneColumnAllCommit() throws Exception {
+		Long todo = data.column(projectId, 0);
+		List<Runnable> writes = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			Long issueId = data.newIssue(owner, orgId, projectId);
+			MoveIssueRequest start = new MoveIssueRequest();
+			start.setColumnId(todo);
+			start.setStatus(IssueStatus.IN_PROGRESS);
+			writes.add(() -> issueService.move(owner, projectId, issueId, start));
+			writes.add(() -> issueService.create(owner, orgId, projectId, TestData.issueRequest(todo)));
+		}
+
+		assertThat(concurrently(writes)).as("no deadlocks between counters and rollups").isEmpty();
+		assertThat(issueCount(todo)).isEqualTo(24);
+		assertThat(statusCounts(todo)).containsExactlyInAnyOrderEntriesOf(
+				Map.of(IssueStatus.TO_DO, 12, IssueStatus.IN_PROGRESS, 12));
+		assertThat(jdbc.queryForObject("""
+				select sum(entered - exited) from issue_status_daily where project_id = ? and status = 'IN_PROGRESS'
+				""", Integer.class, projectId)).isEqualTo(12);
+		assertCountsMatchIssues();
+	}
+
+	@Test
+	void deletedColumnsCountsMoveToTheTarget() {
+		Long todo = data.column(projectId, 0);
+		Long review = data.column(projectId, 3);
+		Long a = data.newIssue(owner, orgId, projectId);
+		Long b = data.newIssue(owner, orgId, projectId);
+		data.newIssue(owner, orgId, projectId);
+		move(a, review);
+		MoveIssueRequest inProgress = new MoveIssueRequest();
+		inProgress.setColumnId(review);
+		inProgress.setStatus(IssueStatus.IN_PROGRESS);
+		issueService.move(owner, projectId, b, inProgress);
+		assertThat(issueCount(todo)).isEqualTo(1);
+
+		columnService.delete(owner, orgId, projectId, review, todo);
+
+		assertThat(issueCount(todo)).isEqualTo(3);
+		assertThat(statusCounts(todo)).containsExactlyInAnyOrderEntriesOf(
+				Map.of(IssueStatus.TO_DO, 2, IssueStatus.IN_PROGRESS, 1));
+		assertThat(jdbc.queryForObject("select count(*) from column_status_counts where column_id = ?", Long.class, review))
+				.isZero();
+		assertCountsMatchIssues();
+	}
+
+	@Test
+	void deleteIntoAFullColumnIsRejected() {
+		Long doing = data.column(projectId, 1);
+		Long review = data.column(projectId, 3);
+		wipLimit(doing, 1);
+		move(data.newIssue(owner, orgId, projectId), review);
+		move(data.newIssue(owner, orgId, projectId), review);
+
+		assertThatThrownBy(() -> columnService.delete(owner, orgId, projectId, review, doing))
+				.isInstanceOf(ConflictException.class);
+
+		assertThat(issueCount(review)).isEqualTo(2);
+		assertThat(issueCount(doing)).isZero();
+		assertCountsMatchIssues();
+	}
+
+	private void move(Long issueId, Long columnId) {
+		MoveIssueRequest req = new MoveIssueRequest();
+		req.setColumnId(columnId);
+		issueService.move(owner, projectId, issueId, req);
+	}
+
+	private static BulkIssuePatch patch(Long issueId, Long columnId) {
+		BulkIssuePatch patch = new BulkIssuePatch();
+		patch.setIssueId(issueId);
+		patch.setColumnId(columnId);
+		return patch;
+	}
+
+	private void wipLimit(Long columnId, int limit) {
+		UpdateColumnRequest req = new UpdateColumnRequest();
+		req.setWipLimit(limit);
+		columnService.update(owner, orgId, projectId, columnId, req);
+	}
+
+	/** Runs every task at once on its own thread; returns what they threw. */
+	private static List<Throwable> concurrently(List<Runnable> tasks) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(tasks.size());
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (Runnable task : tasks) {
+				futures.add(pool.submit(() -> {
+					start.await();
+					task.run();
+					return null;
+				}));
+			}
+			start.countDown();
+			List<Throwable> failures = new ArrayList<>();
+			for (Future<?> future : futures) {
+				try {
+					future.get(60, TimeUnit.SECONDS);
+				} catch (ExecutionException e) {
+					failures.add(e.getCause());
+				}
+			}
+			return failures;
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private Long columnOf(Long issueId) {
+		return jdbc.queryForObject("select column_id from issues where id = ?", Long.class, issueId);
+	}
+
+	private int issueCount(Long columnId) {
+		return jdbc.queryForObject("select issue_count from columns where id = ?", Integer.class, columnId);
+	}
+
+	private Map<IssueStatus, Integer> statusCounts(Long columnId) {
+		return columnService.list(owner, orgId, projectId).stream()
+				.filter(c -> c.getId().equals(columnId))
+				.findFirst().orElseThrow()
+				.getStatusCounts();
+	}
+
+	private void assertCountsMatchIssues() {
+		assertThat(jdbc.queryForList("""
+				select c.id, c.issue_count from columns c join boards b on b.id = c.board_id where b.project_id = ?
+				""", projectId))
+				.allSatisfy(row -> assertThat(row.get("issue_count")).as("column %s", row.get("id"))
+						.isEqualTo(jdbc.queryForObject("select count(*)::int from issues where column_id = ?",
+								Integer.class, row.get("id"))));
+		assertThat(jdbc.queryForList("""
+				select s.column_id, s.status, s.issue_count from column_status_counts s
+				join columns c on c.id = s.column_id join boards b on b.id = c.board_id
+				where b.project_id = ? and s.issue_count <> 0 order by 1, 2
+				""", projectId))
+				.isEqualTo(jdbc.queryForList("""
+						select column_id, status, count(*)::int as issue_count from issues
+						where project_id = ? group by 1, 2 order by 1, 2
+						""", projectId));
+	}
+}
@@ -0,0 +1,250 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.column.ColumnResponse;
+import com.sj.Workly.dto.column.CreateColumnRequest;
+import com.sj.Workly.dto.column.ReorderColumnsRequest;
+import com.sj.Workly.dto.issue.MoveIssueRequest;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.IssueField;
+import com.sj.Workly.exception.BadRequestException;
+import com.sj.Workly.exception.ConflictException;
+import com.sj.Workly.exception.NotFoundException;
+import com.sj.Workly.repository.BoardRepository;
+import com.sj.Workly.repository.IssueRepository;
+import com.sj.Workly.service.purge.PurgeWorker;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Not @Transactional: the board lock is only observable between committed transactions.
+ */
+@SpringBootTest
+class ColumnServiceTests {
+
+	@Autowired
+	private ColumnService columnService;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private OrganizationService orgService;
+
+	@Autowired
+	private IssueRepository issueRepo;
+
+	@Autowired
+	private BoardRepository boardRepo;
+
+	@Autowired
+	private PurgeWorker purgeWorker;
+
+	@Autowired
+	private TransactionTemplate tx;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private TestData data;
+
+	private User owner;
+	private Long orgId;
+	private Long projectId;
+
+	@BeforeEach
+	void seed() {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+	}
+
+	@AfterEach
+	void purge() {
+		orgService.delete(owner, orgId);
+		purgeWorker.run();
+	}
+
+	@Test
+	void deleteAppendsIssuesToTheTargetInOrderAndRecordsTheMove() {
+		Long todo = data.column(projectId, 0);
+		Long review = data.column(projectId, 3);
+		List<Long> kept = List.of(data.newIssue(owner, orgId, projectId), data.newIssue(owner, orgId, projectId));
+		List<Long> relocated = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Long issueId = data.newIssue(owner, orgId, projectId);
+			move(issueId, review);
+			relocated.add(issueId);
+		}
+
+		columnService.delete(owner, orgId, projectId, review, todo);
+
+		List<Long> expected = new ArrayList<>(kept);
+		expected.addAll(relocated);
+		assertThat(issuesInOrder(todo)).isEqualTo(expected);
+		assertThat(jdbc.queryForObject("""
+				select count(*) from issue_events
+				where issue_id = any (?) and field = ? and old_value = ? and new_value = ?
+				""", Long.class, relocated.toArray(Long[]::new), IssueField.COLUMN.getCode(), review.toString(), todo.toString()))
+				.isEqualTo(3);
+		assertThat(columnService.list(owner, orgId, projectId)).extracting(ColumnResponse::getId).doesNotContain(review);
+	}
+
+	@Test
+	void issuesLoadedBeforeTheRelocationAreReloaded() {
+		Long todo = data.column(projectId, 0);
+		Long review = data.column(projectId, 3);
+		Long issueId = data.newIssue(owner, orgId, projectId);
+		move(issueId, review);
+
+		Long columnAfter = tx.execute(status -> {
+			assertThat(issueRepo.findById(issueId).orElseThrow().getColumn().getId()).isEqualTo(review);
+			columnService.delete(owner, orgId, projectId, review, todo);
+			return issueRepo.findById(issueId).orElseThrow().getColumn().getId();
+		});
+
+		assertThat(columnAfter).isEqualTo(todo);
+	}
+
+	@Test
+	void deleteValidatesTheTarget() {
+		Long todo = data.column(projectId, 0);
+		Long otherProjectColumn = data.column(data.newProject(owner, orgId), 0);
+		data.newIssue(owner, orgId, projectId);
+
+		assertThatThrownBy(() -> columnService.delete(owner, orgId, projectId, todo, null))
+				.isInstanceOf(ConflictException.class);
+		assertThatThrownBy(() -> columnService.delete(owner, orgId, projectId, todo, todo))
+				.isInstanceOf(BadRequestException.class);
+		assertThatThrownBy(() -> columnService.delete(owner, orgId, projectId, todo, otherProjectColumn))
+				.isInstanceOf(NotFoundException.class);
+		assertThat(issuesInOrder(todo)).hasSize(1);
+	}
+
+	@Test
+	void reorderNeedsEveryColumnOnce() {
+		List<Long> columns = columnService.list(owner, orgId, projectId).stream().map(ColumnResponse::getId).toList();
+		List<Long> reversed = columns.reversed();
+
+		assertThatThrownBy(() -> columnService.reorder(owner, orgId, projectId, reorder(reversed.subList(1, reversed.size()))))
+				.isInstanceOf(BadRequestException.class);
+		assertThatThrownBy(() -> columnService.reorder(owner, orgId, projectId,
+				reorder(List.of(reversed.get(0), reversed.get(0), reversed.get(2), reversed.get(3)))))
+				.isInstanceOf(BadRequestException.class);
+
+		assertThat(columnService.reorder(owner, orgId, projectId, reorder(reversed)))
+				.extracting(ColumnResponse::getId, ColumnResponse::getOrderIndex)
+				.containsExactly(IntStream.range(0, reversed.size())
+						.mapToObj(i -> tuple(reversed.get(i), i))
+						.toArray(Tuple[]::new));
+	}
+
+	@Test
+	void deleteRacingMovesIntoTheTargetDoesNotDeadlock() throws Exception {
+		Long todo = data.column(projectId, 0);
+		Long review = data.column(projectId, 3);
+		List<Long> issues = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			Long issueId = data.newIssue(owner, orgId, projectId);
+			move(issueId, review);
+			issues.add(issueId);
+		}
+
+		CountDownLatch start = new CountDownLatch(1);
+		List<CompletableFuture<Void>> writes = new ArrayList<>();
+		writes.add(CompletableFuture.runAsync(() -> {
+			await(start);
+			columnService.delete(owner, orgId, projectId, review, todo);
+		}));
+		for (Long issueId : issues) {
+			writes.add(CompletableFuture.runAsync(() -> {
+				await(start);
+				move(issueId, todo);
+			}));
+		}
+		start.countDown();
+
+		List<Throwable> failures = new ArrayList<>();
+		for (CompletableFuture<Void> write : writes) {
+			try {
+				write.get(60, TimeUnit.SECONDS);
+			} catch (ExecutionException e) {
+				failures.add(e.getCause());
+			}
+		}
+
+		assertThat(failures).as("moves may only lose to the deletion").allMatch(NotFoundException.class::isInstance);
+		assertThat(issuesInOrder(todo)).containsExactlyInAnyOrderElementsOf(issues);
+		assertThat(jdbc.queryForObject("select issue_count from columns where id = ?", Integer.class, todo)).isEqualTo(8);
+	}
+
+	@Test
+	void columnChangesWaitForTheBoardLock() throws Exception {
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> tx.executeWithoutResult(status -> {
+			boardRepo.lockByProjectId(projectId).orElseThrow();
+			locked.countDown();
+			try {
+				release.await(30, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}));
+		assertThat(locked.await(30, TimeUnit.SECONDS)).isTrue();
+
+		CreateColumnRequest req = new CreateColumnRequest();
+		req.setName("Blocked");
+		CompletableFuture<ColumnResponse> create = CompletableFuture.supplyAsync(
+				() -> columnService.create(owner, orgId, projectId, req));
+		Thread.sleep(300);
+		assertThat(create).as("create waits while the board is locked").isNotDone();
+
+		release.countDown();
+		holder.get(30, TimeUnit.SECONDS);
+		assertThat(create.get(30, TimeUnit.SECONDS).getName()).isEqualTo("Blocked");
+	}
+
+	private void move(Long issueId, Long columnId) {
+		MoveIssueRequest req = new MoveIssueRequest();
+		req.setColumnId(columnId);
+		issueService.move(owner, projectId, issueId, req);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static ReorderColumnsRequest reorder(List<Long> columnIds) {
+		ReorderColumnsRequest req = new ReorderColumnsRequest();
+		req.setColumnIds(columnIds);
+		return req;
+	}
+
+	private List<Long> issuesInOrder(Long columnId) {
+		return jdbc.queryForList("select id from issues where column_id = ? order by order_index, id", Long.class, columnId);
+	}
+}
@@ -0,0 +1,120 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.issue.IssueActivityPageResponse;
+import com.sj.Workly.dto.issue.IssueActivityResponse;
+import com.sj.Workly.dto.issue.UpdateIssueRequest;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.IssueField;
+import com.sj.Workly.entity.enums.IssuePriority;
+import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.exception.NotFoundException;
+import com.sj.Workly.exception.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+class IssueActivityServiceTests {
+
+	@Autowired
+	private IssueActivityService activityService;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private TestData data;
+
+	private User owner;
+	private Long orgId;
+	private Long projectId;
+	private Long issueId;
+
+	@BeforeEach
+	void seed() {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+		issueId = data.newIssue(owner, orgId, projectId);
+	}
+
+	@Test
+	void updatesRecordOneEventPerChangedField() {
+		User member = data.addMember(owner, orgId, projectId);
+
+		update(r -> {
+			r.setTitle("Renamed");
+			r.setStatus(IssueStatus.IN_PROGRESS);
+			r.setAssigneeId(member.getId());
+		});
+		update(r -> r.setPriority(IssuePriority.MEDIUM));
+
+		assertThat(activity(null, 50).getItems())
+				.extracting(IssueActivityResponse::getField, IssueActivityResponse::getFrom,
+						IssueActivityResponse::getTo, IssueActivityResponse::getActorId)
+				.containsExactlyInAnyOrder(
+						tuple(IssueField.STATUS, "TO_DO", "IN_PROGRESS", owner.getId()),
+						tuple(IssueField.ASSIGNEE, null, member.getId().toString(), owner.getId()));
+	}
+
+	@Test
+	void pagesNewestFirst() {
+		IssuePriority[] priorities = { IssuePriority.HIGH, IssuePriority.LOW, IssuePriority.HIGH, IssuePriority.LOW };
+		for (IssuePriority p : priorities) {
+			update(r -> r.setPriority(p));
+		}
+
+		IssueActivityPageResponse first = activity(null, 3);
+		IssueActivityPageResponse second = activity(first.getNextCursor(), 3);
+
+		assertThat(first.getItems()).extracting(IssueActivityResponse::getTo).containsExactly("LOW", "HIGH", "LOW");
+		assertThat(first.getNextCursor()).isNotNull();
+		assertThat(second.getItems()).extracting(IssueActivityResponse::getTo, IssueActivityResponse::getFrom)
+				.containsExactly(tuple("HIGH", "MEDIUM"));
+		assertThat(second.getNextCursor()).isNull();
+	}
+
+	@Test
+	void onlyProjectMembersSeeTheActivityOfTheirIssues() {
+		Long otherIssue = data.newIssue(owner, orgId, data.newProject(owner, orgId));
+
+		assertThatThrownBy(() -> activityService.list(data.newUser(), projectId, issueId, null, 10))
+				.isInstanceOf(UnauthorizedException.class);
+		assertThatThrownBy(() -> activityService.list(owner, projectId, otherIssue, null, 10))
+				.isInstanceOf(NotFoundException.class);
+	}
+
+	@Test
+	void recordedEventsCannotBeRewritten() {
+		update(r -> r.setPriority(IssuePriority.HIGH));
+
+		assertThatThrownBy(() -> jdbc.update("update issue_events set new_value = 'LOW' where issue_id = ?", issueId))
+				.isInstanceOf(DataAccessException.class)
+				.hasMessageContaining("issue_events is append-only");
+	}
+
+	private void update(Consumer<UpdateIssueRequest> changes) {
+		UpdateIssueRequest req = new UpdateIssueRequest();
+		changes.accept(req);
+		issueService.update(owner, projectId, issueId, req);
+	}
+
+	private IssueActivityPageResponse activity(Long before, int size) {
+		return activityService.list(owner, projectId, issueId, before, size);
+	}
+}
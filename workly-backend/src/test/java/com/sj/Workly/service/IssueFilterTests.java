@@ -0,0 +1,142 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.issue.CreateIssueRequest;
+import com.sj.Workly.dto.issue.IssueFilterRequest;
+import com.sj.Workly.dto.issue.IssuePageResponse;
+import com.sj.Workly.dto.issue.IssueResponse;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.IssueStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class IssueFilterTests {
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private TestData data;
+
+	private User owner;
+	private User member;
+	private Long orgId;
+	private Long projectId;
+
+	@BeforeEach
+	void seed() {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+		member = data.addMember(owner, orgId, projectId);
+	}
+
+	@Test
+	void textMatchesTitleAndDescription() {
+		Long login = addIssue("Login fails on Safari", "Password field loses focus", IssueStatus.TO_DO, null);
+		Long export = addIssue("CSV export", "Exports time out for large projects", IssueStatus.TO_DO, null);
+		addIssue("Dark mode", "Toggle in settings", IssueStatus.TO_DO, null);
+
+		assertThat(ids(filter(f -> f.setText("login")))).containsExactly(login);
+		assertThat(ids(filter(f -> f.setText("large OR safari")))).containsExactlyInAnyOrder(login, export);
+		assertThat(ids(filter(f -> f.setText("\"large projects\"")))).containsExactly(export);
+		assertThat(ids(filter(f -> f.setText("export -csv")))).isEmpty();
+	}
+
+	@Test
+	void textIsScopedToTheProject() {
+		Long otherProject = data.newProject(owner, orgId);
+		CreateIssueRequest req = TestData.issueRequest(data.column(otherProject, 0));
+		req.setTitle("Login fails on Safari");
+		issueService.create(owner, orgId, otherProject, req);
+
+		assertThat(ids(filter(f -> f.setText("login")))).isEmpty();
+	}
+
+	@Test
+	void statusesAndAssigneesCombine() {
+		Long mineTodo = addIssue("A", null, IssueStatus.TO_DO, member.getId());
+		Long mineDone = addIssue("B", null, IssueStatus.DONE, member.getId());
+		Long unassignedTodo = addIssue("C", null, IssueStatus.TO_DO, null);
+		Long ownersInProgress = addIssue("D", null, IssueStatus.IN_PROGRESS, owner.getId());
+
+		assertThat(ids(filter(f -> f.setStatuses(Set.of(IssueStatus.TO_DO, IssueStatus.IN_PROGRESS)))))
+				.containsExactlyInAnyOrder(mineTodo, unassignedTodo, ownersInProgress);
+		assertThat(ids(filter(f -> f.setAssigneeIds(List.of(member.getId())))))
+				.containsExactlyInAnyOrder(mineTodo, mineDone);
+		assertThat(ids(filter(f -> {
+			f.setAssigneeIds(List.of(member.getId()));
+			f.setStatuses(Set.of(IssueStatus.TO_DO));
+		}))).containsExactly(mineTodo);
+		assertThat(ids(filter(f -> f.setUnassigned(true)))).containsExactly(unassignedTodo);
+		assertThat(ids(filter(f -> {
+			f.setAssigneeIds(List.of(member.getId()));
+			f.setUnassigned(true);
+			f.setStatuses(Set.of(IssueStatus.TO_DO));
+		}))).containsExactlyInAnyOrder(mineTodo, unassignedTodo);
+	}
+
+	@Test
+	void keysetPagesContinueWithoutGapsOrDuplicates() {
+		List<Long> created = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			created.add(addIssue("Issue " + i, null, IssueStatus.TO_DO, null));
+		}
+
+		for (IssueFilterRequest.SortField sort : IssueFilterRequest.SortField.values()) {
+			for (IssueFilterRequest.SortDirection direction : IssueFilterRequest.SortDirection.values()) {
+				IssueFilterRequest f = new IssueFilterRequest();
+				f.setSort(sort);
+				f.setDirection(direction);
+
+				List<Long> seen = new ArrayList<>();
+				List<Integer> pageSizes = new ArrayList<>();
+				String cursor = null;
+				do {
+					IssuePageResponse page = issueService.filter(owner, projectId, f, cursor, 3);
+					seen.addAll(ids(page));
+					pageSizes.add(page.getItems().size());
+					cursor = page.getNextCursor();
+				} while (cursor != null);
+
+				assertThat(pageSizes).containsExactly(3, 3, 1);
+				assertThat(seen).containsExactlyInAnyOrderElementsOf(created).doesNotHaveDuplicates();
+				// Issues were created in id order, so both timestamps (and the id tie-breaker) follow it
+				assertThat(seen).isSortedAccordingTo(direction == IssueFilterRequest.SortDirection.ASC
+						? Long::compare
+						: (a, b) -> Long.compare(b, a));
+			}
+		}
+	}
+
+	private IssuePageResponse filter(Consumer<IssueFilterRequest> spec) {
+		IssueFilterRequest f = new IssueFilterRequest();
+		spec.accept(f);
+		return issueService.filter(owner, projectId, f, null, 50);
+	}
+
+	private Long addIssue(String title, String description, IssueStatus status, Long assigneeId) {
+		CreateIssueRequest req = TestData.issueRequest(data.column(projectId, 0));
+		req.setTitle(title);
+		req.setDescription(description);
+		req.setStatus(status);
+		req.setAssigneeId(assigneeId);
+		return issueService.create(owner, orgId, projectId, req).getId();
+	}
+
+	private static List<Long> ids(IssuePageResponse page) {
+		return page.getItems().stream().map(IssueResponse::getId).toList();
+	}
+}
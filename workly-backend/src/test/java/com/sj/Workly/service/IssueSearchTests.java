@@ -0,0 +1,152 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.comment.CreateCommentRequest;
+import com.sj.Workly.dto.issue.CreateIssueRequest;
+import com.sj.Workly.dto.issue.IssueSearchResult;
+import com.sj.Workly.dto.issue.UpdateIssueRequest;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.exception.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The search vector is kept by the V4 triggers: comments are appended on insert and rebuilt on edit, move
+ * and delete; title/description edits keep the comments' part.
+ */
+@SpringBootTest
+@Transactional
+class IssueSearchTests {
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private TestData data;
+
+	private User owner;
+	private Long orgId;
+	private Long projectId;
+
+	@BeforeEach
+	void seed() {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+	}
+
+	@Test
+	void titleOutranksDescriptionOutranksComments() {
+		Long inComment = addIssue("Checkout page", "Card payments");
+		comment(inComment, "Fails after the zephyr deploy");
+		Long inDescription = addIssue("Login page", "Broken since the zephyr deploy");
+		Long inTitle = addIssue("Zephyr deploy broke search", null);
+
+		assertThat(ids("zephyr")).containsExactly(inTitle, inDescription, inComment);
+	}
+
+	@Test
+	void commentsAreSearchableUntilEditedOrDeleted() {
+		Long issueId = addIssue("Checkout page", null);
+		Long first = comment(issueId, "Reproduced on quartz");
+		comment(issueId, "Also broken on basalt");
+		assertThat(ids("quartz")).containsExactly(issueId);
+		assertThat(ids("basalt")).containsExactly(issueId);
+
+		jdbc.update("update comments set body = 'Reproduced on granite' where id = ?", first);
+		assertThat(ids("quartz")).isEmpty();
+		assertThat(ids("granite")).containsExactly(issueId);
+
+		commentService.delete(owner, orgId, projectId, issueId, first);
+		assertThat(ids("granite")).isEmpty();
+		assertThat(ids("basalt")).containsExactly(issueId);
+	}
+
+	@Test
+	void titleEditKeepsCommentMatches() {
+		Long issueId = addIssue("Checkout page", null);
+		comment(issueId, "Reproduced on quartz");
+
+		UpdateIssueRequest update = new UpdateIssueRequest();
+		update.setTitle("Payment page");
+		issueService.update(owner, projectId, issueId, update);
+
+		assertThat(ids("payment")).containsExactly(issueId);
+		assertThat(ids("checkout")).isEmpty();
+		assertThat(ids("quartz")).containsExactly(issueId);
+	}
+
+	@Test
+	void commentMovedToAnotherIssueIsRebuiltOnBoth() {
+		Long from = addIssue("Checkout page", null);
+		Long to = addIssue("Login page", null);
+		Long commentId = comment(from, "Reproduced on quartz");
+
+		jdbc.update("update comments set issue_id = ? where id = ?", to, commentId);
+
+		assertThat(ids("quartz")).containsExactly(to);
+	}
+
+	@Test
+	void highlightsEscapeHtmlAndMarkMatches() {
+		addIssue("<script>zephyr</script> crash", "The zephyr deploy broke checkout");
+
+		IssueSearchResult hit = issueService.search(owner, projectId, "zephyr", 0, 20).getContent().get(0);
+
+		assertThat(hit.getTitleHighlight()).doesNotContain("<script>").contains("<mark>zephyr</mark>");
+		assertThat(hit.getSnippet()).contains("<mark>zephyr</mark>");
+	}
+
+	@Test
+	void pagesCarryTheTotalAndBlankQueriesMatchNothing() {
+		for (int i = 0; i < 5; i++) {
+			addIssue("Zephyr issue " + i, null);
+		}
+
+		Page<IssueSearchResult> second = issueService.search(owner, projectId, "zephyr", 1, 2);
+		assertThat(second.getContent()).hasSize(2);
+		assertThat(second.getTotalElements()).isEqualTo(5);
+		assertThat(issueService.search(owner, projectId, "  ", 0, 20)).isEmpty();
+	}
+
+	@Test
+	void nonMembersCannotSearch() {
+		User outsider = data.newUser();
+
+		assertThatThrownBy(() -> issueService.search(outsider, projectId, "zephyr", 0, 20))
+				.isInstanceOf(UnauthorizedException.class);
+	}
+
+	private Long addIssue(String title, String description) {
+		CreateIssueRequest req = TestData.issueRequest(data.column(projectId, 0));
+		req.setTitle(title);
+		req.setDescription(description);
+		return issueService.create(owner, orgId, projectId, req).getId();
+	}
+
+	private Long comment(Long issueId, String body) {
+		CreateCommentRequest req = new CreateCommentRequest();
+		req.setBody(body);
+		return commentService.add(owner, orgId, projectId, issueId, req).getId();
+	}
+
+	private List<Long> ids(String query) {
+		return issueService.search(owner, projectId, query, 0, 20).getContent().stream().map(IssueSearchResult::getId).toList();
+	}
+}
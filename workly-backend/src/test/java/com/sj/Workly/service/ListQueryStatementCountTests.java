@@ -0,0 +1,148 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.comment.CreateCommentRequest;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.observability.QueryScope;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * List endpoints read projections (repository/projection), so the number of SQL statements per call must not
+ * depend on how many rows are listed (streamed lists: up to one page, see StreamingJsonWriter). Counts the
+ * statements this thread executes (QueryScope, so background pollers don't add to the count) before and after
+ * adding rows (with distinct users, which is what used to trigger one select per author/member).
+ */
+@SpringBootTest
+@Transactional
+class ListQueryStatementCountTests {
+
+	private static final int MAX_STATEMENTS_PER_LIST = 3;
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private OrganizationService orgService;
+
+	@Autowired
+	private ProjectService projectService;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private TestData data;
+
+	private User owner;
+	private Long orgId;
+	private Long projectId;
+	private Long columnId;
+	private Long issueId;
+
+	@BeforeEach
+	void seed() {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+		columnId = data.column(projectId, 0);
+		issueId = addIssue();
+		addComment(owner);
+		addMember();
+	}
+
+	@Test
+	void issueListIsConstant() {
+		assertConstant(() -> {
+			issueService.authorizeList(owner, projectId, null);
+			write(out -> issueService.writeList(projectId, null, null, out));
+		}, () -> addIssue());
+	}
+
+	@Test
+	void commentListIsConstant() {
+		assertConstant(() -> commentService.listByIssue(owner, orgId, projectId, issueId), () -> addComment(addMember()));
+	}
+
+	@Test
+	void projectListIsConstant() {
+		assertConstant(() -> projectService.listMyProjects(owner, orgId),
+				() -> data.newProject(owner, orgId));
+	}
+
+	@Test
+	void projectMemberListIsConstant() {
+		assertConstant(() -> projectService.listProjectMembers(owner, orgId, projectId), () -> addMember());
+	}
+
+	@Test
+	void orgListIsConstant() {
+		assertConstant(() -> orgService.listMyOrgs(owner), () -> data.newOrg(owner));
+	}
+
+	@Test
+	void orgMemberListIsConstant() {
+		assertConstant(() -> {
+			orgService.authorizeMembers(owner, orgId);
+			write(out -> orgService.writeMembers(orgId, out));
+		}, () -> addMember());
+	}
+
+	private void assertConstant(Runnable list, Runnable addRow) {
+		long before = statements(list);
+		for (int i = 0; i < 3; i++) {
+			addRow.run();
+		}
+		long after = statements(list);
+
+		assertThat(before).isLessThanOrEqualTo(MAX_STATEMENTS_PER_LIST);
+		assertThat(after).isEqualTo(before);
+	}
+
+	/** Statements for one call, starting from an empty persistence context so nothing is served from it. */
+	private long statements(Runnable call) {
+		em.flush();
+		em.clear();
+		try (QueryScope scope = QueryScope.open()) {
+			call.run();
+			return scope.statements();
+		}
+	}
+
+	/** Streamed lists, written to nowhere: only their statements matter here. */
+	private static void write(StreamingResponseBody body) {
+		try {
+			body.writeTo(OutputStream.nullOutputStream());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private User addMember() {
+		return data.addMember(owner, orgId, projectId);
+	}
+
+	private Long addIssue() {
+		return issueService.create(owner, orgId, projectId, TestData.issueRequest(columnId)).getId();
+	}
+
+	private void addComment(User author) {
+		CreateCommentRequest req = new CreateCommentRequest();
+		req.setBody("Comment by " + author.getName());
+		commentService.add(author, orgId, projectId, issueId, req);
+	}
+}
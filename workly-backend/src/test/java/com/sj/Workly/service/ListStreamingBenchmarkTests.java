@@ -0,0 +1,253 @@
+package com.sj.Workly.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.issue.IssueResponse;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.repository.IssueRepository;
+import com.sj.Workly.repository.OrgMemberRepository;
+import com.sj.Workly.repository.projection.IssueView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streamed list responses, written page by page, must be byte-for-byte what the whole list read at once would
+ * serialize to. The benchmark
+ * (run with {@code -Dbenchmark=true}) compares both ways of writing a 50k issue list:
+ * <ul>
+ *   <li>time to first byte and total time written to the response stream (no network),</li>
+ *   <li>peak live heap while writing, sampled after a GC at the first byte and every 4 MB,</li>
+ *   <li>bytes allocated by the writing thread.</li>
+ * </ul>
+ * Results are logged, not asserted: they depend on the machine and the heap.
+ */
+@SpringBootTest
+@Transactional
+class ListStreamingBenchmarkTests {
+
+	private static final Logger logger = LoggerFactory.getLogger(ListStreamingBenchmarkTests.class);
+
+	private static final int BENCHMARK_ROWS = 50_000;
+	private static final int SAMPLE_EVERY_BYTES = 4 * 1024 * 1024;
+
+	@Autowired
+	private OrganizationService orgService;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private IssueRepository issueRepo;
+
+	@Autowired
+	private OrgMemberRepository memberRepo;
+
+	@Autowired
+	private TestData data;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private User owner;
+	private Long orgId;
+	private Long projectId;
+
+	@Test
+	void streamedListMatchesMaterializedList() throws IOException {
+		seed(StreamingJsonWriter.PAGE_SIZE * 2 + 7);
+
+		assertThat(streamedIssues(OutputStream.nullOutputStream())).isEqualTo(materializedIssues(OutputStream.nullOutputStream()));
+
+		ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+		orgService.writeMembers(orgId, streamed);
+		assertThat(streamed.toByteArray()).isEqualTo(objectMapper.writeValueAsBytes(
+				memberRepo.findMemberViewsAfter(orgId, 0L, Limit.unlimited()).stream()
+						.map(OrganizationService::toMemberResponse).toList()));
+	}
+
+	/** Page keys tie on created_at and order_index: the id tie-breaker must carry every page on. */
+	@Test
+	void pagesContinueAcrossTiedSortKeys() throws IOException {
+		seed(StreamingJsonWriter.PAGE_SIZE * 2);
+		Long columnId = data.column(projectId, 0);
+		jdbc.update("update issues set created_at = now(), order_index = 0 where project_id = ?", projectId);
+
+		List<Long> all = ids(issueRepo.findViewsByProjectId(projectId, Limit.unlimited()));
+		assertThat(all).hasSize(StreamingJsonWriter.PAGE_SIZE * 2);
+		assertThat(streamedIds(projectId, null, null)).isEqualTo(all);
+		assertThat(streamedIds(projectId, null, IssueStatus.TO_DO)).isEqualTo(all);
+		assertThat(streamedIds(projectId, columnId, null))
+				.isEqualTo(ids(issueRepo.findViewsByColumnId(columnId, Limit.unlimited())))
+				.containsExactlyInAnyOrderElementsOf(all);
+	}
+
+	@Test
+	@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+	void streamingVersusMaterializedFor50kRows() throws IOException {
+		seed(BENCHMARK_ROWS);
+
+		for (int i = 0; i < 3; i++) { // warm-up
+			materializedIssues(OutputStream.nullOutputStream());
+			streamedIssues(OutputStream.nullOutputStream());
+		}
+
+		Probe materializedTiming = new Probe(false);
+		materializedIssues(materializedTiming);
+		Probe streamedTiming = new Probe(false);
+		streamedIssues(streamedTiming);
+
+		Probe materializedHeap = new Probe(true);
+		materializedIssues(materializedHeap);
+		Probe streamedHeap = new Probe(true);
+		streamedIssues(streamedHeap);
+
+		assertThat(streamedTiming.bytes).isEqualTo(materializedTiming.bytes);
+		log("materialized", materializedTiming, materializedHeap);
+		log("streamed", streamedTiming, streamedHeap);
+	}
+
+	/** The whole list in one query and one List, as the endpoint used to build it. */
+	private byte[] materializedIssues(OutputStream out) throws IOException {
+		Capture capture = new Capture(out);
+		objectMapper.writeValue(capture, issueRepo.findViewsByProjectId(projectId, Limit.unlimited()).stream()
+				.map(IssueService::toResponse).toList());
+		return capture.bytes();
+	}
+
+	private byte[] streamedIssues(OutputStream out) throws IOException {
+		Capture capture = new Capture(out);
+		issueService.writeList(projectId, null, null, capture);
+		return capture.bytes();
+	}
+
+	private List<Long> streamedIds(Long projectId, Long columnId, IssueStatus status) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		issueService.writeList(projectId, columnId, status, out);
+		return Arrays.stream(objectMapper.readValue(out.toByteArray(), IssueResponse[].class))
+				.map(IssueResponse::getId).toList();
+	}
+
+	private static List<Long> ids(List<IssueView> views) {
+		return views.stream().map(IssueView::id).toList();
+	}
+
+	private void log(String variant, Probe timing, Probe heap) {
+		logger.info("{} rows, {}: {} bytes, first byte after {} ms, done after {} ms, peak live heap {} MB over baseline, allocated {} MB",
+				BENCHMARK_ROWS, variant, timing.bytes,
+				timing.firstByteNanos / 1_000_000, timing.doneNanos / 1_000_000,
+				heap.peakLiveBytes / (1024 * 1024), timing.allocatedBytes / (1024 * 1024));
+	}
+
+	private void seed(int issues) {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+		Long columnId = data.column(projectId, 0);
+
+		jdbc.update("""
+				insert into issues (project_id, column_id, title, description, priority, status,
+				                    reporter_user_id, order_index, created_at, updated_at)
+				select ?, ?, 'Issue ' || g, 'Generated issue number ' || g, 'MEDIUM', 'TO_DO',
+				       ?, g, now() - g * interval '1 second', now()
+				from generate_series(1, ?) g
+				""", projectId, columnId, owner.getId(), issues);
+	}
+
+	/** Keeps a copy of what was written, for comparing the two variants on small lists. */
+	private static final class Capture extends OutputStream {
+		private final OutputStream out;
+		private final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+		private final boolean keep;
+
+		Capture(OutputStream out) {
+			this.out = out;
+			this.keep = !(out instanceof Probe);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[]{(byte) b}, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (keep) copy.write(b, off, len);
+			out.write(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			out.flush();
+		}
+
+		byte[] bytes() {
+			return copy.toByteArray();
+		}
+	}
+
+	/** Stands in for the response stream: records when bytes arrive and, optionally, the live heap meanwhile. */
+	private static final class Probe extends OutputStream {
+		private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+		private static final com.sun.management.ThreadMXBean THREADS =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		private final boolean sampleHeap;
+		private final long start = System.nanoTime();
+		private final long startAllocated = THREADS.getCurrentThreadAllocatedBytes();
+		private final long baselineLive;
+		private long bytes;
+		private long nextSample;
+		long firstByteNanos = -1;
+		long doneNanos;
+		long allocatedBytes;
+		long peakLiveBytes;
+
+		Probe(boolean sampleHeap) {
+			this.sampleHeap = sampleHeap;
+			this.baselineLive = sampleHeap ? liveHeap() : 0;
+		}
+
+		@Override
+		public void write(int b) {
+			write(new byte[]{(byte) b}, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			if (firstByteNanos < 0) firstByteNanos = System.nanoTime() - start;
+			bytes += len;
+			if (sampleHeap && bytes >= nextSample) {
+				peakLiveBytes = Math.max(peakLiveBytes, liveHeap() - baselineLive);
+				nextSample = bytes + SAMPLE_EVERY_BYTES;
+			}
+			doneNanos = System.nanoTime() - start;
+			allocatedBytes = THREADS.getCurrentThreadAllocatedBytes() - startAllocated;
+		}
+
+		private static long liveHeap() {
+			System.gc();
+			return MEMORY.getHeapMemoryUsage().getUsed();
+		}
+	}
+}
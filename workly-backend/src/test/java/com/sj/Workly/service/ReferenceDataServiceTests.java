@@ -0,0 +1,126 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.column.CreateColumnRequest;
+import com.sj.Workly.dto.column.UpdateColumnRequest;
+import com.sj.Workly.dto.organization.UpdateOrganizationRequest;
+import com.sj.Workly.dto.project.UpdateProjectRequest;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.exception.NotFoundException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Writes through the services evict the snapshots they change. Writes that bypass them (plain JDBC here,
+ * another instance in production) are only seen after an eviction.
+ */
+@SpringBootTest
+@Transactional
+class ReferenceDataServiceTests {
+
+	@Autowired
+	private ReferenceDataService references;
+
+	@Autowired
+	private ColumnService columnService;
+
+	@Autowired
+	private ProjectService projectService;
+
+	@Autowired
+	private OrganizationService orgService;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private TestData data;
+
+	private User owner;
+	private Long orgId;
+	private Long projectId;
+
+	@BeforeEach
+	void seed() {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+	}
+
+	@Test
+	void snapshotsAreCachedUntilEvicted() {
+		Long columnId = data.column(projectId, 0);
+		jdbc.update("update columns set name = 'Renamed behind the cache' where id = ?", columnId);
+		em.clear(); // the test transaction's persistence context still holds the column as created
+
+		assertThat(references.board(projectId).column(columnId).name()).isNotEqualTo("Renamed behind the cache");
+
+		references.evictBoard(projectId);
+		assertThat(references.board(projectId).column(columnId).name()).isEqualTo("Renamed behind the cache");
+	}
+
+	@Test
+	void columnWritesEvictTheBoard() {
+		int columns = references.board(projectId).columns().size();
+
+		CreateColumnRequest create = new CreateColumnRequest();
+		create.setName("Review");
+		Long columnId = columnService.create(owner, orgId, projectId, create).getId();
+		assertThat(references.board(projectId).columns()).hasSize(columns + 1);
+
+		UpdateColumnRequest update = new UpdateColumnRequest();
+		update.setName("Code review");
+		update.setWipLimit(3);
+		columnService.update(owner, orgId, projectId, columnId, update);
+		assertThat(references.board(projectId).column(columnId))
+				.extracting(ReferenceDataService.ColumnRef::name, ReferenceDataService.ColumnRef::wipLimit)
+				.containsExactly("Code review", 3);
+
+		columnService.delete(owner, orgId, projectId, columnId, null);
+		assertThat(references.board(projectId).column(columnId)).isNull();
+		assertThat(references.board(projectId).columns()).hasSize(columns);
+	}
+
+	@Test
+	void projectAndOrgUpdatesEvictTheirSnapshots() {
+		references.project(projectId);
+		references.org(orgId);
+
+		UpdateProjectRequest project = new UpdateProjectRequest();
+		project.setName("Renamed project");
+		projectService.update(owner, orgId, projectId, project);
+		UpdateOrganizationRequest org = new UpdateOrganizationRequest();
+		org.setName("Renamed org");
+		orgService.update(owner, orgId, org);
+
+		assertThat(references.project(projectId).name()).isEqualTo("Renamed project");
+		assertThat(references.org(orgId).name()).isEqualTo("Renamed org");
+	}
+
+	@Test
+	void columnDeletedBehindTheCacheIsNotFoundOnWrite() {
+		Long columnId = data.column(projectId, 3);
+		// As if deleted on another instance: this instance's board still lists the column
+		jdbc.update("delete from columns where id = ?", columnId);
+		assertThat(references.board(projectId).column(columnId)).isNotNull();
+
+		assertThatThrownBy(() -> issueService.create(owner, orgId, projectId, TestData.issueRequest(columnId)))
+				.isInstanceOf(NotFoundException.class);
+
+		assertThat(references.board(projectId).column(columnId)).isNull();
+	}
+}
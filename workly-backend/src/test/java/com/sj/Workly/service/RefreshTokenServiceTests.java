@@ -0,0 +1,101 @@
+package com.sj.Workly.service;
+
+import com.sj.Workly.entity.User;
+import com.sj.Workly.exception.UnauthorizedException;
+import com.sj.Workly.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+		"app.refresh.reuse-grace-seconds=0",
+		"app.refresh.max-active-per-user=3"
+})
+@Transactional
+class RefreshTokenServiceTests {
+
+	@Autowired
+	private RefreshTokenService refreshTokens;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private User user;
+
+	@BeforeEach
+	void seed() {
+		String id = UUID.randomUUID().toString();
+		user = userRepo.save(new User("user-" + id, id + "@example.test", "not-a-hash"));
+	}
+
+	@Test
+	void storesOnlyTheHash() {
+		String token = refreshTokens.issue(user);
+
+		byte[] stored = jdbc.queryForObject(
+				"select token_hash from refresh_tokens where user_id = ?", byte[].class, user.getId());
+		assertThat(stored).hasSize(32).isEqualTo(RefreshTokenService.hash(token));
+	}
+
+	@Test
+	void rotationIssuesSuccessorInSameFamily() {
+		String first = refreshTokens.issue(user);
+		RefreshTokenService.Issued next = refreshTokens.rotate(first);
+
+		assertThat(next.userId()).isEqualTo(user.getId());
+		assertThat(next.token()).isNotEqualTo(first);
+		assertThat(jdbc.queryForObject(
+				"select count(distinct family_id) from refresh_tokens where user_id = ?", Long.class, user.getId()))
+				.isEqualTo(1L);
+		assertThat(activeTokens()).isEqualTo(1);
+	}
+
+	@Test
+	void reuseRevokesTheWholeFamily() {
+		String first = refreshTokens.issue(user);
+		String second = refreshTokens.rotate(first).token();
+
+		assertThatThrownBy(() -> refreshTokens.rotate(first)).isInstanceOf(UnauthorizedException.class);
+		assertThatThrownBy(() -> refreshTokens.rotate(second)).isInstanceOf(UnauthorizedException.class);
+		assertThat(activeTokens()).isZero();
+	}
+
+	@Test
+	void newLoginsRevokeTheOldestBeyondTheCap() {
+		String oldest = refreshTokens.issue(user);
+		for (int i = 0; i < 4; i++) {
+			refreshTokens.issue(user);
+		}
+
+		assertThat(activeTokens()).isEqualTo(3);
+		assertThatThrownBy(() -> refreshTokens.rotate(oldest)).isInstanceOf(UnauthorizedException.class);
+	}
+
+	@Test
+	void purgeDeletesExpiredTokens() {
+		refreshTokens.issue(user);
+		refreshTokens.issue(user);
+		jdbc.update("update refresh_tokens set expires_at = now() - interval '1 day' where user_id = ?", user.getId());
+
+		refreshTokens.purge();
+
+		assertThat(jdbc.queryForObject(
+				"select count(*) from refresh_tokens where user_id = ?", Long.class, user.getId())).isZero();
+	}
+
+	private int activeTokens() {
+		return jdbc.queryForObject(
+				"select count(*) from refresh_tokens where user_id = ? and revoked_at is null", Integer.class, user.getId());
+	}
+}
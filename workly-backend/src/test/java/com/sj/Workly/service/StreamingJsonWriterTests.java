@@ -0,0 +1,66 @@
+package com.sj.Workly.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not @Transactional: the writer must open its own transaction per page and none while writing.
+ */
+@SpringBootTest
+class StreamingJsonWriterTests {
+
+	@Autowired
+	private StreamingJsonWriter writer;
+
+	@Test
+	void pagesAreReadInTransactionsAndWrittenOutsideThem() throws IOException {
+		int rows = StreamingJsonWriter.PAGE_SIZE * 2 + 3;
+		List<Integer> pageStarts = new ArrayList<>();
+		List<Boolean> transactionWhileWriting = new ArrayList<>();
+		OutputStream out = new ByteArrayOutputStream() {
+			@Override
+			public void flush() {
+				transactionWhileWriting.add(TransactionSynchronizationManager.isActualTransactionActive());
+			}
+		};
+
+		writer.writeArray(out, (Integer after, Limit limit) -> {
+			assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+			assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isTrue();
+			int from = after == null ? 0 : after + 1;
+			pageStarts.add(from);
+			return IntStream.range(from, Math.min(from + limit.max(), rows)).boxed().toList();
+		}, i -> i);
+
+		assertThat(pageStarts).containsExactly(0, StreamingJsonWriter.PAGE_SIZE, StreamingJsonWriter.PAGE_SIZE * 2);
+		assertThat(transactionWhileWriting).isNotEmpty().containsOnly(false);
+		assertThat(out.toString()).startsWith("[0,1,2,").endsWith("," + (rows - 1) + "]");
+	}
+
+	@Test
+	void fullLastPageEndsWithOneEmptyRead() throws IOException {
+		List<Integer> pageStarts = new ArrayList<>();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		writer.writeArray(out, (Integer after, Limit limit) -> {
+			int from = after == null ? 0 : after + 1;
+			pageStarts.add(from);
+			return IntStream.range(from, Math.min(from + limit.max(), StreamingJsonWriter.PAGE_SIZE)).boxed().toList();
+		}, i -> i);
+
+		assertThat(pageStarts).containsExactly(0, StreamingJsonWriter.PAGE_SIZE);
+		assertThat(out.toString()).endsWith("," + (StreamingJsonWriter.PAGE_SIZE - 1) + "]");
+	}
+}
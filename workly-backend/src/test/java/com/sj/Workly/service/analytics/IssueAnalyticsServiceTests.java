@@ -0,0 +1,192 @@
+package com.sj.Workly.service.analytics;
+
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.analytics.CumulativeFlowResponse;
+import com.sj.Workly.dto.analytics.CycleTimeResponse;
+import com.sj.Workly.dto.issue.BulkIssuePatch;
+import com.sj.Workly.dto.issue.BulkIssueUpdateRequest;
+import com.sj.Workly.dto.issue.CreateIssueRequest;
+import com.sj.Workly.dto.issue.IssueResponse;
+import com.sj.Workly.dto.issue.UpdateIssueRequest;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.exception.BadRequestException;
+import com.sj.Workly.exception.UnauthorizedException;
+import com.sj.Workly.service.IssueService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * The daily rollups written through the Recorder must agree with the issues table: today's cumulative flow is
+ * the current count per status, and every move into DONE is one resolution.
+ */
+@SpringBootTest
+@Transactional
+class IssueAnalyticsServiceTests {
+
+	@Autowired
+	private IssueAnalyticsService analytics;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private TestData data;
+
+	private User owner;
+	private Long orgId;
+	private Long projectId;
+	private LocalDate today;
+
+	@BeforeEach
+	void seed() {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+		today = LocalDate.now(ZoneOffset.UTC);
+	}
+
+	@Test
+	void cumulativeFlowMatchesIssueCountsThroughStatusChanges() {
+		Long a = addIssue(IssueStatus.TO_DO);
+		Long b = addIssue(IssueStatus.TO_DO);
+		Long c = addIssue(IssueStatus.IN_PROGRESS);
+		addIssue(IssueStatus.DONE);
+
+		setStatus(a, IssueStatus.IN_PROGRESS);
+		setStatus(a, IssueStatus.DONE);
+		setStatus(a, IssueStatus.IN_PROGRESS);
+		setStatus(b, IssueStatus.TO_DO); // unchanged: no bucket change
+		bulkStatus(IssueStatus.DONE, b, c);
+
+		assertThat(flowToday()).isEqualTo(issueCounts());
+		assertThat(flowToday()).containsEntry(IssueStatus.IN_PROGRESS, 1L).containsEntry(IssueStatus.DONE, 3L);
+	}
+
+	@Test
+	void bulkChangesAreMergedIntoOneRowPerStatus() {
+		Long a = addIssue(IssueStatus.TO_DO);
+		Long b = addIssue(IssueStatus.TO_DO);
+		Long c = addIssue(IssueStatus.TO_DO);
+
+		bulkStatus(IssueStatus.IN_PROGRESS, a, b, c);
+
+		List<Map<String, Object>> rows = jdbc.queryForList(
+				"select status, entered, exited from issue_status_daily where project_id = ? order by status", projectId);
+		assertThat(rows).extracting(r -> r.get("status"), r -> r.get("entered"), r -> r.get("exited"))
+				.containsExactly(
+						tuple("IN_PROGRESS", 3, 0),
+						tuple("TO_DO", 3, 3));
+	}
+
+	@Test
+	void everyMoveIntoDoneIsOneResolution() {
+		Long issueId = addIssue(IssueStatus.TO_DO);
+
+		setStatus(issueId, IssueStatus.IN_PROGRESS);
+		IssueResponse started = setStatus(issueId, IssueStatus.DONE);
+		assertThat(started.getStartedAt()).isNotNull();
+		assertThat(started.getResolvedAt()).isNotNull();
+
+		IssueResponse reopened = setStatus(issueId, IssueStatus.TO_DO);
+		assertThat(reopened.getResolvedAt()).isNull();
+		assertThat(reopened.getStartedAt()).as("startedAt is the first start").isEqualTo(started.getStartedAt());
+
+		setStatus(issueId, IssueStatus.DONE);
+		addIssue(IssueStatus.DONE); // created as DONE: no lead or cycle time to report
+
+		CycleTimeResponse cycle = analytics.cycleTime(owner, projectId, today, today);
+		assertThat(cycle.getResolved()).isEqualTo(2);
+		assertThat(cycle.getDays()).singleElement().satisfies(day -> {
+			assertThat(day.getDay()).isEqualTo(today);
+			assertThat(day.getResolved()).isEqualTo(2);
+		});
+		assertThat(cycle.getAvgLeadTimeHours()).isNotNull().isGreaterThanOrEqualTo(0.0);
+	}
+
+	@Test
+	void earlierDaysCarryIntoTheRange() {
+		jdbc.update("""
+				insert into issue_status_daily (project_id, day, status, entered, exited)
+				values (?, ?, 'TO_DO', 5, 2), (?, ?, 'IN_PROGRESS', 2, 0)
+				""", projectId, today.minusDays(10), projectId, today.minusDays(10));
+		addIssue(IssueStatus.TO_DO);
+
+		CumulativeFlowResponse flow = analytics.cumulativeFlow(owner, projectId, today.minusDays(3), today);
+
+		assertThat(flow.getDays()).hasSize(4);
+		assertThat(flow.getDays().get(0).getCounts())
+				.containsEntry(IssueStatus.TO_DO, 3L).containsEntry(IssueStatus.IN_PROGRESS, 2L);
+		assertThat(flow.getDays().get(3).getCounts()).containsEntry(IssueStatus.TO_DO, 4L);
+	}
+
+	@Test
+	void rangesAreValidatedAndMembersOnly() {
+		assertThatThrownBy(() -> analytics.cumulativeFlow(owner, projectId, today, today.minusDays(1)))
+				.isInstanceOf(BadRequestException.class);
+		assertThatThrownBy(() -> analytics.cycleTime(owner, projectId, today.minusYears(3), today))
+				.isInstanceOf(BadRequestException.class);
+		assertThatThrownBy(() -> analytics.cumulativeFlow(data.newUser(), projectId, null, null))
+				.isInstanceOf(UnauthorizedException.class);
+	}
+
+	private Long addIssue(IssueStatus status) {
+		CreateIssueRequest req = TestData.issueRequest(data.column(projectId, 0));
+		req.setStatus(status);
+		return issueService.create(owner, orgId, projectId, req).getId();
+	}
+
+	private IssueResponse setStatus(Long issueId, IssueStatus status) {
+		UpdateIssueRequest req = new UpdateIssueRequest();
+		req.setStatus(status);
+		return issueService.update(owner, projectId, issueId, req);
+	}
+
+	private void bulkStatus(IssueStatus status, Long... issueIds) {
+		BulkIssueUpdateRequest req = new BulkIssueUpdateRequest();
+		req.setItems(Arrays.stream(issueIds).map(id -> {
+			BulkIssuePatch patch = new BulkIssuePatch();
+			patch.setIssueId(id);
+			patch.setStatus(status);
+			return patch;
+		}).toList());
+		assertThat(issueService.bulkUpdate(owner, projectId, req).getFailed()).isZero();
+	}
+
+	private Map<IssueStatus, Long> flowToday() {
+		return analytics.cumulativeFlow(owner, projectId, today, today).getDays().get(0).getCounts();
+	}
+
+	private Map<IssueStatus, Long> issueCounts() {
+		em.flush(); // status updates still pending in the persistence context
+		Map<IssueStatus, Long> counts = new EnumMap<>(IssueStatus.class);
+		for (IssueStatus s : IssueStatus.values()) counts.put(s, 0L);
+		jdbc.query("select status, count(*) from issues where project_id = ? group by status",
+				rs -> {
+					counts.put(IssueStatus.valueOf(rs.getString(1)), rs.getLong(2));
+				}, projectId);
+		return counts;
+	}
+}
@@ -0,0 +1,129 @@
+package com.sj.Workly.service.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.comment.CreateCommentRequest;
+import com.sj.Workly.dto.issue.CreateIssueRequest;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.exception.NotFoundException;
+import com.sj.Workly.exception.UnauthorizedException;
+import com.sj.Workly.service.CommentService;
+import com.sj.Workly.service.IssueService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class ProjectExportServiceTests {
+
+	@Autowired
+	private ProjectExportService exportService;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private TestData data;
+
+	private User owner;
+	private Long orgId;
+	private Long projectId;
+	private Long issueId;
+
+	@BeforeEach
+	void seed() {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+		data.addMember(owner, orgId, projectId);
+
+		CreateIssueRequest req = TestData.issueRequest(data.column(projectId, 0));
+		req.setTitle("Say \"hi\", then leave");
+		req.setDescription("line 1\nline 2");
+		issueId = issueService.create(owner, orgId, projectId, req).getId();
+		data.newIssue(owner, orgId, projectId);
+
+		CreateCommentRequest comment = new CreateCommentRequest();
+		comment.setBody("Reproduced");
+		commentService.add(owner, orgId, projectId, issueId, comment);
+		em.flush();
+	}
+
+	@Test
+	void ndjsonHasOneTypedRecordPerLineInEntityOrder() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exportService.writeNdjson(projectId, out);
+
+		List<JsonNode> records = new ArrayList<>();
+		for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+			records.add(objectMapper.readTree(line));
+		}
+
+		assertThat(records).extracting(r -> r.get("type").asText()).containsExactly(
+				"member", "member", "column", "column", "column", "column", "issue", "issue", "comment");
+		JsonNode issue = records.get(6);
+		assertThat(issue.get("id").asLong()).isEqualTo(issueId);
+		assertThat(issue.get("title").asText()).isEqualTo("Say \"hi\", then leave");
+		assertThat(issue.get("description").asText()).isEqualTo("line 1\nline 2");
+		assertThat(issue.get("reporter").asText()).isEqualTo(owner.getEmail());
+		assertThat(issue.get("assignee").isNull()).isTrue();
+		assertThat(records.get(8).get("issueId").asLong()).isEqualTo(issueId);
+	}
+
+	@Test
+	void issueCsvUsesTheImportHeadersAndQuotesWhereNeeded() throws IOException {
+		String csv = csv(ProjectExportService.Entity.ISSUES);
+
+		assertThat(csv).startsWith("id,title,description,priority,status,column,assignee,reporter,order_index,created_at,updated_at\r\n");
+		assertThat(csv).contains(issueId + ",\"Say \"\"hi\"\", then leave\",\"line 1\nline 2\",MEDIUM,TO_DO,");
+		assertThat(csv.split("\r\n")).hasSize(3);
+	}
+
+	@Test
+	void commentAndMemberCsvsHoldOneRecordPerRow() throws IOException {
+		String[] comments = csv(ProjectExportService.Entity.COMMENTS).split("\r\n");
+		assertThat(comments).hasSize(2);
+		assertThat(comments[1]).contains("," + issueId + "," + owner.getEmail() + ",Reproduced,");
+		assertThat(csv(ProjectExportService.Entity.MEMBERS).split("\r\n")).hasSize(3);
+	}
+
+	@Test
+	void onlyMembersOfTheProjectInThatOrgCanExport() {
+		Long otherOrg = data.newOrg(owner);
+
+		assertThat(exportService.authorize(owner, orgId, projectId).getId()).isEqualTo(projectId);
+		assertThatThrownBy(() -> exportService.authorize(data.newUser(), orgId, projectId))
+				.isInstanceOf(UnauthorizedException.class);
+		assertThatThrownBy(() -> exportService.authorize(owner, otherOrg, projectId))
+				.isInstanceOf(NotFoundException.class);
+	}
+
+	private String csv(ProjectExportService.Entity entity) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exportService.writeCsv(projectId, entity, out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,104 @@
+package com.sj.Workly.service.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTests {
+
+	private static final int LIMIT = 64;
+
+	@Test
+	void readsPlainAndQuotedFields() throws IOException {
+		assertThat(readAll("title,description\nFirst,\"Has, a comma\"\n"))
+				.containsExactly(List.of("title", "description"), List.of("First", "Has, a comma"));
+	}
+
+	@Test
+	void doubledQuotesAreEscapedQuotes() throws IOException {
+		assertThat(readAll("\"Say \"\"hi\"\"\",x\n"))
+				.containsExactly(List.of("Say \"hi\"", "x"));
+	}
+
+	@Test
+	void acceptsCrlfAndLineBreaksInsideQuotes() throws IOException {
+		assertThat(readAll("a,b\r\n\"line 1\r\nline 2\",c\r\n\r\nd,e"))
+				.containsExactly(List.of("a", "b"), List.of("line 1\r\nline 2", "c"), List.of("d", "e"));
+	}
+
+	@Test
+	void emptyFieldsAreKept() throws IOException {
+		assertThat(readAll(",x,\n")).containsExactly(List.of("", "x", ""));
+	}
+
+	@Test
+	void unterminatedQuoteFailsAtEndOfInput() {
+		CsvReader csv = new CsvReader(new StringReader("ok,1\n\"never closed,2\n"), LIMIT);
+
+		assertThatThrownBy(() -> {
+			csv.next();
+			csv.next();
+		}).isInstanceOf(IOException.class).hasMessageContaining("Unterminated");
+	}
+
+	@Test
+	void tooLongRecordIsSkippedAndReadingContinues() throws IOException {
+		CsvReader csv = new CsvReader(new StringReader("a,1\n" + "x".repeat(LIMIT * 2) + ",2\nb,3\n"), LIMIT);
+
+		assertThat(csv.next()).containsExactly("a", "1");
+		assertThatThrownBy(csv::next).isInstanceOf(CsvReader.RecordTooLongException.class);
+		assertThat(csv.next()).containsExactly("b", "3");
+		assertThat(csv.next()).isNull();
+	}
+
+	@Test
+	void unterminatedQuoteInLargeInputIsNotBuffered() throws IOException {
+		// Endless input after an opening quote: fails after the limit instead of reading it into one field
+		CsvReader csv = new CsvReader(new EndlessReader("\"open", 10_000_000), LIMIT);
+
+		assertThatThrownBy(csv::next).isInstanceOf(CsvReader.RecordTooLongException.class);
+		assertThat(csv.next()).isNull();
+	}
+
+	private static List<List<String>> readAll(String input) throws IOException {
+		CsvReader csv = new CsvReader(new StringReader(input), LIMIT);
+		List<List<String>> records = new ArrayList<>();
+		for (List<String> r = csv.next(); r != null; r = csv.next()) {
+			records.add(r);
+		}
+		return records;
+	}
+
+	/** A prefix followed by {@code length} letters, generated on the fly. */
+	private static final class EndlessReader extends Reader {
+		private final String prefix;
+		private final long length;
+		private long position;
+
+		EndlessReader(String prefix, long length) {
+			this.prefix = prefix;
+			this.length = prefix.length() + length;
+		}
+
+		@Override
+		public int read(char[] buf, int off, int len) {
+			if (position >= length) return -1;
+			int n = (int) Math.min(len, length - position);
+			for (int i = 0; i < n; i++, position++) {
+				buf[off + i] = position < prefix.length() ? prefix.charAt((int) position) : 'x';
+			}
+			return n;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
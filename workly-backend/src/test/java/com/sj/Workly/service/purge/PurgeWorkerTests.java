@@ -0,0 +1,146 @@
+package com.sj.Workly.service.purge;
+
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.comment.CreateCommentRequest;
+import com.sj.Workly.dto.invite.CreateInviteRequest;
+import com.sj.Workly.dto.issue.UpdateIssueRequest;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.service.CommentService;
+import com.sj.Workly.service.InviteService;
+import com.sj.Workly.service.IssueService;
+import com.sj.Workly.service.OrganizationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not @Transactional: every purge batch commits on its own. A batch size of 3 makes each step loop.
+ */
+@SpringBootTest(properties = {"app.purge.batch-size=3", "app.purge.pause-ms=0", "app.purge.poll-ms=3600000"})
+class PurgeWorkerTests {
+
+	@Autowired
+	private PurgeWorker purgeWorker;
+
+	@Autowired
+	private OrganizationService orgService;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private InviteService inviteService;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private TestData data;
+
+	@Test
+	void orgPurgeLeavesNothingBehind() throws InterruptedException {
+		User owner = data.newUser();
+		Long orgId = data.newOrg(owner);
+		List<Long> projectIds = List.of(seedProject(owner, orgId), seedProject(owner, orgId));
+		CreateInviteRequest invite = new CreateInviteRequest();
+		invite.setEmail("invitee-" + UUID.randomUUID() + "@example.test");
+		inviteService.createInvite(owner, orgId, invite);
+
+		Long keptOrgId = data.newOrg(owner);
+		Long keptProjectId = seedProject(owner, keptOrgId);
+
+		Map<String, Long> before = remaining(orgId, projectIds);
+		assertThat(before).allSatisfy((table, rows) -> assertThat(rows).as(table).isPositive());
+		Map<String, Long> keptBefore = remaining(keptOrgId, List.of(keptProjectId));
+
+		Long jobId = orgService.delete(owner, orgId).getId();
+		purgeWorker.run();
+
+		assertThat(awaitFinished(jobId)).isEqualTo("DONE");
+		assertThat(remaining(orgId, projectIds)).allSatisfy((table, rows) -> assertThat(rows).as(table).isZero());
+		assertThat(jdbc.queryForObject("select rows_deleted from purge_jobs where id = ?", Long.class, jobId))
+				.isEqualTo(before.values().stream().mapToLong(Long::longValue).sum());
+		assertThat(remaining(keptOrgId, List.of(keptProjectId))).isEqualTo(keptBefore);
+
+		Long cleanup = orgService.delete(owner, keptOrgId).getId();
+		purgeWorker.run();
+		assertThat(awaitFinished(cleanup)).isEqualTo("DONE");
+	}
+
+	/** A project with a member, issues moved through statuses (events, rollups, counts), comments, notifications and a saved filter. */
+	private Long seedProject(User owner, Long orgId) {
+		Long projectId = data.newProject(owner, orgId);
+		User member = data.addMember(owner, orgId, projectId);
+		for (int i = 0; i < 4; i++) {
+			Long issueId = data.newIssue(owner, orgId, projectId);
+			UpdateIssueRequest done = new UpdateIssueRequest();
+			done.setStatus(IssueStatus.DONE);
+			issueService.update(owner, projectId, issueId, done);
+
+			CreateCommentRequest comment = new CreateCommentRequest();
+			comment.setBody("Comment " + i);
+			Long commentId = commentService.add(member, orgId, projectId, issueId, comment).getId();
+			jdbc.update("""
+					insert into notifications (user_id, type, message, issue_id, comment_id, created_at)
+					values (?, 'ISSUE_COMMENTED', 'New comment', ?, ?, now()), (?, 'ISSUE_ASSIGNED', 'Assigned', ?, null, now())
+					""", owner.getId(), issueId, commentId, member.getId(), issueId);
+		}
+		jdbc.update("""
+				insert into saved_issue_filters (user_id, project_id, name, filter_json, created_at, updated_at)
+				values (?, ?, 'Done', '{"statuses":["DONE"]}', now(), now())
+				""", owner.getId(), projectId);
+		return projectId;
+	}
+
+	/** Rows still belonging to the org or its projects, per table. */
+	private Map<String, Long> remaining(Long orgId, List<Long> projectIds) {
+		Long[] projects = projectIds.toArray(Long[]::new);
+		Map<String, Long> rows = new LinkedHashMap<>();
+		String issues = "select id from issues where project_id = any (?)";
+		String columns = "select c.id from columns c join boards b on b.id = c.board_id where b.project_id = any (?)";
+		rows.put("notifications", count("select count(*) from notifications where issue_id in (" + issues + ")", projects));
+		rows.put("comments", count("select count(*) from comments where issue_id in (" + issues + ")", projects));
+		rows.put("issue_events", count("select count(*) from issue_events where issue_id in (" + issues + ")", projects));
+		rows.put("issues", count("select count(*) from issues where project_id = any (?)", projects));
+		rows.put("column_status_counts", count("select count(*) from column_status_counts where column_id in (" + columns + ")", projects));
+		rows.put("columns", count("select count(*) from (" + columns + ") c", projects));
+		rows.put("boards", count("select count(*) from boards where project_id = any (?)", projects));
+		rows.put("saved_issue_filters", count("select count(*) from saved_issue_filters where project_id = any (?)", projects));
+		rows.put("issue_status_daily", count("select count(*) from issue_status_daily where project_id = any (?)", projects));
+		rows.put("issue_resolution_daily", count("select count(*) from issue_resolution_daily where project_id = any (?)", projects));
+		rows.put("project_members", count("select count(*) from project_members where project_id = any (?)", projects));
+		rows.put("project_change_versions", count("select count(*) from project_change_versions where project_id = any (?)", projects));
+		rows.put("projects", count("select count(*) from projects where id = any (?)", projects));
+		rows.put("invites", count("select count(*) from invites where org_id = ?", orgId));
+		rows.put("org_members", count("select count(*) from org_members where org_id = ?", orgId));
+		rows.put("org_change_versions", count("select count(*) from org_change_versions where org_id = ?", orgId));
+		rows.put("organizations", count("select count(*) from organizations where id = ?", orgId));
+		return rows;
+	}
+
+	private long count(String sql, Object arg) {
+		return jdbc.queryForObject(sql, Long.class, arg);
+	}
+
+	/** The scheduled run may have claimed the job first; wait for whichever run has it. */
+	private String awaitFinished(Long jobId) throws InterruptedException {
+		for (int i = 0; i < 300; i++) {
+			String status = jdbc.queryForObject("select status from purge_jobs where id = ?", String.class, jobId);
+			if ("DONE".equals(status) || "FAILED".equals(status)) return status;
+			Thread.sleep(100);
+		}
+		return jdbc.queryForObject("select status from purge_jobs where id = ?", String.class, jobId);
+	}
+}
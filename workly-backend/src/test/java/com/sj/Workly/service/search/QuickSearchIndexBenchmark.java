@@ -0,0 +1,98 @@
+package com.sj.Workly.service.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Standalone benchmark for {@link QuickSearchIndex} with one org of 1M issues.
+ * Not a JUnit test (surefire skips it); run from the IDE or with:
+ * <pre>
+ *   java -Xmx2g -cp target/classes:target/test-classes com.sj.Workly.service.search.QuickSearchIndexBenchmark [issues]
+ * </pre>
+ * Reports build time, estimated/used heap, and lookup latency percentiles for typeahead-style queries.
+ */
+public class QuickSearchIndexBenchmark {
+
+	private static final String[] WORDS = {
+			"login", "crash", "billing", "invoice", "export", "dashboard", "timeout", "refactor", "upgrade",
+			"payment", "search", "notification", "email", "kanban", "column", "board", "comment", "permission",
+			"token", "session", "latency", "memory", "cache", "index", "migration", "report", "android", "ios",
+			"safari", "firefox", "chrome", "api", "webhook", "import", "csv", "filter", "sort", "avatar",
+			"profile", "settings", "invite", "organization", "project", "sprint", "release", "hotfix", "flaky",
+			"test", "deploy", "rollback", "alert", "metrics", "slow", "query", "broken", "button", "modal"
+	};
+
+	public static void main(String[] args) {
+		int issues = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		int projects = 200;
+		int members = 2_000;
+		Random random = new Random(42);
+
+		QuickSearchIndex index = new QuickSearchIndex();
+		long heapBefore = usedHeap();
+		long start = System.nanoTime();
+		for (int p = 1; p <= projects; p++) {
+			index.put(QuickSearchIndex.Kind.PROJECT, p, (long) p, "Project " + randomTitle(random, 2));
+		}
+		for (int m = 1; m <= members; m++) {
+			index.put(QuickSearchIndex.Kind.MEMBER, m, null, "Member" + m + " user" + m + "@example.com");
+		}
+		for (int i = 1; i <= issues; i++) {
+			index.put(QuickSearchIndex.Kind.ISSUE, i, (long) (1 + random.nextInt(projects)), randomTitle(random, 3 + random.nextInt(5)));
+		}
+		long buildMs = (System.nanoTime() - start) / 1_000_000;
+		long heapAfter = usedHeap();
+
+		System.out.printf("docs=%d build=%dms estimated=%dMB heapDelta=%dMB%n",
+				index.size(), buildMs, index.estimatedBytes() >> 20, (heapAfter - heapBefore) >> 20);
+
+		// Typeahead: every prefix of one or two words, as a user types them
+		String[] queries = new String[20_000];
+		for (int i = 0; i < queries.length; i++) {
+			String word = WORDS[random.nextInt(WORDS.length)];
+			String typed = word.substring(0, 1 + random.nextInt(word.length()));
+			queries[i] = random.nextInt(3) == 0
+					? WORDS[random.nextInt(WORDS.length)] + " " + typed
+					: typed;
+		}
+
+		// Member of half of the projects
+		boolean[] allowed = new boolean[projects + 1];
+		for (int p = 1; p <= projects; p += 2) allowed[p] = true;
+
+		for (int warmup = 0; warmup < 2; warmup++) {
+			for (String q : queries) index.search(q, 10, projectId -> allowed[(int) projectId]);
+		}
+
+		long[] nanos = new long[queries.length];
+		long hits = 0;
+		for (int i = 0; i < queries.length; i++) {
+			long t0 = System.nanoTime();
+			List<QuickSearchIndex.Hit> result = index.search(queries[i], 10, projectId -> allowed[(int) projectId]);
+			nanos[i] = System.nanoTime() - t0;
+			hits += result.size();
+		}
+		Arrays.sort(nanos);
+		System.out.printf("queries=%d avgHits=%.1f p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms%n",
+				queries.length, hits / (double) queries.length,
+				nanos[nanos.length / 2] / 1e6, nanos[nanos.length * 9 / 10] / 1e6,
+				nanos[nanos.length * 99 / 100] / 1e6, nanos[nanos.length - 1] / 1e6);
+	}
+
+	private static String randomTitle(Random random, int words) {
+		StringBuilder sb = new StringBuilder();
+		for (int w = 0; w < words; w++) {
+			if (w > 0) sb.append(' ');
+			String word = WORDS[random.nextInt(WORDS.length)];
+			sb.append(w == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+		}
+		return sb.toString();
+	}
+
+	private static long usedHeap() {
+		Runtime rt = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) System.gc();
+		return rt.totalMemory() - rt.freeMemory();
+	}
+}
@@ -0,0 +1,143 @@
+package com.sj.Workly.service.search;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.Workly.TestData;
+import com.sj.Workly.dto.issue.CreateIssueRequest;
+import com.sj.Workly.dto.search.QuickSearchResult;
+import com.sj.Workly.entity.User;
+import com.sj.Workly.entity.enums.OrgEventType;
+import com.sj.Workly.repository.OrgMemberRepository;
+import com.sj.Workly.service.IssueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs its own QuickSearchService with max-age 0 and an executor that only queues, so a test decides when
+ * a background rebuild runs. Events are applied directly, as QuickSearchIndexConsumer would.
+ */
+@SpringBootTest
+@Transactional
+class QuickSearchServiceTests {
+
+	@Autowired
+	private OrgMemberRepository orgMemberRepo;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private TestData data;
+
+	private final List<Runnable> rebuilds = new ArrayList<>();
+	private QuickSearchService quickSearch;
+	private User owner;
+	private Long orgId;
+	private Long projectId;
+
+	@BeforeEach
+	void setUp() {
+		owner = data.newUser();
+		orgId = data.newOrg(owner);
+		projectId = data.newProject(owner, orgId);
+		quickSearch = new QuickSearchService(orgMemberRepo, dataSource, transactionManager, rebuilds::add,
+				256, 0, 30);
+	}
+
+	@Test
+	void expiredIndexKeepsServingUntilTheRebuildReplacesIt() throws Exception {
+		addIssue("Zephyr rollout");
+		assertThat(labels("zeph")).containsExactly("Zephyr rollout");
+
+		addIssue("Zebra crossing"); // no event: only a rebuild can find it
+		Thread.sleep(2);
+		assertThat(labels("ze")).containsExactly("Zephyr rollout");
+		assertThat(rebuilds).hasSize(1);
+
+		labels("ze");
+		assertThat(rebuilds).as("one rebuild per org at a time").hasSize(1);
+
+		rebuilds.remove(0).run();
+		assertThat(labels("ze")).containsExactlyInAnyOrder("Zephyr rollout", "Zebra crossing");
+	}
+
+	@Test
+	void eventsDuringARebuildReachTheNewIndex() throws Exception {
+		Long issueId = addIssue("Zephyr rollout");
+		labels("zeph");
+		Thread.sleep(2);
+		labels("zeph");
+		assertThat(rebuilds).hasSize(1);
+
+		// Only sent as an event, never written: the rebuilt index can only have it from the event
+		quickSearch.apply(OrgEventType.ISSUE_UPDATED, payload(Map.of("org_id", orgId, "project_id", projectId,
+				"issue_id", issueId, "issue_title", "Zephyr rollback")));
+		assertThat(labels("zeph")).containsExactly("Zephyr rollback");
+
+		rebuilds.remove(0).run();
+		assertThat(labels("zeph")).containsExactly("Zephyr rollback");
+	}
+
+	@Test
+	void importMarksTheIndexForRebuild() {
+		quickSearch = new QuickSearchService(orgMemberRepo, dataSource, transactionManager, rebuilds::add,
+				256, 30, 30);
+		addIssue("Zephyr rollout");
+		labels("zeph");
+		assertThat(rebuilds).isEmpty();
+
+		addIssue("Zebra crossing");
+		quickSearch.apply(OrgEventType.ISSUES_IMPORTED, payload(Map.of("org_id", orgId, "project_id", projectId)));
+		assertThat(labels("ze")).containsExactly("Zephyr rollout");
+		rebuilds.remove(0).run();
+
+		assertThat(labels("ze")).containsExactlyInAnyOrder("Zephyr rollout", "Zebra crossing");
+	}
+
+	@Test
+	void removedMemberDisappears() {
+		User member = data.addMember(owner, orgId, projectId);
+		quickSearch = new QuickSearchService(orgMemberRepo, dataSource, transactionManager, rebuilds::add,
+				256, 30, 30);
+		String name = member.getName().substring(0, 13);
+		assertThat(labels(name)).hasSize(1);
+
+		quickSearch.apply(OrgEventType.ORG_MEMBER_REMOVED, payload(Map.of("org_id", orgId, "user_id", member.getId())));
+
+		assertThat(labels(name)).isEmpty();
+	}
+
+	private Long addIssue(String title) {
+		CreateIssueRequest req = TestData.issueRequest(data.column(projectId, 0));
+		req.setTitle(title);
+		return issueService.create(owner, orgId, projectId, req).getId();
+	}
+
+	private List<String> labels(String query) {
+		return quickSearch.search(owner, orgId, query, 10).stream().map(QuickSearchResult::getLabel).toList();
+	}
+
+	private JsonNode payload(Map<String, Object> fields) {
+		return objectMapper.valueToTree(fields);
+	}
+}
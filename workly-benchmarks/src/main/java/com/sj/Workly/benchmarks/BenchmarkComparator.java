@@ -0,0 +1,108 @@
+package com.sj.Workly.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files ({@code -rf json}) and fails when a benchmark got slower.
+ * <pre>
+ * java -cp target/benchmarks.jar com.sj.Workly.benchmarks.BenchmarkComparator baseline/results.json results.json [--threshold=10]
+ * </pre>
+ * A benchmark counts as a regression when it is worse than the baseline by more than the threshold (percent) and
+ * the two scores are further apart than their combined error, so noise within the confidence intervals doesn't
+ * fail a run. Throughput modes are better when higher, time modes when lower. Benchmarks are matched by name and
+ * parameters; ones missing from either file are listed but never fail. Exit status 1 on any regression.
+ */
+public final class BenchmarkComparator {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    record Result(String mode, double score, double error, String unit) {
+
+        boolean higherIsBetter() {
+            return mode.equals("thrpt");
+        }
+    }
+
+    private BenchmarkComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BenchmarkComparator <baseline.json> <current.json> [--threshold=<percent>]");
+            System.exit(2);
+        }
+        double threshold = DEFAULT_THRESHOLD_PERCENT;
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].startsWith("--threshold=")) {
+                threshold = Double.parseDouble(args[i].substring("--threshold=".length()));
+            }
+        }
+
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+        int regressions = compare(baseline, current, threshold);
+
+        System.out.printf("%n%d regression(s) beyond %.1f%%%n", regressions, threshold);
+        System.exit(regressions == 0 ? 0 : 1);
+    }
+
+    static int compare(Map<String, Result> baseline, Map<String, Result> current, double thresholdPercent) {
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s  %s%n", "benchmark", "baseline", "current", "change", "unit");
+        for (Map.Entry<String, Result> e : current.entrySet()) {
+            Result cur = e.getValue();
+            Result base = baseline.get(e.getKey());
+            if (base == null) {
+                System.out.printf("%-90s %14s %14.3f %9s  %s%n", e.getKey(), "-", cur.score(), "new", cur.unit());
+                continue;
+            }
+            double changePercent = (cur.score() - base.score()) / base.score() * 100;
+            double worsePercent = cur.higherIsBetter() ? -changePercent : changePercent;
+            boolean beyondNoise = Math.abs(cur.score() - base.score()) > base.error() + cur.error();
+            boolean regression = worsePercent > thresholdPercent && beyondNoise;
+            if (regression) regressions++;
+
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s%s%n", e.getKey(), base.score(), cur.score(),
+                    changePercent, cur.unit(), regression ? "  REGRESSION" : "");
+        }
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) {
+                System.out.printf("%-90s %14.3f %14s %9s%n", name, baseline.get(name).score(), "-", "missing");
+            }
+        }
+        return regressions;
+    }
+
+    static Map<String, Result> read(Path file) throws IOException {
+        JsonNode runs = new ObjectMapper().readTree(Files.readAllBytes(file));
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : runs) {
+            JsonNode metric = run.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0); // NaN (as a string) with a single fork
+            results.put(key(run), new Result(run.path("mode").asText(), metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText()));
+        }
+        return results;
+    }
+
+    /** Benchmark name plus its parameters in a fixed order, e.g. {@code ...IssueServiceBenchmark.mapIssues [avgt]{rows=1000}}. */
+    private static String key(JsonNode run) {
+        String name = run.path("benchmark").asText() + " [" + run.path("mode").asText() + "]";
+        JsonNode params = run.path("params");
+        if (params.isMissingNode() || params.isEmpty()) return name;
+
+        Map<String, String> sorted = new TreeMap<>();
+        for (Map.Entry<String, JsonNode> p : params.properties()) {
+            sorted.put(p.getKey(), p.getValue().asText());
+        }
+        return name + sorted;
+    }
+}
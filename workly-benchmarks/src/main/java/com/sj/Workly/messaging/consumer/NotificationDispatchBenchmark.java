@@ -0,0 +1,77 @@
+package com.sj.Workly.messaging.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sj.Workly.config.JacksonConfig;
+import com.sj.Workly.entity.enums.OrgEventType;
+import com.sj.Workly.observability.DomainMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NotificationConsumer.consume without Kafka or a database: envelope parsing and handler lookup, with handlers
+ * that only keep the payload. Real handlers' inserts are not included; the fan-out summary is recorded in a
+ * SimpleMeterRegistry, as the application records it in its own registry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class NotificationDispatchBenchmark {
+
+    private static final String ISSUE_COMMENTED = """
+            {"eventType":"ISSUE_COMMENTED","orgId":"00000000-0000-0000-0000-00000000000c",\
+            "aggregateType":"ISSUE","aggregateId":"00000000-0000-0000-0000-000000010932",\
+            "timestamp":"2025-06-01T12:00:00Z","payload":{"org_id":12,"project_id":345,"issue_id":67890,\
+            "issue_title":"Login page times out behind the proxy","comment_id":555,"actor_id":7}}""";
+
+    private static final String UNHANDLED = ISSUE_COMMENTED.replace("ISSUE_COMMENTED", "SOMETHING_ELSE");
+
+    private NotificationConsumer consumer;
+    private volatile JsonNode handled;
+
+    @Setup
+    public void setUp() {
+        List<NotificationEventHandler> handlers = Arrays.stream(OrgEventType.values())
+                .<NotificationEventHandler>map(type -> new NotificationEventHandler() {
+                    @Override
+                    public OrgEventType getEventType() {
+                        return type;
+                    }
+
+                    @Override
+                    public int handle(JsonNode payload) {
+                        handled = payload;
+                        return 1;
+                    }
+                })
+                .toList();
+        consumer = new NotificationConsumer(new JacksonConfig().objectMapper(), handlers,
+                new DomainMetrics(new SimpleMeterRegistry()));
+        consumer.buildHandlerMap();
+    }
+
+    @Benchmark
+    public void dispatch() {
+        consumer.consume(ISSUE_COMMENTED, "67890");
+    }
+
+    @Benchmark
+    public void skipUnknownEventType() {
+        consumer.consume(UNHANDLED, "67890");
+    }
+}
@@ -0,0 +1,112 @@
+package com.sj.Workly.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.Workly.config.JacksonConfig;
+import com.sj.Workly.dto.issue.IssueResponse;
+import com.sj.Workly.dto.organization.OrgMemberResponse;
+import com.sj.Workly.entity.enums.IssuePriority;
+import com.sj.Workly.entity.enums.IssueStatus;
+import com.sj.Workly.entity.enums.Role;
+import com.sj.Workly.repository.projection.IssueView;
+import com.sj.Workly.repository.projection.OrgMemberView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU-only parts of the issue and member endpoints: projection-to-DTO mapping, JSON serialization of a list page,
+ * the order index arithmetic of a move, and slugs. Database work is not measured here.
+ * <p>
+ * Lives in com.sj.Workly.service for the package-private helpers (IssueService.toResponse, orderIndexBetween,
+ * OrganizationService.toMemberResponse, SlugUtils).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class IssueServiceBenchmark {
+
+    @Param({"50", "1000"})
+    public int rows;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private List<IssueView> issues;
+    private List<OrgMemberView> members;
+
+    @Setup
+    public void setUp() {
+        Instant now = Instant.parse("2025-06-01T12:00:00Z");
+        IssueStatus[] statuses = IssueStatus.values();
+        IssuePriority[] priorities = IssuePriority.values();
+        issues = new ArrayList<>(rows);
+        members = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            issues.add(new IssueView((long) i, 1L, 10L + i % 4, i, "Issue title number " + i,
+                    "A description that is a couple of sentences long, like most real ones. Row " + i + ".",
+                    priorities[i % priorities.length], statuses[i % statuses.length], 7L, i % 3 == 0 ? null : 8L,
+                    now.minusSeconds(i * 60L), now.minusSeconds(i), i % 2 == 0 ? now : null, null));
+            members.add(new OrgMemberView((long) i, 100L + i, "Member " + i, "member" + i + "@example.test",
+                    i == 0 ? Role.OWNER : Role.MEMBER, now.minusSeconds(i * 3600L)));
+        }
+    }
+
+    @Benchmark
+    public void mapIssues(Blackhole bh) {
+        for (IssueView v : issues) {
+            bh.consume(IssueService.toResponse(v));
+        }
+    }
+
+    @Benchmark
+    public void mapMembers(Blackhole bh) {
+        for (OrgMemberView m : members) {
+            bh.consume(OrganizationService.toMemberResponse(m));
+        }
+    }
+
+    /** What the issue list endpoint does per request once the rows are read. */
+    @Benchmark
+    public void mapAndSerializeIssues() throws Exception {
+        List<IssueResponse> page = issues.stream().map(IssueService::toResponse).toList();
+        objectMapper.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public void mapAndSerializeMembers() throws Exception {
+        List<OrgMemberResponse> page = members.stream().map(OrganizationService::toMemberResponse).toList();
+        objectMapper.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public void orderIndexBetween(Blackhole bh) {
+        for (int i = 0; i < rows; i++) {
+            bh.consume(IssueService.orderIndexBetween(i * 1024, (i + 1) * 1024));
+            bh.consume(IssueService.orderIndexBetween(i, null));
+            bh.consume(IssueService.orderIndexBetween(null, i));
+        }
+    }
+
+    @Benchmark
+    public void slugify(Blackhole bh) {
+        bh.consume(SlugUtils.slugify("Platform Team", "org"));
+        bh.consume(SlugUtils.slugify("  Équipe Données & Analytique — Q3 ", "project"));
+        bh.consume(SlugUtils.slugify("***", "project"));
+    }
+}
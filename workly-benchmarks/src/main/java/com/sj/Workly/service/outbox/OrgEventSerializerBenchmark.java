@@ -0,0 +1,48 @@
+package com.sj.Workly.service.outbox;
+
+import com.sj.Workly.config.JacksonConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/** The outbox poller wraps every event payload in an envelope before sending it to Kafka. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class OrgEventSerializerBenchmark {
+
+    // Shape of an ISSUE_UPDATED payload (IssueService.issueEvent) with two changes
+    private static final String PAYLOAD = """
+            {"org_id":12,"project_id":345,"issue_id":67890,"issue_title":"Login page times out behind the proxy",\
+            "actor_id":7,"changes":[{"field":"STATUS","from":"TO_DO","to":"IN_PROGRESS"},\
+            {"field":"ASSIGNEE","from":null,"to":"7"}]}""";
+
+    private OrgEventSerializer serializer;
+    private UUID orgId;
+    private UUID aggregateId;
+
+    @Setup
+    public void setUp() {
+        serializer = new OrgEventSerializer(new JacksonConfig().objectMapper());
+        orgId = OutboxWriter.longToUuid(12L);
+        aggregateId = OutboxWriter.longToUuid(67890L);
+    }
+
+    @Benchmark
+    public String toJsonEnvelope() {
+        return serializer.toJsonEnvelope("ISSUE_UPDATED", orgId, "ISSUE", aggregateId, PAYLOAD);
+    }
+}
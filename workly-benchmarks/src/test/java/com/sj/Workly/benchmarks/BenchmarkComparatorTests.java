@@ -0,0 +1,76 @@
+package com.sj.Workly.benchmarks;
+
+import com.sj.Workly.benchmarks.BenchmarkComparator.Result;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BenchmarkComparatorTests {
+
+	@TempDir
+	private Path dir;
+
+	@Test
+	void readsJmhJsonKeyedByNameModeAndParameters() throws IOException {
+		Path file = dir.resolve("results.json");
+		Files.writeString(file, """
+				[
+				  { "benchmark": "a.B.parse", "mode": "avgt",
+				    "primaryMetric": { "score": 320.5, "scoreError": "NaN", "scoreUnit": "us/op" } },
+				  { "benchmark": "a.B.map", "mode": "thrpt", "params": { "rows": "50", "format": "json" },
+				    "primaryMetric": { "score": 1000.0, "scoreError": 12.5, "scoreUnit": "ops/s" } }
+				]
+				""");
+
+		Map<String, Result> results = BenchmarkComparator.read(file);
+
+		assertThat(results).containsOnlyKeys("a.B.parse [avgt]", "a.B.map [thrpt]{format=json, rows=50}");
+		assertThat(results.get("a.B.parse [avgt]")).isEqualTo(new Result("avgt", 320.5, 0, "us/op"));
+		assertThat(results.get("a.B.map [thrpt]{format=json, rows=50}").error()).isEqualTo(12.5);
+	}
+
+	@Test
+	void slowerTimesAndLowerThroughputAreRegressions() {
+		assertThat(compare(avgt(100, 1), avgt(120, 1))).isEqualTo(1);
+		assertThat(compare(thrpt(1000, 10), thrpt(800, 10))).isEqualTo(1);
+	}
+
+	@Test
+	void improvementsAreNotRegressions() {
+		assertThat(compare(avgt(100, 1), avgt(60, 1))).isZero();
+		assertThat(compare(thrpt(1000, 10), thrpt(1500, 10))).isZero();
+	}
+
+	@Test
+	void changesWithinTheThresholdOrTheErrorPass() {
+		assertThat(compare(avgt(100, 1), avgt(109, 1))).as("below the threshold").isZero();
+		assertThat(compare(avgt(100, 15), avgt(125, 15))).as("within the combined error").isZero();
+	}
+
+	@Test
+	void newAndMissingBenchmarksNeverFail() {
+		Map<String, Result> baseline = Map.of("gone [avgt]", new Result("avgt", 1, 0, "us/op"));
+		Map<String, Result> current = Map.of("added [avgt]", new Result("avgt", 1000, 0, "us/op"));
+
+		assertThat(BenchmarkComparator.compare(baseline, current, 10)).isZero();
+	}
+
+	private static int compare(Result baseline, Result current) {
+		return BenchmarkComparator.compare(Map.of("b [" + baseline.mode() + "]", baseline),
+				Map.of("b [" + current.mode() + "]", current), 10);
+	}
+
+	private static Result avgt(double score, double error) {
+		return new Result("avgt", score, error, "us/op");
+	}
+
+	private static Result thrpt(double score, double error) {
+		return new Result("thrpt", score, error, "ops/s");
+	}
+}
@@ -0,0 +1,83 @@
+package com.sj.Workly.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Minimal JSON client for the app's API. Latency is measured from sending the request until the whole body
+ * has arrived; parsing the body is not included.
+ */
+final class ApiClient {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    record Response(int status, JsonNode body, long nanos) {
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final URI base;
+
+    ApiClient(URI base) {
+        this.base = base;
+    }
+
+    /** A failed exchange (connection refused, timeout) is status -1 rather than an exception. */
+    Response send(String method, String path, String token, Object body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(base.resolve(path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Accept", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        try {
+            if (body != null) {
+                request.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body)));
+            } else {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            }
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            long nanos = System.nanoTime() - start;
+            return new Response(response.statusCode(), parse(response.body()), nanos);
+        } catch (IOException e) {
+            return new Response(-1, MissingNode.getInstance(), 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(-1, MissingNode.getInstance(), 0);
+        }
+    }
+
+    /** For setup steps: anything but 2xx aborts the run. */
+    JsonNode expectOk(String method, String path, String token, Object body) {
+        Response response = send(method, path, token, body);
+        if (!response.ok()) {
+            throw new IllegalStateException(method + " " + path + " failed with " + response.status() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private static JsonNode parse(byte[] body) {
+        if (body.length == 0) return MissingNode.getInstance();
+        try {
+            return JSON.readTree(body);
+        } catch (IOException e) {
+            return MissingNode.getInstance(); // not JSON (e.g. an error page)
+        }
+    }
+}
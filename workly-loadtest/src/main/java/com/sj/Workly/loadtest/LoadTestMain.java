@@ -0,0 +1,69 @@
+package com.sj.Workly.loadtest;
+
+import com.sj.Workly.WorklyApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Boots the backend against the stand-ins (StandIns), seeds a workload through the API and prints latency and
+ * statement counts per scenario. Everything runs in this JVM on localhost; no network, Docker or services needed.
+ * <pre>
+ * java -jar target/workly-loadtest-0.0.1-SNAPSHOT.jar --clients=32 --requests=50 --issues=500 --members=8
+ * </pre>
+ * Client and server share the machine, so absolute numbers are lower than on separate hosts; compare runs made
+ * on the same machine with the same options.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+
+        try (StandIns standIns = StandIns.start()) {
+            int port = freePort();
+            try (ConfigurableApplicationContext app = boot(standIns, port)) {
+                ApiClient api = new ApiClient(URI.create("http://localhost:" + port));
+
+                System.out.printf("Seeding %d members and %d issues%n", options.members(), options.issues());
+                Workload workload = Workload.create(api, options);
+
+                List<ScenarioResult> results = new Scenarios(api, workload, options).runAll();
+                ScenarioResult.print(results);
+            }
+        }
+        System.exit(0); // Kafka client threads can outlive the context
+    }
+
+    private static ConfigurableApplicationContext boot(StandIns standIns, int port) {
+        // Command line arguments: they take precedence over application.properties
+        String[] args = {
+                "--spring.datasource.url=" + standIns.jdbcUrl(),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.kafka.bootstrap-servers=" + standIns.kafkaBootstrapServers(),
+                "--server.port=" + port,
+                "--management.server.port=-1",
+                // All clients share 127.0.0.1 and a handful of accounts: measure the app, not the limiters
+                "--app.rate-limit.enabled=false",
+                "--app.auth.throttle.ip-max-attempts=1000000",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"
+        };
+        return new SpringApplicationBuilder(WorklyApplication.class)
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(new StatementCounter()))
+                .run(args);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
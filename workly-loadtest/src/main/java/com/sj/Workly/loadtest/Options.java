@@ -0,0 +1,43 @@
+package com.sj.Workly.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options, all {@code --name=value}:
+ * <ul>
+ *   <li>{@code clients}: concurrent clients per scenario (default 32)</li>
+ *   <li>{@code requests}: iterations per client (default 50; login burst uses a tenth)</li>
+ *   <li>{@code issues}: issues seeded into the project before the scenarios (default 500)</li>
+ *   <li>{@code members}: org/project members besides the owner (default 8)</li>
+ * </ul>
+ */
+record Options(int clients, int requests, int issues, int members) {
+
+    static Options parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        Options options = new Options(
+                positive(values.remove("clients"), 32),
+                positive(values.remove("requests"), 50),
+                positive(values.remove("issues"), 500),
+                positive(values.remove("members"), 8));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown option(s): " + values.keySet());
+        }
+        return options;
+    }
+
+    private static int positive(String value, int defaultValue) {
+        if (value == null) return defaultValue;
+        int n = Integer.parseInt(value);
+        if (n < 1) throw new IllegalArgumentException("Options must be positive, got " + n);
+        return n;
+    }
+}
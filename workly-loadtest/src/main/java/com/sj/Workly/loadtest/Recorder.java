@@ -0,0 +1,56 @@
+package com.sj.Workly.loadtest;
+
+import java.util.Arrays;
+
+/** Sends requests for one client and records them. Confined to the client's thread; results are read after it ends. */
+final class Recorder {
+
+    private final ApiClient api;
+    private long[] latencies = new long[64];
+    private int recorded;
+    private int requests;
+    private int ok;
+    private int throttled;
+    private int failed;
+
+    Recorder(ApiClient api) {
+        this.api = api;
+    }
+
+    ApiClient.Response send(String method, String path, String token, Object body) {
+        ApiClient.Response response = api.send(method, path, token, body);
+        if (response.ok()) {
+            ok++;
+        } else if (response.status() == 429) {
+            throttled++;
+        } else {
+            failed++;
+        }
+        if (response.status() > 0) { // no latency for exchanges that never got a response
+            if (recorded == latencies.length) latencies = Arrays.copyOf(latencies, recorded * 2);
+            latencies[recorded++] = response.nanos();
+        }
+        requests++;
+        return response;
+    }
+
+    int requests() {
+        return requests;
+    }
+
+    int ok() {
+        return ok;
+    }
+
+    int throttled() {
+        return throttled;
+    }
+
+    int failed() {
+        return failed;
+    }
+
+    long[] latencies() {
+        return Arrays.copyOf(latencies, recorded);
+    }
+}
@@ -0,0 +1,40 @@
+package com.sj.Workly.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+
+/** Outcome of one scenario: status counts, latency percentiles over all its requests, statements per request. */
+record ScenarioResult(String name, int requests, int ok, int throttled, int failed, double seconds,
+                      double p50Ms, double p99Ms, double maxMs, double statementsPerRequest) {
+
+    static ScenarioResult of(String name, List<Recorder> recorders, long elapsedNanos, long statements) {
+        int requests = 0, ok = 0, throttled = 0, failed = 0;
+        for (Recorder r : recorders) {
+            requests += r.requests();
+            ok += r.ok();
+            throttled += r.throttled();
+            failed += r.failed();
+        }
+        long[] latencies = recorders.stream().flatMapToLong(r -> Arrays.stream(r.latencies())).sorted().toArray();
+        return new ScenarioResult(name, requests, ok, throttled, failed, elapsedNanos / 1e9,
+                percentile(latencies, 0.50), percentile(latencies, 0.99),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6,
+                requests == 0 ? 0 : (double) statements / requests);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    static void print(List<ScenarioResult> results) {
+        System.out.printf("%n%-22s %8s %8s %6s %6s %9s %9s %9s %9s %11s%n",
+                "scenario", "requests", "2xx", "429", "failed", "req/s", "p50 ms", "p99 ms", "max ms", "stmts/req");
+        for (ScenarioResult r : results) {
+            System.out.printf("%-22s %8d %8d %6d %6d %9.1f %9.1f %9.1f %9.1f %11.1f%n",
+                    r.name(), r.requests(), r.ok(), r.throttled(), r.failed(), r.requests() / r.seconds(),
+                    r.p50Ms(), r.p99Ms(), r.maxMs(), r.statementsPerRequest());
+        }
+    }
+}
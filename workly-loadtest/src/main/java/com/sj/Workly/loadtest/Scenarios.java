@@ -0,0 +1,123 @@
+package com.sj.Workly.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The scenarios, run one after another so statement counts can be attributed. Each runs {@code clients}
+ * concurrent clients (virtual threads) doing {@code requests} iterations back to back, no think time.
+ * Client {@code i} acts as account {@code i % (members + 1)}, so several clients share an account.
+ * <ul>
+ *   <li>board load: the board page's three requests (board, columns, issue list)</li>
+ *   <li>issue drag: move a random issue to the bottom of a random column</li>
+ *   <li>comment storm: members comment on random issues; each comment notifies the owner via Kafka</li>
+ *   <li>notification polling: unread notifications and the unread count, alternately</li>
+ *   <li>login burst: password logins, a tenth of the iterations (bcrypt runs on a small bounded pool, so this
+ *   shows queueing and 429s rather than throughput)</li>
+ * </ul>
+ * Every scenario first runs a few unmeasured iterations so the JIT and caches are warm.
+ */
+final class Scenarios {
+
+    private static final int WARM_UP_ITERATIONS = 5;
+
+    @FunctionalInterface
+    interface Step {
+        void run(Recorder recorder, int client, int iteration, ThreadLocalRandom random);
+    }
+
+    private final ApiClient api;
+    private final Workload workload;
+    private final Options options;
+
+    Scenarios(ApiClient api, Workload workload, Options options) {
+        this.api = api;
+        this.workload = workload;
+        this.options = options;
+    }
+
+    List<ScenarioResult> runAll() {
+        List<ScenarioResult> results = new ArrayList<>();
+        results.add(run("board load", options.requests(), this::boardLoad));
+        results.add(run("issue drag", options.requests(), this::issueDrag));
+        results.add(run("comment storm", options.requests(), this::comment));
+        results.add(run("notification polling", options.requests(), this::pollNotifications));
+        results.add(run("login burst", Math.max(1, options.requests() / 10), this::login));
+        return results;
+    }
+
+    private ScenarioResult run(String name, int iterations, Step step) {
+        execute(Math.min(options.clients(), 4), WARM_UP_ITERATIONS, step);
+
+        System.out.printf("Running %s: %d clients x %d iterations%n", name, options.clients(), iterations);
+        long statementsBefore = StatementCounter.count();
+        long start = System.nanoTime();
+        List<Recorder> recorders = execute(options.clients(), iterations, step);
+        long elapsed = System.nanoTime() - start;
+        return ScenarioResult.of(name, recorders, elapsed, StatementCounter.count() - statementsBefore);
+    }
+
+    private List<Recorder> execute(int clients, int iterations, Step step) {
+        List<Recorder> recorders = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                Recorder recorder = new Recorder(api);
+                recorders.add(recorder);
+                int client = c;
+                executor.submit(() -> {
+                    for (int i = 0; i < iterations; i++) {
+                        step.run(recorder, client, i, ThreadLocalRandom.current());
+                    }
+                });
+            }
+        } // close() waits for every client
+        return recorders;
+    }
+
+    private void boardLoad(Recorder r, int client, int iteration, ThreadLocalRandom random) {
+        String token = account(client).token();
+        r.send("GET", workload.projectPath() + "/board", token, null);
+        r.send("GET", workload.projectPath() + "/columns", token, null);
+        r.send("GET", workload.projectPath() + "/issues", token, null);
+    }
+
+    private void issueDrag(Recorder r, int client, int iteration, ThreadLocalRandom random) {
+        long issueId = pick(workload.issueIds, random);
+        long columnId = pick(workload.columnIds, random);
+        r.send("PATCH", workload.projectPath() + "/issues/" + issueId + "/move", account(client).token(),
+                Map.of("columnId", columnId));
+    }
+
+    private void comment(Recorder r, int client, int iteration, ThreadLocalRandom random) {
+        Workload.Account author = workload.members.get(client % workload.members.size());
+        long issueId = pick(workload.issueIds, random);
+        r.send("POST", workload.projectPath() + "/issues/" + issueId + "/comments", author.token(),
+                Map.of("body", "Load test comment " + iteration + " from client " + client));
+    }
+
+    private void pollNotifications(Recorder r, int client, int iteration, ThreadLocalRandom random) {
+        String token = account(client).token();
+        if (iteration % 2 == 0) {
+            r.send("GET", "/notifications?unreadOnly=true&size=20", token, null);
+        } else {
+            r.send("GET", "/notifications/unread-count", token, null);
+        }
+    }
+
+    private void login(Recorder r, int client, int iteration, ThreadLocalRandom random) {
+        r.send("POST", "/auth/login", null, Map.of("email", account(client).email(), "password", Workload.PASSWORD));
+    }
+
+    private Workload.Account account(int client) {
+        int i = client % (workload.members.size() + 1);
+        return i == 0 ? workload.owner : workload.members.get(i - 1);
+    }
+
+    private static long pick(List<Long> ids, ThreadLocalRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,55 @@
+package com.sj.Workly.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.io.IOException;
+
+/**
+ * Local replacements for the docker-compose services, no network or containers needed:
+ * <ul>
+ *   <li>Postgres: real server binaries unpacked from the classpath into a temp dir, on a free port.
+ *   Postgres refuses to run as root, so run the load test as a normal user.</li>
+ *   <li>Kafka: a single-node KRaft broker in this JVM on a free localhost port. The app creates its topics
+ *   as usual (KafkaTopicConfig).</li>
+ * </ul>
+ */
+final class StandIns implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final EmbeddedKafkaKraftBroker kafka;
+
+    private StandIns(EmbeddedPostgres postgres, EmbeddedKafkaKraftBroker kafka) {
+        this.postgres = postgres;
+        this.kafka = kafka;
+    }
+
+    static StandIns start() throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        try {
+            EmbeddedKafkaKraftBroker kafka = new EmbeddedKafkaKraftBroker(1, 3);
+            kafka.afterPropertiesSet();
+            return new StandIns(postgres, kafka);
+        } catch (RuntimeException e) {
+            postgres.close();
+            throw e;
+        }
+    }
+
+    String jdbcUrl() {
+        return postgres.getJdbcUrl("postgres", "postgres");
+    }
+
+    String kafkaBootstrapServers() {
+        return kafka.getBrokersAsString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            kafka.destroy();
+        } finally {
+            postgres.close();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.sj.Workly.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The data the scenarios run against, created through the API like a real team would: an owner who registers
+ * (and so gets an org), members who register and accept an invite, one project with all of them in it, and
+ * {@code issues} issues spread over its default columns, reported by the owner.
+ */
+final class Workload {
+
+    static final String PASSWORD = "load-test-password";
+
+    record Account(long userId, String email, String token) {}
+
+    final Account owner;
+    final List<Account> members;
+    final long orgId;
+    final long projectId;
+    final List<Long> columnIds;
+    final List<Long> issueIds;
+
+    private Workload(Account owner, List<Account> members, long orgId, long projectId,
+                     List<Long> columnIds, List<Long> issueIds) {
+        this.owner = owner;
+        this.members = members;
+        this.orgId = orgId;
+        this.projectId = projectId;
+        this.columnIds = columnIds;
+        this.issueIds = issueIds;
+    }
+
+    static Workload create(ApiClient api, Options options) {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+
+        Account owner = register(api, "owner-" + run);
+        long orgId = api.expectOk("GET", "/orgs", owner.token(), null).get(0).path("id").asLong();
+        long projectId = api.expectOk("POST", "/orgs/" + orgId + "/projects", owner.token(),
+                Map.of("name", "Load test " + run)).path("id").asLong();
+        String project = "/orgs/" + orgId + "/projects/" + projectId;
+
+        List<Account> members = new ArrayList<>(options.members());
+        for (int i = 0; i < options.members(); i++) {
+            Account member = register(api, "member-" + i + "-" + run);
+            String inviteToken = api.expectOk("POST", "/orgs/" + orgId + "/invites", owner.token(),
+                    Map.of("email", member.email(), "role", "MEMBER")).path("token").asText();
+            api.expectOk("POST", "/invites/" + inviteToken + "/accept", member.token(), null);
+            api.expectOk("POST", project + "/members", owner.token(), Map.of("userId", member.userId()));
+            members.add(member);
+        }
+
+        List<Long> columnIds = new ArrayList<>();
+        for (JsonNode column : api.expectOk("GET", project + "/columns", owner.token(), null)) {
+            columnIds.add(column.path("id").asLong());
+        }
+
+        List<Long> issueIds = new ArrayList<>(options.issues());
+        for (int i = 0; i < options.issues(); i++) {
+            issueIds.add(api.expectOk("POST", project + "/issues", owner.token(), Map.of(
+                    "title", "Issue " + i,
+                    "description", "Seeded by the load test. Long enough to look like a real description.",
+                    "columnId", columnIds.get(i % columnIds.size()))).path("id").asLong());
+        }
+        return new Workload(owner, List.copyOf(members), orgId, projectId, List.copyOf(columnIds), List.copyOf(issueIds));
+    }
+
+    String projectPath() {
+        return "/orgs/" + orgId + "/projects/" + projectId;
+    }
+
+    private static Account register(ApiClient api, String name) {
+        String email = name + "@loadtest.example";
+        JsonNode auth = api.expectOk("POST", "/auth/register", null, Map.of(
+                "name", name,
+                "email", email,
+                "password", PASSWORD,
+                "orgName", "Org " + name));
+        return new Account(auth.path("userId").asLong(), email, auth.path("accessToken").asText());
+    }
+}
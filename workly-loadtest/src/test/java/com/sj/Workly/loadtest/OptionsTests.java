@@ -0,0 +1,25 @@
+package com.sj.Workly.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OptionsTests {
+
+	@Test
+	void defaultsApplyToOmittedOptions() {
+		assertThat(Options.parse(new String[0])).isEqualTo(new Options(32, 50, 500, 8));
+		assertThat(Options.parse(new String[] { "--clients=4", "--issues=20" })).isEqualTo(new Options(4, 50, 20, 8));
+	}
+
+	@Test
+	void malformedUnknownAndNonPositiveOptionsAreRejected() {
+		assertThatThrownBy(() -> Options.parse(new String[] { "clients=4" }))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Expected --name=value");
+		assertThatThrownBy(() -> Options.parse(new String[] { "--threads=4" }))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("threads");
+		assertThatThrownBy(() -> Options.parse(new String[] { "--requests=0" }))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("positive");
+	}
+}
@@ -0,0 +1,101 @@
+package com.sj.Workly.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives {@link Recorder} against a local server that answers {@code /status/<code>} with that status.
+ */
+class RecorderTests {
+
+	private HttpServer server;
+	private ApiClient api;
+
+	@BeforeEach
+	void start() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/status/", exchange -> {
+			int status = Integer.parseInt(exchange.getRequestURI().getPath().substring("/status/".length()));
+			byte[] body = "{\"status\":%d}".formatted(status).getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(status, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+		api = new ApiClient(URI.create("http://localhost:" + server.getAddress().getPort()));
+	}
+
+	@AfterEach
+	void stop() {
+		server.stop(0);
+	}
+
+	@Test
+	void countsResponsesByOutcome() {
+		Recorder recorder = new Recorder(api);
+
+		ApiClient.Response created = recorder.send("POST", "/status/201", "token", Map.of("a", 1));
+		recorder.send("GET", "/status/429", null, null);
+		recorder.send("GET", "/status/500", null, null);
+
+		assertThat(created.ok()).isTrue();
+		assertThat(created.body().path("status").asInt()).isEqualTo(201);
+		assertThat(recorder.requests()).isEqualTo(3);
+		assertThat(recorder.ok()).isEqualTo(1);
+		assertThat(recorder.throttled()).isEqualTo(1);
+		assertThat(recorder.failed()).isEqualTo(1);
+		assertThat(recorder.latencies()).hasSize(3).doesNotContain(0L);
+	}
+
+	@Test
+	void failedExchangesCountButHaveNoLatency() {
+		Recorder recorder = new Recorder(api);
+		server.stop(0);
+
+		ApiClient.Response response = recorder.send("GET", "/status/200", null, null);
+
+		assertThat(response.status()).isEqualTo(-1);
+		assertThat(recorder.failed()).isEqualTo(1);
+		assertThat(recorder.latencies()).isEmpty();
+	}
+
+	@Test
+	void scenarioResultAggregatesClients() {
+		Recorder first = new Recorder(api);
+		Recorder second = new Recorder(api);
+		for (int i = 0; i < 99; i++) {
+			first.send("GET", "/status/200", null, null);
+		}
+		second.send("GET", "/status/429", null, null);
+
+		ScenarioResult result = ScenarioResult.of("mixed", List.of(first, second), 2_000_000_000L, 250);
+
+		assertThat(result.requests()).isEqualTo(100);
+		assertThat(result.ok()).isEqualTo(99);
+		assertThat(result.throttled()).isEqualTo(1);
+		assertThat(result.seconds()).isEqualTo(2.0);
+		assertThat(result.statementsPerRequest()).isEqualTo(2.5);
+		assertThat(result.p50Ms()).isPositive().isLessThanOrEqualTo(result.p99Ms());
+		assertThat(result.p99Ms()).isLessThanOrEqualTo(result.maxMs());
+	}
+
+	@Test
+	void emptyScenarioHasZeroLatencies() {
+		ScenarioResult result = ScenarioResult.of("idle", List.of(new Recorder(api)), 1_000_000_000L, 0);
+
+		assertThat(result.requests()).isZero();
+		assertThat(List.of(result.p50Ms(), result.p99Ms(), result.maxMs(), result.statementsPerRequest()))
+				.containsOnly(0.0);
+	}
+}
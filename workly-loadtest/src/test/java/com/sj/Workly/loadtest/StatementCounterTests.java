@@ -0,0 +1,52 @@
+package com.sj.Workly.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCounterTests {
+
+	private final StatementCounter counter = new StatementCounter();
+
+	@Test
+	void countsStatementsCreatedOnWrappedConnections() throws Exception {
+		DataSource dataSource = (DataSource) counter.postProcessAfterInitialization(stubDataSource(), "dataSource");
+		long before = StatementCounter.count();
+
+		try (Connection connection = dataSource.getConnection()) {
+			connection.prepareStatement("select 1");
+			connection.prepareCall("call p()");
+			connection.createStatement();
+			connection.setAutoCommit(false);
+			connection.commit();
+		}
+
+		assertThat(StatementCounter.count() - before).isEqualTo(3);
+	}
+
+	@Test
+	void wrapsDataSourcesOnceAndLeavesOtherBeansAlone() {
+		Object wrapped = counter.postProcessAfterInitialization(stubDataSource(), "dataSource");
+		Object other = new Object();
+
+		assertThat(wrapped).isNotInstanceOf(Proxy.class).isInstanceOf(DataSource.class);
+		assertThat(counter.postProcessAfterInitialization(wrapped, "dataSource")).isSameAs(wrapped);
+		assertThat(counter.postProcessAfterInitialization(other, "other")).isSameAs(other);
+	}
+
+	/** A DataSource whose connections accept every call and return defaults. */
+	private static DataSource stubDataSource() {
+		Connection connection = stub(Connection.class);
+		return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[] { DataSource.class },
+				(proxy, method, args) -> method.getName().equals("getConnection") ? connection : null);
+	}
+
+	private static <T> T stub(Class<T> type) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> method.getReturnType() == boolean.class ? false : null));
+	}
+}